@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.event;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.core.internal.event.DefaultEventContext.createIdGenerator;
+
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.construct.FlowConstruct;
+import org.mule.runtime.core.internal.event.CompactEventIdGenerator.CompactEventId;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class CompactEventIdGeneratorTestCase extends AbstractMuleTestCase {
+
+  private final CompactEventIdGenerator generator = new CompactEventIdGenerator();
+
+  private FlowConstruct flow;
+
+  @Before
+  public void before() {
+    MuleContext muleContext = mock(MuleContext.class);
+    when(muleContext.getClusterNodeId()).thenReturn(3);
+    flow = mock(FlowConstruct.class);
+    when(flow.getMuleContext()).thenReturn(muleContext);
+  }
+
+  @Test
+  public void uniqueAndMonotonic() {
+    final Set<String> ids = new HashSet<>();
+    long lastSequence = 0;
+    for (int i = 0; i < 10000; ++i) {
+      CompactEventId id = (CompactEventId) generator.generate(flow);
+      assertThat(id.getSequence(), is(greaterThan(lastSequence)));
+      assertThat("Repeated id: " + id, ids.add(id.toString()), is(true));
+      lastSequence = id.getSequence();
+    }
+  }
+
+  @Test
+  public void prefixedWithClusterNodeId() {
+    assertThat(generator.generate(flow).toString(), startsWith("3-"));
+  }
+
+  @Test
+  public void renderedOnce() {
+    CharSequence id = generator.generate(flow);
+    assertThat(id.toString(), is(sameInstance(id.toString())));
+  }
+
+  @Test
+  public void differentInstancesGenerateDifferentIds() {
+    assertThat(new CompactEventIdGenerator().generate(flow).toString(), is(not(generator.generate(flow).toString())));
+  }
+
+  @Test
+  public void compactGeneratorSelected() {
+    assertThat(createIdGenerator("compact"), is(instanceOf(CompactEventIdGenerator.class)));
+  }
+
+  @Test
+  public void invalidGeneratorFallsBackToUuid() {
+    when(flow.getUniqueIdString()).thenReturn("uuid-id");
+
+    assertThat(createIdGenerator("org.mule.NotAGenerator").generate(flow).toString(), is("uuid-id"));
+  }
+
+  @Test
+  public void serializable() {
+    CompactEventId id = (CompactEventId) generator.generate(flow);
+    CompactEventId deserialized = SerializationUtils.deserialize(SerializationUtils.serialize(id));
+    assertThat(deserialized.toString(), is(id.toString()));
+  }
+}
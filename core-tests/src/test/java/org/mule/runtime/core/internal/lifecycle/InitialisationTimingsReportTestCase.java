@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.lifecycle;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mule.test.allure.AllureConstants.LifecycleAndDependencyInjectionFeature.LIFECYCLE_AND_DEPENDENCY_INJECTION;
+import static org.mule.test.allure.AllureConstants.LifecycleAndDependencyInjectionFeature.LifecyclePhaseStory.LIFECYCLE_PHASE_STORY;
+
+import org.mule.runtime.api.component.Component;
+import org.mule.tck.size.SmallTest;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.slf4j.Logger;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@SmallTest
+@Feature(LIFECYCLE_AND_DEPENDENCY_INJECTION)
+@Story(LIFECYCLE_PHASE_STORY)
+public class InitialisationTimingsReportTestCase {
+
+  private final AtomicLong clock = new AtomicLong();
+  private final InitialisationTimingsReport report = new InitialisationTimingsReport(clock::get);
+  private Logger logger;
+
+  @Before
+  public void before() {
+    logger = mock(Logger.class);
+    when(logger.isDebugEnabled()).thenReturn(true);
+  }
+
+  @Test
+  public void reportsComponentsAndNamespaces() {
+    report.record(component("http", "listenerConfig"), MILLISECONDS.toNanos(120));
+    report.record(component("db", "dbConfig"), MILLISECONDS.toNanos(30));
+    report.record(new Object(), MILLISECONDS.toNanos(5));
+    clock.addAndGet(MILLISECONDS.toNanos(160));
+
+    report.log(logger, "app");
+
+    ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+    verify(logger).debug(message.capture());
+    assertThat(message.getValue(), containsString("Initialised 3 components of 'app' in 160 ms"));
+    assertThat(message.getValue(), containsString("http"));
+    assertThat(message.getValue(), containsString("listenerConfig"));
+    assertThat(message.getValue(), containsString("(runtime)"));
+  }
+
+  @Test
+  public void totalIsWallTimeWithNestedInitialisations() {
+    // The config initialises its connection provider, so the time of the config already includes it
+    report.record(component("db", "connectionProvider"), MILLISECONDS.toNanos(40));
+    report.record(component("db", "dbConfig"), MILLISECONDS.toNanos(50));
+    clock.addAndGet(MILLISECONDS.toNanos(50));
+
+    report.log(logger, "app");
+
+    ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+    verify(logger).debug(message.capture());
+    assertThat(message.getValue(), containsString("Initialised 2 components of 'app' in 50 ms"));
+  }
+
+  @Test
+  public void summaryLoggedWithInfoLevel() {
+    when(logger.isInfoEnabled()).thenReturn(true);
+    when(logger.isDebugEnabled()).thenReturn(false);
+    report.record(component("http", "listenerConfig"), MILLISECONDS.toNanos(120));
+    report.record(component("db", "dbConfig"), MILLISECONDS.toNanos(30));
+    clock.addAndGet(MILLISECONDS.toNanos(150));
+
+    report.log(logger, "app");
+
+    ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+    verify(logger).info(message.capture());
+    assertThat(message.getValue(),
+               is("Initialised 2 components of 'app' in 150 ms. Slowest: listenerConfig (120 ms), dbConfig (30 ms)"));
+    verify(logger, never()).debug(anyString());
+  }
+
+  @Test
+  public void nothingLoggedWhenDisabled() {
+    when(logger.isDebugEnabled()).thenReturn(false);
+    report.record(component("http", "listenerConfig"), MILLISECONDS.toNanos(120));
+
+    report.log(logger, "app");
+
+    verify(logger, never()).debug(anyString());
+    verify(logger, never()).info(anyString());
+  }
+
+  @Test
+  public void nothingLoggedWhenEmpty() {
+    when(logger.isInfoEnabled()).thenReturn(true);
+    report.log(logger, "app");
+
+    verify(logger, never()).debug(anyString());
+    verify(logger, never()).info(anyString());
+  }
+
+  private Component component(String namespace, String location) {
+    Component component = mock(Component.class, RETURNS_DEEP_STUBS);
+    when(component.getLocation().getLocation()).thenReturn(location);
+    when(component.getLocation().getComponentIdentifier().getIdentifier().getNamespace()).thenReturn(namespace);
+    return component;
+  }
+}
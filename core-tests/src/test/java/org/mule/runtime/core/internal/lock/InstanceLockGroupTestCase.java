@@ -9,10 +9,12 @@ package org.mule.runtime.core.internal.lock;
 
 import static java.util.Collections.unmodifiableMap;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSameInstance.sameInstance;
 import static org.junit.Assert.assertThat;
 import org.mule.runtime.api.store.ObjectStoreException;
 import org.mule.runtime.api.store.TemplateObjectStore;
 import org.mule.runtime.api.util.concurrent.Latch;
+import org.mule.runtime.core.api.management.stats.AllStatistics;
 import org.mule.tck.junit4.AbstractMuleTestCase;
 
 import java.util.ArrayList;
@@ -68,6 +70,73 @@ public class InstanceLockGroupTestCase extends AbstractMuleTestCase {
   }
 
 
+  @Test
+  public void testLockUnlockNonFair() throws Exception {
+    instanceLockGroup = new InstanceLockGroup(new SingleServerLockProvider(false));
+    testHighConcurrency(false);
+  }
+
+  @Test
+  public void testLockUnlockWithStatistics() throws Exception {
+    instanceLockGroup = new InstanceLockGroup(new SingleServerLockProvider(), true);
+    testHighConcurrency(false);
+
+    LockStatistics statistics = instanceLockGroup.getStatistics().get(sharedKeyA);
+    assertThat(statistics.getAcquisitions(), is((long) THREAD_COUNT * ITERATIONS_PER_THREAD));
+    assertThat(statistics.getFailedAcquisitions(), is(0L));
+  }
+
+  @Test
+  public void failedTryLockReleasesEntry() throws Exception {
+    mockLockProvider = Mockito.mock(LockProvider.class, Answers.RETURNS_DEEP_STUBS.get());
+    InstanceLockGroup instanceLockGroup = new InstanceLockGroup(mockLockProvider, true);
+
+    assertThat(instanceLockGroup.tryLock("lockId"), is(false));
+    assertThat(instanceLockGroup.tryLock("lockId"), is(false));
+
+    Mockito.verify(mockLockProvider, VerificationModeFactory.times(2)).createLock("lockId");
+    assertThat(instanceLockGroup.getStatistics().get("lockId").getFailedAcquisitions(), is(2L));
+  }
+
+  @Test
+  public void contendedTryLockRecorded() throws Exception {
+    InstanceLockGroup instanceLockGroup = new InstanceLockGroup(new SingleServerLockProvider(), true);
+    instanceLockGroup.lock("lockId");
+    try {
+      Thread contender = new Thread(() -> instanceLockGroup.tryLock("lockId"));
+      contender.start();
+      contender.join();
+    } finally {
+      instanceLockGroup.unlock("lockId");
+    }
+
+    LockStatistics statistics = instanceLockGroup.getStatistics().get("lockId");
+    assertThat(statistics.getAcquisitions(), is(1L));
+    assertThat(statistics.getFailedAcquisitions(), is(1L));
+    assertThat(statistics.getContendedAcquisitions(), is(0L));
+  }
+
+  @Test
+  public void statisticsRegistered() {
+    AllStatistics allStatistics = new AllStatistics();
+    InstanceLockGroup instanceLockGroup = new InstanceLockGroup(new SingleServerLockProvider(), true, allStatistics);
+    instanceLockGroup.lock("lockId");
+    instanceLockGroup.unlock("lockId");
+
+    assertThat(allStatistics.getRegisteredStatistics().get("lock/lockId"),
+               sameInstance(instanceLockGroup.getStatistics().get("lockId")));
+
+    instanceLockGroup.dispose();
+    assertThat(allStatistics.getRegisteredStatistics().containsKey("lock/lockId"), is(false));
+  }
+
+  @Test
+  public void noStatisticsByDefault() {
+    instanceLockGroup.lock("lockId");
+    instanceLockGroup.unlock("lockId");
+
+    assertThat(instanceLockGroup.getStatistics().isEmpty(), is(true));
+  }
 
   private void testHighConcurrency(boolean useTryLock) throws InterruptedException, ObjectStoreException {
     List<Thread> threads = new ArrayList<Thread>(THREAD_COUNT * 2);
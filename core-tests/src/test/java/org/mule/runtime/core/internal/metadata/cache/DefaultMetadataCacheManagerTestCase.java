@@ -6,22 +6,35 @@
  */
 package org.mule.runtime.core.internal.metadata.cache;
 
+import static java.lang.System.clearProperty;
+import static java.lang.System.setProperty;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mule.runtime.core.internal.metadata.cache.DefaultPersistentMetadataCacheManager.MULE_METADATA_CACHE_MEMORY_MAX_ENTRIES;
+
 import org.mule.runtime.api.lock.LockFactory;
 import org.mule.runtime.api.metadata.MetadataCache;
 import org.mule.runtime.api.store.ObjectDoesNotExistException;
 import org.mule.runtime.api.store.ObjectStore;
 import org.mule.runtime.api.store.ObjectStoreException;
 import org.mule.runtime.api.store.ObjectStoreManager;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.management.stats.AllStatistics;
 
 import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 
 import org.junit.Before;
@@ -131,4 +144,106 @@ public class DefaultMetadataCacheManagerTestCase {
 
     verify(objectStore).clear();
   }
+
+  @Test
+  public void memoryTierAvoidsStoreAccess() throws ObjectStoreException {
+    startWithMemoryTier();
+    when(objectStore.contains(SOME_KEY)).thenReturn(false);
+
+    MetadataCache cache = cacheManager.getOrCreateCache(SOME_KEY);
+    assertThat(cacheManager.getOrCreateCache(SOME_KEY), is(sameInstance(cache)));
+
+    verify(objectStore).contains(SOME_KEY);
+    verify(objectStore).store(SOME_KEY, cache);
+    MetadataCacheStatistics statistics = cacheManager.getStatistics().get();
+    assertThat(statistics.getMisses(), is(1L));
+    assertThat(statistics.getMemoryHits(), is(1L));
+  }
+
+  @Test
+  public void memoryTierWritesBehindOnStop() throws ObjectStoreException {
+    startWithMemoryTier();
+
+    DefaultMetadataCache cache = new DefaultMetadataCache();
+    cacheManager.updateCache(SOME_KEY, cache);
+    assertThat(cacheManager.getOrCreateCache(SOME_KEY), is(sameInstance(cache)));
+    verify(objectStore, never()).store(anyString(), any(MetadataCache.class));
+
+    cacheManager.stop();
+    verify(objectStore).store(SOME_KEY, cache);
+  }
+
+  @Test
+  public void memoryTierDisposePartialId() throws ObjectStoreException {
+    startWithMemoryTier();
+    when(objectStore.contains(SOME_KEY)).thenReturn(false);
+    final String partialId = "1874947571-1840879217";
+    when(objectStore.allKeys()).thenReturn(Arrays.asList(SOME_KEY));
+    when(objectStore.remove(partialId)).thenThrow(new ObjectDoesNotExistException());
+
+    MetadataCache cache = cacheManager.getOrCreateCache(SOME_KEY);
+    cacheManager.dispose(partialId);
+
+    verify(objectStore).remove(SOME_KEY);
+    assertThat(cacheManager.getOrCreateCache(SOME_KEY), is(not(sameInstance(cache))));
+  }
+
+  @Test
+  public void memoryTierDisposeDuringWriteBehindNotWritten() throws Exception {
+    startWithMemoryTier(1);
+    CountDownLatch writingBehind = new CountDownLatch(1);
+    CountDownLatch disposed = new CountDownLatch(1);
+    AtomicBoolean firstLock = new AtomicBoolean(true);
+    doAnswer(invocation -> {
+      if (firstLock.compareAndSet(true, false)) {
+        writingBehind.countDown();
+        disposed.await(5, SECONDS);
+      }
+      return null;
+    }).when(mockLock).lock();
+
+    // with room for a single cache, one of these is evicted and written behind
+    Thread updater = new Thread(() -> {
+      cacheManager.updateCache(SOME_KEY, new DefaultMetadataCache());
+      cacheManager.updateCache(OTHER_KEY, new DefaultMetadataCache());
+    });
+    updater.start();
+    assertThat(writingBehind.await(5, SECONDS), is(true));
+
+    cacheManager.dispose("1874947571-1840879217");
+    disposed.countDown();
+    updater.join();
+
+    verify(objectStore, never()).store(anyString(), any(MetadataCache.class));
+  }
+
+  @Test
+  public void statisticsRegistered() {
+    AllStatistics allStatistics = new AllStatistics();
+    MuleContext muleContext = mock(MuleContext.class);
+    when(muleContext.getStatistics()).thenReturn(allStatistics);
+    cacheManager.setMuleContext(muleContext);
+    cacheManager.start();
+
+    cacheManager.getOrCreateCache(SOME_KEY);
+    MetadataCacheStatistics statistics = (MetadataCacheStatistics) allStatistics.getRegisteredStatistics().get("metadataCache");
+    assertThat(statistics, is(sameInstance(cacheManager.getStatistics().get())));
+    assertThat(statistics.getMisses(), is(1L));
+
+    cacheManager.stop();
+    assertThat(allStatistics.getRegisteredStatistics().containsKey("metadataCache"), is(false));
+  }
+
+  private void startWithMemoryTier() {
+    startWithMemoryTier(10);
+  }
+
+  private void startWithMemoryTier(int maxEntries) {
+    setProperty(MULE_METADATA_CACHE_MEMORY_MAX_ENTRIES, String.valueOf(maxEntries));
+    try {
+      cacheManager.start();
+    } finally {
+      clearProperty(MULE_METADATA_CACHE_MEMORY_MAX_ENTRIES);
+    }
+  }
 }
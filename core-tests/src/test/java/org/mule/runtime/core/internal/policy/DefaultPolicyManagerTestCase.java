@@ -319,7 +319,8 @@ public class DefaultPolicyManagerTestCase extends AbstractMuleContextTestCase {
         policyManager.createSourcePolicyInstance(flow1Component, event, ePub -> ePub,
                                                  mock(MessageSourceResponseParametersProcessor.class));
 
-    // Clear the caches of the policyManager...
+    // Remove the policy so the cached entry is affected and evicted from the caches of the policyManager...
+    when(policyProvider.findSourceParameterizedPolicies(any())).thenReturn(emptyList());
     policiesChangeCallbackCaptor.getValue().run();
 
     System.gc();
@@ -378,7 +379,8 @@ public class DefaultPolicyManagerTestCase extends AbstractMuleContextTestCase {
     OperationPolicy policyInstance =
         policyManager.createOperationPolicy(flow1Component, event, mock(OperationParametersProcessor.class));
 
-    // Clear the caches of the policyManager...
+    // Remove the policy so the cached entry is affected and evicted from the caches of the policyManager...
+    when(policyProvider.findOperationParameterizedPolicies(any())).thenReturn(emptyList());
     policiesChangeCallbackCaptor.getValue().run();
 
     System.gc();
@@ -396,6 +398,75 @@ public class DefaultPolicyManagerTestCase extends AbstractMuleContextTestCase {
     stopIfNeeded(policyManager);
   }
 
+  @Test
+  public void operationUnaffectedPolicyKeptOnPoliciesChange() {
+    Policy policy = mockPolicy();
+    when(policyProvider.findOperationParameterizedPolicies(any(PolicyPointcutParameters.class)))
+        .thenReturn(asList(policy));
+    policiesChangeCallbackCaptor.getValue().run();
+
+    final OperationPolicy policy1 = policyManager.createOperationPolicy(operation1Component, mock(InternalEvent.class),
+                                                                        mock(OperationParametersProcessor.class));
+
+    // Another policy not applicable to this operation is deployed
+    policiesChangeCallbackCaptor.getValue().run();
+
+    final OperationPolicy policy2 = policyManager.createOperationPolicy(operation1Component, mock(InternalEvent.class),
+                                                                        mock(OperationParametersProcessor.class));
+
+    assertThat(policy1, instanceOf(CompositeOperationPolicy.class));
+    assertThat(policy1, sameInstance(policy2));
+  }
+
+  @Test
+  public void operationAffectedPolicyEvictedOnPoliciesChange() {
+    Policy policy = mockPolicy();
+    when(policyProvider.findOperationParameterizedPolicies(any(PolicyPointcutParameters.class)))
+        .thenReturn(asList(policy));
+    policiesChangeCallbackCaptor.getValue().run();
+
+    final OperationPolicy policy1 = policyManager.createOperationPolicy(operation1Component, mock(InternalEvent.class),
+                                                                        mock(OperationParametersProcessor.class));
+
+    // A policy applicable to this operation is deployed
+    when(policyProvider.findOperationParameterizedPolicies(any(PolicyPointcutParameters.class)))
+        .thenReturn(asList(policy, mockPolicy()));
+    policiesChangeCallbackCaptor.getValue().run();
+
+    final OperationPolicy policy2 = policyManager.createOperationPolicy(operation1Component, mock(InternalEvent.class),
+                                                                        mock(OperationParametersProcessor.class));
+
+    assertThat(policy1, instanceOf(CompositeOperationPolicy.class));
+    assertThat(policy2, instanceOf(CompositeOperationPolicy.class));
+    assertThat(policy1, not(sameInstance(policy2)));
+  }
+
+  @Test
+  public void sourceRedeployedPolicyWithSameIdEvictedOnPoliciesChange() {
+    final PolicyPointcutParameters policyParams = mock(PolicyPointcutParameters.class);
+    when(policyProvider.findSourceParameterizedPolicies(policyParams)).thenReturn(asList(mockPolicy()));
+    policiesChangeCallbackCaptor.getValue().run();
+
+    final InternalEvent event = mock(InternalEvent.class);
+    SourcePolicyContext ctx = mock(SourcePolicyContext.class);
+    when(event.getSourcePolicyContext()).thenReturn((EventInternalContext) ctx);
+    when(ctx.getPointcutParameters()).thenReturn(policyParams);
+
+    final SourcePolicy policy1 = policyManager.createSourcePolicyInstance(flow1Component, event, ePub -> ePub,
+                                                                          mock(MessageSourceResponseParametersProcessor.class));
+
+    // The policy is redeployed, the new instance is equal to the previous one but has a different chain
+    when(policyProvider.findSourceParameterizedPolicies(policyParams)).thenReturn(asList(mockPolicy()));
+    policiesChangeCallbackCaptor.getValue().run();
+
+    final SourcePolicy policy2 = policyManager.createSourcePolicyInstance(flow1Component, event, ePub -> ePub,
+                                                                          mock(MessageSourceResponseParametersProcessor.class));
+
+    assertThat(policy1, instanceOf(CompositeSourcePolicy.class));
+    assertThat(policy2, instanceOf(CompositeSourcePolicy.class));
+    assertThat(policy1, not(sameInstance(policy2)));
+  }
+
   @Test
   public void cachesEvictedWhileLookingForPolicies() throws InterruptedException {
     final Policy policy = mock(Policy.class, RETURNS_DEEP_STUBS);
@@ -413,8 +484,8 @@ public class DefaultPolicyManagerTestCase extends AbstractMuleContextTestCase {
 
     when(policyProvider.findSourceParameterizedPolicies(any())).thenAnswer(invocation -> {
       lookingForPoliciesLatch.countDown();
-      assertThat("Eviction should not possible while looking for policies",
-                 cacheEvictedLatch.await(3, SECONDS), is(false));
+      assertThat("Eviction should not wait for the lookup of policies",
+                 cacheEvictedLatch.await(3, SECONDS), is(true));
       return asList(policy);
     });
 
@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.core.internal.routing;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonMap;
 import static java.util.Optional.empty;
 import static org.hamcrest.CoreMatchers.containsString;
@@ -30,6 +31,7 @@ import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.expression.ExpressionRuntimeException;
 import org.mule.runtime.core.api.management.stats.RouterStatistics;
+import org.mule.runtime.core.api.processor.Processor;
 import org.mule.runtime.core.privileged.processor.chain.MessageProcessorChain;
 import org.mule.tck.junit4.AbstractReactiveProcessorTestCase;
 import org.mule.tck.processor.ContextPropagationChecker;
@@ -170,6 +172,81 @@ public class ChoiceRouterTestCase extends AbstractReactiveProcessorTestCase {
     assertContextPropagation(fooEvent(), choiceRouter, contextPropagationChecker);
   }
 
+  @Test
+  public void decisionTableMatchingRoute() throws Exception {
+    choiceRouter.addRoute("#[vars.type == 'a']", newChain(empty(), new TestMessageProcessor("a")));
+    choiceRouter.addRoute("#[vars.type == \"b\"]", newChain(empty(), new TestMessageProcessor("b")));
+    choiceRouter.addRoute("#[vars.type == 'b']", newChain(empty(), new TestMessageProcessor("b2")));
+    choiceRouter.setDefaultRoute(newChain(empty(), new TestMessageProcessor("default")));
+    initialise();
+
+    assertThat(process(choiceRouter, typedEvent("a")).getMessage().getPayload().getValue(), is("foo:a"));
+    assertThat(process(choiceRouter, typedEvent("b")).getMessage().getPayload().getValue(), is("foo:b"));
+    assertThat(process(choiceRouter, typedEvent("c")).getMessage().getPayload().getValue(), is("foo:default"));
+    assertThat(process(choiceRouter, fooEvent()).getMessage().getPayload().getValue(), is("foo:default"));
+  }
+
+  @Test
+  public void decisionTableFallsBackToGeneralRoutes() throws Exception {
+    choiceRouter.addRoute("#[vars.type == 'a']", newChain(empty(), new TestMessageProcessor("a")));
+    choiceRouter.addRoute("#[vars.type == 'b']", newChain(empty(), new TestMessageProcessor("b")));
+    choiceRouter.addRoute(payloadZapExpression(), newChain(empty(), new TestMessageProcessor("zap")));
+    choiceRouter.setDefaultRoute(newChain(empty(), new TestMessageProcessor("default")));
+    initialise();
+
+    assertThat(process(choiceRouter, eventBuilder(muleContext).message(of("zap")).addVariable("type", "b").build())
+        .getMessage().getPayload().getValue(), is("zap:b"));
+    assertThat(process(choiceRouter, eventBuilder(muleContext).message(of("zap")).addVariable("type", "c").build())
+        .getMessage().getPayload().getValue(), is("zap:zap"));
+  }
+
+  @Test
+  public void decisionTableNotStringValue() throws Exception {
+    choiceRouter.addRoute("#[vars.type == '1']", newChain(empty(), new TestMessageProcessor("a")));
+    choiceRouter.addRoute("#[vars.type == '2']", newChain(empty(), new TestMessageProcessor("b")));
+    choiceRouter.setDefaultRoute(newChain(empty(), new TestMessageProcessor("default")));
+    initialise();
+
+    assertThat(process(choiceRouter, eventBuilder(muleContext).message(of("foo")).addVariable("type", 2).build())
+        .getMessage().getPayload().getValue(), is("foo:default"));
+  }
+
+  @Test
+  public void decisionTableRouteStatistics() throws Exception {
+    MessageProcessorChain routeA = newChain(empty(), new TestMessageProcessor("a"));
+    MessageProcessorChain routeB = newChain(empty(), new TestMessageProcessor("b"));
+    MessageProcessorChain defaultRoute = newChain(empty(), new TestMessageProcessor("default"));
+    choiceRouter.addRoute("#[vars.type == 'a']", routeA);
+    choiceRouter.addRoute("#[vars.type == 'b']", routeB);
+    choiceRouter.setDefaultRoute(defaultRoute);
+    RouterStatistics routerStatistics = new RouterStatistics(TYPE_OUTBOUND);
+    routerStatistics.setEnabled(true);
+    choiceRouter.setRouterStatistics(routerStatistics);
+    initialise();
+
+    process(choiceRouter, typedEvent("a"));
+    process(choiceRouter, typedEvent("b"));
+    process(choiceRouter, typedEvent("b"));
+    process(choiceRouter, typedEvent("c"));
+
+    Map<String, Long> routed = (Map<String, Long>) routerStatistics.getRouted();
+    assertThat(routed, hasEntry(is(routeA.toString()), is(1L)));
+    assertThat(routed, hasEntry(is(routeB.toString()), is(2L)));
+    assertThat(routed, hasEntry(is(defaultRoute.toString()), is(1L)));
+  }
+
+  @Test
+  public void decisionTableOnlyCompilesExpressions() throws Exception {
+    Processor processor = newChain(empty(), new TestMessageProcessor("a"));
+
+    assertThat(ChoiceDecisionTable.compile(asList(new ProcessorExpressionRoute("vars.type == 'a'", processor),
+                                                  new ProcessorExpressionRoute("vars.type == 'b'", processor)))
+        .isPresent(), is(false));
+    assertThat(ChoiceDecisionTable.compile(asList(new ProcessorExpressionRoute("#[vars.type == 'a']", processor),
+                                                  new ProcessorExpressionRoute("#[vars.type == 'b']", processor)))
+        .isPresent(), is(true));
+  }
+
   private void initialise() throws InitialisationException {
     choiceRouter.setMuleContext(muleContext);
     choiceRouter.initialise();
@@ -179,6 +256,10 @@ public class ChoiceRouterTestCase extends AbstractReactiveProcessorTestCase {
     return eventBuilder(muleContext).message(of("foo")).build();
   }
 
+  private CoreEvent typedEvent(String type) throws MuleException {
+    return eventBuilder(muleContext).message(of("foo")).addVariable("type", type).build();
+  }
+
   private CoreEvent zapEvent() throws MuleException {
     return eventBuilder(muleContext).message(of("zap")).build();
   }
@@ -58,6 +58,7 @@ import org.mule.tck.testmodels.mule.TestMessageProcessor;
 
 import java.nio.BufferOverflowException;
 import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.Iterator;
 import java.util.List;
@@ -427,6 +428,70 @@ public class ForeachTestCase extends AbstractReactiveProcessorTestCase {
     assertNoForEachContext((InternalEvent) processedEvents.get(1));
   }
 
+  @Test
+  public void prefetch() throws Exception {
+    foreach = createForeach();
+    foreach.setMessageProcessors(getSimpleMessageProcessors(new TestMessageProcessor("zas")));
+    foreach.setPrefetchSize(3);
+    initialiseIfNeeded(foreach, muleContext);
+
+    List<Integer> payload = new ArrayList<>();
+    for (int i = 0; i < 20; ++i) {
+      payload.add(i);
+    }
+    foreach.process(eventBuilder(muleContext).message(of(payload.iterator())).build());
+
+    assertThat(processedEvents, hasSize(20));
+    for (int i = 0; i < 20; ++i) {
+      assertThat(((PrivilegedEvent) processedEvents.get(i)).getMessageAsString(muleContext), is(i + ":foo:zas"));
+      assertNoForEachContext((InternalEvent) processedEvents.get(i));
+    }
+  }
+
+  @Test
+  public void stopDuringPrefetchFinishesIteration() throws Exception {
+    AtomicBoolean stopped = new AtomicBoolean();
+    foreach = createForeach();
+    List<Processor> processors = getSimpleMessageProcessors(new TestMessageProcessor("zas"));
+    processors.add(0, event -> {
+      if (stopped.compareAndSet(false, true)) {
+        foreach.stop();
+      }
+      return event;
+    });
+    foreach.setMessageProcessors(processors);
+    foreach.setPrefetchSize(3);
+    initialiseIfNeeded(foreach, muleContext);
+
+    List<Integer> payload = new ArrayList<>();
+    for (int i = 0; i < 20; ++i) {
+      payload.add(i);
+    }
+    foreach.process(eventBuilder(muleContext).message(of(payload.iterator())).build());
+
+    assertThat(stopped.get(), is(true));
+    assertThat(processedEvents, hasSize(20));
+    for (int i = 0; i < 20; ++i) {
+      assertThat(((PrivilegedEvent) processedEvents.get(i)).getMessageAsString(muleContext), is(i + ":foo:zas"));
+    }
+  }
+
+  @Test
+  public void prefetchWithBatchSize() throws Exception {
+    foreach = createForeach();
+    foreach.setMessageProcessors(getSimpleMessageProcessors(new TestMessageProcessor("zas")));
+    foreach.setBatchSize(2);
+    foreach.setPrefetchSize(1);
+    initialiseIfNeeded(foreach, muleContext);
+
+    foreach.process(eventBuilder(muleContext).message(of(asList(1, 2, 3, 4, 5))).build());
+
+    assertThat(processedEvents, hasSize(3));
+    assertThat(((PrivilegedEvent) processedEvents.get(0)).getMessageAsString(muleContext), is("[1, 2]:foo:zas"));
+    assertThat(((PrivilegedEvent) processedEvents.get(1)).getMessageAsString(muleContext), is("[3, 4]:foo:zas"));
+    assertThat(((PrivilegedEvent) processedEvents.get(2)).getMessageAsString(muleContext), is("[5]:foo:zas"));
+  }
+
   @Test
   public void variables() throws Exception {
     List<String> arrayList = new ArrayList<>();
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mule.test.allure.AllureConstants.RoutersFeature.ROUTERS;
+
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.processor.Processor;
+import org.mule.runtime.core.privileged.event.BaseEventContext;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BiConsumer;
+
+import org.junit.Test;
+
+import io.qameta.allure.Feature;
+
+@SmallTest
+@Feature(ROUTERS)
+public class LoadBalancedRouteTestCase extends AbstractMuleTestCase {
+
+  private static final int DISPATCHES = 10000;
+
+  @Test
+  public void dispatchConcurrentWithContextCompletionNotLeaked() throws Exception {
+    Queue<BiConsumer<CoreEvent, Throwable>> completionCallbacks = new ConcurrentLinkedQueue<>();
+    BaseEventContext context = mock(BaseEventContext.class);
+    when(context.getId()).thenReturn("context");
+    doAnswer(invocation -> completionCallbacks.add(invocation.getArgument(0))).when(context).onResponse(any());
+    CoreEvent event = mock(CoreEvent.class);
+    when(event.getContext()).thenReturn(context);
+
+    LoadBalancedRoute route = new LoadBalancedRoute(mock(Processor.class), "route", r -> {
+    });
+
+    CountDownLatch dispatchesDone = new CountDownLatch(1);
+    Thread dispatcher = new Thread(() -> {
+      for (int i = 0; i < DISPATCHES; ++i) {
+        route.dispatched(event);
+      }
+      dispatchesDone.countDown();
+    });
+    dispatcher.start();
+
+    // complete the context over and over while events are being dispatched for it
+    while (dispatchesDone.getCount() > 0) {
+      completeAll(completionCallbacks);
+    }
+    assertThat(dispatchesDone.await(5, SECONDS), is(true));
+    dispatcher.join();
+    completeAll(completionCallbacks);
+
+    assertThat(route.getOutstanding(), is(0));
+  }
+
+  private void completeAll(Queue<BiConsumer<CoreEvent, Throwable>> completionCallbacks) {
+    BiConsumer<CoreEvent, Throwable> callback;
+    while ((callback = completionCallbacks.poll()) != null) {
+      callback.accept(null, null);
+    }
+  }
+}
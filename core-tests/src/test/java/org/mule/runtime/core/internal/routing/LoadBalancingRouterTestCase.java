@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonMap;
+import static java.util.Optional.empty;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.api.component.location.ConfigurationComponentLocator.REGISTRY_KEY;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
+import static org.mule.runtime.core.api.management.stats.RouterStatistics.TYPE_OUTBOUND;
+import static org.mule.runtime.core.internal.routing.LoadBalancingRouter.Strategy.LEAST_OUTSTANDING;
+import static org.mule.runtime.core.internal.routing.LoadBalancingRouter.Strategy.POWER_OF_TWO_CHOICES;
+import static org.mule.test.allure.AllureConstants.RoutersFeature.ROUTERS;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.component.ComponentIdentifier;
+import org.mule.runtime.api.component.location.ConfigurationComponentLocator;
+import org.mule.runtime.api.component.location.Location;
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.management.stats.RouterStatistics;
+import org.mule.runtime.core.api.processor.Processor;
+import org.mule.tck.junit4.AbstractMuleContextTestCase;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.qameta.allure.Feature;
+
+@Feature(ROUTERS)
+public class LoadBalancingRouterTestCase extends AbstractMuleContextTestCase {
+
+  private LoadBalancingRouter router;
+
+  public LoadBalancingRouterTestCase() {
+    setStartContext(true);
+  }
+
+  @Before
+  public void before() {
+    router = new LoadBalancingRouter();
+    router.setAnnotations(getAppleFlowComponentLocationAnnotations());
+  }
+
+  @After
+  public void after() throws MuleException {
+    stopIfNeeded(router);
+    disposeIfNeeded(router, getLogger(getClass()));
+  }
+
+  @Override
+  protected Map<String, Object> getStartUpRegistryObjects() {
+    ConfigurationComponentLocator configurationComponentLocator = mock(ConfigurationComponentLocator.class);
+    when(configurationComponentLocator.find(any(Location.class))).thenReturn(empty());
+    when(configurationComponentLocator.find(any(ComponentIdentifier.class))).thenReturn(emptyList());
+
+    return singletonMap(REGISTRY_KEY, configurationComponentLocator);
+  }
+
+  @Test
+  public void leastOutstandingAvoidsBusyRoute() throws Exception {
+    CountDownLatch busyRouteEntered = new CountDownLatch(1);
+    CountDownLatch releaseBusyRoute = new CountDownLatch(1);
+    CountingProcessor slowRoute = new CountingProcessor(() -> {
+      busyRouteEntered.countDown();
+      releaseBusyRoute.await(RECEIVE_TIMEOUT, SECONDS);
+    });
+    CountingProcessor fastRoute = new CountingProcessor(() -> {
+    });
+    router.setStrategy(LEAST_OUTSTANDING);
+    router.addRoute(slowRoute);
+    router.addRoute(fastRoute);
+    initialiseIfNeeded(router, muleContext);
+    startIfNeeded(router);
+
+    Thread slowRequest = new Thread(() -> {
+      try {
+        router.process(newEvent());
+      } catch (Exception e) {
+        throw new RuntimeException(e);
+      }
+    });
+    slowRequest.start();
+    assertThat(busyRouteEntered.await(RECEIVE_TIMEOUT, SECONDS), is(true));
+
+    for (int i = 0; i < 5; ++i) {
+      router.process(newEvent());
+    }
+    releaseBusyRoute.countDown();
+    slowRequest.join();
+
+    assertThat(slowRoute.getCount(), is(1));
+    assertThat(fastRoute.getCount(), is(5));
+  }
+
+  @Test
+  public void powerOfTwoChoicesUsesAllRoutes() throws Exception {
+    CountingProcessor route1 = new CountingProcessor(() -> {
+    });
+    CountingProcessor route2 = new CountingProcessor(() -> {
+    });
+    router.setStrategy(POWER_OF_TWO_CHOICES);
+    router.addRoute(route1);
+    router.addRoute(route2);
+    initialiseIfNeeded(router, muleContext);
+    startIfNeeded(router);
+
+    for (int i = 0; i < 50; ++i) {
+      router.process(newEvent());
+    }
+
+    assertThat(route1.getCount() + route2.getCount(), is(50));
+    assertThat(route1.getCount(), greaterThan(0));
+    assertThat(route2.getCount(), greaterThan(0));
+  }
+
+  @Test
+  public void routeStatistics() throws Exception {
+    RouterStatistics routerStatistics = new RouterStatistics(TYPE_OUTBOUND);
+    routerStatistics.setEnabled(true);
+    router.setRouterStatistics(routerStatistics);
+    CountingProcessor route = new CountingProcessor(() -> Thread.sleep(5));
+    router.addRoute(route);
+    initialiseIfNeeded(router, muleContext);
+    startIfNeeded(router);
+
+    router.process(newEvent());
+    router.process(newEvent());
+
+    String routeName = "route[0]: " + route;
+    assertThat(routerStatistics.getRouted(routeName), is(2L));
+    assertThat(routerStatistics.getOutstanding(routeName), is(0L));
+    assertThat(routerStatistics.getAverageLatency(routeName), greaterThan(0d));
+  }
+
+  @Test
+  public void concurrentEventsOfSameContextReleased() throws Exception {
+    RouterStatistics routerStatistics = new RouterStatistics(TYPE_OUTBOUND);
+    routerStatistics.setEnabled(true);
+    router.setRouterStatistics(routerStatistics);
+    CountDownLatch bothEntered = new CountDownLatch(2);
+    CountingProcessor route = new CountingProcessor(() -> {
+      bothEntered.countDown();
+      bothEntered.await(RECEIVE_TIMEOUT, SECONDS);
+    });
+    router.addRoute(route);
+    initialiseIfNeeded(router, muleContext);
+    startIfNeeded(router);
+
+    CoreEvent event = newEvent();
+    Thread otherRequest = new Thread(() -> {
+      try {
+        router.process(event);
+      } catch (Exception e) {
+        throw new RuntimeException(e);
+      }
+    });
+    otherRequest.start();
+    router.process(event);
+    otherRequest.join();
+    // Processed alone, so the statistics are updated last with the final load of the route
+    router.process(newEvent());
+
+    String routeName = "route[0]: " + route;
+    assertThat(route.getCount(), is(3));
+    assertThat(routerStatistics.getOutstanding(routeName), is(0L));
+  }
+
+  private interface Action {
+
+    void run() throws Exception;
+  }
+
+  private static class CountingProcessor implements Processor {
+
+    private final AtomicInteger count = new AtomicInteger();
+    private final Action action;
+
+    CountingProcessor(Action action) {
+      this.action = action;
+    }
+
+    @Override
+    public CoreEvent process(CoreEvent event) throws MuleException {
+      count.incrementAndGet();
+      try {
+        action.run();
+      } catch (Exception e) {
+        throw new RuntimeException(e);
+      }
+      return event;
+    }
+
+    int getCount() {
+      return count.get();
+    }
+  }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.junit.rules.ExpectedException.none;
+import static org.mule.test.allure.AllureConstants.RoutersFeature.ROUTERS;
+import static org.mule.test.allure.AllureConstants.RoutersFeature.ForeachStory.FOR_EACH;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@SmallTest
+@Feature(ROUTERS)
+@Story(FOR_EACH)
+public class PrefetchingIteratorTestCase extends AbstractMuleTestCase {
+
+  @Rule
+  public ExpectedException expectedException = none();
+
+  private final ExecutorService executor = newSingleThreadExecutor();
+
+  @After
+  public void after() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void keepsOrder() {
+    List<Integer> elements = new ArrayList<>();
+    for (int i = 0; i < 100; ++i) {
+      elements.add(i);
+    }
+
+    assertThat(drain(new PrefetchingIterator<>(elements.iterator(), executor, 7)), is(elements));
+  }
+
+  @Test
+  public void nullElements() {
+    assertThat(drain(new PrefetchingIterator<>(asList("a", null, "b").iterator(), executor, 2)), is(asList("a", null, "b")));
+  }
+
+  @Test
+  public void doesNotFetchMoreThanPrefetchSize() throws Exception {
+    AtomicInteger fetched = new AtomicInteger();
+    Iterator<Integer> source = new Iterator<Integer>() {
+
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public Integer next() {
+        return fetched.incrementAndGet();
+      }
+    };
+
+    PrefetchingIterator<Integer> iterator = new PrefetchingIterator<>(source, executor, 3);
+    assertThat(iterator.next(), is(1));
+    // wait for the pending fill tasks to finish
+    executor.submit(() -> {
+    }).get();
+
+    assertThat(fetched.get(), is(4));
+  }
+
+  @Test
+  public void failureInSourceRethrownInOrder() {
+    Iterator<String> source = new Iterator<String>() {
+
+      private int count = 0;
+
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public String next() {
+        if (count++ == 2) {
+          throw new IllegalStateException("Page fetch failed");
+        }
+        return "item";
+      }
+    };
+
+    PrefetchingIterator<String> iterator = new PrefetchingIterator<>(source, executor, 5);
+    assertThat(iterator.next(), is("item"));
+    assertThat(iterator.next(), is("item"));
+
+    expectedException.expect(IllegalStateException.class);
+    expectedException.expectMessage("Page fetch failed");
+    iterator.hasNext();
+  }
+
+  @Test
+  public void failureInSourceRethrownWhileConsumerInsists() {
+    Iterator<String> source = new Iterator<String>() {
+
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public String next() {
+        throw new IllegalStateException("Page fetch failed");
+      }
+    };
+
+    PrefetchingIterator<String> iterator = new PrefetchingIterator<>(source, executor, 5);
+    try {
+      iterator.hasNext();
+      fail("The failure of the source should have been rethrown");
+    } catch (IllegalStateException e) {
+      // expected
+    }
+
+    expectedException.expect(IllegalStateException.class);
+    iterator.next();
+  }
+
+  @Test
+  public void cancelStopsFetching() throws Exception {
+    AtomicInteger fetched = new AtomicInteger();
+    Iterator<Integer> source = new Iterator<Integer>() {
+
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public Integer next() {
+        return fetched.incrementAndGet();
+      }
+    };
+
+    PrefetchingIterator<Integer> iterator = new PrefetchingIterator<>(source, executor, 3);
+    assertThat(iterator.next(), is(1));
+    iterator.cancel();
+    // wait for the pending fill tasks to finish
+    executor.submit(() -> {
+    }).get();
+    final int fetchedWhenCancelled = fetched.get();
+
+    try {
+      iterator.next();
+      fail("The consumer should not wait for elements that will not come");
+    } catch (MuleRuntimeException e) {
+      // expected
+    }
+    assertThat(fetched.get(), is(fetchedWhenCancelled));
+  }
+
+  @Test
+  public void stopPrefetchingHandsOutRemainingElements() throws Exception {
+    List<Integer> elements = new ArrayList<>();
+    for (int i = 0; i < 20; ++i) {
+      elements.add(i);
+    }
+
+    PrefetchingIterator<Integer> iterator = new PrefetchingIterator<>(elements.iterator(), executor, 3);
+    assertThat(iterator.next(), is(0));
+    iterator.stopPrefetching();
+    // wait for the pending fill tasks to finish
+    executor.submit(() -> {
+    }).get();
+
+    List<Integer> remaining = drain(iterator);
+    assertThat(remaining, is(elements.subList(1, elements.size())));
+  }
+
+  @Test
+  public void cancelWhileFillingAlwaysFails() throws Exception {
+    Iterator<Integer> source = new Iterator<Integer>() {
+
+      private int count = 0;
+
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public Integer next() {
+        return count++;
+      }
+    };
+
+    for (int i = 0; i < 200; ++i) {
+      PrefetchingIterator<Integer> iterator = new PrefetchingIterator<>(source, executor, 50);
+      iterator.cancel();
+
+      // no element filled concurrently with the cancellation may be handed out after it
+      try {
+        iterator.next();
+        fail("The consumer should not get elements after cancelling");
+      } catch (MuleRuntimeException e) {
+        // expected
+      }
+    }
+  }
+
+  @Test
+  public void fetchesInCurrentThreadWhenRejected() {
+    PrefetchingIterator<String> iterator = new PrefetchingIterator<>(asList("a", "b", "c").iterator(), command -> {
+      throw new RejectedExecutionException();
+    }, 1);
+
+    assertThat(drain(iterator), is(asList("a", "b", "c")));
+  }
+
+  private <T> List<T> drain(Iterator<T> iterator) {
+    List<T> drained = new ArrayList<>();
+    while (iterator.hasNext()) {
+      drained.add(iterator.next());
+    }
+    return drained;
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.security;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.api.security.Authentication;
+import org.mule.runtime.api.security.DefaultMuleAuthentication;
+import org.mule.runtime.api.security.SecurityException;
+import org.mule.runtime.api.security.UnauthorisedException;
+import org.mule.runtime.core.api.security.DefaultMuleCredentials;
+import org.mule.runtime.core.api.security.SecurityProvider;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class AuthenticationCacheTestCase extends AbstractMuleTestCase {
+
+  private static final long TTL_MILLIS = 1000;
+  private static final long NEGATIVE_TTL_MILLIS = 100;
+
+  private final AtomicLong clock = new AtomicLong();
+  private final AuthenticationCache cache = new AuthenticationCache(TTL_MILLIS, NEGATIVE_TTL_MILLIS, 2, clock::get);
+
+  private SecurityProvider provider;
+  private Authentication result;
+
+  @Before
+  public void before() throws SecurityException {
+    provider = mock(SecurityProvider.class);
+    when(provider.getName()).thenReturn("provider");
+    result = mock(Authentication.class);
+    when(provider.authenticate(any())).thenReturn(result);
+  }
+
+  @Test
+  public void sameCredentialsReused() throws Exception {
+    assertThat(cache.authenticate(provider, authentication("user", "pass")), is(sameInstance(result)));
+    assertThat(cache.authenticate(provider, authentication("user", "pass")), is(sameInstance(result)));
+
+    verify(provider, times(1)).authenticate(any());
+    assertThat(cache.getHits(), is(1L));
+    assertThat(cache.getMisses(), is(1L));
+  }
+
+  @Test
+  public void differentPasswordNotReused() throws Exception {
+    cache.authenticate(provider, authentication("user", "pass"));
+    cache.authenticate(provider, authentication("user", "otherPass"));
+
+    verify(provider, times(2)).authenticate(any());
+  }
+
+  @Test
+  public void differentProviderNotReused() throws Exception {
+    SecurityProvider otherProvider = mock(SecurityProvider.class);
+    when(otherProvider.getName()).thenReturn("otherProvider");
+    when(otherProvider.authenticate(any())).thenReturn(result);
+
+    cache.authenticate(provider, authentication("user", "pass"));
+    cache.authenticate(otherProvider, authentication("user", "pass"));
+
+    verify(otherProvider).authenticate(any());
+  }
+
+  @Test
+  public void expired() throws Exception {
+    cache.authenticate(provider, authentication("user", "pass"));
+    clock.addAndGet(MILLISECONDS.toNanos(TTL_MILLIS));
+    cache.authenticate(provider, authentication("user", "pass"));
+
+    verify(provider, times(2)).authenticate(any());
+    assertThat(cache.getExpirations(), is(1L));
+  }
+
+  @Test
+  public void rejectionCached() throws Exception {
+    when(provider.authenticate(any())).thenThrow(UnauthorisedException.class);
+
+    assertRejected(authentication("user", "wrong"));
+    assertRejected(authentication("user", "wrong"));
+    verify(provider, times(1)).authenticate(any());
+    assertThat(cache.getNegativeHits(), is(1L));
+
+    clock.addAndGet(MILLISECONDS.toNanos(NEGATIVE_TTL_MILLIS));
+    assertRejected(authentication("user", "wrong"));
+    verify(provider, times(2)).authenticate(any());
+  }
+
+  @Test
+  public void failureNotCached() throws Exception {
+    when(provider.authenticate(any())).thenThrow(SecurityException.class).thenReturn(result);
+
+    try {
+      cache.authenticate(provider, authentication("user", "pass"));
+      fail("Authentication should have failed");
+    } catch (SecurityException e) {
+      // expected
+    }
+
+    assertThat(cache.authenticate(provider, authentication("user", "pass")), is(sameInstance(result)));
+  }
+
+  @Test
+  public void invalidateCredentials() throws Exception {
+    cache.authenticate(provider, authentication("user", "pass"));
+    cache.invalidate(authentication("user", "pass"));
+    cache.authenticate(provider, authentication("user", "pass"));
+
+    verify(provider, times(2)).authenticate(any());
+  }
+
+  @Test
+  public void invalidateProvider() throws Exception {
+    cache.authenticate(provider, authentication("user", "pass"));
+    cache.invalidateProvider("provider");
+
+    assertThat(cache.getSize(), is(0));
+  }
+
+  @Test
+  public void boundedSize() throws Exception {
+    cache.authenticate(provider, authentication("user1", "pass"));
+    cache.authenticate(provider, authentication("user2", "pass"));
+    cache.authenticate(provider, authentication("user3", "pass"));
+
+    assertThat(cache.getSize(), is(2));
+  }
+
+  @Test
+  public void unsupportedCredentialsNotCached() throws Exception {
+    cache.authenticate(provider, maskedAuthentication("pass"));
+    cache.authenticate(provider, maskedAuthentication("pass"));
+
+    verify(provider, times(2)).authenticate(any());
+    assertThat(cache.getSize(), is(0));
+  }
+
+  private void assertRejected(Authentication authentication) throws SecurityException {
+    try {
+      cache.authenticate(provider, authentication);
+      fail("Authentication should have been rejected");
+    } catch (UnauthorisedException e) {
+      // expected
+    }
+  }
+
+  private Authentication authentication(String username, String password) {
+    return new DefaultMuleAuthentication(new DefaultMuleCredentials(username, password.toCharArray()));
+  }
+
+  private Authentication maskedAuthentication(String password) {
+    Authentication authentication = mock(Authentication.class);
+    when(authentication.getPrincipal()).thenReturn("user");
+    when(authentication.getCredentials()).thenReturn(new MaskedCredentials(password));
+    return authentication;
+  }
+
+  private static final class MaskedCredentials {
+
+    private final String secret;
+
+    private MaskedCredentials(String secret) {
+      this.secret = secret;
+    }
+
+    @Override
+    public String toString() {
+      return "****";
+    }
+  }
+}
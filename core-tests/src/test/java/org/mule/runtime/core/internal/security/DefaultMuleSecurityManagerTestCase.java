@@ -8,8 +8,11 @@ package org.mule.runtime.core.internal.security;
 
 import static java.util.Optional.ofNullable;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.junit.rules.ExpectedException.none;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
@@ -19,6 +22,9 @@ import org.mule.runtime.api.security.Authentication;
 import org.mule.runtime.api.security.SecurityException;
 import org.mule.runtime.api.security.SecurityProviderNotFoundException;
 import org.mule.runtime.api.security.UnauthorisedException;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.management.stats.AllStatistics;
+import org.mule.runtime.core.api.management.stats.Statistics;
 import org.mule.runtime.core.api.security.SecurityManager;
 import org.mule.runtime.core.api.security.SecurityProvider;
 import org.mule.tck.junit4.AbstractMuleTestCase;
@@ -100,6 +106,40 @@ public class DefaultMuleSecurityManagerTestCase extends AbstractMuleTestCase {
     }
   }
 
+  @Test
+  public void authenticateWithCache()
+      throws SecurityException, SecurityProviderNotFoundException {
+    when(provider.authenticate(authentication)).thenReturn(authentication);
+    ((DefaultMuleSecurityManager) manager).setAuthenticationCache(new AuthenticationCache(60000, 0, 10));
+    manager.addProvider(provider);
+
+    assertThat(manager.authenticate(authentication), is(authentication));
+    assertThat(manager.authenticate(authentication), is(authentication));
+
+    verify(provider, times(1)).authenticate(authentication);
+  }
+
+  @Test
+  public void authenticationCacheStatisticsRegistered() throws Exception {
+    AuthenticationCache authenticationCache = new AuthenticationCache(60000, 0, 10);
+    AllStatistics allStatistics = new AllStatistics();
+    MuleContext muleContext = mock(MuleContext.class);
+    when(muleContext.getStatistics()).thenReturn(allStatistics);
+    ((DefaultMuleSecurityManager) manager).setAuthenticationCache(authenticationCache);
+    ((DefaultMuleSecurityManager) manager).setMuleContext(muleContext);
+    when(provider.authenticate(authentication)).thenReturn(authentication);
+    manager.addProvider(provider);
+
+    manager.initialise();
+    manager.authenticate(authentication);
+    assertThat(authenticationCache.getStatistics().getMisses(), is(1L));
+    assertThat(allStatistics.getRegisteredStatistics().get("authenticationCache"),
+               is(sameInstance((Statistics) authenticationCache.getStatistics())));
+
+    ((DefaultMuleSecurityManager) manager).dispose();
+    assertThat(allStatistics.getRegisteredStatistics().containsKey("authenticationCache"), is(false));
+  }
+
   @Test
   public void authenticateWithoutProvider()
       throws SecurityException, SecurityProviderNotFoundException {
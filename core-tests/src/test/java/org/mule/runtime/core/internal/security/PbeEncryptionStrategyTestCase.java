@@ -6,12 +6,23 @@
  */
 package org.mule.runtime.core.internal.security;
 
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.apache.commons.io.IOUtils.toByteArray;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
 
 import org.mule.runtime.core.internal.security.PasswordBasedEncryptionStrategy;
 import org.mule.tck.junit4.AbstractMuleTestCase;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
 import org.junit.Test;
 
 public class PbeEncryptionStrategyTestCase extends AbstractMuleTestCase {
@@ -28,4 +39,67 @@ public class PbeEncryptionStrategyTestCase extends AbstractMuleTestCase {
     String s = new String(pbe.decrypt(b, null), "UTF-8");
     assertEquals("hello", s);
   }
+
+  @Test
+  public void streamingRoundTripEncryption() throws Exception {
+    PasswordBasedEncryptionStrategy pbe = createStrategy(true);
+    byte[] data = randomData(1024 * 1024 + 3);
+
+    InputStream encrypted = pbe.encrypt(new ByteArrayInputStream(data), null);
+    try (InputStream decrypted = pbe.decrypt(encrypted, null)) {
+      assertArrayEquals(data, toByteArray(decrypted));
+    }
+  }
+
+  @Test
+  public void streamingIsCompatibleWithNonStreaming() throws Exception {
+    PasswordBasedEncryptionStrategy streamingPbe = createStrategy(true);
+    PasswordBasedEncryptionStrategy pbe = createStrategy(false);
+    byte[] data = randomData(10000);
+
+    try (InputStream encrypted = streamingPbe.encrypt(new ByteArrayInputStream(data), null)) {
+      assertArrayEquals(data, pbe.decrypt(toByteArray(encrypted), null));
+    }
+    try (InputStream decrypted = streamingPbe.decrypt(new ByteArrayInputStream(pbe.encrypt(data, null)), null)) {
+      assertArrayEquals(data, toByteArray(decrypted));
+    }
+  }
+
+  @Test
+  public void concurrentRoundTripEncryption() throws Exception {
+    PasswordBasedEncryptionStrategy pbe = createStrategy(false);
+    ExecutorService executor = newFixedThreadPool(4);
+    try {
+      List<Future<?>> roundTrips = new ArrayList<>();
+      for (int i = 0; i < 4; ++i) {
+        byte[] data = randomData(100000 + i);
+        roundTrips.add(executor.submit(() -> {
+          for (int j = 0; j < 20; ++j) {
+            assertArrayEquals(data, pbe.decrypt(pbe.encrypt(data, null), null));
+          }
+          return null;
+        }));
+      }
+
+      for (Future<?> roundTrip : roundTrips) {
+        roundTrip.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private PasswordBasedEncryptionStrategy createStrategy(boolean streaming) throws Exception {
+    PasswordBasedEncryptionStrategy pbe = new PasswordBasedEncryptionStrategy();
+    pbe.setPassword("test");
+    pbe.setStreaming(streaming);
+    pbe.initialise();
+    return pbe;
+  }
+
+  private byte[] randomData(int size) {
+    byte[] data = new byte[size];
+    new Random(size).nextBytes(data);
+    return data;
+  }
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.streaming.object;
+
+import static java.lang.Math.toIntExact;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.dsl.api.component.config.DefaultComponentLocation.fromSingleComponent;
+import static org.mule.test.allure.AllureConstants.StreamingFeature.STREAMING;
+import static org.mule.test.allure.AllureConstants.StreamingFeature.StreamingStory.OBJECT_STREAMING;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.api.streaming.object.CursorIterator;
+import org.mule.runtime.api.streaming.object.CursorIteratorProvider;
+import org.mule.runtime.core.api.streaming.object.InMemoryCursorIteratorConfig;
+import org.mule.runtime.core.api.util.func.CheckedConsumer;
+import org.mule.tck.size.SmallTest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@SmallTest
+@Feature(STREAMING)
+@Story(OBJECT_STREAMING)
+public class FileStoreCursorIteratorProviderTestCase extends AbstractObjectStreamingTestCase {
+
+  private static final int DATA_SIZE = 500;
+  private static final int BUCKET_SIZE = 10;
+  private static final int MAX_IN_MEMORY_BUCKETS = 3;
+
+  private final FileStoreCursorIteratorConfig config = new FileStoreCursorIteratorConfig(BUCKET_SIZE, MAX_IN_MEMORY_BUCKETS);
+  private CursorIteratorProvider streamProvider;
+
+  public FileStoreCursorIteratorProviderTestCase() {
+    super(DATA_SIZE);
+  }
+
+  @Before
+  public void before() {
+    streamProvider = createStreamProvider(data);
+  }
+
+  @After
+  public void after() {
+    streamProvider.close();
+  }
+
+  @Test
+  @Description("fully consume a stream bigger than the in memory capacity in a single cursor")
+  public void readFullyWithInSingleCursor() throws IOException {
+    withCursor(cursor -> checkEquals(data, cursor));
+  }
+
+  @Test
+  @Description("Consume the stream, then go back to positions in buckets which were overflown to disk")
+  public void seekIntoOverflownBuckets() throws IOException {
+    withCursor(cursor -> {
+      checkEquals(data, cursor);
+
+      seekAndAssert(cursor, 0, BUCKET_SIZE * 2);
+      seekAndAssert(cursor, DATA_SIZE / 2, DATA_SIZE / 2);
+      seekAndAssert(cursor, 5, DATA_SIZE - 5);
+    });
+  }
+
+  @Test
+  @Description("Two open cursors consume different ends of the same stream, one after the other in the same thread")
+  public void twoOpenCursorsReadingOppositeEndsOfTheStream() throws IOException {
+    withCursor(cursor1 -> withCursor(cursor2 -> {
+      seekAndAssert(cursor2, DATA_SIZE - BUCKET_SIZE, BUCKET_SIZE);
+      seekAndAssert(cursor1, 0, DATA_SIZE / 2);
+      seekAndAssert(cursor2, DATA_SIZE / 2, DATA_SIZE / 2);
+    }));
+  }
+
+  @Test
+  @Description("The default config from an in memory config holds as many items in memory as the in memory one")
+  public void fromInMemoryConfig() {
+    FileStoreCursorIteratorConfig fromInMemory =
+        FileStoreCursorIteratorConfig.from(new InMemoryCursorIteratorConfig(100, 50, 1000));
+
+    assertThat(fromInMemory.getBucketSize(), is(100));
+    assertThat(fromInMemory.getMaxInMemoryBuckets(), is(10));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  @Description("A single bucket in memory is rejected, since reading back an overflown bucket would evict it right away")
+  public void singleInMemoryBucketRejected() {
+    new FileStoreCursorIteratorConfig(BUCKET_SIZE, 1);
+  }
+
+  @Test
+  @Description("With the minimum amount of buckets in memory, buckets read back from disk remain readable")
+  public void seekWithMinimumInMemoryBuckets() throws IOException {
+    streamProvider.close();
+    streamProvider = new FileStoreCursorIteratorProvider(toStreamingIterator(data),
+                                                         new FileStoreCursorIteratorConfig(BUCKET_SIZE, 2),
+                                                         fromSingleComponent("log"), false);
+
+    withCursor(cursor -> {
+      checkEquals(data, cursor);
+
+      seekAndAssert(cursor, 0, BUCKET_SIZE * 3);
+      seekAndAssert(cursor, DATA_SIZE / 2, BUCKET_SIZE);
+    });
+  }
+
+  @Test(expected = MuleRuntimeException.class)
+  @Description("Items which cannot be serialized fail once they need to be overflown to disk")
+  public void notSerializableItems() throws IOException {
+    List<Object> notSerializable = new ArrayList<>();
+    for (int i = 0; i < DATA_SIZE; i++) {
+      notSerializable.add(new Object());
+    }
+
+    streamProvider.close();
+    streamProvider = createStreamProvider(notSerializable);
+
+    withCursor(cursor -> read(cursor, DATA_SIZE));
+  }
+
+  private CursorIteratorProvider createStreamProvider(List<Object> data) {
+    return new FileStoreCursorIteratorProvider(toStreamingIterator(data), config, fromSingleComponent("log"), false);
+  }
+
+  private void seekAndAssert(CursorIterator<Object> cursor, long position, int size) {
+    cursor.seek(position);
+    List<Object> read = read(cursor, size);
+    checkEquals(read, data.subList(toIntExact(position), toIntExact(position + size)));
+  }
+
+  private void withCursor(CheckedConsumer<CursorIterator> consumer) throws IOException {
+    try (CursorIterator cursor = streamProvider.openCursor()) {
+      consumer.accept(cursor);
+    }
+  }
+}
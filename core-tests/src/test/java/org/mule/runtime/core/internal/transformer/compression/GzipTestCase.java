@@ -6,11 +6,26 @@
  */
 package org.mule.runtime.core.internal.transformer.compression;
 
+import static java.util.zip.Deflater.BEST_SPEED;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import org.mule.runtime.core.api.util.compression.GZipCompression;
+
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
 import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
 
+import org.apache.commons.io.IOUtils;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -35,6 +50,134 @@ public class GzipTestCase {
     deflater.getBytesRead();
   }
 
+  @Test
+  public void compressedByteArrayIsReadableByJdk() throws IOException {
+    byte[] payload = payload(100000);
+    byte[] compressed = new GZipCompression().compressByteArray(payload);
+
+    assertThat(compressed.length, lessThan(payload.length));
+    try (InputStream uncompressed = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+      assertThat(IOUtils.toByteArray(uncompressed), is(payload));
+    }
+  }
+
+  @Test
+  public void uncompressByteArrayCompressedByJdk() throws IOException {
+    byte[] payload = payload(100000);
+
+    assertThat(new GZipCompression().uncompressByteArray(jdkCompress(payload)), is(payload));
+  }
+
+  @Test
+  public void uncompressMultipleMembers() throws IOException {
+    byte[] first = payload(5000);
+    byte[] second = payload(7000);
+    ByteArrayOutputStream members = new ByteArrayOutputStream();
+    members.write(jdkCompress(first));
+    members.write(new GZipCompression().compressByteArray(second));
+
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    expected.write(first);
+    expected.write(second);
+    assertThat(new GZipCompression().uncompressByteArray(members.toByteArray()), is(expected.toByteArray()));
+  }
+
+  @Test
+  public void uncompressEmpty() throws IOException {
+    GZipCompression compression = new GZipCompression();
+
+    assertThat(compression.uncompressByteArray(compression.compressByteArray(new byte[0])), is(new byte[0]));
+  }
+
+  @Test
+  public void uncompressTruncated() throws IOException {
+    byte[] compressed = new GZipCompression().compressByteArray(payload(10000));
+    byte[] truncated = new byte[compressed.length / 2];
+    System.arraycopy(compressed, 0, truncated, 0, truncated.length);
+
+    expected.expect(EOFException.class);
+    new GZipCompression().uncompressByteArray(truncated);
+  }
+
+  @Test
+  public void uncompressHighlyCompressible() throws IOException {
+    byte[] payload = new byte[1024 * 1024];
+
+    assertThat(new GZipCompression().uncompressByteArray(jdkCompress(payload)), is(payload));
+  }
+
+  @Test
+  public void uncompressForgedTrailerSize() throws IOException {
+    byte[] compressed = new GZipCompression().compressByteArray(payload(100));
+    // An uncompressed size of almost 4GB in the trailer must not be allocated upfront
+    compressed[compressed.length - 1] = (byte) 0xff;
+    compressed[compressed.length - 2] = (byte) 0xff;
+
+    expected.expect(ZipException.class);
+    new GZipCompression().uncompressByteArray(compressed);
+  }
+
+  @Test
+  public void bestSpeedRoundTrip() throws IOException {
+    byte[] payload = payload(100000);
+    GZipCompression compression = new GZipCompression(BEST_SPEED);
+
+    assertThat(compression.uncompressByteArray(compression.compressByteArray(payload)), is(payload));
+    try (InputStream compressed = compression.compressInputStream(new ByteArrayInputStream(payload));
+        InputStream uncompressed = new GZIPInputStream(compressed)) {
+      assertThat(IOUtils.toByteArray(uncompressed), is(payload));
+    }
+  }
+
+  @Test
+  public void invalidCompressionLevel() {
+    expected.expect(IllegalArgumentException.class);
+    new GZipCompression(10);
+  }
+
+  @Test
+  public void streamingRoundTrip() throws IOException {
+    byte[] payload = payload(100000);
+    GZipCompression compression = new GZipCompression();
+
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    long compressedSize = compression.compress(new ByteArrayInputStream(payload), compressed);
+    assertThat(compressedSize, is((long) compressed.size()));
+
+    ByteArrayOutputStream uncompressed = new ByteArrayOutputStream();
+    long uncompressedSize = compression.uncompress(new ByteArrayInputStream(compressed.toByteArray()), uncompressed);
+    assertThat(uncompressedSize, is((long) payload.length));
+    assertThat(uncompressed.toByteArray(), is(payload));
+  }
+
+  @Test
+  public void pooledCodecsAreReset() throws IOException {
+    // Interleave different payloads and levels so a codec that is not properly reset when released corrupts the next one
+    for (int i = 0; i < 20; ++i) {
+      byte[] payload = payload(1000 * (i + 1));
+      byte[] compressed = GZipCodec.compress(payload, i % 2 == 0 ? BEST_SPEED : Deflater.DEFAULT_COMPRESSION);
+      assertThat(GZipCodec.uncompress(compressed), is(payload));
+    }
+  }
+
+  private static byte[] payload(int size) {
+    // Text-like content, so it is actually compressible
+    Random random = new Random(size);
+    byte[] payload = new byte[size];
+    for (int i = 0; i < size; ++i) {
+      payload[i] = (byte) ('a' + random.nextInt(8));
+    }
+    return payload;
+  }
+
+  private static byte[] jdkCompress(byte[] payload) throws IOException {
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (OutputStream gzip = new GZIPOutputStream(compressed)) {
+      gzip.write(payload);
+    }
+    return compressed.toByteArray();
+  }
+
   private static final class TestGzipCompressorInputStream extends GZIPCompressorInputStream {
 
     private final Deflater deflater;
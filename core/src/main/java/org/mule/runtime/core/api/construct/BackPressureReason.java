@@ -34,6 +34,13 @@ public enum BackPressureReason {
   /**
    * The flow did not consume enough of the previous events.
    */
-  EVENTS_ACCUMULATED;
+  EVENTS_ACCUMULATED,
+
+  /**
+   * The source of the flow already has in flight the number of events its adaptive admission limit allows.
+   *
+   * @since 4.4.0
+   */
+  ADMISSION_LIMIT_EXCEEDED;
 
 }
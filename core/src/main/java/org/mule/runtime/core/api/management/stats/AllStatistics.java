@@ -6,12 +6,15 @@
  */
 package org.mule.runtime.core.api.management.stats;
 
+import static java.util.Collections.unmodifiableMap;
+
 import org.mule.api.annotation.NoExtend;
 import org.mule.runtime.core.internal.management.stats.ApplicationStatistics;
 
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <code>AllStatistics</code> TODO
@@ -23,6 +26,7 @@ public class AllStatistics {
   private long startTime;
   private ApplicationStatistics appStats;
   private Map<String, FlowConstructStatistics> flowConstructStats = new HashMap<String, FlowConstructStatistics>();
+  private final Map<String, Statistics> registeredStatistics = new ConcurrentHashMap<>();
 
   /**
    * 
@@ -86,4 +90,37 @@ public class AllStatistics {
   public FlowConstructStatistics getApplicationStatistics() {
     return appStats;
   }
+
+  /**
+   * Registers statistics collected by a component of the application other than its flows (i.e.: locks, caches), so that they
+   * are available along with the rest of the statistics of the application. Replaces any statistics already registered with the
+   * same name.
+   *
+   * @param name       the name that identifies the statistics within the application
+   * @param statistics the statistics to register
+   * @since 4.4.0
+   */
+  public void addStatistics(String name, Statistics statistics) {
+    registeredStatistics.put(name, statistics);
+  }
+
+  /**
+   * Unregisters statistics previously registered through {@link #addStatistics(String, Statistics)}. Nothing is done if other
+   * statistics were registered with the same name since then.
+   *
+   * @param name       the name the statistics were registered with
+   * @param statistics the registered statistics
+   * @since 4.4.0
+   */
+  public void removeStatistics(String name, Statistics statistics) {
+    registeredStatistics.remove(name, statistics);
+  }
+
+  /**
+   * @return the statistics registered through {@link #addStatistics(String, Statistics)}, by name.
+   * @since 4.4.0
+   */
+  public Map<String, Statistics> getRegisteredStatistics() {
+    return unmodifiableMap(registeredStatistics);
+  }
 }
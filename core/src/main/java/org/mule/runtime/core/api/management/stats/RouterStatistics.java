@@ -37,6 +37,8 @@ public class RouterStatistics implements Statistics {
   private long totalRouted;
   private long totalReceived;
   private Map routed;
+  private Map<String, Long> outstanding;
+  private Map<String, Double> averageLatency;
   private int type;
 
   public synchronized void clear() {
@@ -45,6 +47,8 @@ public class RouterStatistics implements Statistics {
     totalReceived = 0;
     caughtInCatchAll = 0;
     routed.clear();
+    outstanding.clear();
+    averageLatency.clear();
   }
 
   /**
@@ -66,6 +70,8 @@ public class RouterStatistics implements Statistics {
     super();
     this.type = type;
     routed = new HashMap();
+    outstanding = new HashMap<>();
+    averageLatency = new HashMap<>();
   }
 
   /**
@@ -168,6 +174,44 @@ public class RouterStatistics implements Statistics {
     }
   }
 
+  /**
+   * Updates the load of a route, for routers that balance the load among their routes.
+   *
+   * @param route                the route
+   * @param outstandingMessages  the number of messages routed to the route that are still being processed
+   * @param averageLatencyMillis the moving average of the time it takes the route to process a message, in milliseconds
+   * @since 4.4.0
+   */
+  public synchronized void updateRouteLoad(Object route, long outstandingMessages, double averageLatencyMillis) {
+    if (route == null) {
+      return;
+    }
+
+    String name = route.toString();
+    outstanding.put(name, outstandingMessages);
+    averageLatency.put(name, averageLatencyMillis);
+  }
+
+  /**
+   * @return the number of messages routed to the given route that are still being processed, for routers that balance the load
+   *         among their routes.
+   * @since 4.4.0
+   */
+  public synchronized long getOutstanding(String routeName) {
+    Long l = outstanding.get(routeName);
+    return l == null ? 0 : l;
+  }
+
+  /**
+   * @return the moving average of the time it takes the given route to process a message, in milliseconds, for routers that
+   *         balance the load among their routes.
+   * @since 4.4.0
+   */
+  public synchronized double getAverageLatency(String routeName) {
+    Double d = averageLatency.get(routeName);
+    return d == null ? 0 : d;
+  }
+
   public boolean isInbound() {
     return type == TYPE_INBOUND;
   }
@@ -6,10 +6,14 @@
  */
 package org.mule.runtime.core.api.util.compression;
 
+import static org.mule.runtime.core.api.util.IOUtils.copyLarge;
+
 import org.mule.api.annotation.NoImplement;
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 
 /**
  * <code>CompressionStrategy</code> is a base interface for Different compression strategies
@@ -35,6 +39,35 @@ public interface CompressionStrategy {
    */
   InputStream compressInputStream(InputStream is) throws IOException;
 
+  /**
+   * Compresses the content of a {@link CursorStreamProvider}, reading it through a new cursor so the provider can still be
+   * consumed by others.
+   *
+   * @param cursorStreamProvider The {@link CursorStreamProvider} with the data to compress.
+   * @return The compressed {@link InputStream}. Closing it closes the opened cursor.
+   * @throws IOException If an I/O error has occurred.
+   * @since 4.4.0
+   */
+  default InputStream compressInputStream(CursorStreamProvider cursorStreamProvider) throws IOException {
+    return compressInputStream(cursorStreamProvider.openCursor());
+  }
+
+  /**
+   * Compresses the content of an {@link InputStream} into an {@link OutputStream}, without holding the whole content in memory.
+   * The {@link InputStream} is closed once consumed, while the {@link OutputStream} is left open.
+   *
+   * @param is The {@link InputStream} to compress.
+   * @param os The {@link OutputStream} where the compressed data is written.
+   * @return The number of compressed bytes written.
+   * @throws IOException If an I/O error has occurred.
+   * @since 4.4.0
+   */
+  default long compress(InputStream is, OutputStream os) throws IOException {
+    try (InputStream compressed = compressInputStream(is)) {
+      return copyLarge(compressed, os);
+    }
+  }
+
   /**
    * Uncompresses a compressed byte array.
    *
@@ -53,6 +86,35 @@ public interface CompressionStrategy {
    */
   InputStream uncompressInputStream(InputStream is) throws IOException;
 
+  /**
+   * Uncompresses the content of a {@link CursorStreamProvider}, reading it through a new cursor so the provider can still be
+   * consumed by others.
+   *
+   * @param cursorStreamProvider The {@link CursorStreamProvider} with the compressed data.
+   * @return The uncompressed {@link InputStream}. Closing it closes the opened cursor.
+   * @throws IOException If an I/O error has occurred.
+   * @since 4.4.0
+   */
+  default InputStream uncompressInputStream(CursorStreamProvider cursorStreamProvider) throws IOException {
+    return uncompressInputStream(cursorStreamProvider.openCursor());
+  }
+
+  /**
+   * Uncompresses the content of an {@link InputStream} into an {@link OutputStream}, without holding the whole content in memory.
+   * The {@link InputStream} is closed once consumed, while the {@link OutputStream} is left open.
+   *
+   * @param is The compressed {@link InputStream}.
+   * @param os The {@link OutputStream} where the uncompressed data is written.
+   * @return The number of uncompressed bytes written.
+   * @throws IOException If an I/O error has occurred.
+   * @since 4.4.0
+   */
+  default long uncompress(InputStream is, OutputStream os) throws IOException {
+    try (InputStream uncompressed = uncompressInputStream(is)) {
+      return copyLarge(uncompressed, os);
+    }
+  }
+
   /**
    * Checks whether a byte array has been compressed or not.
    *
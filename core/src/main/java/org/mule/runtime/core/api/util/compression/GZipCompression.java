@@ -6,18 +6,16 @@
  */
 package org.mule.runtime.core.api.util.compression;
 
-import static org.apache.commons.io.IOUtils.copy;
-import static org.mule.runtime.core.api.util.IOUtils.closeQuietly;
+import static java.util.zip.Deflater.DEFAULT_COMPRESSION;
 
 import org.mule.runtime.core.internal.transformer.compression.GZIPCompressorInputStream;
+import org.mule.runtime.core.internal.transformer.compression.GZipCodec;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
-import org.apache.commons.io.output.ByteArrayOutputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,6 +31,31 @@ public final class GZipCompression implements CompressionStrategy {
    */
   private static final Logger logger = LoggerFactory.getLogger(GZipCompression.class);
 
+  private final int compressionLevel;
+
+  /**
+   * Creates a {@link GZipCompression} that compresses with the default compression level.
+   */
+  public GZipCompression() {
+    this(DEFAULT_COMPRESSION);
+  }
+
+  /**
+   * Creates a {@link GZipCompression} that compresses with the given level. {@link Deflater#BEST_SPEED} trades some compression
+   * ratio for a much higher throughput, while still generating data that any GZIP reader can uncompress.
+   *
+   * @param compressionLevel the compression level, from {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION}, or
+   *                         {@link Deflater#DEFAULT_COMPRESSION}
+   * @since 4.4.0
+   */
+  public GZipCompression(int compressionLevel) {
+    if ((compressionLevel < Deflater.BEST_SPEED || compressionLevel > Deflater.BEST_COMPRESSION)
+        && compressionLevel != DEFAULT_COMPRESSION) {
+      throw new IllegalArgumentException("Invalid compression level: " + compressionLevel);
+    }
+    this.compressionLevel = compressionLevel;
+  }
+
   /**
    * Determines if a byte array is compressed. The java.util.zip GZip implementaiton does not expose the GZip header so it is
    * difficult to determine if a string is compressed.
@@ -42,11 +65,7 @@ public final class GZipCompression implements CompressionStrategy {
    * @throws java.io.IOException if the byte array couldn't be read
    */
   public boolean isCompressed(byte[] bytes) throws IOException {
-    if ((bytes == null) || (bytes.length < 2)) {
-      return false;
-    } else {
-      return ((bytes[0] == (byte) (GZIPInputStream.GZIP_MAGIC)) && (bytes[1] == (byte) (GZIPInputStream.GZIP_MAGIC >> 8)));
-    }
+    return GZipCodec.isMember(bytes, 0);
   }
 
   /**
@@ -54,7 +73,7 @@ public final class GZipCompression implements CompressionStrategy {
    * 
    * @param bytes An array of bytes to compress
    * @return a compressed byte array
-   * @throws java.io.IOException if it fails to write to a GZIPOutputStream
+   * @throws java.io.IOException if it fails to compress the data
    * @see java.util.zip.GZIPOutputStream
    */
   public byte[] compressByteArray(byte[] bytes) throws IOException {
@@ -71,35 +90,17 @@ public final class GZipCompression implements CompressionStrategy {
       logger.debug("Compressing message of size: " + bytes.length);
     }
 
-    ByteArrayOutputStream baos = null;
-    GZIPOutputStream gzos = null;
-
-    try {
-      baos = new ByteArrayOutputStream(DEFAULT_BUFFER_SIZE);
-      gzos = new GZIPOutputStream(baos);
-
-      gzos.write(bytes, 0, bytes.length);
-      gzos.finish();
-      gzos.close();
-
-      byte[] compressedByteArray = baos.toByteArray();
-      baos.close();
+    byte[] compressedByteArray = GZipCodec.compress(bytes, compressionLevel);
 
-      if (logger.isDebugEnabled()) {
-        logger.debug("Compressed message to size: " + compressedByteArray.length);
-      }
-
-      return compressedByteArray;
-    } catch (IOException ioex) {
-      throw ioex;
-    } finally {
-      closeQuietly(gzos);
-      closeQuietly(baos);
+    if (logger.isDebugEnabled()) {
+      logger.debug("Compressed message to size: " + compressedByteArray.length);
     }
+
+    return compressedByteArray;
   }
 
   public InputStream compressInputStream(InputStream is) throws IOException {
-    return new GZIPCompressorInputStream(is);
+    return new GZIPCompressorInputStream(is, compressionLevel);
   }
 
   /**
@@ -107,7 +108,7 @@ public final class GZipCompression implements CompressionStrategy {
    * 
    * @param bytes An array of bytes to uncompress
    * @return an uncompressed byte array
-   * @throws java.io.IOException if it fails to read from a GZIPInputStream
+   * @throws java.io.IOException if the data is not valid GZIP data
    * @see java.util.zip.GZIPInputStream
    */
   public byte[] uncompressByteArray(byte[] bytes) throws IOException {
@@ -123,34 +124,13 @@ public final class GZipCompression implements CompressionStrategy {
       logger.debug("Uncompressing message of size: " + bytes.length);
     }
 
-    ByteArrayInputStream bais = null;
-    GZIPInputStream gzis = null;
-    ByteArrayOutputStream baos = null;
-
-    try {
-      bais = new ByteArrayInputStream(bytes);
-      gzis = new GZIPInputStream(bais);
-      baos = new ByteArrayOutputStream(DEFAULT_BUFFER_SIZE);
-
-      copy(gzis, baos);
-      gzis.close();
-      bais.close();
+    byte[] uncompressedByteArray = GZipCodec.uncompress(bytes);
 
-      byte[] uncompressedByteArray = baos.toByteArray();
-      baos.close();
-
-      if (logger.isDebugEnabled()) {
-        logger.debug("Uncompressed message to size: " + uncompressedByteArray.length);
-      }
-
-      return uncompressedByteArray;
-    } catch (IOException ioex) {
-      throw ioex;
-    } finally {
-      closeQuietly(gzis);
-      closeQuietly(bais);
-      closeQuietly(baos);
+    if (logger.isDebugEnabled()) {
+      logger.debug("Uncompressed message to size: " + uncompressedByteArray.length);
     }
+
+    return uncompressedByteArray;
   }
 
   public InputStream uncompressInputStream(InputStream is) throws IOException {
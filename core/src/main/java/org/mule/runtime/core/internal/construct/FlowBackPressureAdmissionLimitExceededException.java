@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.construct;
+
+import org.mule.runtime.api.component.Component;
+import org.mule.runtime.core.api.construct.BackPressureReason;
+
+/**
+ * The source of the flow already has in flight the number of events its adaptive admission limit allows.
+ *
+ * @since 4.4.0
+ */
+public class FlowBackPressureAdmissionLimitExceededException extends FlowBackPressureException {
+
+  private static final long serialVersionUID = -2281472367155306184L;
+
+  /**
+   * Create a new {@link FlowBackPressureAdmissionLimitExceededException} with no cause.
+   */
+  public FlowBackPressureAdmissionLimitExceededException(Component flow, BackPressureReason reason) {
+    super(flow, reason);
+  }
+
+  /**
+   * Create a new {@link FlowBackPressureAdmissionLimitExceededException} with a cause.
+   */
+  public FlowBackPressureAdmissionLimitExceededException(Component flow, BackPressureReason reason, Throwable cause) {
+    super(flow, reason, cause);
+  }
+
+}
@@ -55,6 +55,8 @@ public abstract class FlowBackPressureException extends MuleException {
         return new FlowBackPressureRequiredSchedulerBusyWithFullBufferException(flow, reason, cause);
       case EVENTS_ACCUMULATED:
         return new FlowBackPressureEventsAccumulatedException(flow, reason, cause);
+      case ADMISSION_LIMIT_EXCEEDED:
+        return new FlowBackPressureAdmissionLimitExceededException(flow, reason, cause);
       default:
         throw new IllegalArgumentException("Cannot build a FlowBackPressureException with a cause without a reason");
     }
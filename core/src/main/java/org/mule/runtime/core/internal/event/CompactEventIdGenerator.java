@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.event;
+
+import static java.lang.Long.toHexString;
+import static java.lang.System.currentTimeMillis;
+
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.construct.FlowConstruct;
+
+import java.io.Serializable;
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link EventIdGenerator} that generates compact and monotonic ids, in the form
+ * {@code <clusterNodeId>-<instanceId>-<sequence>}.
+ * <p>
+ * The instance id combines the time the generator was created with a discriminator, so that ids remain unique across restarts
+ * and across runtimes of the same cluster node. The discriminator starts at a random value and is different for each instance
+ * created in the same runtime. The sequence grows monotonically for all the events of the runtime.
+ * <p>
+ * Generating an id only takes an increment and a small object holding its parts. The id is rendered to a {@link String} the
+ * first time it is read, and that rendering is reused afterwards.
+ *
+ * @since 4.4.0
+ */
+public class CompactEventIdGenerator implements EventIdGenerator {
+
+  private static final int DISCRIMINATOR_BITS = 16;
+  private static final AtomicInteger NEXT_DISCRIMINATOR = new AtomicInteger(new SecureRandom().nextInt());
+
+  private final String instanceId;
+  private final AtomicLong sequence = new AtomicLong();
+
+  public CompactEventIdGenerator() {
+    final int discriminator = NEXT_DISCRIMINATOR.getAndIncrement() & ((1 << DISCRIMINATOR_BITS) - 1);
+    this.instanceId = toHexString(currentTimeMillis() << DISCRIMINATOR_BITS | discriminator);
+  }
+
+  @Override
+  public CharSequence generate(FlowConstruct flow) {
+    final MuleContext muleContext = flow.getMuleContext();
+    final int clusterNodeId = muleContext != null ? muleContext.getClusterNodeId() : 0;
+    return new CompactEventId(clusterNodeId, instanceId, sequence.incrementAndGet());
+  }
+
+  /**
+   * An id generated by a {@link CompactEventIdGenerator}, rendered lazily.
+   */
+  static final class CompactEventId implements CharSequence, Serializable {
+
+    private static final long serialVersionUID = 5519471474226735012L;
+
+    private final int clusterNodeId;
+    private final String instanceId;
+    private final long sequence;
+
+    private String rendered;
+
+    CompactEventId(int clusterNodeId, String instanceId, long sequence) {
+      this.clusterNodeId = clusterNodeId;
+      this.instanceId = instanceId;
+      this.sequence = sequence;
+    }
+
+    long getSequence() {
+      return sequence;
+    }
+
+    @Override
+    public int length() {
+      return toString().length();
+    }
+
+    @Override
+    public char charAt(int index) {
+      return toString().charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+      return toString().subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+      // Rendering is idempotent, so concurrent readers may at most render it more than once
+      if (rendered == null) {
+        rendered = new StringBuilder(instanceId.length() + 24)
+            .append(clusterNodeId).append('-')
+            .append(instanceId).append('-')
+            .append(toHexString(sequence))
+            .toString();
+      }
+      return rendered;
+    }
+  }
+}
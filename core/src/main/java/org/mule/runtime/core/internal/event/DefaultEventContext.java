@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.core.internal.event;
 
+import static java.lang.System.getProperty;
 import static java.lang.System.identityHashCode;
 import static java.lang.System.lineSeparator;
 import static java.time.Instant.now;
@@ -13,7 +14,9 @@ import static java.util.Collections.emptyList;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
+import static org.mule.runtime.core.api.util.ClassUtils.instantiateClass;
 import static org.mule.runtime.core.api.util.StringUtils.EMPTY;
+import static org.mule.runtime.core.internal.event.EventIdGenerator.EVENT_ID_GENERATOR_PROPERTY;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import org.mule.runtime.api.component.location.ComponentLocation;
@@ -53,6 +56,11 @@ public final class DefaultEventContext extends AbstractEventContext implements S
 
   private static final long serialVersionUID = -3664490832964509653L;
 
+  private static final String UUID_ID_GENERATOR = "uuid";
+  private static final String COMPACT_ID_GENERATOR = "compact";
+  private static final EventIdGenerator ID_GENERATOR =
+      createIdGenerator(getProperty(EVENT_ID_GENERATOR_PROPERTY, UUID_ID_GENERATOR));
+
   /**
    * Builds a new child execution context from a parent context. A child context delegates all getters to the parent context but
    * has it's own completion lifecycle. Completion of the child context will not cause the parent context to complete. This is
@@ -89,7 +97,9 @@ public final class DefaultEventContext extends AbstractEventContext implements S
     return child;
   }
 
-  private final String id;
+  // Rendered lazily from the generated one
+  private String id;
+  private final CharSequence generatedId;
   private final String correlationId;
   private final Instant receivedDate = now();
 
@@ -102,6 +112,9 @@ public final class DefaultEventContext extends AbstractEventContext implements S
 
   @Override
   public String getId() {
+    if (id == null && generatedId != null) {
+      id = generatedId.toString();
+    }
     return id;
   }
 
@@ -112,7 +125,7 @@ public final class DefaultEventContext extends AbstractEventContext implements S
 
   @Override
   public String getCorrelationId() {
-    return correlationId != null ? correlationId : id;
+    return correlationId != null ? correlationId : getId();
   }
 
   @Override
@@ -168,7 +181,7 @@ public final class DefaultEventContext extends AbstractEventContext implements S
   public DefaultEventContext(FlowConstruct flow, ComponentLocation location, String correlationId,
                              Optional<CompletableFuture<Void>> externalCompletion) {
     super(NullExceptionHandler.getInstance(), 0, externalCompletion);
-    this.id = flow.getUniqueIdString();
+    this.generatedId = ID_GENERATOR.generate(flow);
     this.serverId = flow.getServerId();
     this.location = location;
     this.processingTime = ProcessingTime.newInstance(flow);
@@ -197,7 +210,7 @@ public final class DefaultEventContext extends AbstractEventContext implements S
   public DefaultEventContext(FlowConstruct flow, FlowExceptionHandler exceptionHandler, ComponentLocation location,
                              String correlationId, Optional<CompletableFuture<Void>> externalCompletion) {
     super(exceptionHandler, 0, externalCompletion);
-    this.id = flow.getUniqueIdString();
+    this.generatedId = ID_GENERATOR.generate(flow);
     this.serverId = flow.getServerId();
     this.location = location;
     this.processingTime = ProcessingTime.newInstance(flow);
@@ -247,6 +260,7 @@ public final class DefaultEventContext extends AbstractEventContext implements S
                              Optional<CompletableFuture<Void>> externalCompletion, FlowExceptionHandler exceptionHandler) {
     super(exceptionHandler, 0, externalCompletion);
     this.id = id;
+    this.generatedId = id;
     this.serverId = serverId;
     this.location = location;
     this.processingTime = null;
@@ -299,10 +313,26 @@ public final class DefaultEventContext extends AbstractEventContext implements S
 
   @Override
   protected String basicToString() {
-    return getClass().getSimpleName() + " { state: " + getState() + "; id: " + id + "; flowName: "
+    return getClass().getSimpleName() + " { state: " + getState() + "; id: " + getId() + "; flowName: "
         + getOriginatingLocation().getRootContainerName() + " }";
   }
 
+  static EventIdGenerator createIdGenerator(String generator) {
+    if (COMPACT_ID_GENERATOR.equals(generator)) {
+      return new CompactEventIdGenerator();
+    } else if (!UUID_ID_GENERATOR.equals(generator)) {
+      // Resolved from the container, regardless of the artifact of the thread that happens to load this class first
+      try {
+        return (EventIdGenerator) instantiateClass(generator, new Object[0], DefaultEventContext.class.getClassLoader());
+      } catch (Exception | LinkageError e) {
+        // Failing here would leave this class unusable for the whole lifetime of the container
+        LOGGER.error("Could not create the event id generator '" + generator + "', '" + UUID_ID_GENERATOR
+            + "' will be used instead", e);
+      }
+    }
+    return FlowConstruct::getUniqueIdString;
+  }
+
   private static class ChildEventContext extends AbstractEventContext implements Serializable {
 
     private static final long serialVersionUID = 1054412872901205234L;
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.event;
+
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+
+import org.mule.runtime.core.api.construct.FlowConstruct;
+
+/**
+ * Generates the ids of the {@link DefaultEventContext}s created for the events of a flow. Unless a source provides one, the id
+ * is also used as the correlation id of the events.
+ * <p>
+ * The generated ids are only rendered to a {@link String} when read, so implementations may defer that work until it is
+ * actually needed.
+ *
+ * @since 4.4.0
+ */
+@FunctionalInterface
+public interface EventIdGenerator {
+
+  /**
+   * The generator for the ids of the events. It may be {@code uuid} (default) for time based UUIDs, {@code compact} for
+   * {@link CompactEventIdGenerator compact ids}, or the fully qualified name of an {@link EventIdGenerator} implementation with
+   * a default constructor, visible from the container. If that implementation can't be created, {@code uuid} is used.
+   */
+  String EVENT_ID_GENERATOR_PROPERTY = SYSTEM_PROPERTY_PREFIX + "event.idGenerator";
+
+  /**
+   * Generates a new id for an event of the given {@code flow}.
+   *
+   * @param flow the flow that processes the event.
+   * @return the new id, rendered when its {@link CharSequence#toString() toString()} is called.
+   */
+  CharSequence generate(FlowConstruct flow);
+}
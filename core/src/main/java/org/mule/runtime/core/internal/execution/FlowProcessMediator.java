@@ -209,6 +209,7 @@ public class FlowProcessMediator implements Initialisable {
     try {
       onMessageReceived(event, flowConstruct, ctx);
       flowConstruct.checkBackpressure(event);
+      ctx.template.checkAdmission(event);
       ctx.template.getNotificationFunctions().forEach(notificationFunction -> notificationManager
           .fireNotification(notificationFunction.apply(event, flowConstruct.getSource())));
       sourcePolicy.process(event, ctx.template,
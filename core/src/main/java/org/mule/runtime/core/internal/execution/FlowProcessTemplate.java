@@ -11,6 +11,7 @@ import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.functional.Either;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.source.MessageSource;
+import org.mule.runtime.core.internal.construct.FlowBackPressureException;
 import org.mule.runtime.core.internal.exception.MessagingException;
 import org.mule.runtime.core.internal.policy.MessageSourceResponseParametersProcessor;
 
@@ -60,6 +61,18 @@ public interface FlowProcessTemplate extends MessageSourceResponseParametersProc
    */
   Publisher<CoreEvent> routeEventAsync(Publisher<CoreEvent> eventPub);
 
+  /**
+   * Template method to decide whether the {@link CoreEvent} is admitted for processing, once the flow has accepted it.
+   * <p>
+   * Events rejected by this method are handled as if the flow had exerted back-pressure on them, and
+   * {@link #afterPhaseExecution(Either)} is still executed for them.
+   *
+   * @param event the event about to begin processing
+   * @throws FlowBackPressureException if the event is not admitted
+   * @since 4.4.0
+   */
+  default void checkAdmission(CoreEvent event) throws FlowBackPressureException {}
+
   /**
    * Template method to send a response after processing the message.
    * <p>
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.lifecycle;
+
+import static java.lang.Boolean.getBoolean;
+import static java.lang.String.format;
+import static java.lang.System.lineSeparator;
+import static java.util.Comparator.comparingLong;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.stream.Collectors.joining;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+
+import org.mule.runtime.api.component.Component;
+import org.mule.runtime.api.component.location.ComponentLocation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+
+/**
+ * Collects the time it took to initialise each of the components of an artifact, and logs a report with the slowest components
+ * and the time spent initialising the components of each namespace, so that it can be told which extensions dominate the
+ * startup of the artifact.
+ * <p>
+ * A summary with the slowest components is logged with {@code INFO} level when the artifact is deployed. The detailed report is
+ * logged with {@code DEBUG} level, or {@code INFO} if the {@link #INITIALISATION_REPORT_PROPERTY} system property is set.
+ * <p>
+ * The time of each component includes the time spent initialising the dependencies it initialises in turn, so those times
+ * overlap. The total reported is the wall time since the report was created, which is expected to happen right before the
+ * phase is applied.
+ * <p>
+ * Instances are not thread safe.
+ *
+ * @since 4.4.0
+ */
+public final class InitialisationTimingsReport {
+
+  /**
+   * System property to have the detailed initialisation timings report logged with {@code INFO} level.
+   */
+  public static final String INITIALISATION_REPORT_PROPERTY = SYSTEM_PROPERTY_PREFIX + "lifecycle.initialisationReport";
+
+  private static final int REPORT_ENTRIES = 10;
+  private static final int SUMMARY_ENTRIES = 5;
+
+  private final List<Timing> timings = new ArrayList<>();
+  private final Map<String, Long> namespaceTimings = new HashMap<>();
+  private final LongSupplier clock;
+  private final long startNanos;
+
+  public InitialisationTimingsReport() {
+    this(System::nanoTime);
+  }
+
+  InitialisationTimingsReport(LongSupplier clock) {
+    this.clock = clock;
+    this.startNanos = clock.getAsLong();
+  }
+
+  /**
+   * Records the time it took to initialise the given {@code component}
+   *
+   * @param component    the initialised object
+   * @param elapsedNanos the time it took to initialise it, in nanoseconds
+   */
+  public void record(Object component, long elapsedNanos) {
+    timings.add(new Timing(describe(component), elapsedNanos));
+    namespaceTimings.merge(namespaceOf(component), elapsedNanos, Long::sum);
+  }
+
+  /**
+   * Logs the summary and the report for the recorded timings, if the {@code logger} is enabled for the corresponding levels.
+   *
+   * @param logger       the logger to log the report to
+   * @param artifactName the name of the artifact whose components were initialised
+   */
+  public void log(Logger logger, String artifactName) {
+    if (timings.isEmpty()) {
+      return;
+    }
+
+    final String header = format("Initialised %d components of '%s' in %d ms", timings.size(), artifactName,
+                                 NANOSECONDS.toMillis(clock.getAsLong() - startNanos));
+    if (getBoolean(INITIALISATION_REPORT_PROPERTY)) {
+      if (logger.isInfoEnabled()) {
+        logReport(logger, header, true);
+      }
+      return;
+    }
+
+    if (logger.isInfoEnabled()) {
+      logger.info(header + ". Slowest: " + timings.stream()
+          .sorted(comparingLong((Timing t) -> t.elapsedNanos).reversed())
+          .limit(SUMMARY_ENTRIES)
+          .map(t -> format("%s (%d ms)", t.component, NANOSECONDS.toMillis(t.elapsedNanos)))
+          .collect(joining(", ")));
+    }
+    if (logger.isDebugEnabled()) {
+      logReport(logger, header, false);
+    }
+  }
+
+  private void logReport(Logger logger, String header, boolean info) {
+    StringBuilder report = new StringBuilder(header);
+
+    report.append(lineSeparator()).append("  By namespace:");
+    namespaceTimings.entrySet().stream()
+        .sorted(comparingLong((Map.Entry<String, Long> e) -> e.getValue()).reversed())
+        .limit(REPORT_ENTRIES)
+        .forEach(e -> report.append(lineSeparator())
+            .append(format("    %-20s %8d ms", e.getKey(), NANOSECONDS.toMillis(e.getValue()))));
+
+    report.append(lineSeparator()).append("  Slowest components:");
+    timings.stream()
+        .sorted(comparingLong((Timing t) -> t.elapsedNanos).reversed())
+        .limit(REPORT_ENTRIES)
+        .forEach(t -> report.append(lineSeparator())
+            .append(format("    %8d ms  %s", NANOSECONDS.toMillis(t.elapsedNanos), t.component)));
+
+    if (info) {
+      logger.info(report.toString());
+    } else {
+      logger.debug(report.toString());
+    }
+  }
+
+  private static String describe(Object component) {
+    ComponentLocation location = locationOf(component);
+    return location != null ? location.getLocation() : component.getClass().getName();
+  }
+
+  private static String namespaceOf(Object component) {
+    ComponentLocation location = locationOf(component);
+    return location != null ? location.getComponentIdentifier().getIdentifier().getNamespace() : "(runtime)";
+  }
+
+  private static ComponentLocation locationOf(Object component) {
+    return component instanceof Component ? ((Component) component).getLocation() : null;
+  }
+
+  private static final class Timing {
+
+    private final String component;
+    private final long elapsedNanos;
+
+    private Timing(String component, long elapsedNanos) {
+      this.component = component;
+      this.elapsedNanos = elapsedNanos;
+    }
+  }
+}
@@ -8,6 +8,7 @@ package org.mule.runtime.core.internal.lifecycle;
 
 import static java.lang.String.format;
 import static java.lang.System.getProperty;
+import static java.lang.System.nanoTime;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static org.mule.runtime.api.exception.ExceptionHelper.unwrap;
@@ -17,8 +18,10 @@ import static org.slf4j.LoggerFactory.getLogger;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.lifecycle.Disposable;
+import org.mule.runtime.api.lifecycle.Initialisable;
 import org.mule.runtime.api.lifecycle.LifecycleException;
 import org.mule.runtime.api.lifecycle.Stoppable;
+import org.mule.runtime.core.api.config.MuleConfiguration;
 import org.mule.runtime.core.api.lifecycle.LifecycleCallback;
 import org.mule.runtime.core.api.util.ExceptionUtils;
 import org.mule.runtime.core.api.util.func.CheckedRunnable;
@@ -68,11 +71,19 @@ public class RegistryLifecycleCallback<T> implements LifecycleCallback<T>, HasLi
 
     LOGGER.debug("Applying lifecycle phase: {} for registry: {}", phase, object.getClass().getSimpleName());
 
-    doApplyLifecycle(phase, new HashSet<>(), registryLifecycleManager.getObjectsForPhase(phase));
+    InitialisationTimingsReport timingsReport =
+        Initialisable.PHASE_NAME.equals(phase.getName()) ? new InitialisationTimingsReport() : null;
+    doApplyLifecycle(phase, new HashSet<>(), registryLifecycleManager.getObjectsForPhase(phase), timingsReport);
     interceptor.onPhaseCompleted(phase);
+
+    if (timingsReport != null) {
+      MuleConfiguration configuration = registryLifecycleManager.muleContext.getConfiguration();
+      timingsReport.log(LOGGER, configuration != null ? configuration.getId() : registryLifecycleManager.lifecycleManagerId);
+    }
   }
 
-  private void doApplyLifecycle(LifecyclePhase phase, Set<Object> duplicates, Collection<?> targetObjects)
+  private void doApplyLifecycle(LifecyclePhase phase, Set<Object> duplicates, Collection<?> targetObjects,
+                                InitialisationTimingsReport timingsReport)
       throws LifecycleException {
     if (CollectionUtils.isEmpty(targetObjects)) {
       return;
@@ -87,14 +98,20 @@ public class RegistryLifecycleCallback<T> implements LifecycleCallback<T>, HasLi
         LOGGER.debug("lifecycle phase: " + phase.getName() + " for object: " + target);
       }
 
-      applyLifecycle(phase, duplicates, target);
+      applyLifecycle(phase, duplicates, target, timingsReport);
     }
   }
 
-  private void applyLifecycle(LifecyclePhase phase, Set<Object> duplicates, Object target) throws LifecycleException {
+  private void applyLifecycle(LifecyclePhase phase, Set<Object> duplicates, Object target,
+                              InitialisationTimingsReport timingsReport)
+      throws LifecycleException {
     try {
       if (interceptor.beforePhaseExecution(phase, target)) {
+        final long startNanos = nanoTime();
         phase.applyLifecycle(target);
+        if (timingsReport != null) {
+          timingsReport.record(target, nanoTime() - startNanos);
+        }
         duplicates.add(target);
         interceptor.afterPhaseExecution(phase, target, empty());
       } else {
@@ -6,121 +6,217 @@
  */
 package org.mule.runtime.core.internal.lock;
 
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+import static java.lang.System.nanoTime;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+
+import org.mule.runtime.core.api.management.stats.AllStatistics;
+
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.github.benmanes.caffeine.cache.Cache;
 
 /**
  * {@link LockGroup} implementation for holding references to created locks inside a mule instance.
+ * <p>
+ * Lock entries are reference counted, so that an entry is discarded once no thread holds or waits for its lock. Entries are kept
+ * in a {@link ConcurrentHashMap}, so operations over different lock ids don't contend with each other.
+ * <p>
+ * Optionally, {@link LockStatistics} may be collected for each lock id, and registered in the {@link AllStatistics} of the
+ * application as {@code lock/<lockId>} while the lock id is being tracked.
  */
 public class InstanceLockGroup implements LockGroup {
 
-  private Map<String, LockEntry> locks;
-  private Object lockAccessMonitor = new Object();
-  private LockProvider lockProvider;
+  private static final int MAX_TRACKED_LOCK_IDS = 1000;
+  private static final String STATISTICS_NAME_PREFIX = "lock/";
+
+  private final Map<String, LockEntry> locks = new ConcurrentHashMap<>();
+  private final LockProvider lockProvider;
+  private final Cache<String, LockStatistics> statistics;
+  private final AllStatistics allStatistics;
 
   public InstanceLockGroup(LockProvider lockProvider) {
+    this(lockProvider, false);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param lockProvider      the provider of the actual locks
+   * @param collectStatistics whether {@link LockStatistics} have to be collected for each lock id.
+   * @since 4.4.0
+   */
+  public InstanceLockGroup(LockProvider lockProvider, boolean collectStatistics) {
+    this(lockProvider, collectStatistics, null);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param lockProvider      the provider of the actual locks
+   * @param collectStatistics whether {@link LockStatistics} have to be collected for each lock id.
+   * @param allStatistics     where to register the {@link LockStatistics} of each lock id, may be {@code null}.
+   * @since 4.4.0
+   */
+  public InstanceLockGroup(LockProvider lockProvider, boolean collectStatistics, AllStatistics allStatistics) {
     this.lockProvider = lockProvider;
-    this.locks = new HashMap<>();
+    this.allStatistics = allStatistics;
+    this.statistics = collectStatistics
+        ? newBuilder().maximumSize(MAX_TRACKED_LOCK_IDS)
+            .executor(Runnable::run)
+            .<String, LockStatistics>removalListener((lockId, lockStatistics, cause) -> {
+              if (allStatistics != null) {
+                allStatistics.removeStatistics(STATISTICS_NAME_PREFIX + lockId, lockStatistics);
+              }
+            })
+            .build()
+        : null;
   }
 
   @Override
   public void lock(String lockId) {
-    LockEntry lockEntry;
-    synchronized (lockAccessMonitor) {
-      if (locks.containsKey(lockId)) {
-        lockEntry = locks.get(lockId);
-      } else {
-        lockEntry = new LockEntry(lockProvider.createLock(lockId));
-        locks.put(lockId, lockEntry);
-      }
-      lockEntry.incrementLockCount();
-      lockAccessMonitor.notifyAll();
+    LockEntry lockEntry = acquireEntry(lockId);
+    boolean contended = isContended(lockEntry);
+    long startNanos = statistics != null ? nanoTime() : 0;
+    try {
+      lockEntry.getLock().lock();
+    } catch (RuntimeException e) {
+      releaseEntry(lockId, lockEntry);
+      throw e;
     }
-    lockEntry.getLock().lock();
+    recordAcquisition(lockId, startNanos, contended, true);
   }
 
   @Override
   public void unlock(String key) {
-    synchronized (lockAccessMonitor) {
-      LockEntry lockEntry = locks.get(key);
-      if (lockEntry != null) {
-        lockEntry.decrementLockCount();
-        if (!lockEntry.hasPendingLocks()) {
-          locks.remove(key);
-        }
+    LockEntry lockEntry = locks.get(key);
+    if (lockEntry != null) {
+      try {
         lockEntry.getLock().unlock();
+      } finally {
+        releaseEntry(key, lockEntry);
       }
-      lockAccessMonitor.notifyAll();
     }
   }
 
   @Override
   public boolean tryLock(String lockId, long timeout, TimeUnit timeUnit) throws InterruptedException {
-    LockEntry lockEntry;
-    synchronized (lockAccessMonitor) {
-      if (locks.containsKey(lockId)) {
-        lockEntry = locks.get(lockId);
-      } else {
-        lockEntry = new LockEntry(lockProvider.createLock(lockId));
-        locks.put(lockId, lockEntry);
-      }
-      lockEntry.incrementLockCount();
-      lockAccessMonitor.notifyAll();
-    }
-    boolean lockAcquired = lockEntry.getLock().tryLock(timeout, timeUnit);
-    if (!lockAcquired) {
-      synchronized (lockAccessMonitor) {
-        lockEntry.decrementLockCount();
-        if (!lockEntry.hasPendingLocks()) {
-          locks.remove(lockId);
-        }
+    LockEntry lockEntry = acquireEntry(lockId);
+    boolean contended = isContended(lockEntry);
+    long startNanos = statistics != null ? nanoTime() : 0;
+    boolean lockAcquired = false;
+    try {
+      lockAcquired = lockEntry.getLock().tryLock(timeout, timeUnit);
+    } finally {
+      if (!lockAcquired) {
+        releaseEntry(lockId, lockEntry);
       }
     }
+    recordAcquisition(lockId, startNanos, contended, lockAcquired);
     return lockAcquired;
   }
 
   @Override
   public boolean tryLock(String lockId) {
-    LockEntry lockEntry;
-    synchronized (lockAccessMonitor) {
-      if (locks.containsKey(lockId)) {
-        lockEntry = locks.get(lockId);
-      } else {
-        lockEntry = new LockEntry(lockProvider.createLock(lockId));
-        locks.put(lockId, lockEntry);
-      }
-      lockEntry.incrementLockCount();
-      lockAccessMonitor.notifyAll();
-    }
-    boolean lockAcquired = lockEntry.getLock().tryLock();
-    if (!lockAcquired) {
-      synchronized (lockAccessMonitor) {
-        lockEntry.decrementLockCount();
-        if (!lockEntry.hasPendingLocks()) {
-          locks.remove(lockId);
-        }
+    LockEntry lockEntry = acquireEntry(lockId);
+    boolean contended = isContended(lockEntry);
+    long startNanos = statistics != null ? nanoTime() : 0;
+    boolean lockAcquired = false;
+    try {
+      lockAcquired = lockEntry.getLock().tryLock();
+    } finally {
+      if (!lockAcquired) {
+        releaseEntry(lockId, lockEntry);
       }
     }
+    recordAcquisition(lockId, startNanos, contended, lockAcquired);
     return lockAcquired;
   }
 
   @Override
   public void lockInterruptibly(String lockId) throws InterruptedException {
-    LockEntry lockEntry;
-    synchronized (lockAccessMonitor) {
-      if (locks.containsKey(lockId)) {
-        lockEntry = locks.get(lockId);
-      } else {
-        lockEntry = new LockEntry(lockProvider.createLock(lockId));
-        locks.put(lockId, lockEntry);
+    LockEntry lockEntry = acquireEntry(lockId);
+    boolean contended = isContended(lockEntry);
+    long startNanos = statistics != null ? nanoTime() : 0;
+    boolean lockAcquired = false;
+    try {
+      lockEntry.getLock().lockInterruptibly();
+      lockAcquired = true;
+    } finally {
+      if (!lockAcquired) {
+        releaseEntry(lockId, lockEntry);
+      }
+    }
+    recordAcquisition(lockId, startNanos, contended, true);
+  }
+
+  /**
+   * @return the {@link LockStatistics} of the most recently used lock ids, or an empty map if statistics are not being collected.
+   * @since 4.4.0
+   */
+  public Map<String, LockStatistics> getStatistics() {
+    return statistics != null ? unmodifiableMap(new HashMap<>(statistics.asMap())) : emptyMap();
+  }
+
+  private LockEntry acquireEntry(String lockId) {
+    return locks.compute(lockId, (id, lockEntry) -> {
+      if (lockEntry == null) {
+        lockEntry = new LockEntry(lockProvider.createLock(id));
       }
       lockEntry.incrementLockCount();
-      lockAccessMonitor.notifyAll();
+      return lockEntry;
+    });
+  }
+
+  private void releaseEntry(String lockId, LockEntry releasedEntry) {
+    locks.computeIfPresent(lockId, (id, lockEntry) -> {
+      if (lockEntry != releasedEntry) {
+        return lockEntry;
+      }
+      lockEntry.decrementLockCount();
+      return lockEntry.hasPendingLocks() ? lockEntry : null;
+    });
+  }
+
+  private boolean isContended(LockEntry lockEntry) {
+    if (statistics == null) {
+      return false;
+    }
+
+    Lock lock = lockEntry.getLock();
+    if (lock instanceof ReentrantLock) {
+      ReentrantLock reentrantLock = (ReentrantLock) lock;
+      return (reentrantLock.isLocked() && !reentrantLock.isHeldByCurrentThread()) || reentrantLock.hasQueuedThreads();
+    }
+    return lockEntry.lockCount.get() > 1;
+  }
+
+  private void recordAcquisition(String lockId, long startNanos, boolean contended, boolean acquired) {
+    if (statistics == null) {
+      return;
+    }
+
+    LockStatistics lockStatistics = statistics.get(lockId, this::createStatistics);
+    if (acquired) {
+      lockStatistics.recordAcquisition(nanoTime() - startNanos, contended);
+    } else {
+      lockStatistics.recordFailedAcquisition(nanoTime() - startNanos);
+    }
+  }
+
+  private LockStatistics createStatistics(String lockId) {
+    LockStatistics lockStatistics = new LockStatistics();
+    if (allStatistics != null) {
+      allStatistics.addStatistics(STATISTICS_NAME_PREFIX + lockId, lockStatistics);
     }
-    lockEntry.getLock().lockInterruptibly();
+    return lockStatistics;
   }
 
   public static class LockEntry {
@@ -151,8 +247,9 @@ public class InstanceLockGroup implements LockGroup {
 
   @Override
   public void dispose() {
-    synchronized (lockAccessMonitor) {
-      locks.clear();
+    locks.clear();
+    if (statistics != null) {
+      statistics.invalidateAll();
     }
   }
 }
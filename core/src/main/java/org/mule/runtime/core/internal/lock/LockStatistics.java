@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.lock;
+
+import org.mule.runtime.core.api.management.stats.Statistics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics about the acquisitions of the locks for a given lock id.
+ * <p>
+ * An acquisition is considered contended when, at the moment it was requested, the lock was held or requested by another
+ * thread. The wait time is the time spent by the requesting thread until the lock was acquired, or until it gave up acquiring
+ * it.
+ *
+ * @since 4.4.0
+ */
+public final class LockStatistics implements Statistics {
+
+  private static final long serialVersionUID = -6387036578341530862L;
+
+  private final LongAdder acquisitions = new LongAdder();
+  private final LongAdder contendedAcquisitions = new LongAdder();
+  private final LongAdder failedAcquisitions = new LongAdder();
+  private final LongAdder totalWaitNanos = new LongAdder();
+  private final AtomicLong maxWaitNanos = new AtomicLong();
+
+  void recordAcquisition(long waitNanos, boolean contended) {
+    acquisitions.increment();
+    if (contended) {
+      contendedAcquisitions.increment();
+    }
+    totalWaitNanos.add(waitNanos);
+    maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+  }
+
+  void recordFailedAcquisition(long waitNanos) {
+    failedAcquisitions.increment();
+    totalWaitNanos.add(waitNanos);
+    maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+  }
+
+  /**
+   * @return how many times the lock was acquired
+   */
+  public long getAcquisitions() {
+    return acquisitions.sum();
+  }
+
+  /**
+   * @return how many times the lock was held or requested by another thread when it was requested
+   */
+  public long getContendedAcquisitions() {
+    return contendedAcquisitions.sum();
+  }
+
+  /**
+   * @return how many times a {@code tryLock} on the lock failed because it was held by another thread
+   */
+  public long getFailedAcquisitions() {
+    return failedAcquisitions.sum();
+  }
+
+  /**
+   * @return the sum of the time spent waiting to acquire the lock, in nanoseconds
+   */
+  public long getTotalWaitNanos() {
+    return totalWaitNanos.sum();
+  }
+
+  /**
+   * @return the longest time spent waiting to acquire the lock, in nanoseconds
+   */
+  public long getMaxWaitNanos() {
+    return maxWaitNanos.get();
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "LockStatistics{acquisitions: " + getAcquisitions() + ", contendedAcquisitions: " + getContendedAcquisitions()
+        + ", failedAcquisitions: " + getFailedAcquisitions() + ", totalWaitNanos: " + getTotalWaitNanos() + ", maxWaitNanos: "
+        + getMaxWaitNanos() + "}";
+  }
+}
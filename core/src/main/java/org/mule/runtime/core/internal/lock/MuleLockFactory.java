@@ -6,14 +6,18 @@
  */
 package org.mule.runtime.core.internal.lock;
 
+import static java.lang.Boolean.getBoolean;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_LOCK_PROVIDER;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 
 import org.mule.runtime.api.lifecycle.Disposable;
 import org.mule.runtime.api.lifecycle.Initialisable;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.lock.LockFactory;
 import org.mule.runtime.api.scheduler.SchedulerService;
+import org.mule.runtime.core.api.MuleContext;
 
+import java.util.Map;
 import java.util.concurrent.locks.Lock;
 
 import javax.inject.Inject;
@@ -21,12 +25,23 @@ import javax.inject.Named;
 
 public class MuleLockFactory implements LockFactory, Initialisable, Disposable {
 
-  private LockGroup lockGroup;
+  /**
+   * System property to enable the collection of {@link LockStatistics} for the locks created by this factory. They are
+   * registered in the {@link org.mule.runtime.core.api.management.stats.AllStatistics} of the application.
+   *
+   * @since 4.4.0
+   */
+  public static final String LOCK_STATISTICS_PROPERTY = SYSTEM_PROPERTY_PREFIX + "lock.statistics";
+
+  private InstanceLockGroup lockGroup;
   private LockProvider lockProvider;
 
   @Inject
   private SchedulerService schedulerService;
 
+  @Inject
+  private MuleContext muleContext;
+
   @Override
   public synchronized Lock createLock(String lockId) {
     return new LockAdapter(lockId, lockGroup, schedulerService);
@@ -41,7 +56,18 @@ public class MuleLockFactory implements LockFactory, Initialisable, Disposable {
 
   @Override
   public void initialise() throws InitialisationException {
-    lockGroup = new InstanceLockGroup(lockProvider);
+    lockGroup = new InstanceLockGroup(lockProvider, getBoolean(LOCK_STATISTICS_PROPERTY),
+                                      muleContext != null ? muleContext.getStatistics() : null);
+  }
+
+  /**
+   * Statistics are only collected if the {@link #LOCK_STATISTICS_PROPERTY} system property is set.
+   *
+   * @return the {@link LockStatistics} of the most recently used lock ids.
+   * @since 4.4.0
+   */
+  public Map<String, LockStatistics> getLockStatistics() {
+    return lockGroup.getStatistics();
   }
 
   @Inject
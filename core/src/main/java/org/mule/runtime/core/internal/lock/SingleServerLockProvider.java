@@ -6,6 +6,10 @@
  */
 package org.mule.runtime.core.internal.lock;
 
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.System.getProperty;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -14,9 +18,33 @@ import java.util.concurrent.locks.ReentrantLock;
  */
 public class SingleServerLockProvider implements LockProvider {
 
+  /**
+   * System property to set whether the created locks use a fair ordering policy. Fair locks are used by default.
+   *
+   * @since 4.4.0
+   */
+  public static final String FAIR_LOCKS_PROPERTY = SYSTEM_PROPERTY_PREFIX + "lock.fair";
+
+  private final boolean fair;
+
+  public SingleServerLockProvider() {
+    this(parseBoolean(getProperty(FAIR_LOCKS_PROPERTY, "true")));
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param fair whether the created locks use a fair ordering policy. Non-fair locks have a much higher throughput under
+   *             contention, at the expense of not granting the lock in the order it was requested.
+   * @since 4.4.0
+   */
+  public SingleServerLockProvider(boolean fair) {
+    this.fair = fair;
+  }
+
   @Override
   public Lock createLock(String lockId) {
-    return new ReentrantLock(true);
+    return new ReentrantLock(fair);
   }
 
 }
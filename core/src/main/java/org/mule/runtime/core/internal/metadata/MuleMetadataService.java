@@ -33,6 +33,9 @@ import org.mule.runtime.api.metadata.descriptor.TypeMetadataDescriptor;
 import org.mule.runtime.api.metadata.resolving.MetadataResult;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.internal.metadata.cache.MetadataCacheManager;
+import org.mule.runtime.core.internal.metadata.cache.MetadataCacheStatistics;
+
+import java.util.Optional;
 
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -199,6 +202,15 @@ public class MuleMetadataService implements MetadataService {
     cacheManager.updateCache(id, cache);
   }
 
+  /**
+   * @return the statistics of the accesses to the {@link MetadataCache}s, if the {@link MetadataCacheManager} in use keeps track
+   *         of them.
+   * @since 4.4.0
+   */
+  public Optional<MetadataCacheStatistics> getCacheStatistics() {
+    return cacheManager.getStatistics();
+  }
+
   @FunctionalInterface
   private interface MetadataDelegate<T> {
 
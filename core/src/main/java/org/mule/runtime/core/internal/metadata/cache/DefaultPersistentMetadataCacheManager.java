@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.core.internal.metadata.cache;
 
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+import static com.github.benmanes.caffeine.cache.RemovalCause.SIZE;
 import static java.lang.String.format;
 import static java.lang.System.getProperty;
 import static java.util.Optional.ofNullable;
@@ -17,6 +19,7 @@ import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_STORE_MANAG
 import static org.mule.runtime.core.api.util.StringUtils.isBlank;
 
 import org.mule.runtime.api.lifecycle.Startable;
+import org.mule.runtime.api.lifecycle.Stoppable;
 import org.mule.runtime.api.lock.LockFactory;
 import org.mule.runtime.api.metadata.MetadataCache;
 import org.mule.runtime.api.store.ObjectDoesNotExistException;
@@ -25,14 +28,21 @@ import org.mule.runtime.api.store.ObjectStoreException;
 import org.mule.runtime.api.store.ObjectStoreManager;
 import org.mule.runtime.api.store.ObjectStoreSettings;
 import org.mule.runtime.api.util.LazyValue;
+import org.mule.runtime.core.api.MuleContext;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 import java.util.function.Function;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheWriter;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,15 +53,31 @@ import org.slf4j.LoggerFactory;
  *
  * Cache's are <b>never evicted</b>, and will be cleared only when an explicit disposal is invoked.
  *
+ * Optionally, a bounded in-memory tier may be put in front of the ObjectStore by setting the
+ * {@link #MULE_METADATA_CACHE_MEMORY_MAX_ENTRIES} system property. Caches found in memory are returned without taking the
+ * lock nor accessing the ObjectStore, and updates are written to the ObjectStore only when the cache is evicted from memory
+ * or when this manager is stopped. A cache disposed while it is being evicted is not written.
+ * <p>
+ * The {@link MetadataCacheStatistics} are registered in the statistics of the application as {@code metadataCache}.
+ *
  * @since 4.1.4, 4.2.0
  */
-public class DefaultPersistentMetadataCacheManager implements MetadataCacheManager, Startable {
+public class DefaultPersistentMetadataCacheManager implements MetadataCacheManager, Startable, Stoppable {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DefaultPersistentMetadataCacheManager.class);
   public static final String PERSISTENT_METADATA_SERVICE_CACHE = "_mulePersistentMetadataService";
   public static final String MULE_METADATA_CACHE_ENTRY_TTL = SYSTEM_PROPERTY_PREFIX + "metadata.cache.entryTtl.minutes";
   public static final String MULE_METADATA_CACHE_EXPIRATION_INTERVAL =
       SYSTEM_PROPERTY_PREFIX + "metadata.cache.expirationInterval.millis";
+  /**
+   * Maximum number of {@link MetadataCache}s to keep in the in-memory tier. Defaults to {@code 0}, meaning there is no in-memory
+   * tier.
+   *
+   * @since 4.4.0
+   */
+  public static final String MULE_METADATA_CACHE_MEMORY_MAX_ENTRIES = SYSTEM_PROPERTY_PREFIX + "metadata.cache.memory.maxEntries";
+
+  private static final String STATISTICS_NAME = "metadataCache";
 
   /**
    * Default implementation should use an {@link ObjectStoreManager} that is tied to the deployable artifact lifecyle.
@@ -66,6 +92,9 @@ public class DefaultPersistentMetadataCacheManager implements MetadataCacheManag
   @Inject
   private LockFactory lockFactory;
 
+  @Inject
+  private MuleContext muleContext;
+
   public void setLockFactory(LockFactory lockFactory) {
     this.lockFactory = lockFactory;
   }
@@ -74,7 +103,15 @@ public class DefaultPersistentMetadataCacheManager implements MetadataCacheManag
     this.objectStoreManager = objectStoreManager;
   }
 
+  public void setMuleContext(MuleContext muleContext) {
+    this.muleContext = muleContext;
+  }
+
   private LazyValue<ObjectStore<MetadataCache>> metadataStore;
+  private Cache<String, MemoryEntry> memoryTier;
+  // entries evicted from the memory tier which are still to be written to the ObjectStore
+  private final Map<String, MemoryEntry> pendingWrites = new ConcurrentHashMap<>();
+  private final MetadataCacheStatistics statistics = new MetadataCacheStatistics();
 
   @Override
   public void start() {
@@ -86,6 +123,82 @@ public class DefaultPersistentMetadataCacheManager implements MetadataCacheManag
           .ifPresent(expirationInterval -> builder.expirationInterval(expirationInterval));
       return objectStoreManager.getOrCreateObjectStore(PERSISTENT_METADATA_SERVICE_CACHE, builder.build());
     });
+
+    long memoryMaxEntries = getSystemProperty(MULE_METADATA_CACHE_MEMORY_MAX_ENTRIES).map(stringValue -> toLong(stringValue))
+        .orElse(0L);
+    if (memoryMaxEntries > 0) {
+      Caffeine<Object, Object> builder = newBuilder().maximumSize(memoryMaxEntries).executor(Runnable::run);
+      getSystemProperty(MULE_METADATA_CACHE_ENTRY_TTL).map(stringValue -> toLong(stringValue))
+          .ifPresent(entryTtl -> builder.expireAfterWrite(entryTtl, MINUTES));
+      memoryTier = builder.writer(new CacheWriter<String, MemoryEntry>() {
+
+        @Override
+        public void write(String id, MemoryEntry entry) {
+          // Nothing to do, entries are written when evicted
+        }
+
+        @Override
+        public void delete(String id, MemoryEntry entry, RemovalCause cause) {
+          // Expired entries are not written since they would have expired in the ObjectStore as well.
+          // This is done atomically with the eviction, so that a disposal of the cache after it cancels the write.
+          if (cause == SIZE && entry != null && entry.dirty) {
+            pendingWrites.put(id, entry);
+          }
+        }
+      }).<String, MemoryEntry>removalListener((id, entry, cause) -> {
+        if (cause == SIZE && entry != null) {
+          writeEvicted(id, entry);
+        }
+      }).build();
+    } else {
+      memoryTier = null;
+    }
+
+    if (muleContext != null) {
+      muleContext.getStatistics().addStatistics(STATISTICS_NAME, statistics);
+    }
+  }
+
+  @Override
+  public void stop() {
+    if (memoryTier != null) {
+      memoryTier.asMap().forEach((id, entry) -> {
+        if (entry.dirty) {
+          writeBehind(id, entry);
+        }
+      });
+    }
+
+    if (muleContext != null) {
+      muleContext.getStatistics().removeStatistics(STATISTICS_NAME, statistics);
+    }
+  }
+
+  private void writeEvicted(String id, MemoryEntry entry) {
+    try {
+      withKeyLock(id, key -> {
+        // not pending anymore if the cache was disposed after being evicted
+        if (pendingWrites.remove(key, entry)) {
+          doUpdateCache(key, entry.cache);
+          entry.dirty = false;
+        }
+        return null;
+      });
+    } catch (RuntimeException e) {
+      // Already logged, the cache will be created again if needed
+    }
+  }
+
+  private void writeBehind(String id, MemoryEntry entry) {
+    try {
+      withKeyLock(id, key -> {
+        doUpdateCache(key, entry.cache);
+        return null;
+      });
+      entry.dirty = false;
+    } catch (RuntimeException e) {
+      // Already logged, the cache will be created again if needed
+    }
   }
 
   private Optional<String> getSystemProperty(String propertyName) {
@@ -94,15 +207,34 @@ public class DefaultPersistentMetadataCacheManager implements MetadataCacheManag
 
   @Override
   public MetadataCache getOrCreateCache(String id) {
+    if (memoryTier != null) {
+      MemoryEntry entry = memoryTier.getIfPresent(id);
+      if (entry != null) {
+        statistics.memoryHit();
+        return entry.cache;
+      }
+    }
+
     return withKeyLock(id, key -> {
       try {
+        MetadataCache metadataCache;
         if (metadataStore.get().contains(key)) {
-          return metadataStore.get().retrieve(key);
+          statistics.storeHit();
+          metadataCache = metadataStore.get().retrieve(key);
+        } else {
+          LOGGER.debug("Creating new cache " + id);
+          statistics.miss();
+          metadataCache = new DefaultMetadataCache();
+          metadataStore.get().store(key, metadataCache);
+          statistics.storeWrite();
         }
 
-        LOGGER.debug("Creating new cache " + id);
-        DefaultMetadataCache metadataCache = new DefaultMetadataCache();
-        metadataStore.get().store(key, metadataCache);
+        if (memoryTier != null) {
+          MemoryEntry previous = memoryTier.asMap().putIfAbsent(key, new MemoryEntry(metadataCache, false));
+          if (previous != null) {
+            return previous.cache;
+          }
+        }
         return metadataCache;
 
       } catch (Exception e) {
@@ -116,25 +248,46 @@ public class DefaultPersistentMetadataCacheManager implements MetadataCacheManag
 
   @Override
   public void updateCache(String id, MetadataCache cache) {
+    if (memoryTier != null) {
+      memoryTier.put(id, new MemoryEntry(cache, true));
+      return;
+    }
+
     withKeyLock(id, key -> {
-      try {
-        LOGGER.debug("updateCache Key: " + id);
-        if (metadataStore.get().contains(key)) {
-          metadataStore.get().remove(key);
-        }
-        metadataStore.get().store(key, cache);
-      } catch (Exception e) {
-        String msg = format("An error occurred while updating the MetadataCache with ID '%s': %s",
-                            id, e.getMessage());
-        LOGGER.error(msg);
-        throw new RuntimeException(msg, e);
-      }
+      doUpdateCache(key, cache);
       return null;
     });
   }
 
+  private void doUpdateCache(String id, MetadataCache cache) {
+    try {
+      LOGGER.debug("updateCache Key: " + id);
+      if (metadataStore.get().contains(id)) {
+        metadataStore.get().remove(id);
+      }
+      metadataStore.get().store(id, cache);
+      statistics.storeWrite();
+    } catch (Exception e) {
+      String msg = format("An error occurred while updating the MetadataCache with ID '%s': %s",
+                          id, e.getMessage());
+      LOGGER.error(msg);
+      throw new RuntimeException(msg, e);
+    }
+  }
+
   @Override
   public void dispose(String keyHash) {
+    if (memoryTier != null) {
+      if (isBlank(keyHash)) {
+        memoryTier.invalidateAll();
+        pendingWrites.clear();
+      } else {
+        memoryTier.asMap().keySet().removeIf(id -> id.startsWith(keyHash));
+        // after removing them from memory, so that none can be evicted after this
+        pendingWrites.keySet().removeIf(id -> id.startsWith(keyHash));
+      }
+    }
+
     withKeyLock(keyHash, key -> {
       try {
         if (isBlank(keyHash)) {
@@ -186,6 +339,11 @@ public class DefaultPersistentMetadataCacheManager implements MetadataCacheManag
     }
   }
 
+  @Override
+  public Optional<MetadataCacheStatistics> getStatistics() {
+    return Optional.of(statistics);
+  }
+
   private <T> T withKeyLock(String key, Function<String, T> producer) {
     Lock lock = lockFactory.createLock(key);
     lock.lock();
@@ -196,4 +354,17 @@ public class DefaultPersistentMetadataCacheManager implements MetadataCacheManag
     }
   }
 
+  /**
+   * A {@link MetadataCache} in the in-memory tier, which is dirty if it was updated but not yet written to the ObjectStore.
+   */
+  private static final class MemoryEntry {
+
+    private final MetadataCache cache;
+    private volatile boolean dirty;
+
+    MemoryEntry(MetadataCache cache, boolean dirty) {
+      this.cache = cache;
+      this.dirty = dirty;
+    }
+  }
 }
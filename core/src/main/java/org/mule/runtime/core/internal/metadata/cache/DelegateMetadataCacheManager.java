@@ -10,6 +10,7 @@ import org.mule.runtime.api.lifecycle.Initialisable;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.metadata.MetadataCache;
 
+import java.util.Optional;
 import java.util.function.Supplier;
 
 public class DelegateMetadataCacheManager implements MetadataCacheManager, Initialisable {
@@ -40,4 +41,9 @@ public class DelegateMetadataCacheManager implements MetadataCacheManager, Initi
   public void dispose(String id) {
     metadataCacheManagerDelegate.dispose(id);
   }
+
+  @Override
+  public Optional<MetadataCacheStatistics> getStatistics() {
+    return metadataCacheManagerDelegate.getStatistics();
+  }
 }
@@ -6,9 +6,13 @@
  */
 package org.mule.runtime.core.internal.metadata.cache;
 
+import static java.util.Optional.empty;
+
 import org.mule.api.annotation.NoImplement;
 import org.mule.runtime.api.metadata.MetadataCache;
 
+import java.util.Optional;
+
 /**
  * Manages the creation, updates and deletion of the {@link MetadataCache}s used for dynamic metadata resolution,
  * being the only way to obtain an instance of {@link MetadataCache}.
@@ -48,4 +52,12 @@ public interface MetadataCacheManager {
    * @param id the given identifier hash string of the level at which the disposal should be performed
    */
   void dispose(String id);
+
+  /**
+   * @return the statistics of the accesses to the caches managed by this manager, if it keeps track of them.
+   * @since 4.4.0
+   */
+  default Optional<MetadataCacheStatistics> getStatistics() {
+    return empty();
+  }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.metadata.cache;
+
+import org.mule.runtime.core.api.management.stats.Statistics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the accesses to the {@link org.mule.runtime.api.metadata.MetadataCache}s managed by a
+ * {@link MetadataCacheManager}.
+ *
+ * @since 4.4.0
+ */
+public class MetadataCacheStatistics implements Statistics {
+
+  private static final long serialVersionUID = -1208355094367722418L;
+
+  private final LongAdder memoryHits = new LongAdder();
+  private final LongAdder storeHits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder storeWrites = new LongAdder();
+
+  void memoryHit() {
+    memoryHits.increment();
+  }
+
+  void storeHit() {
+    storeHits.increment();
+  }
+
+  void miss() {
+    misses.increment();
+  }
+
+  void storeWrite() {
+    storeWrites.increment();
+  }
+
+  /**
+   * @return how many caches were found in the in-memory tier.
+   */
+  public long getMemoryHits() {
+    return memoryHits.sum();
+  }
+
+  /**
+   * @return how many caches were not found in the in-memory tier but were retrieved from the persistent store.
+   */
+  public long getStoreHits() {
+    return storeHits.sum();
+  }
+
+  /**
+   * @return how many caches were not found at all, so a new one had to be created.
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * @return how many times a cache was written to the persistent store.
+   */
+  public long getStoreWrites() {
+    return storeWrites.sum();
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "memoryHits: " + getMemoryHits() + "; storeHits: " + getStoreHits() + "; misses: " + getMisses() + "; storeWrites: "
+        + getStoreWrites();
+  }
+}
@@ -8,6 +8,7 @@ package org.mule.runtime.core.internal.policy;
 
 import static java.lang.System.getProperty;
 import static java.lang.Thread.currentThread;
+import static java.util.concurrent.ConcurrentHashMap.newKeySet;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.mule.runtime.api.notification.FlowConstructNotification.FLOW_CONSTRUCT_STOPPED;
 import static org.mule.runtime.api.util.MuleSystemProperties.MULE_LIFECYCLE_FAIL_ON_FIRST_DISPOSE_ERROR;
@@ -48,7 +49,6 @@ import org.mule.runtime.policy.api.SourcePolicyPointcutParametersFactory;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -56,7 +56,6 @@ import java.util.Set;
 import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import javax.inject.Inject;
 
@@ -118,9 +117,11 @@ public class DefaultPolicyManager implements PolicyManager, Lifecycle {
   // This set holds the references that are needed to do the dispose after the referenced policy is no longer used.
   private final ReferenceQueue<DeferredDisposable> stalePoliciesQueue = new ReferenceQueue<>();
 
-  private final Set<DeferredDisposableWeakReference> activePolicies = new HashSet<>();
+  private final Set<DeferredDisposableWeakReference> activePolicies = newKeySet();
 
-  private final ReentrantReadWriteLock cacheInvalidateLock = new ReentrantReadWriteLock();
+  // Guards the swapping of cache generations. Only taken when policies change or flows are stopped, never when looking up
+  // policies for an execution.
+  private final Object cacheGenerationLock = new Object();
 
   private volatile boolean stopped = true;
   private Future<?> taskHandle;
@@ -132,26 +133,9 @@ public class DefaultPolicyManager implements PolicyManager, Lifecycle {
       Caffeine.newBuilder()
           .build();
 
-  // These next caches contain the Composite Policies for a given sequence of policies to be applied.
-
-  private final Cache<Pair<String, List<Policy>>, SourcePolicy> sourcePolicyInnerCache =
-      Caffeine.newBuilder()
-          .build();
-  private final Cache<List<Policy>, OperationPolicy> operationPolicyInnerCache =
-      Caffeine.newBuilder()
-          .build();
-
-  // These next caches cache the actual composite policies for a given parameters. Since many parameters combinations may result
-  // in a same set of policies to be applied, many entries of this cache may reference the same composite policy instance.
-
-  private final Cache<Pair<String, PolicyPointcutParameters>, SourcePolicy> sourcePolicyOuterCache =
-      Caffeine.newBuilder()
-          .expireAfterAccess(60, SECONDS)
-          .build();
-  private final Cache<Pair<ComponentIdentifier, PolicyPointcutParameters>, OperationPolicy> operationPolicyOuterCache =
-      Caffeine.newBuilder()
-          .expireAfterAccess(60, SECONDS)
-          .build();
+  // Readers always work against the current generation without locking. When the deployed policies change, a new generation
+  // is built carrying over only the entries not affected by the change, and then atomically published.
+  private volatile PolicyCacheGeneration caches = new PolicyCacheGeneration(0);
 
   private PolicyProvider policyProvider;
   private OperationPolicyProcessorFactory operationPolicyProcessorFactory;
@@ -182,23 +166,22 @@ public class DefaultPolicyManager implements PolicyManager, Lifecycle {
     final Pair<String, PolicyPointcutParameters> policyKey =
         new Pair<>(source.getLocation().getRootContainerName(), sourcePointcutParameters);
 
-    final SourcePolicy policy = sourcePolicyOuterCache.getIfPresent(policyKey);
-    if (policy != null) {
-      return policy;
+    final PolicyCacheGeneration generation = caches;
+    final CachedPolicy<SourcePolicy> cached = generation.sourcePolicyOuterCache.getIfPresent(policyKey);
+    if (cached != null) {
+      return cached.getPolicy();
     }
 
-    // Although cache is being written in the locked section, read Lock is being used since the intention is to avoid cache being
-    // invalidated while being populated and not to avoid multiple threads populating it at the same time.
-    cacheInvalidateLock.readLock().lock();
-
-    try {
-      if (LOGGER.isDebugEnabled()) {
-        LOGGER.debug("Source policy - populating outer cache for {}", policyKey);
-      }
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Source policy - populating outer cache generation {} for {}", generation.getId(), policyKey);
+    }
 
-      SourcePolicy sourcePolicy = sourcePolicyOuterCache.get(policyKey, outerKey -> sourcePolicyInnerCache
-          .get(new Pair<>(source.getLocation().getRootContainerName(),
-                          policyProvider.findSourceParameterizedPolicies(sourcePointcutParameters)),
+    // No lock is taken here. If the policies change while this is being populated, the entry will end up in a generation that
+    // has already been replaced, so it won't be seen by any subsequent lookup.
+    final SourcePolicy sourcePolicy = generation.sourcePolicyOuterCache.get(policyKey, outerKey -> {
+      final List<Policy> policies = policyProvider.findSourceParameterizedPolicies(sourcePointcutParameters);
+      return new CachedPolicy<>(policies, generation.sourcePolicyInnerCache
+          .get(new Pair<>(source.getLocation().getRootContainerName(), policies),
                innerKey -> innerKey.getSecond().isEmpty()
                    ? new NoSourcePolicy(flowExecutionProcessor)
                    : compositePolicyFactory.createSourcePolicy(innerKey.getSecond(), flowExecutionProcessor,
@@ -207,13 +190,11 @@ public class DefaultPolicyManager implements PolicyManager, Lifecycle {
                                                                exception -> new MessagingExceptionResolver(source)
                                                                    .resolve(exception, errorTypeLocator,
                                                                             exceptionContextProviders))));
+    }).getPolicy();
 
-      activePolicies.add(new DeferredDisposableWeakReference((DeferredDisposable) sourcePolicy, stalePoliciesQueue));
+    activePolicies.add(new DeferredDisposableWeakReference((DeferredDisposable) sourcePolicy, stalePoliciesQueue));
 
-      return sourcePolicy;
-    } finally {
-      cacheInvalidateLock.readLock().unlock();
-    }
+    return sourcePolicy;
   }
 
   @Override
@@ -240,43 +221,40 @@ public class DefaultPolicyManager implements PolicyManager, Lifecycle {
     final Pair<ComponentIdentifier, PolicyPointcutParameters> policyKey =
         new Pair<>(operationIdentifier, operationPointcutParameters);
 
-    final OperationPolicy policy = operationPolicyOuterCache.getIfPresent(policyKey);
-    if (policy != null) {
-      return policy;
+    final PolicyCacheGeneration generation = caches;
+    final CachedPolicy<OperationPolicy> cached = generation.operationPolicyOuterCache.getIfPresent(policyKey);
+    if (cached != null) {
+      return cached.getPolicy();
     }
 
-    // Although cache is being written in the locked section, read Lock is being used since the intention is to avoid cache being
-    // invalidated while being populated and not to avoid multiple threads populating it at the same time.
-    cacheInvalidateLock.readLock().lock();
-
-    try {
-      if (LOGGER.isDebugEnabled()) {
-        LOGGER.debug("Operation policy - populating outer cache for {}", policyKey);
-      }
-
-      OperationPolicy operationPolicy =
-          operationPolicyOuterCache.get(policyKey, outerKey -> operationPolicyInnerCache
-              .get(policyProvider.findOperationParameterizedPolicies(outerKey.getSecond()),
-                   innerKey -> innerKey.isEmpty()
-                       ? NO_POLICY_OPERATION
-                       : compositePolicyFactory.createOperationPolicy(operation, innerKey,
-                                                                      lookupOperationParametersTransformer(outerKey.getFirst()),
-                                                                      operationPolicyProcessorFactory,
-                                                                      muleContext.getConfiguration().getShutdownTimeout(),
-                                                                      muleContext.getSchedulerService()
-                                                                          .ioScheduler(muleContext.getSchedulerBaseConfig()
-                                                                              .withMaxConcurrentTasks(1)
-                                                                              .withName(operation.getLocation().getLocation()
-                                                                                  + ".policy.flux.")))));
-
-      if (operationPolicy instanceof DeferredDisposable) {
-        activePolicies.add(new DeferredDisposableWeakReference((DeferredDisposable) operationPolicy, stalePoliciesQueue));
-      }
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Operation policy - populating outer cache generation {} for {}", generation.getId(), policyKey);
+    }
 
-      return operationPolicy;
-    } finally {
-      cacheInvalidateLock.readLock().unlock();
+    // No lock is taken here. If the policies change while this is being populated, the entry will end up in a generation that
+    // has already been replaced, so it won't be seen by any subsequent lookup.
+    final OperationPolicy operationPolicy = generation.operationPolicyOuterCache.get(policyKey, outerKey -> {
+      final List<Policy> policies = policyProvider.findOperationParameterizedPolicies(outerKey.getSecond());
+      return new CachedPolicy<>(policies, generation.operationPolicyInnerCache
+          .get(policies,
+               innerKey -> innerKey.isEmpty()
+                   ? NO_POLICY_OPERATION
+                   : compositePolicyFactory.createOperationPolicy(operation, innerKey,
+                                                                  lookupOperationParametersTransformer(outerKey.getFirst()),
+                                                                  operationPolicyProcessorFactory,
+                                                                  muleContext.getConfiguration().getShutdownTimeout(),
+                                                                  muleContext.getSchedulerService()
+                                                                      .ioScheduler(muleContext.getSchedulerBaseConfig()
+                                                                          .withMaxConcurrentTasks(1)
+                                                                          .withName(operation.getLocation().getLocation()
+                                                                              + ".policy.flux.")))));
+    }).getPolicy();
+
+    if (operationPolicy instanceof DeferredDisposable) {
+      activePolicies.add(new DeferredDisposableWeakReference((DeferredDisposable) operationPolicy, stalePoliciesQueue));
     }
+
+    return operationPolicy;
   }
 
   private Optional<OperationPolicyParametersTransformer> lookupOperationParametersTransformer(ComponentIdentifier componentIdentifier) {
@@ -304,9 +282,12 @@ public class DefaultPolicyManager implements PolicyManager, Lifecycle {
 
     if (muleContext.getArtifactType().equals(APP)) {
       policyProvider.onPoliciesChanged(() -> {
-        evictCaches();
-        isSourcePoliciesAvailable.set(policyProvider.isSourcePoliciesAvailable());
-        isOperationPoliciesAvailable.set(policyProvider.isOperationPoliciesAvailable());
+        final boolean sourcePoliciesAvailable = policyProvider.isSourcePoliciesAvailable();
+        final boolean operationPoliciesAvailable = policyProvider.isOperationPoliciesAvailable();
+
+        invalidateAffectedPolicies(sourcePoliciesAvailable, operationPoliciesAvailable);
+        isSourcePoliciesAvailable.set(sourcePoliciesAvailable);
+        isOperationPoliciesAvailable.set(operationPoliciesAvailable);
       });
 
       isSourcePoliciesAvailable.set(policyProvider.isSourcePoliciesAvailable());
@@ -337,18 +318,83 @@ public class DefaultPolicyManager implements PolicyManager, Lifecycle {
   }
 
   private void invalidateDisposedFlowFromCaches(String flowName) {
-    // Invalidate from "no policy cache"
-    noPolicySourceInstances.invalidate(flowName);
-
-    // Invalidate from inner "with policy cache"
-    sourcePolicyInnerCache.asMap().keySet().stream()
-        .filter(pair -> pair.getFirst().equals(flowName))
-        .forEach(matchingPair -> sourcePolicyInnerCache.invalidate(matchingPair));
-
-    // Invalidate from outer "with policy cache"
-    sourcePolicyOuterCache.asMap().keySet().stream()
-        .filter(pair -> pair.getFirst().equals(flowName))
-        .forEach(matchingPair -> sourcePolicyOuterCache.invalidate(matchingPair));
+    synchronized (cacheGenerationLock) {
+      final PolicyCacheGeneration generation = caches;
+
+      // Invalidate from "no policy cache"
+      noPolicySourceInstances.invalidate(flowName);
+
+      // Invalidate from inner "with policy cache"
+      generation.sourcePolicyInnerCache.asMap().keySet()
+          .removeIf(pair -> pair.getFirst().equals(flowName));
+
+      // Invalidate from outer "with policy cache"
+      generation.sourcePolicyOuterCache.asMap().keySet()
+          .removeIf(pair -> pair.getFirst().equals(flowName));
+    }
+  }
+
+  /**
+   * Publishes a new cache generation which only keeps the entries whose applicable policies didn't change. Entries for which
+   * the {@link PolicyProvider} now returns a different list of policies are dropped so they are recreated on the next lookup.
+   * <p>
+   * Lookups performed concurrently with this method are not blocked, they keep using the previous generation until the new one
+   * is published.
+   *
+   * @param sourcePoliciesAvailable    whether source policies are still applied after the change
+   * @param operationPoliciesAvailable whether operation policies are still applied after the change
+   */
+  private void invalidateAffectedPolicies(boolean sourcePoliciesAvailable, boolean operationPoliciesAvailable) {
+    synchronized (cacheGenerationLock) {
+      final PolicyCacheGeneration previous = caches;
+      final PolicyCacheGeneration next = new PolicyCacheGeneration(previous.getId() + 1);
+
+      noPolicySourceInstances.invalidateAll();
+
+      if (sourcePoliciesAvailable) {
+        previous.sourcePolicyOuterCache.asMap().forEach((key, cached) -> {
+          if (samePolicies(cached.getPolicies(), policyProvider.findSourceParameterizedPolicies(key.getSecond()))) {
+            next.sourcePolicyOuterCache.put(key, cached);
+            next.sourcePolicyInnerCache.put(new Pair<>(key.getFirst(), cached.getPolicies()), cached.getPolicy());
+          }
+        });
+      }
+
+      if (operationPoliciesAvailable) {
+        previous.operationPolicyOuterCache.asMap().forEach((key, cached) -> {
+          if (samePolicies(cached.getPolicies(), policyProvider.findOperationParameterizedPolicies(key.getSecond()))) {
+            next.operationPolicyOuterCache.put(key, cached);
+            next.operationPolicyInnerCache.put(cached.getPolicies(), cached.getPolicy());
+          }
+        });
+      }
+
+      caches = next;
+
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Policies changed - published cache generation {}, keeping {} source and {} operation policy entries",
+                     next.getId(), next.sourcePolicyOuterCache.estimatedSize(),
+                     next.operationPolicyOuterCache.estimatedSize());
+      }
+    }
+  }
+
+  /**
+   * Policies are compared by identity, since a {@link Policy} redeployed with the same id is equal to the previous one but may
+   * have a different chain.
+   */
+  private static boolean samePolicies(List<Policy> cached, List<Policy> current) {
+    if (cached.size() != current.size()) {
+      return false;
+    }
+
+    for (int i = 0; i < cached.size(); ++i) {
+      if (cached.get(i) != current.get(i)) {
+        return false;
+      }
+    }
+
+    return true;
   }
 
   @Override
@@ -394,15 +440,17 @@ public class DefaultPolicyManager implements PolicyManager, Lifecycle {
   }
 
   private void disposePolicies() {
+    final PolicyCacheGeneration generation = caches;
+
     noPolicySourceInstances.asMap().values().forEach(policy -> {
       clearActive(policy);
       disposeIfNeeded(policy, LOGGER);
     });
-    sourcePolicyInnerCache.asMap().values().forEach(policy -> {
+    generation.sourcePolicyInnerCache.asMap().values().forEach(policy -> {
       clearActive(policy);
       disposeIfNeeded(policy, LOGGER);
     });
-    operationPolicyInnerCache.asMap().values().forEach(policy -> {
+    generation.operationPolicyInnerCache.asMap().values().forEach(policy -> {
       clearActive(policy);
       disposeIfNeeded(policy, LOGGER);
     });
@@ -417,18 +465,9 @@ public class DefaultPolicyManager implements PolicyManager, Lifecycle {
   }
 
   private void evictCaches() {
-    cacheInvalidateLock.writeLock().lock();
-
-    try {
+    synchronized (cacheGenerationLock) {
       noPolicySourceInstances.invalidateAll();
-
-      sourcePolicyInnerCache.invalidateAll();
-      operationPolicyInnerCache.invalidateAll();
-
-      sourcePolicyOuterCache.invalidateAll();
-      operationPolicyOuterCache.invalidateAll();
-    } finally {
-      cacheInvalidateLock.writeLock().unlock();
+      caches = new PolicyCacheGeneration(caches.getId() + 1);
     }
   }
 
@@ -463,6 +502,66 @@ public class DefaultPolicyManager implements PolicyManager, Lifecycle {
     }
   }
 
+  /**
+   * Holds the caches for a given generation of the deployed policies.
+   */
+  private static final class PolicyCacheGeneration {
+
+    private final long id;
+
+    // These next caches contain the Composite Policies for a given sequence of policies to be applied.
+
+    private final Cache<Pair<String, List<Policy>>, SourcePolicy> sourcePolicyInnerCache =
+        Caffeine.newBuilder()
+            .build();
+    private final Cache<List<Policy>, OperationPolicy> operationPolicyInnerCache =
+        Caffeine.newBuilder()
+            .build();
+
+    // These next caches cache the actual composite policies for a given parameters. Since many parameters combinations may
+    // result in a same set of policies to be applied, many entries of this cache may reference the same composite policy
+    // instance.
+
+    private final Cache<Pair<String, PolicyPointcutParameters>, CachedPolicy<SourcePolicy>> sourcePolicyOuterCache =
+        Caffeine.newBuilder()
+            .expireAfterAccess(60, SECONDS)
+            .build();
+    private final Cache<Pair<ComponentIdentifier, PolicyPointcutParameters>, CachedPolicy<OperationPolicy>> operationPolicyOuterCache =
+        Caffeine.newBuilder()
+            .expireAfterAccess(60, SECONDS)
+            .build();
+
+    private PolicyCacheGeneration(long id) {
+      this.id = id;
+    }
+
+    private long getId() {
+      return id;
+    }
+  }
+
+  /**
+   * An entry of the outer caches, keeping the policies that were applicable when the composite policy was created.
+   */
+  private static final class CachedPolicy<P> {
+
+    private final List<Policy> policies;
+    private final P policy;
+
+    private CachedPolicy(List<Policy> policies, P policy) {
+      this.policies = policies;
+      this.policy = policy;
+    }
+
+    private List<Policy> getPolicies() {
+      return policies;
+    }
+
+    private P getPolicy() {
+      return policy;
+    }
+  }
+
   private static final class DeferredDisposableWeakReference extends WeakReference<DeferredDisposable> implements Disposable {
 
     private final Disposable deferredDispose;
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.regex.Pattern.compile;
+
+import org.mule.runtime.api.metadata.MediaType;
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.core.api.event.CoreEvent;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Hash based dispatch table for the leading routes of a {@link ChoiceRouter} which compare the same selector (the payload or a
+ * variable) against a string literal, i.e.: {@code #[vars.type == 'order']}.
+ * <p>
+ * Such routes are compiled at initialization so that, instead of evaluating each of their expressions in order, the route to
+ * take is found with a single lookup of the selector value. Only leading routes may be compiled, since the first matching route
+ * must be taken.
+ * <p>
+ * The table only decides when the selector value is a plain {@link String}, for which the comparison done by the expression
+ * language is the same as {@link String#equals(Object)}. For any other value the routes are evaluated as usual.
+ *
+ * @since 4.4.0
+ */
+final class ChoiceDecisionTable {
+
+  /**
+   * Returned by {@link #decide(CoreEvent)} when the table could not decide and all the routes have to be evaluated.
+   */
+  static final int UNDECIDED = -1;
+
+  /**
+   * Returned by {@link #decide(CoreEvent)} when none of the compiled routes matches, so evaluation has to continue from the
+   * first route not in the table.
+   */
+  static final int NO_MATCH = -2;
+
+  private static final String PAYLOAD = "payload";
+  private static final String VARS_PREFIX = "vars.";
+
+  private static final Pattern EQUALS_LITERAL =
+      compile("\\s*(payload|vars\\.[A-Za-z_][A-Za-z0-9_]*)\\s*==\\s*(?:'([^'\\\\$]*)'|\"([^\"\\\\$]*)\")\\s*");
+
+  private final String variableName;
+  private final Map<String, Integer> routesByLiteral;
+  private final int size;
+
+  private ChoiceDecisionTable(String variableName, Map<String, Integer> routesByLiteral, int size) {
+    this.variableName = variableName;
+    this.routesByLiteral = routesByLiteral;
+    this.size = size;
+  }
+
+  /**
+   * Compiles the leading routes of the given list which compare the same selector against a string literal.
+   *
+   * @param routes the routes of the router, in evaluation order
+   * @return a {@link ChoiceDecisionTable} for those routes, or {@link Optional#empty()} if less than two of them could be
+   *         compiled.
+   */
+  static Optional<ChoiceDecisionTable> compile(List<ProcessorRoute> routes) {
+    String selector = null;
+    Map<String, Integer> routesByLiteral = new HashMap<>();
+    int size = 0;
+
+    for (ProcessorRoute route : routes) {
+      if (!(route instanceof ProcessorExpressionRoute)) {
+        break;
+      }
+
+      String expression = unwrap(((ProcessorExpressionRoute) route).getExpression());
+      if (expression == null) {
+        break;
+      }
+
+      Matcher matcher = EQUALS_LITERAL.matcher(expression);
+      if (!matcher.matches() || (selector != null && !selector.equals(matcher.group(1)))) {
+        break;
+      }
+
+      selector = matcher.group(1);
+      String literal = matcher.group(2) != null ? matcher.group(2) : matcher.group(3);
+      // the first route for a given literal is the one that would be taken
+      routesByLiteral.putIfAbsent(literal, size);
+      size++;
+    }
+
+    if (size < 2) {
+      return empty();
+    }
+
+    return of(new ChoiceDecisionTable(PAYLOAD.equals(selector) ? null : selector.substring(VARS_PREFIX.length()),
+                                      routesByLiteral, size));
+  }
+
+  /**
+   * @param event the event being routed
+   * @return the index of the route to take, {@link #NO_MATCH} or {@link #UNDECIDED}.
+   */
+  int decide(CoreEvent event) {
+    TypedValue<?> selectorValue;
+    if (variableName == null) {
+      selectorValue = event.getMessage().getPayload();
+    } else {
+      selectorValue = event.getVariables().get(variableName);
+      if (selectorValue == null) {
+        // a missing variable is null, which is not equal to any literal
+        return NO_MATCH;
+      }
+    }
+
+    Object value = selectorValue.getValue();
+    if (!(value instanceof String) || !isPlainText(selectorValue.getDataType().getMediaType())) {
+      return UNDECIDED;
+    }
+
+    Integer route = routesByLiteral.get(value);
+    return route != null ? route : NO_MATCH;
+  }
+
+  /**
+   * @return how many of the leading routes are compiled in this table.
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * The expression language reads strings of other media types (i.e.: JSON) before comparing them, so only these can be
+   * compared directly.
+   */
+  private static boolean isPlainText(MediaType mediaType) {
+    String primaryType = mediaType.getPrimaryType();
+    String subType = mediaType.getSubType();
+    return ("*".equals(primaryType) && "*".equals(subType))
+        || ("text".equals(primaryType) && "plain".equals(subType))
+        || ("application".equals(primaryType) && "java".equals(subType));
+  }
+
+  /**
+   * Only {@code #[...]} expressions are compiled, since anything else is not evaluated as a plain comparison by the route.
+   *
+   * @return the body of the expression, or {@code null} if it is not a {@code #[...]} expression.
+   */
+  private static String unwrap(String expression) {
+    if (expression == null) {
+      return null;
+    }
+    String trimmed = expression.trim();
+    if (trimmed.startsWith("#[") && trimmed.endsWith("]")) {
+      return trimmed.substring(2, trimmed.length() - 1);
+    }
+    return null;
+  }
+}
@@ -6,10 +6,13 @@
  */
 package org.mule.runtime.core.internal.routing;
 
+import static java.lang.Boolean.getBoolean;
 import static java.lang.String.format;
 import static org.mule.runtime.api.el.BindingContextUtils.NULL_BINDING_CONTEXT;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
 import static org.mule.runtime.core.api.management.stats.RouterStatistics.TYPE_OUTBOUND;
+import static org.mule.runtime.core.internal.routing.ChoiceDecisionTable.NO_MATCH;
 import static org.mule.runtime.core.privileged.processor.MessageProcessors.processToApply;
 
 import org.mule.runtime.api.component.AbstractComponent;
@@ -28,6 +31,7 @@ import org.mule.runtime.core.privileged.routing.RouterStatisticsRecorder;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.inject.Inject;
@@ -42,9 +46,19 @@ import reactor.core.publisher.Flux;
  * <p>
  * If a default route has been configured and no match has been found, the default route will be used. Otherwise it continues the
  * execution through the next MP in the chain.
+ * <p>
+ * Leading routes which compare the same selector against string literals are compiled into a {@link ChoiceDecisionTable}, unless
+ * disabled through the {@link #DISABLE_DECISION_TABLE_PROPERTY} system property.
  */
 public class ChoiceRouter extends AbstractComponent implements Router, RouterStatisticsRecorder, Lifecycle, MuleContextAware {
 
+  /**
+   * System property to disable the compilation of routes into a {@link ChoiceDecisionTable}.
+   *
+   * @since 4.4.0
+   */
+  public static final String DISABLE_DECISION_TABLE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "choice.disableDecisionTable";
+
   private final AtomicBoolean started = new AtomicBoolean(false);
   private final List<ProcessorRoute> routes = new ArrayList<>();
 
@@ -52,6 +66,7 @@ public class ChoiceRouter extends AbstractComponent implements Router, RouterSta
   private RouterStatistics routerStatistics;
   private MuleContext muleContext;
   private ExpressionManager expressionManager;
+  private Optional<ChoiceDecisionTable> decisionTable = Optional.empty();
 
   public ChoiceRouter() {
     routerStatistics = new RouterStatistics(TYPE_OUTBOUND);
@@ -77,6 +92,10 @@ public class ChoiceRouter extends AbstractComponent implements Router, RouterSta
     for (ProcessorRoute route : routes) {
       initialiseIfNeeded(route, muleContext);
     }
+
+    if (!getBoolean(DISABLE_DECISION_TABLE_PROPERTY)) {
+      decisionTable = ChoiceDecisionTable.compile(routes);
+    }
   }
 
   @Override
@@ -151,15 +170,44 @@ public class ChoiceRouter extends AbstractComponent implements Router, RouterSta
     /**
      * Decides which route should execute for an incoming event and executes it, purposely separating those actions so that a
      * single {@link ExpressionManagerSession} can be used for all routes decision process.
+     * <p>
+     * If there's a {@link ChoiceDecisionTable}, it is used first to avoid evaluating the expressions of the routes in it.
      *
      * @param event the incoming event
      */
     @Override
     protected void route(CoreEvent event) {
-      ExecutableRoute selectedRoute;
-      try (ExpressionManagerSession session = expressionManager.openSession(getLocation(), event, NULL_BINDING_CONTEXT)) {
-        selectedRoute = getRoutes().stream().filter(route -> route.shouldExecute(session)).findFirst().get();
+      final List<ExecutableRoute> routes = getRoutes();
+      // the default route is always the last one, and always accepts the event
+      final int defaultRouteIndex = routes.size() - 1;
+
+      int selectedRouteIndex = -1;
+      int firstRouteToEvaluate = 0;
+      if (decisionTable.isPresent()) {
+        int decision = decisionTable.get().decide(event);
+        if (decision >= 0) {
+          selectedRouteIndex = decision;
+        } else if (decision == NO_MATCH) {
+          firstRouteToEvaluate = decisionTable.get().size();
+        }
       }
+
+      if (selectedRouteIndex < 0) {
+        if (firstRouteToEvaluate == defaultRouteIndex) {
+          selectedRouteIndex = defaultRouteIndex;
+        } else {
+          try (ExpressionManagerSession session = expressionManager.openSession(getLocation(), event, NULL_BINDING_CONTEXT)) {
+            for (int i = firstRouteToEvaluate; i < routes.size(); ++i) {
+              if (routes.get(i).shouldExecute(session)) {
+                selectedRouteIndex = i;
+                break;
+              }
+            }
+          }
+        }
+      }
+
+      ExecutableRoute selectedRoute = routes.get(selectedRouteIndex);
       selectedRoute.execute(event);
       updateStatistics(selectedRoute.getProcessor());
     }
@@ -6,9 +6,13 @@
  */
 package org.mule.runtime.core.internal.routing;
 
+import static java.lang.Integer.getInteger;
 import static java.util.Collections.singletonList;
 import static java.util.Optional.of;
+import static java.util.concurrent.ConcurrentHashMap.newKeySet;
 import static org.mule.runtime.api.metadata.DataType.fromObject;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.mule.runtime.core.api.transaction.TransactionCoordination.isTransactionActive;
 import static org.mule.runtime.core.internal.routing.ExpressionSplittingStrategy.DEFAULT_SPLIT_EXPRESSION;
 import static org.mule.runtime.core.privileged.processor.MessageProcessors.buildNewChainWithListOfProcessors;
 import static org.mule.runtime.core.privileged.processor.MessageProcessors.getProcessingStrategy;
@@ -20,6 +24,8 @@ import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.lifecycle.Initialisable;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.api.scheduler.SchedulerService;
 import org.mule.runtime.core.api.el.ExpressionManager;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.processor.AbstractMessageProcessorOwner;
@@ -35,6 +41,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import javax.inject.Inject;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
@@ -49,6 +56,12 @@ import org.slf4j.Logger;
  * <p>
  * Defining a groupSize greater than one, allows iterating over collections of elements of the specified size.
  * <p>
+ * Defining a prefetchSize greater than zero makes the elements of the collection (or groups of elements, when a groupSize is
+ * defined) be fetched ahead of being processed, up to that amount, while the current element is being processed. Elements are
+ * still processed one at a time and in order. This is useful when obtaining the elements is slow, i.e.: when iterating the
+ * result of a paged operation. Prefetching is not done within a transaction, since the elements would be obtained outside of the
+ * thread the transaction is bound to.
+ * <p>
  * The {@link CoreEvent} sent to the next message processor is the same that arrived to foreach.
  */
 public class Foreach extends AbstractMessageProcessorOwner implements Initialisable, Scope {
@@ -57,15 +70,30 @@ public class Foreach extends AbstractMessageProcessorOwner implements Initialisa
 
   static final String DEFAULT_COUNTER_VARIABLE = "counter";
   public static final String DEFAULT_ROOT_MESSAGE_VARIABLE = "rootMessage";
+
+  /**
+   * System property to set the default prefetch size of every {@code foreach}. Zero, the default, disables prefetching.
+   *
+   * @since 4.4.0
+   */
+  public static final String DEFAULT_PREFETCH_SIZE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "foreach.defaultPrefetchSize";
+
   private String counterVariableName = DEFAULT_COUNTER_VARIABLE;
   private String rootMessageVariableName = DEFAULT_ROOT_MESSAGE_VARIABLE;
 
   @Inject
   protected ExpressionManager expressionManager;
 
+  @Inject
+  private SchedulerService schedulerService;
+
   private List<Processor> messageProcessors;
   private String expression = DEFAULT_SPLIT_EXPRESSION;
   private int batchSize = 1;
+  private int prefetchSize = getInteger(DEFAULT_PREFETCH_SIZE_PROPERTY, 0);
+  private Scheduler prefetchScheduler;
+  private volatile boolean prefetchStopped = false;
+  private final Set<PrefetchingIterator<TypedValue<?>>> activePrefetches = newKeySet();
   private SplittingStrategy<CoreEvent, Iterator<TypedValue<?>>> splittingStrategy;
 
   private MessageProcessorChain nestedChain;
@@ -94,9 +122,37 @@ public class Foreach extends AbstractMessageProcessorOwner implements Initialisa
     Optional<ProcessingStrategy> processingStrategy = getProcessingStrategy(locator, getRootContainerLocation());
     nestedChain = buildNewChainWithListOfProcessors(processingStrategy, messageProcessors);
     splittingStrategy = new ExpressionSplittingStrategy(expressionManager, expression);
+    if (prefetchSize > 0) {
+      prefetchScheduler =
+          schedulerService.ioScheduler(muleContext.getSchedulerBaseConfig().withName(getLocation().getLocation() + ".prefetch"));
+    }
     super.initialise();
   }
 
+  @Override
+  public void start() throws MuleException {
+    prefetchStopped = false;
+    super.start();
+  }
+
+  @Override
+  public void stop() throws MuleException {
+    // iterations in flight are allowed to finish, just without fetching ahead
+    prefetchStopped = true;
+    activePrefetches.forEach(PrefetchingIterator::stopPrefetching);
+    super.stop();
+  }
+
+  @Override
+  public void dispose() {
+    super.dispose();
+    cancelActivePrefetches();
+    if (prefetchScheduler != null) {
+      prefetchScheduler.stop();
+      prefetchScheduler = null;
+    }
+  }
+
   public void setCollectionExpression(String expression) {
     this.expression = expression;
   }
@@ -105,6 +161,15 @@ public class Foreach extends AbstractMessageProcessorOwner implements Initialisa
     this.batchSize = batchSize;
   }
 
+  /**
+   * @param prefetchSize how many elements, or groups of elements if a batch size is set, to fetch ahead of the one being
+   *                     processed. Zero disables prefetching.
+   * @since 4.4.0
+   */
+  public void setPrefetchSize(int prefetchSize) {
+    this.prefetchSize = prefetchSize;
+  }
+
   public String getRootMessageVariableName() {
     return rootMessageVariableName;
   }
@@ -142,6 +207,16 @@ public class Foreach extends AbstractMessageProcessorOwner implements Initialisa
       result = new EventBuilderConfigurerIteratorWrapper((EventBuilderConfigurerIterator) payloadValue);
     } else {
       result = getSplittingStrategy().split(request);
+      if (prefetchScheduler != null && !prefetchStopped && !isTransactionActive()) {
+        PrefetchingIterator<TypedValue<?>> prefetchingIterator =
+            new PrefetchingIterator<>(result, prefetchScheduler, prefetchSize * batchSize);
+        activePrefetches.add(prefetchingIterator);
+        if (prefetchStopped) {
+          // stopped while this iteration was being set up
+          prefetchingIterator.stopPrefetching();
+        }
+        result = prefetchingIterator;
+      }
     }
     if (LOGGER.isDebugEnabled() && !result.hasNext()) {
       LOGGER.debug(
@@ -151,6 +226,25 @@ public class Foreach extends AbstractMessageProcessorOwner implements Initialisa
     return result;
   }
 
+  /**
+   * Stops prefetching the elements of an iteration that finished, either because all of its elements were processed or
+   * because it ended early.
+   *
+   * @param iterator the iterator returned by {@link #splitRequest(CoreEvent, String)} for the iteration.
+   */
+  void iterationFinished(Iterator<TypedValue<?>> iterator) {
+    if (iterator instanceof PrefetchingIterator && activePrefetches.remove(iterator)) {
+      ((PrefetchingIterator<TypedValue<?>>) iterator).cancel();
+    }
+  }
+
+  private void cancelActivePrefetches() {
+    activePrefetches.removeIf(prefetchingIterator -> {
+      prefetchingIterator.cancel();
+      return true;
+    });
+  }
+
   TypedValue setCurrentValue(int batchSize, ForeachContext foreachContext) {
     TypedValue currentValue;
     Iterator<TypedValue<?>> iterator = foreachContext.getIterator();
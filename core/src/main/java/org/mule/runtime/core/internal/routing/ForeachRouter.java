@@ -170,7 +170,10 @@ class ForeachRouter {
 
   private CoreEvent eventWithCurrentContextDeleted(CoreEvent event) {
     Map<String, ForeachContext> foreachContextContainer = foreachContextResolver.getCurrentContextFromEvent(event);
-    foreachContextContainer.remove(event.getContext().getId());
+    ForeachContext foreachContext = foreachContextContainer.remove(event.getContext().getId());
+    if (foreachContext != null) {
+      owner.iterationFinished(foreachContext.getIterator());
+    }
     return foreachContextResolver.eventWithContext(event, foreachContextContainer);
   }
 
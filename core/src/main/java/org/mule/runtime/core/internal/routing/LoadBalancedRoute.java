@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing;
+
+import static java.lang.Double.doubleToRawLongBits;
+import static java.lang.Double.longBitsToDouble;
+import static java.lang.System.nanoTime;
+
+import org.mule.runtime.api.util.Reference;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.exception.FlowExceptionHandler;
+import org.mule.runtime.core.api.processor.Processor;
+import org.mule.runtime.core.internal.exception.MessagingException;
+import org.mule.runtime.core.privileged.event.BaseEventContext;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * A {@link ProcessorRoute} that keeps track of its load: how many events routed to it are still being processed, and the
+ * exponentially weighted moving average of the time it takes to process an event.
+ * <p>
+ * An event is done with the route when the route emits it. For events for which the route fails, it is done when the error is
+ * routed by the route's chain or, if the route's processor doesn't route its errors, when the processing of the event completes.
+ * Several events of the same {@link org.mule.runtime.api.event.EventContext} may be routed through the route at the same time
+ * (i.e.: within a {@code foreach}); they are tracked per context, and each one done is matched with the oldest one dispatched.
+ *
+ * @since 4.4.0
+ */
+class LoadBalancedRoute extends ProcessorRoute {
+
+  private static final double LATENCY_SMOOTHING_FACTOR = 0.3;
+  private static final long UNKNOWN_LATENCY = doubleToRawLongBits(-1);
+
+  private final String name;
+  private final Consumer<LoadBalancedRoute> onLoadChange;
+
+  private final Map<String, Deque<Long>> dispatchTimes = new ConcurrentHashMap<>();
+  private final AtomicInteger outstanding = new AtomicInteger();
+  private final AtomicLong averageLatencyNanosBits = new AtomicLong(UNKNOWN_LATENCY);
+
+  /**
+   * @param processor    the processor this route leads to
+   * @param name         the name of this route for statistics
+   * @param onLoadChange called whenever an event is dispatched to or done with this route
+   */
+  LoadBalancedRoute(Processor processor, String name, Consumer<LoadBalancedRoute> onLoadChange) {
+    super(processor);
+    this.name = name;
+    this.onLoadChange = onLoadChange;
+    setMessagingExceptionHandler(new FlowExceptionHandler() {
+
+      @Override
+      public CoreEvent handleException(Exception exception, CoreEvent event) {
+        return null;
+      }
+
+      @Override
+      public Consumer<Exception> router(Function<Publisher<CoreEvent>, Publisher<CoreEvent>> publisherPostProcessor,
+                                        Consumer<CoreEvent> continueCallback, Consumer<Throwable> propagateCallback) {
+        return error -> {
+          if (error instanceof MessagingException) {
+            done(((MessagingException) error).getEvent());
+          }
+          propagateCallback.accept(error);
+        };
+      }
+    });
+  }
+
+  /**
+   * Registers that the given event is being routed through this route.
+   *
+   * @param event the routed event
+   */
+  void dispatched(CoreEvent event) {
+    final String contextId = event.getContext().getId();
+    final Reference<Boolean> newContext = new Reference<>(false);
+
+    // The dispatch times of a context are only modified while holding its entry in the map, so that the context cannot be
+    // completed between registering the dispatch and counting it.
+    dispatchTimes.compute(contextId, (id, contextDispatchTimes) -> {
+      if (contextDispatchTimes == null) {
+        contextDispatchTimes = new ArrayDeque<>();
+        newContext.set(true);
+      }
+      contextDispatchTimes.addLast(nanoTime());
+      outstanding.incrementAndGet();
+      return contextDispatchTimes;
+    });
+
+    if (newContext.get()) {
+      // Ensures the route is released if events fail without the error being routed by the route. Only one callback is
+      // registered per context, and it doesn't hold the event.
+      ((BaseEventContext) event.getContext()).onResponse((response, throwable) -> contextCompleted(contextId));
+    }
+    onLoadChange.accept(this);
+  }
+
+  private void done(CoreEvent event) {
+    final Reference<Long> dispatchTime = new Reference<>();
+    dispatchTimes.computeIfPresent(event.getContext().getId(), (id, contextDispatchTimes) -> {
+      dispatchTime.set(contextDispatchTimes.pollFirst());
+      return contextDispatchTimes;
+    });
+
+    if (dispatchTime.get() != null) {
+      release(dispatchTime.get());
+    }
+  }
+
+  private void contextCompleted(String contextId) {
+    // once removed, the dispatch times of the context are not reachable for anyone else
+    final Deque<Long> contextDispatchTimes = dispatchTimes.remove(contextId);
+    if (contextDispatchTimes == null) {
+      return;
+    }
+
+    for (Long dispatchTime : contextDispatchTimes) {
+      release(dispatchTime);
+    }
+  }
+
+  private void release(long dispatchTime) {
+    outstanding.decrementAndGet();
+    long latency = nanoTime() - dispatchTime;
+    averageLatencyNanosBits.getAndUpdate(bits -> bits == UNKNOWN_LATENCY
+        ? doubleToRawLongBits(latency)
+        : doubleToRawLongBits(longBitsToDouble(bits) + LATENCY_SMOOTHING_FACTOR * (latency - longBitsToDouble(bits))));
+    onLoadChange.accept(this);
+  }
+
+  /**
+   * @return the number of events routed to this route that it is still processing.
+   */
+  int getOutstanding() {
+    return outstanding.get();
+  }
+
+  /**
+   * @return the moving average of the time it takes to process an event in this route, in nanoseconds, or a negative number if
+   *         no event has been processed yet.
+   */
+  double getAverageLatencyNanos() {
+    return longBitsToDouble(averageLatencyNanosBits.get());
+  }
+
+  String getName() {
+    return name;
+  }
+
+  @Override
+  ExecutableRoute toExecutableRoute() {
+    return new ExecutableRoute(this) {
+
+      @Override
+      public Flux<CoreEvent> getPublisher() {
+        return super.getPublisher().doOnNext(LoadBalancedRoute.this::done);
+      }
+    };
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing;
+
+import static java.lang.Math.floorMod;
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
+import static org.mule.runtime.core.api.management.stats.RouterStatistics.TYPE_OUTBOUND;
+import static org.mule.runtime.core.internal.routing.LoadBalancingRouter.Strategy.LEAST_OUTSTANDING;
+import static org.mule.runtime.core.privileged.processor.MessageProcessors.processToApply;
+
+import org.mule.runtime.api.component.AbstractComponent;
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.lifecycle.InitialisationException;
+import org.mule.runtime.api.lifecycle.Lifecycle;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.context.MuleContextAware;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.management.stats.RouterStatistics;
+import org.mule.runtime.core.api.processor.Processor;
+import org.mule.runtime.core.privileged.processor.Router;
+import org.mule.runtime.core.privileged.routing.CouldNotRouteOutboundMessageException;
+import org.mule.runtime.core.privileged.routing.RouterStatisticsRecorder;
+import org.mule.runtime.core.privileged.routing.RoutingException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.reactivestreams.Publisher;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * LoadBalancingRouter divides the messages it receives among its target routes taking into account how busy each of them is,
+ * unlike {@link RoundRobin}, which keeps sending messages to a route even if it is slow to process them.
+ * <p>
+ * For each route, the number of messages it is still processing (outstanding) and the moving average of the time it takes to
+ * process a message (latency) are tracked. The route for each message is then chosen according to the configured
+ * {@link Strategy}.
+ * <p>
+ * If {@link RouterStatistics} are enabled, the number of messages routed to each route along with its outstanding messages and
+ * average latency are reported.
+ *
+ * @since 4.4.0
+ */
+public class LoadBalancingRouter extends AbstractComponent
+    implements Router, RouterStatisticsRecorder, Lifecycle, MuleContextAware {
+
+  /**
+   * The ways a {@link LoadBalancingRouter} may choose the route for a message.
+   */
+  public enum Strategy {
+
+    /**
+     * Chooses the route with less outstanding messages, preferring the one with lower latency among those with the same
+     * outstanding messages.
+     */
+    LEAST_OUTSTANDING,
+
+    /**
+     * Chooses the less loaded of two random routes, weighting the outstanding messages of each route by its latency. This
+     * avoids all the messages routed at the same time going to the same route, and requires checking the state of just two
+     * routes regardless of how many there are.
+     */
+    POWER_OF_TWO_CHOICES
+  }
+
+  private static final double NANOS_PER_MILLI = MILLISECONDS.toNanos(1);
+
+  private final List<LoadBalancedRoute> routes = new ArrayList<>();
+  private final AtomicInteger nextFirstCandidate = new AtomicInteger();
+
+  private Strategy strategy = LEAST_OUTSTANDING;
+  private RouterStatistics routerStatistics;
+  private MuleContext muleContext;
+
+  public LoadBalancingRouter() {
+    routerStatistics = new RouterStatistics(TYPE_OUTBOUND);
+  }
+
+  @Override
+  public void setMuleContext(MuleContext context) {
+    this.muleContext = context;
+  }
+
+  public void setStrategy(Strategy strategy) {
+    this.strategy = strategy;
+  }
+
+  public void setRoutes(Collection<Processor> routes) {
+    routes.forEach(this::addRoute);
+  }
+
+  public void addRoute(final Processor processor) {
+    routes.add(new LoadBalancedRoute(processor, format("route[%d]: %s", routes.size(), processor), this::updateLoadStatistics));
+  }
+
+  @Override
+  public void initialise() throws InitialisationException {
+    for (ProcessorRoute route : routes) {
+      initialiseIfNeeded(route, muleContext);
+    }
+  }
+
+  @Override
+  public void start() throws MuleException {
+    for (ProcessorRoute route : routes) {
+      route.start();
+    }
+  }
+
+  @Override
+  public void stop() throws MuleException {
+    for (ProcessorRoute route : routes) {
+      route.stop();
+    }
+  }
+
+  @Override
+  public void dispose() {
+    for (ProcessorRoute route : routes) {
+      route.dispose();
+    }
+  }
+
+  @Override
+  public CoreEvent process(CoreEvent event) throws MuleException {
+    return processToApply(event, this);
+  }
+
+  @Override
+  public Publisher<CoreEvent> apply(Publisher<CoreEvent> publisher) {
+    return Flux.merge(new SinkRouter(publisher, new ArrayList<>(routes)).collectPublishers());
+  }
+
+  private int leastOutstanding() {
+    // Start from a different route each time, so that ties are not always resolved in favor of the first routes
+    int first = floorMod(nextFirstCandidate.getAndIncrement(), routes.size());
+    int chosen = first;
+    for (int i = 1; i < routes.size(); ++i) {
+      int candidate = (first + i) % routes.size();
+      int outstandingDiff = routes.get(candidate).getOutstanding() - routes.get(chosen).getOutstanding();
+      if (outstandingDiff < 0 || (outstandingDiff == 0
+          && routes.get(candidate).getAverageLatencyNanos() < routes.get(chosen).getAverageLatencyNanos())) {
+        chosen = candidate;
+      }
+    }
+    return chosen;
+  }
+
+  private int powerOfTwoChoices() {
+    if (routes.size() == 1) {
+      return 0;
+    }
+
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int first = random.nextInt(routes.size());
+    int second = random.nextInt(routes.size() - 1);
+    if (second >= first) {
+      second++;
+    }
+    return load(routes.get(first)) <= load(routes.get(second)) ? first : second;
+  }
+
+  private double load(LoadBalancedRoute route) {
+    double averageLatency = route.getAverageLatencyNanos();
+    // Routes that haven't processed any message yet are considered as fast as possible, so they get tried
+    return (route.getOutstanding() + 1) * (averageLatency > 0 ? averageLatency : 1);
+  }
+
+  private void updateLoadStatistics(LoadBalancedRoute route) {
+    if (getRouterStatistics() != null && getRouterStatistics().isEnabled()) {
+      double averageLatencyNanos = route.getAverageLatencyNanos();
+      getRouterStatistics().updateRouteLoad(route.getName(), route.getOutstanding(),
+                                            averageLatencyNanos < 0 ? 0 : averageLatencyNanos / NANOS_PER_MILLI);
+    }
+  }
+
+  public RouterStatistics getRouterStatistics() {
+    return routerStatistics;
+  }
+
+  @Override
+  public void setRouterStatistics(RouterStatistics routerStatistics) {
+    this.routerStatistics = routerStatistics;
+  }
+
+  private class SinkRouter extends AbstractSinkRouter {
+
+    SinkRouter(Publisher<CoreEvent> publisher, List<ProcessorRoute> routes) {
+      super(publisher, routes);
+    }
+
+    @Override
+    protected void route(CoreEvent event) throws RoutingException {
+      if (routes.isEmpty()) {
+        throw new CouldNotRouteOutboundMessageException(LoadBalancingRouter.this);
+      }
+
+      int chosen = strategy == LEAST_OUTSTANDING ? leastOutstanding() : powerOfTwoChoices();
+      LoadBalancedRoute route = routes.get(chosen);
+      if (getRouterStatistics() != null && getRouterStatistics().isEnabled()) {
+        getRouterStatistics().incrementRoutedMessage(route.getName());
+      }
+      route.dispatched(event);
+      getRoutes().get(chosen).execute(event);
+    }
+  }
+}
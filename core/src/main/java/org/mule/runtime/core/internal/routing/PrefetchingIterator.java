@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing;
+
+import static java.lang.Thread.currentThread;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * {@link Iterator} decorator which pulls the elements of the decorated one ahead of them being requested, so that slow
+ * iterators (i.e.: a {@code CursorIterator} over the pages of a connector's paged operation) are consumed while the elements
+ * already obtained are being processed.
+ * <p>
+ * At most {@code prefetchSize} elements are kept ahead of the consumer. The decorated iterator is only accessed by a single
+ * filling task at a time, so it doesn't need to be thread safe, and elements are handed out in the same order they were
+ * produced. Errors thrown by the decorated iterator are rethrown to the consumer when it reaches the point where they happened.
+ * If no element is available and no filling task is running (i.e.: prefetching was stopped or the executor rejected the task),
+ * the consumer fetches the next element itself.
+ * <p>
+ * Instances of this class are meant to be consumed by a single thread.
+ *
+ * @since 4.4.0
+ */
+final class PrefetchingIterator<T> implements Iterator<T> {
+
+  private static final Object END = new Object();
+  private static final Object NULL = new Object();
+
+  private final Iterator<T> delegate;
+  private final Executor executor;
+  private final int prefetchSize;
+  private final ClassLoader contextClassLoader;
+
+  // guards all the state below, so that handing elements to the consumer and cancelling are atomic
+  private final Object lock = new Object();
+  private final Deque<Object> queue = new ArrayDeque<>();
+  private boolean filling = false;
+  private boolean exhausted = false;
+  private boolean prefetchStopped = false;
+  private boolean cancelled = false;
+
+  private Object head;
+
+  /**
+   * @param delegate     the iterator to prefetch elements from
+   * @param executor     where the elements of {@code delegate} are pulled
+   * @param prefetchSize the maximum number of elements to keep ahead of the consumer
+   */
+  PrefetchingIterator(Iterator<T> delegate, Executor executor, int prefetchSize) {
+    this.delegate = delegate;
+    this.executor = executor;
+    this.prefetchSize = prefetchSize;
+    this.contextClassLoader = currentThread().getContextClassLoader();
+    scheduleFill();
+  }
+
+  @Override
+  public boolean hasNext() {
+    return nextHead() != END;
+  }
+
+  @Override
+  public T next() {
+    Object next = nextHead();
+    if (next == END) {
+      throw new NoSuchElementException();
+    }
+
+    head = null;
+    scheduleFill();
+    return next == NULL ? null : (T) next;
+  }
+
+  /**
+   * Stops fetching elements ahead of the consumer. The elements already prefetched are still handed out, and the remaining ones
+   * are fetched by the consumer as it requests them.
+   */
+  void stopPrefetching() {
+    synchronized (lock) {
+      prefetchStopped = true;
+    }
+  }
+
+  /**
+   * Stops prefetching elements and discards the ones already prefetched. A consumer still iterating gets an error instead of
+   * waiting for elements that will not come.
+   */
+  void cancel() {
+    synchronized (lock) {
+      cancelled = true;
+      queue.clear();
+      // nothing is added to the queue once cancelled, so this is always the next element the consumer gets
+      queue.add(new Failure(new MuleRuntimeException(createStaticMessage("Prefetching of the collection was cancelled"))));
+      lock.notifyAll();
+    }
+  }
+
+  private Object nextHead() {
+    if (head == null) {
+      boolean fetch = false;
+      synchronized (lock) {
+        while (queue.isEmpty() && filling) {
+          try {
+            lock.wait();
+          } catch (InterruptedException e) {
+            currentThread().interrupt();
+            throw new MuleRuntimeException(createStaticMessage("Interrupted while waiting for the next element"), e);
+          }
+        }
+
+        if (queue.isEmpty()) {
+          filling = true;
+          fetch = true;
+        } else {
+          head = queue.poll();
+        }
+      }
+
+      if (fetch) {
+        Object fetched = fetch();
+        synchronized (lock) {
+          filling = false;
+          if (cancelled) {
+            head = queue.poll();
+          } else {
+            exhausted = fetched == END || fetched instanceof Failure;
+            head = fetched;
+          }
+        }
+      }
+    }
+
+    if (head instanceof Failure) {
+      Throwable failure = ((Failure) head).throwable;
+      // keep failing if the consumer insists
+      if (failure instanceof RuntimeException) {
+        throw (RuntimeException) failure;
+      } else if (failure instanceof Error) {
+        throw (Error) failure;
+      }
+      throw new MuleRuntimeException(failure);
+    }
+    return head;
+  }
+
+  private boolean needsFilling() {
+    return !cancelled && !exhausted && !prefetchStopped && queue.size() < prefetchSize;
+  }
+
+  private void scheduleFill() {
+    synchronized (lock) {
+      if (filling || !needsFilling()) {
+        return;
+      }
+      filling = true;
+    }
+
+    try {
+      executor.execute(this::fill);
+    } catch (RejectedExecutionException e) {
+      // No threads available to prefetch, the consumer will fetch the next element itself
+      synchronized (lock) {
+        filling = false;
+        lock.notifyAll();
+      }
+    }
+  }
+
+  private void fill() {
+    final Thread thread = currentThread();
+    final ClassLoader originalClassLoader = thread.getContextClassLoader();
+    thread.setContextClassLoader(contextClassLoader);
+    try {
+      while (true) {
+        synchronized (lock) {
+          if (!needsFilling()) {
+            filling = false;
+            lock.notifyAll();
+            return;
+          }
+        }
+
+        Object fetched = fetch();
+        synchronized (lock) {
+          // once cancelled the queue only holds the failure the consumer has to get
+          if (!cancelled) {
+            exhausted = fetched == END || fetched instanceof Failure;
+            queue.add(fetched);
+          }
+          lock.notifyAll();
+        }
+      }
+    } finally {
+      thread.setContextClassLoader(originalClassLoader);
+    }
+  }
+
+  private Object fetch() {
+    try {
+      if (delegate.hasNext()) {
+        T next = delegate.next();
+        return next == null ? NULL : next;
+      } else {
+        return END;
+      }
+    } catch (Throwable t) {
+      return new Failure(t);
+    }
+  }
+
+  private static final class Failure {
+
+    private final Throwable throwable;
+
+    private Failure(Throwable throwable) {
+      this.throwable = throwable;
+    }
+  }
+}
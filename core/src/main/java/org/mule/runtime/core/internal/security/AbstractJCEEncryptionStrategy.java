@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.core.internal.security;
 
+import static javax.crypto.Cipher.DECRYPT_MODE;
+import static javax.crypto.Cipher.ENCRYPT_MODE;
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.failedToCreate;
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.objectIsNull;
 
@@ -23,13 +25,23 @@ import java.io.InputStream;
 import java.security.GeneralSecurityException;
 import java.security.spec.AlgorithmParameterSpec;
 import java.security.spec.KeySpec;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.crypto.Cipher;
+import javax.crypto.CipherInputStream;
 import javax.crypto.SecretKey;
 
 /**
  * A JCE based encryption strategy. It also provides base64 encoding of encrypted/decrypted data by setting the base64encoding
  * attribute.
+ * <p>
+ * {@link Cipher}s are not thread safe, so each encryption or decryption takes a {@link Cipher} from a pool, creating a new one
+ * if all of them are in use, and returns it to the pool when done.
+ * <p>
+ * By default, the {@link InputStream} variants read the whole data before encrypting or decrypting it, so any failure is
+ * reported when they are called. In streaming mode, the data is encrypted or decrypted as the returned stream is consumed,
+ * without copying the whole payload in memory, and failures are reported as {@link IOException}s when reading the stream.
  */
 public abstract class AbstractJCEEncryptionStrategy extends AbstractNamedEncryptionStrategy {
 
@@ -47,6 +59,11 @@ public abstract class AbstractJCEEncryptionStrategy extends AbstractNamedEncrypt
 
   protected boolean base64Encoding = true;
 
+  protected boolean streaming = false;
+
+  private final Queue<Cipher> encryptCiphersPool = new ConcurrentLinkedQueue<>();
+  private final Queue<Cipher> decryptCiphersPool = new ConcurrentLinkedQueue<>();
+
   @Override
   public void initialise() throws InitialisationException {
     if (algorithm == null) {
@@ -59,23 +76,49 @@ public abstract class AbstractJCEEncryptionStrategy extends AbstractNamedEncrypt
 
     try {
       secretKey = getSecretKey();
+      encryptCiphersPool.clear();
+      decryptCiphersPool.clear();
       createAndInitCiphers();
+      // The ciphers created on initialisation are the first ones to be pooled
+      encryptCiphersPool.offer(encryptCipher);
+      decryptCiphersPool.offer(decryptCipher);
     } catch (Exception e) {
       throw new InitialisationException(failedToCreate("encryption ciphers"), e, this);
     }
   }
 
   protected void createAndInitCiphers() throws GeneralSecurityException {
-    encryptCipher = Cipher.getInstance(getAlgorithm());
-    decryptCipher = Cipher.getInstance(getAlgorithm());
+    encryptCipher = createCipher(ENCRYPT_MODE);
+    decryptCipher = createCipher(DECRYPT_MODE);
+  }
 
+  /**
+   * Creates a new {@link Cipher} for the algorithm of this strategy, initialised with {@link #initCipher(Cipher, int)}.
+   *
+   * @param mode {@link Cipher#ENCRYPT_MODE} or {@link Cipher#DECRYPT_MODE}
+   * @return the new {@link Cipher}
+   * @throws GeneralSecurityException if the {@link Cipher} cannot be created
+   */
+  protected Cipher createCipher(int mode) throws GeneralSecurityException {
+    Cipher cipher = Cipher.getInstance(getAlgorithm());
+    initCipher(cipher, mode);
+    return cipher;
+  }
+
+  /**
+   * Initialises a {@link Cipher} with the key of this strategy. It is also used to reset a {@link Cipher} that was used for
+   * streaming before returning it to the pool.
+   *
+   * @param cipher the {@link Cipher} to initialise
+   * @param mode   {@link Cipher#ENCRYPT_MODE} or {@link Cipher#DECRYPT_MODE}
+   * @throws GeneralSecurityException if the {@link Cipher} cannot be initialised
+   */
+  protected void initCipher(Cipher cipher, int mode) throws GeneralSecurityException {
     AlgorithmParameterSpec paramSpec = createAlgorithmParameterSpec();
     if (paramSpec != null) {
-      encryptCipher.init(Cipher.ENCRYPT_MODE, secretKey, paramSpec);
-      decryptCipher.init(Cipher.DECRYPT_MODE, secretKey, paramSpec);
+      cipher.init(mode, secretKey, paramSpec);
     } else {
-      encryptCipher.init(Cipher.ENCRYPT_MODE, secretKey);
-      decryptCipher.init(Cipher.DECRYPT_MODE, secretKey);
+      cipher.init(mode, secretKey);
     }
   }
 
@@ -83,6 +126,11 @@ public abstract class AbstractJCEEncryptionStrategy extends AbstractNamedEncrypt
 
   @Override
   public InputStream encrypt(InputStream data, Object info) throws CryptoFailureException {
+    if (streaming) {
+      InputStream encrypted = cipherStream(data, ENCRYPT_MODE);
+      return base64Encoding ? new Base64.InputStream(encrypted, Base64.ENCODE) : encrypted;
+    }
+
     try {
       return new ByteArrayInputStream(this.encrypt(IOUtils.toByteArray(data), info));
     } catch (IOException e) {
@@ -92,6 +140,10 @@ public abstract class AbstractJCEEncryptionStrategy extends AbstractNamedEncrypt
 
   @Override
   public InputStream decrypt(InputStream data, Object info) throws CryptoFailureException {
+    if (streaming) {
+      return cipherStream(base64Encoding ? new Base64.InputStream(data, Base64.DECODE) : data, DECRYPT_MODE);
+    }
+
     try {
       return new ByteArrayInputStream(this.decrypt(IOUtils.toByteArray(data), info));
     } catch (IOException e) {
@@ -102,7 +154,7 @@ public abstract class AbstractJCEEncryptionStrategy extends AbstractNamedEncrypt
   @Override
   public byte[] encrypt(byte[] data, Object info) throws CryptoFailureException {
     try {
-      byte[] buf = encryptCipher.doFinal(data);
+      byte[] buf = doFinal(data, ENCRYPT_MODE);
       if (base64Encoding) {
         return Base64.encodeBytes(buf).getBytes();
       } else {
@@ -120,12 +172,37 @@ public abstract class AbstractJCEEncryptionStrategy extends AbstractNamedEncrypt
       if (base64Encoding) {
         dec = Base64.decode(new String(data));
       }
-      return decryptCipher.doFinal(dec);
+      return doFinal(dec, DECRYPT_MODE);
     } catch (Exception e) {
       throw new CryptoFailureException(this, e);
     }
   }
 
+  private byte[] doFinal(byte[] data, int mode) throws GeneralSecurityException {
+    Cipher cipher = borrowCipher(mode);
+    // doFinal leaves the cipher ready to be used again, but its state is undefined if it fails, so it is not returned then
+    byte[] result = cipher.doFinal(data);
+    ciphersPool(mode).offer(cipher);
+    return result;
+  }
+
+  private InputStream cipherStream(InputStream data, int mode) throws CryptoFailureException {
+    try {
+      return new PooledCipherInputStream(data, borrowCipher(mode), mode);
+    } catch (GeneralSecurityException e) {
+      throw new CryptoFailureException(this, e);
+    }
+  }
+
+  private Cipher borrowCipher(int mode) throws GeneralSecurityException {
+    Cipher cipher = ciphersPool(mode).poll();
+    return cipher != null ? cipher : createCipher(mode);
+  }
+
+  private Queue<Cipher> ciphersPool(int mode) {
+    return mode == ENCRYPT_MODE ? encryptCiphersPool : decryptCiphersPool;
+  }
+
   public String getAlgorithm() {
     return algorithm;
   }
@@ -149,8 +226,56 @@ public abstract class AbstractJCEEncryptionStrategy extends AbstractNamedEncrypt
     this.base64Encoding = base64Encoding;
   }
 
+  public boolean isStreaming() {
+    return streaming;
+  }
+
+  /**
+   * @param streaming whether the {@link InputStream} variants encrypt or decrypt the data as the returned stream is consumed,
+   *                  instead of reading the whole data first.
+   * @since 4.4.0
+   */
+  public void setStreaming(boolean streaming) {
+    this.streaming = streaming;
+  }
+
   protected abstract KeySpec createKeySpec();
 
   protected abstract AlgorithmParameterSpec createAlgorithmParameterSpec();
 
+  /**
+   * Encrypts or decrypts the data as it is read, returning its {@link Cipher} to the pool when closed.
+   */
+  private class PooledCipherInputStream extends CipherInputStream {
+
+    private final Cipher cipher;
+    private final int mode;
+    private boolean closed;
+
+    PooledCipherInputStream(InputStream data, Cipher cipher, int mode) {
+      super(data, cipher);
+      this.cipher = cipher;
+      this.mode = mode;
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed) {
+        return;
+      }
+      closed = true;
+
+      try {
+        super.close();
+      } finally {
+        try {
+          // The stream may be closed before being fully consumed, so the cipher is reset before pooling it again
+          initCipher(cipher, mode);
+          ciphersPool(mode).offer(cipher);
+        } catch (GeneralSecurityException e) {
+          logger.debug("Could not reset cipher, it will not be reused", e);
+        }
+      }
+    }
+  }
 }
@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.security;
+
+import static java.lang.Long.getLong;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.mule.runtime.core.api.config.i18n.CoreMessages.authorizationAttemptFailed;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+import static com.github.benmanes.caffeine.cache.RemovalCause.EXPIRED;
+
+import org.mule.runtime.api.security.Authentication;
+import org.mule.runtime.api.security.Credentials;
+import org.mule.runtime.api.security.SecurityException;
+import org.mule.runtime.api.security.UnauthorisedException;
+import org.mule.runtime.core.api.security.SecurityProvider;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * Caches the results of authenticating through a {@link SecurityProvider}, so repeated requests with the same credentials do
+ * not need a round trip to the provider, which may be a remote service such as an LDAP server or a database.
+ * <p>
+ * Entries are keyed by the name of the provider and an HMAC of the credentials, computed with a random key of each cache, so
+ * credentials are never kept as they were received. Only credentials made of {@link Credentials}, {@link String}s and arrays of
+ * chars or bytes are cached. Authentications with any other kind of credentials always go through the provider.
+ * <p>
+ * Successful authentications are cached for a configured time. Rejected ones may also be cached, usually for a shorter time, so
+ * repeated requests with invalid credentials do not reach the provider either. Any other failure of the provider is considered
+ * transient and not cached. When the cache is full, the results least likely to be used again are discarded.
+ *
+ * @since 4.4.0
+ */
+public class AuthenticationCache {
+
+  /**
+   * For how long successful authentications are cached, in milliseconds. The cache is disabled unless this is set to a positive
+   * value.
+   */
+  public static final String AUTHENTICATION_CACHE_TTL_PROPERTY =
+      SYSTEM_PROPERTY_PREFIX + "security.authenticationCache.ttlMillis";
+
+  /**
+   * For how long rejected authentications are cached, in milliseconds. Defaults to 0, meaning rejections are not cached.
+   */
+  public static final String AUTHENTICATION_CACHE_NEGATIVE_TTL_PROPERTY =
+      SYSTEM_PROPERTY_PREFIX + "security.authenticationCache.negativeTtlMillis";
+
+  /**
+   * How many authentications may be cached at the same time. Defaults to 10000.
+   */
+  public static final String AUTHENTICATION_CACHE_MAX_ENTRIES_PROPERTY =
+      SYSTEM_PROPERTY_PREFIX + "security.authenticationCache.maxEntries";
+
+  private static final int DEFAULT_MAX_ENTRIES = 10000;
+  private static final String MAC_ALGORITHM = "HmacSHA256";
+  private static final int MAC_KEY_LENGTH = 32;
+  private static final byte SEPARATOR = 0;
+
+  private final long ttlNanos;
+  private final long negativeTtlNanos;
+  private final Key macKey;
+
+  private final Cache<CacheKey, CacheEntry> entries;
+  private final AuthenticationCacheStatistics statistics = new AuthenticationCacheStatistics(this::getSize);
+
+  /**
+   * @return a cache configured through {@link #AUTHENTICATION_CACHE_TTL_PROPERTY},
+   *         {@link #AUTHENTICATION_CACHE_NEGATIVE_TTL_PROPERTY} and {@link #AUTHENTICATION_CACHE_MAX_ENTRIES_PROPERTY}, or
+   *         {@code null} if it is not enabled.
+   */
+  static AuthenticationCache fromSystemProperties() {
+    final long ttlMillis = getLong(AUTHENTICATION_CACHE_TTL_PROPERTY, 0);
+    if (ttlMillis <= 0) {
+      return null;
+    }
+    return new AuthenticationCache(ttlMillis, getLong(AUTHENTICATION_CACHE_NEGATIVE_TTL_PROPERTY, 0),
+                                   getLong(AUTHENTICATION_CACHE_MAX_ENTRIES_PROPERTY, DEFAULT_MAX_ENTRIES).intValue());
+  }
+
+  /**
+   * @param ttlMillis         for how long successful authentications are cached.
+   * @param negativeTtlMillis for how long rejected authentications are cached, {@code 0} to not cache them.
+   * @param maxEntries        how many authentications may be cached at the same time.
+   */
+  public AuthenticationCache(long ttlMillis, long negativeTtlMillis, int maxEntries) {
+    this(ttlMillis, negativeTtlMillis, maxEntries, System::nanoTime);
+  }
+
+  AuthenticationCache(long ttlMillis, long negativeTtlMillis, int maxEntries, LongSupplier clock) {
+    this.ttlNanos = MILLISECONDS.toNanos(ttlMillis);
+    this.negativeTtlNanos = MILLISECONDS.toNanos(negativeTtlMillis);
+
+    final byte[] macKeyBytes = new byte[MAC_KEY_LENGTH];
+    new SecureRandom().nextBytes(macKeyBytes);
+    this.macKey = new SecretKeySpec(macKeyBytes, MAC_ALGORITHM);
+
+    this.entries = newBuilder()
+        .maximumSize(maxEntries)
+        .ticker(clock::getAsLong)
+        .executor(Runnable::run)
+        .expireAfter(new CacheEntryExpiry())
+        .<CacheKey, CacheEntry>removalListener((key, entry, cause) -> {
+          if (cause == EXPIRED) {
+            statistics.expired();
+          }
+        })
+        .build();
+  }
+
+  /**
+   * Authenticates through the given {@code provider}, unless a result for the same provider and credentials is cached.
+   *
+   * @param provider       the provider to authenticate through.
+   * @param authentication the authentication request.
+   * @return the result of the authentication.
+   * @throws UnauthorisedException if the provider rejects the authentication, or rejected it recently.
+   * @throws SecurityException     if the provider fails.
+   */
+  public Authentication authenticate(SecurityProvider provider, Authentication authentication) throws SecurityException {
+    final CacheKey key = createKey(provider, authentication);
+    if (key == null) {
+      statistics.miss();
+      return provider.authenticate(authentication);
+    }
+
+    final CacheEntry entry = entries.getIfPresent(key);
+    if (entry != null) {
+      if (entry.result != null) {
+        statistics.hit();
+        return entry.result;
+      }
+      statistics.negativeHit();
+      throw new UnauthorisedException(authorizationAttemptFailed());
+    }
+
+    statistics.miss();
+    final Authentication result;
+    try {
+      result = provider.authenticate(authentication);
+    } catch (UnauthorisedException e) {
+      if (negativeTtlNanos > 0) {
+        entries.put(key, new CacheEntry(null, negativeTtlNanos));
+      }
+      throw e;
+    }
+
+    if (result != null) {
+      entries.put(key, new CacheEntry(result, ttlNanos));
+    }
+    return result;
+  }
+
+  /**
+   * Discards the cached results for the credentials of the given {@code authentication}, for all the providers. Useful when the
+   * credentials of a user change or are revoked.
+   *
+   * @param authentication an authentication with the credentials to discard.
+   */
+  public void invalidate(Authentication authentication) {
+    final byte[] credentialsDigest = digest(authentication);
+    if (credentialsDigest != null) {
+      entries.asMap().keySet().removeIf(key -> Arrays.equals(key.credentialsDigest, credentialsDigest));
+    }
+  }
+
+  /**
+   * Discards the cached results of the given provider.
+   *
+   * @param providerName the name of the provider.
+   */
+  public void invalidateProvider(String providerName) {
+    entries.asMap().keySet().removeIf(key -> key.providerName.equals(providerName));
+  }
+
+  /**
+   * Discards all the cached results.
+   */
+  public void invalidateAll() {
+    entries.invalidateAll();
+  }
+
+  /**
+   * @return the statistics of the authentications performed through this cache.
+   */
+  public AuthenticationCacheStatistics getStatistics() {
+    return statistics;
+  }
+
+  /**
+   * @return how many authentications were served from a cached successful result.
+   */
+  public long getHits() {
+    return statistics.getHits();
+  }
+
+  /**
+   * @return how many authentications were rejected because of a cached rejection.
+   */
+  public long getNegativeHits() {
+    return statistics.getNegativeHits();
+  }
+
+  /**
+   * @return how many authentications had to go through the provider.
+   */
+  public long getMisses() {
+    return statistics.getMisses();
+  }
+
+  /**
+   * @return how many cached results were discarded because they expired.
+   */
+  public long getExpirations() {
+    return statistics.getExpirations();
+  }
+
+  /**
+   * @return how many results are currently cached, after discarding the expired ones.
+   */
+  public int getSize() {
+    entries.cleanUp();
+    return (int) entries.estimatedSize();
+  }
+
+  @Override
+  public String toString() {
+    return statistics.toString();
+  }
+
+  private CacheKey createKey(SecurityProvider provider, Authentication authentication) {
+    final byte[] credentialsDigest = digest(authentication);
+    return credentialsDigest != null ? new CacheKey(provider.getName(), credentialsDigest) : null;
+  }
+
+  /**
+   * @return the HMAC of the principal and credentials of the given {@code authentication}, or {@code null} if any of them is of
+   *         a type that can't be digested reliably.
+   */
+  private byte[] digest(Authentication authentication) {
+    final Mac mac;
+    try {
+      mac = Mac.getInstance(MAC_ALGORITHM);
+      mac.init(macKey);
+    } catch (GeneralSecurityException e) {
+      // HmacSHA256 is required to be supported by every Java platform
+      throw new IllegalStateException(e);
+    }
+
+    update(mac, authentication.getClass().getName());
+    if (update(mac, authentication.getPrincipal()) && update(mac, authentication.getCredentials())) {
+      return mac.doFinal();
+    }
+    return null;
+  }
+
+  private boolean update(Mac mac, Object value) {
+    if (value instanceof Credentials) {
+      return update(mac, ((Credentials) value).getUsername()) && update(mac, ((Credentials) value).getPassword());
+    }
+
+    if (value instanceof char[]) {
+      final ByteBuffer bytes = UTF_8.encode(CharBuffer.wrap((char[]) value));
+      mac.update(bytes);
+      // Do not leave the password around in the heap longer than needed
+      Arrays.fill(bytes.array(), (byte) 0);
+    } else if (value instanceof byte[]) {
+      mac.update((byte[]) value);
+    } else if (value instanceof String) {
+      mac.update(((String) value).getBytes(UTF_8));
+    } else if (value != null) {
+      // The toString of other types may hide the secret or be different for each request, so the key wouldn't be reliable
+      return false;
+    }
+    mac.update(SEPARATOR);
+    return true;
+  }
+
+  private static final class CacheKey {
+
+    private final String providerName;
+    private final byte[] credentialsDigest;
+    private final int hashCode;
+
+    private CacheKey(String providerName, byte[] credentialsDigest) {
+      this.providerName = providerName;
+      this.credentialsDigest = credentialsDigest;
+      this.hashCode = 31 * providerName.hashCode() + Arrays.hashCode(credentialsDigest);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof CacheKey)) {
+        return false;
+      }
+      CacheKey other = (CacheKey) o;
+      return providerName.equals(other.providerName) && Arrays.equals(credentialsDigest, other.credentialsDigest);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  private static final class CacheEntry {
+
+    // null for rejected authentications
+    private final Authentication result;
+    private final long ttlNanos;
+
+    private CacheEntry(Authentication result, long ttlNanos) {
+      this.result = result;
+      this.ttlNanos = ttlNanos;
+    }
+  }
+
+  private static final class CacheEntryExpiry implements Expiry<CacheKey, CacheEntry> {
+
+    @Override
+    public long expireAfterCreate(CacheKey key, CacheEntry entry, long currentTime) {
+      return entry.ttlNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(CacheKey key, CacheEntry entry, long currentTime, long currentDuration) {
+      return entry.ttlNanos;
+    }
+
+    @Override
+    public long expireAfterRead(CacheKey key, CacheEntry entry, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.security;
+
+import org.mule.runtime.core.api.management.stats.Statistics;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Statistics of the authentications performed through an {@link AuthenticationCache}.
+ *
+ * @since 4.4.0
+ */
+public final class AuthenticationCacheStatistics implements Statistics {
+
+  private static final long serialVersionUID = -1587422961097733218L;
+
+  private final transient IntSupplier size;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder negativeHits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder expirations = new LongAdder();
+
+  AuthenticationCacheStatistics(IntSupplier size) {
+    this.size = size;
+  }
+
+  void hit() {
+    hits.increment();
+  }
+
+  void negativeHit() {
+    negativeHits.increment();
+  }
+
+  void miss() {
+    misses.increment();
+  }
+
+  void expired() {
+    expirations.increment();
+  }
+
+  /**
+   * @return how many authentications were served from a cached successful result.
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * @return how many authentications were rejected because of a cached rejection.
+   */
+  public long getNegativeHits() {
+    return negativeHits.sum();
+  }
+
+  /**
+   * @return how many authentications had to go through the provider.
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * @return how many cached results were discarded because they expired.
+   */
+  public long getExpirations() {
+    return expirations.sum();
+  }
+
+  /**
+   * @return how many results are currently cached, after discarding the expired ones.
+   */
+  public int getSize() {
+    return size.getAsInt();
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "size: " + getSize() + "; hits: " + getHits() + "; negativeHits: " + getNegativeHits() + "; misses: " + getMisses()
+        + "; expirations: " + getExpirations();
+  }
+}
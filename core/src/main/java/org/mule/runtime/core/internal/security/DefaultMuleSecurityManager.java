@@ -7,10 +7,12 @@
 package org.mule.runtime.core.internal.security;
 
 import static java.util.Collections.unmodifiableCollection;
+import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.authorizationAttemptFailed;
 
 import org.mule.runtime.api.component.AbstractComponent;
+import org.mule.runtime.api.lifecycle.Disposable;
 import org.mule.runtime.api.lifecycle.Initialisable;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.security.Authentication;
@@ -20,6 +22,7 @@ import org.mule.runtime.api.security.SecurityProviderNotFoundException;
 import org.mule.runtime.api.security.UnauthorisedException;
 import org.mule.runtime.api.security.UnknownAuthenticationTypeException;
 import org.mule.runtime.api.util.collection.SmallMap;
+import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.security.EncryptionStrategy;
 import org.mule.runtime.core.api.security.SecurityManager;
 import org.mule.runtime.core.api.security.SecurityProvider;
@@ -30,8 +33,11 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
+import javax.inject.Inject;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,15 +46,20 @@ import org.slf4j.LoggerFactory;
  *
  * @since 4.0
  */
-public class DefaultMuleSecurityManager extends AbstractComponent implements SecurityManager {
+public class DefaultMuleSecurityManager extends AbstractComponent implements SecurityManager, Disposable {
 
   /**
    * logger used by this class
    */
   private static final Logger LOGGER = LoggerFactory.getLogger(DefaultMuleSecurityManager.class);
+  private static final String AUTHENTICATION_CACHE_STATISTICS_NAME = "authenticationCache";
+
+  @Inject
+  private MuleContext muleContext;
 
   private final Map<String, SecurityProvider> providers;
   private final Map<String, EncryptionStrategy> cryptoStrategies = new ConcurrentHashMap<>();
+  private AuthenticationCache authenticationCache = AuthenticationCache.fromSystemProperties();
 
   public DefaultMuleSecurityManager() {
     this.providers = new ConcurrentHashMap<>();
@@ -65,6 +76,17 @@ public class DefaultMuleSecurityManager extends AbstractComponent implements Sec
         .map(provider -> (Initialisable) provider).collect(toList());
     all.addAll(cryptoStrategies.values());
     LifecycleTransitionResult.initialiseAll(all.iterator());
+
+    if (authenticationCache != null && muleContext != null && muleContext.getStatistics() != null) {
+      muleContext.getStatistics().addStatistics(AUTHENTICATION_CACHE_STATISTICS_NAME, authenticationCache.getStatistics());
+    }
+  }
+
+  @Override
+  public void dispose() {
+    if (authenticationCache != null && muleContext != null && muleContext.getStatistics() != null) {
+      muleContext.getStatistics().removeStatistics(AUTHENTICATION_CACHE_STATISTICS_NAME, authenticationCache.getStatistics());
+    }
   }
 
   /**
@@ -84,7 +106,9 @@ public class DefaultMuleSecurityManager extends AbstractComponent implements Sec
 
         Authentication result = null;
         try {
-          result = provider.authenticate(authentication);
+          result = authenticationCache != null
+              ? authenticationCache.authenticate(provider, authentication)
+              : provider.authenticate(authentication);
         } catch (UnauthorisedException e) {
           if (!iter.hasNext()) {
             throw new UnauthorisedException(authorizationAttemptFailed(), e);
@@ -135,9 +159,30 @@ public class DefaultMuleSecurityManager extends AbstractComponent implements Sec
    */
   @Override
   public SecurityProvider removeProvider(String name) {
+    if (authenticationCache != null && name != null) {
+      authenticationCache.invalidateProvider(name);
+    }
     return providers.remove(name);
   }
 
+  /**
+   * @return the cache of the authentications performed through the providers of this manager, if enabled through
+   *         {@link AuthenticationCache#AUTHENTICATION_CACHE_TTL_PROPERTY}.
+   *
+   * @since 4.4.0
+   */
+  public Optional<AuthenticationCache> getAuthenticationCache() {
+    return ofNullable(authenticationCache);
+  }
+
+  void setAuthenticationCache(AuthenticationCache authenticationCache) {
+    this.authenticationCache = authenticationCache;
+  }
+
+  void setMuleContext(MuleContext muleContext) {
+    this.muleContext = muleContext;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -57,17 +57,12 @@ public class SecretKeyEncryptionStrategy extends AbstractJCEEncryptionStrategy {
   }
 
   @Override
-  protected void createAndInitCiphers() throws GeneralSecurityException {
-    encryptCipher = Cipher.getInstance(getAlgorithm());
-    decryptCipher = Cipher.getInstance(getAlgorithm());
-
+  protected void initCipher(Cipher cipher, int mode) throws GeneralSecurityException {
     AlgorithmParameterSpec paramSpec = createAlgorithmParameterSpec();
     if (paramSpec != null) {
-      encryptCipher.init(Cipher.ENCRYPT_MODE, (SecretKeySpec) keySpec, paramSpec);
-      decryptCipher.init(Cipher.DECRYPT_MODE, (SecretKeySpec) keySpec, paramSpec);
+      cipher.init(mode, (SecretKeySpec) keySpec, paramSpec);
     } else {
-      encryptCipher.init(Cipher.ENCRYPT_MODE, (SecretKeySpec) keySpec);
-      decryptCipher.init(Cipher.DECRYPT_MODE, (SecretKeySpec) keySpec);
+      cipher.init(mode, (SecretKeySpec) keySpec);
     }
   }
 
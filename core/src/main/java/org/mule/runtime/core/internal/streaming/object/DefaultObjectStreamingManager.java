@@ -6,6 +6,10 @@
  */
 package org.mule.runtime.core.internal.streaming.object;
 
+import static java.lang.Boolean.getBoolean;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+
+import org.mule.runtime.core.internal.streaming.object.factory.FileStoreCursorIteratorProviderFactory;
 import org.mule.runtime.core.internal.streaming.object.factory.InMemoryCursorIteratorProviderFactory;
 import org.mule.runtime.core.internal.streaming.object.factory.NullCursorIteratorProviderFactory;
 import org.mule.runtime.core.api.streaming.StreamingManager;
@@ -20,6 +24,15 @@ import org.mule.runtime.core.api.streaming.object.ObjectStreamingManager;
  */
 public class DefaultObjectStreamingManager implements ObjectStreamingManager {
 
+  /**
+   * When set, the {@link #getDefaultCursorProviderFactory() default factory}, used by paged operations which do not configure a
+   * streaming strategy, overflows to disk instead of failing once its in memory buffer is full.
+   *
+   * @since 4.4.0
+   */
+  public static final String DEFAULT_FILE_STORE_STREAMING_PROPERTY =
+      SYSTEM_PROPERTY_PREFIX + "streaming.objects.defaultFileStore";
+
   protected final StreamingManager streamingManager;
 
   public DefaultObjectStreamingManager(StreamingManager streamingManager) {
@@ -34,6 +47,17 @@ public class DefaultObjectStreamingManager implements ObjectStreamingManager {
     return new InMemoryCursorIteratorProviderFactory(config, streamingManager);
   }
 
+  /**
+   * Creates a {@link CursorIteratorProviderFactory} which buffers in memory up to a limit and overflows the rest to disk
+   *
+   * @param config the configuration for the produced providers
+   * @return a new {@link CursorIteratorProviderFactory}
+   * @since 4.4.0
+   */
+  public CursorIteratorProviderFactory getFileStoreCursorProviderFactory(FileStoreCursorIteratorConfig config) {
+    return new FileStoreCursorIteratorProviderFactory(config, streamingManager);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -47,6 +71,9 @@ public class DefaultObjectStreamingManager implements ObjectStreamingManager {
    */
   @Override
   public CursorIteratorProviderFactory getDefaultCursorProviderFactory() {
+    if (getBoolean(DEFAULT_FILE_STORE_STREAMING_PROPERTY)) {
+      return getFileStoreCursorProviderFactory(FileStoreCursorIteratorConfig.getDefault());
+    }
     return getInMemoryCursorProviderFactory(InMemoryCursorIteratorConfig.getDefault());
   }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.streaming.object;
+
+import static java.lang.Math.max;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import org.mule.runtime.api.streaming.object.CursorIterator;
+import org.mule.runtime.core.api.streaming.object.InMemoryCursorIteratorConfig;
+
+/**
+ * Configuration for a {@link CursorIterator} which buffers in memory up to a given amount of buckets and then overflows
+ * the least recently used ones to a local file.
+ *
+ * @since 4.4.0
+ */
+public final class FileStoreCursorIteratorConfig {
+
+  // The bucket being filled from the stream and the one being read by a cursor are both kept in memory
+  private static final int MIN_IN_MEMORY_BUCKETS = 2;
+
+  private final int bucketSize;
+  private final int maxInMemoryBuckets;
+
+  /**
+   * @return A new instance configured with default settings
+   */
+  public static FileStoreCursorIteratorConfig getDefault() {
+    return from(InMemoryCursorIteratorConfig.getDefault());
+  }
+
+  /**
+   * Creates a new instance which holds in memory the same amount of instances that the given {@code inMemoryConfig} would
+   * accept before failing, and overflows to disk beyond that point.
+   *
+   * @param inMemoryConfig an {@link InMemoryCursorIteratorConfig}
+   * @return a new {@link FileStoreCursorIteratorConfig}
+   */
+  public static FileStoreCursorIteratorConfig from(InMemoryCursorIteratorConfig inMemoryConfig) {
+    return forInMemoryInstances(inMemoryConfig.getInitialBufferSize(), inMemoryConfig.getMaxBufferSize());
+  }
+
+  /**
+   * Creates a new instance which holds in memory up to {@code maxInMemoryInstances}, in buckets of {@code bucketSize}
+   * instances, and overflows to disk beyond that point. At least two buckets are always held in memory.
+   *
+   * @param bucketSize           the amount of instances in each bucket. Must be greater than zero
+   * @param maxInMemoryInstances the maximum amount of instances to be held in memory
+   * @return a new {@link FileStoreCursorIteratorConfig}
+   * @throws IllegalArgumentException if {@code bucketSize} is invalid
+   */
+  public static FileStoreCursorIteratorConfig forInMemoryInstances(int bucketSize, int maxInMemoryInstances) {
+    checkArgument(bucketSize > 0, "bucketSize must be greater than zero");
+    return new FileStoreCursorIteratorConfig(bucketSize, max(MIN_IN_MEMORY_BUCKETS, maxInMemoryInstances / bucketSize));
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param bucketSize         the amount of instances in each bucket. Must be greater than zero
+   * @param maxInMemoryBuckets the maximum amount of buckets to be held in memory. Must be at least 2
+   * @throws IllegalArgumentException if any of the given arguments is invalid
+   */
+  public FileStoreCursorIteratorConfig(int bucketSize, int maxInMemoryBuckets) {
+    checkArgument(bucketSize > 0, "bucketSize must be greater than zero");
+    checkArgument(maxInMemoryBuckets >= MIN_IN_MEMORY_BUCKETS, "maxInMemoryBuckets must be at least " + MIN_IN_MEMORY_BUCKETS);
+
+    this.bucketSize = bucketSize;
+    this.maxInMemoryBuckets = maxInMemoryBuckets;
+  }
+
+  /**
+   * @return The amount of instances in each bucket
+   */
+  public int getBucketSize() {
+    return bucketSize;
+  }
+
+  /**
+   * @return The maximum amount of buckets to be held in memory
+   */
+  public int getMaxInMemoryBuckets() {
+    return maxInMemoryBuckets;
+  }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.streaming.object;
+
+import static java.lang.Thread.currentThread;
+import static org.apache.commons.io.FileUtils.deleteQuietly;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.core.internal.streaming.TempBufferFileUtils.createBufferFile;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.RandomAccessFile;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+
+/**
+ * An {@link AbstractObjectStreamBuffer} implementation which keeps up to
+ * {@link FileStoreCursorIteratorConfig#getMaxInMemoryBuckets()} buckets in memory. Once that limit is reached, the least
+ * recently used buckets are serialized to a temporal file and evicted from memory. When a cursor seeks a position which
+ * belongs to an evicted bucket, that bucket is read back from the file.
+ * <p>
+ * Because buckets are only evicted once full, each of them is written at most once. The bucket which is being filled from
+ * the stream is never evicted.
+ * <p>
+ * All the items in the stream need to be {@link java.io.Serializable}.
+ *
+ * @param <T> The generic type of the items in the stream
+ * @since 4.4.0
+ */
+public class FileStoreObjectStreamBuffer<T> extends AbstractObjectStreamBuffer<T> {
+
+  private static final Logger LOGGER = getLogger(FileStoreObjectStreamBuffer.class);
+
+  private final FileStoreCursorIteratorConfig config;
+  private final ClassLoader classLoader;
+
+  private final Object bucketsLock = new Object();
+  private final LinkedHashMap<Integer, Bucket<T>> residentBuckets = new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<Integer, Segment> segments = new HashMap<>();
+
+  private File bufferFile;
+  private RandomAccessFile bufferFileAccess;
+
+  public FileStoreObjectStreamBuffer(Iterator<T> stream, FileStoreCursorIteratorConfig config) {
+    super(stream);
+    this.config = config;
+    this.classLoader = currentThread().getContextClassLoader();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Position toPosition(long position) {
+    return new Position((int) (position / config.getBucketSize()), (int) (position % config.getBucketSize()));
+  }
+
+  @Override
+  protected void initialize(Optional<Position> maxPosition, Bucket<T> initialBucket) {
+    initialBucket = new Bucket<>(0, config.getBucketSize());
+    synchronized (bucketsLock) {
+      residentBuckets.put(initialBucket.getIndex(), initialBucket);
+    }
+    setCurrentBucket(initialBucket);
+  }
+
+  @Override
+  protected Bucket<T> getPresentBucket(Position position) {
+    synchronized (bucketsLock) {
+      final int bucketIndex = position.getBucketIndex();
+      Bucket<T> bucket = residentBuckets.get(bucketIndex);
+      if (bucket != null) {
+        return bucket;
+      }
+
+      Segment segment = segments.get(bucketIndex);
+      if (segment == null) {
+        return null;
+      }
+
+      bucket = readSegment(segment);
+      residentBuckets.put(bucketIndex, bucket);
+      // The bucket just read back is about to be used, so it must not be evicted right away
+      evictIfNeeded(getCurrentBucket(), bucket);
+
+      return bucket;
+    }
+  }
+
+  @Override
+  protected Bucket<T> onBucketOverflow(Bucket<T> overflownBucket) {
+    Bucket<T> newBucket = new Bucket<>(overflownBucket.getIndex() + 1, config.getBucketSize());
+    synchronized (bucketsLock) {
+      residentBuckets.put(newBucket.getIndex(), newBucket);
+      evictIfNeeded(newBucket, null);
+    }
+
+    return newBucket;
+  }
+
+  /**
+   * No limit is enforced, since items beyond the in memory capacity are written to disk.
+   */
+  @Override
+  protected void validateMaxBufferSizeNotExceeded(int instancesCount) {
+    // Nothing to do
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void doClose() {
+    synchronized (bucketsLock) {
+      residentBuckets.clear();
+      segments.clear();
+
+      if (bufferFileAccess != null) {
+        try {
+          bufferFileAccess.close();
+        } catch (IOException e) {
+          LOGGER.debug("Found exception trying to close object streaming buffer file", e);
+        }
+        bufferFileAccess = null;
+      }
+
+      if (bufferFile != null) {
+        deleteQuietly(bufferFile);
+        bufferFile = null;
+      }
+    }
+  }
+
+  private void evictIfNeeded(Bucket<T> pinnedBucket, Bucket<T> otherPinnedBucket) {
+    Iterator<Map.Entry<Integer, Bucket<T>>> iterator = residentBuckets.entrySet().iterator();
+    while (residentBuckets.size() > config.getMaxInMemoryBuckets() && iterator.hasNext()) {
+      Map.Entry<Integer, Bucket<T>> entry = iterator.next();
+      if (entry.getValue() == pinnedBucket || entry.getValue() == otherPinnedBucket) {
+        continue;
+      }
+
+      if (!segments.containsKey(entry.getKey())) {
+        // If writing fails, the bucket is kept in memory so its items are not lost
+        Segment segment = writeSegment(entry.getValue());
+        segments.put(entry.getKey(), segment);
+      }
+      iterator.remove();
+    }
+  }
+
+  private Segment writeSegment(Bucket<T> bucket) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(bucket);
+    } catch (NotSerializableException e) {
+      throw new MuleRuntimeException(createStaticMessage("Items of a file store object stream must be Serializable, but found "
+          + e.getMessage()), e);
+    } catch (IOException e) {
+      throw new MuleRuntimeException(createStaticMessage("Could not serialize object streaming bucket"), e);
+    }
+
+    RandomAccessFile file = null;
+    long offset = -1;
+    try {
+      file = getBufferFileAccess();
+      offset = file.length();
+      file.seek(offset);
+      file.write(bytes.toByteArray());
+
+      return new Segment(offset, bytes.size());
+    } catch (IOException e) {
+      discardPartialWrite(file, offset);
+      throw new MuleRuntimeException(createStaticMessage("Could not write object streaming bucket to buffer file"), e);
+    }
+  }
+
+  private void discardPartialWrite(RandomAccessFile file, long offset) {
+    if (file == null || offset < 0) {
+      return;
+    }
+
+    try {
+      file.setLength(offset);
+    } catch (IOException e) {
+      LOGGER.debug("Could not discard partially written object streaming bucket", e);
+    }
+  }
+
+  private Bucket<T> readSegment(Segment segment) {
+    byte[] bytes = new byte[segment.length];
+    try {
+      RandomAccessFile file = getBufferFileAccess();
+      file.seek(segment.offset);
+      file.readFully(bytes);
+    } catch (IOException e) {
+      throw new MuleRuntimeException(createStaticMessage("Could not read object streaming bucket from buffer file"), e);
+    }
+
+    try (ObjectInputStream in = new ClassLoaderObjectInputStream(new ByteArrayInputStream(bytes), classLoader)) {
+      return (Bucket<T>) in.readObject();
+    } catch (IOException | ClassNotFoundException e) {
+      throw new MuleRuntimeException(createStaticMessage("Could not deserialize object streaming bucket"), e);
+    }
+  }
+
+  private RandomAccessFile getBufferFileAccess() throws IOException {
+    if (bufferFileAccess == null) {
+      bufferFile = createBufferFile("object-stream");
+      bufferFileAccess = new RandomAccessFile(bufferFile, "rw");
+    }
+
+    return bufferFileAccess;
+  }
+
+  /**
+   * The location of a serialized {@link Bucket} inside the buffer file.
+   */
+  private static final class Segment {
+
+    private final long offset;
+    private final int length;
+
+    private Segment(long offset, int length) {
+      this.offset = offset;
+      this.length = length;
+    }
+  }
+
+  /**
+   * Resolves the classes of the deserialized items through the class loader which was in context when the buffer was
+   * created, so that types from the application or its plugins can be found.
+   */
+  private static final class ClassLoaderObjectInputStream extends ObjectInputStream {
+
+    private final ClassLoader classLoader;
+
+    private ClassLoaderObjectInputStream(InputStream in, ClassLoader classLoader) throws IOException {
+      super(in);
+      this.classLoader = classLoader;
+    }
+
+    @Override
+    protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+      if (classLoader != null) {
+        try {
+          return Class.forName(desc.getName(), false, classLoader);
+        } catch (ClassNotFoundException e) {
+          // fallback to the default resolution
+        }
+      }
+      return super.resolveClass(desc);
+    }
+  }
+}
@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.core.internal.transformer.compression;
 
+import static java.util.zip.Deflater.DEFAULT_COMPRESSION;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.zip.CRC32;
@@ -78,7 +80,18 @@ public class GZIPCompressorInputStream extends DeflaterInputStream {
    * @param in The uncompressed {@link InputStream}.
    */
   public GZIPCompressorInputStream(InputStream in) {
-    super(new CheckedInputStream(in, new CRC32()), new Deflater(Deflater.DEFAULT_COMPRESSION, true));
+    this(in, DEFAULT_COMPRESSION);
+  }
+
+  /**
+   * Creates a new {@link GZIPCompressorInputStream} from an uncompressed {@link InputStream}, with the given compression level.
+   *
+   * @param in    The uncompressed {@link InputStream}.
+   * @param level The compression level, from {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION}.
+   * @since 4.4.0
+   */
+  public GZIPCompressorInputStream(InputStream in, int level) {
+    super(new CheckedInputStream(in, new CRC32()), new Deflater(level, true));
     buffer = new Buffer();
   }
 
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.transformer.compression;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Arrays.copyOf;
+import static java.util.zip.GZIPInputStream.GZIP_MAGIC;
+import static org.mule.runtime.core.internal.transformer.compression.ZipCodecsPool.borrowDeflater;
+import static org.mule.runtime.core.internal.transformer.compression.ZipCodecsPool.borrowInflater;
+import static org.mule.runtime.core.internal.transformer.compression.ZipCodecsPool.releaseDeflater;
+import static org.mule.runtime.core.internal.transformer.compression.ZipCodecsPool.releaseInflater;
+
+import java.io.EOFException;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Compresses and uncompresses byte arrays in the GZIP format, writing directly into the resulting array with pooled
+ * {@link Deflater}s and {@link Inflater}s instead of going through streams and intermediate buffers.
+ *
+ * @since 4.4.0
+ */
+public final class GZipCodec {
+
+  private static final int HEADER_LENGTH = 10;
+  private static final int TRAILER_LENGTH = 8;
+  // The size in the trailer can't be trusted, so at most this ratio of the compressed data is allocated before inflating it
+  private static final int MAX_INITIAL_RATIO = 4;
+  // Largest array size that is safe to allocate in all JVMs
+  private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+  private static final int FHCRC = 2;
+  private static final int FEXTRA = 4;
+  private static final int FNAME = 8;
+  private static final int FCOMMENT = 16;
+
+  private GZipCodec() {}
+
+  /**
+   * @param bytes the data to compress. Non null.
+   * @param level the compression level, from {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION}, or
+   *              {@link Deflater#DEFAULT_COMPRESSION}
+   * @return a single GZIP member with the compressed {@code bytes}.
+   */
+  public static byte[] compress(byte[] bytes, int level) {
+    CRC32 crc = new CRC32();
+    crc.update(bytes, 0, bytes.length);
+
+    Deflater deflater = borrowDeflater(level);
+    try {
+      deflater.setInput(bytes);
+      deflater.finish();
+
+      // Compressible data usually shrinks to less than half its size, the array is grown if that's not the case
+      byte[] compressed = new byte[HEADER_LENGTH + max(bytes.length / 2, 64) + TRAILER_LENGTH];
+      compressed[0] = (byte) GZIP_MAGIC;
+      compressed[1] = (byte) (GZIP_MAGIC >> 8);
+      compressed[2] = Deflater.DEFLATED;
+      // Flags, modification time, extra flags and operating system are all left as 0
+      int position = HEADER_LENGTH;
+
+      while (!deflater.finished()) {
+        if (position == compressed.length) {
+          compressed = copyOf(compressed, grow(compressed.length));
+        }
+        position += deflater.deflate(compressed, position, compressed.length - position);
+      }
+
+      if (compressed.length - position < TRAILER_LENGTH) {
+        compressed = copyOf(compressed, position + TRAILER_LENGTH);
+      }
+      writeInt((int) crc.getValue(), compressed, position);
+      writeInt(bytes.length, compressed, position + 4);
+      position += TRAILER_LENGTH;
+
+      return position == compressed.length ? compressed : copyOf(compressed, position);
+    } finally {
+      releaseDeflater(deflater);
+    }
+  }
+
+  /**
+   * @param bytes data in the GZIP format, with one or more members. Non null.
+   * @return the uncompressed data of all the members.
+   * @throws ZipException if {@code bytes} is not valid GZIP data.
+   * @throws EOFException if {@code bytes} is truncated.
+   */
+  public static byte[] uncompress(byte[] bytes) throws ZipException, EOFException {
+    Inflater inflater = borrowInflater();
+    try {
+      byte[] uncompressed = new byte[expectedUncompressedSize(bytes)];
+      byte[] probe = new byte[1];
+      int uncompressedPosition = 0;
+      int position = 0;
+
+      do {
+        position = skipHeader(bytes, position);
+        inflater.setInput(bytes, position, bytes.length - position);
+        int memberStart = uncompressedPosition;
+
+        while (!inflater.finished()) {
+          if (uncompressedPosition == uncompressed.length) {
+            // The expected size is usually exact for compact data, so check if there is more data before growing the array
+            if (inflate(inflater, probe, 0, 1) > 0) {
+              uncompressed = copyOf(uncompressed, grow(uncompressed.length));
+              uncompressed[uncompressedPosition++] = probe[0];
+            }
+          } else {
+            uncompressedPosition +=
+                inflate(inflater, uncompressed, uncompressedPosition, uncompressed.length - uncompressedPosition);
+          }
+        }
+
+        position = bytes.length - inflater.getRemaining();
+        if (bytes.length - position < TRAILER_LENGTH) {
+          throw new EOFException("Unexpected end of GZIP data");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(uncompressed, memberStart, uncompressedPosition - memberStart);
+        if (readInt(bytes, position) != (int) crc.getValue()
+            || readInt(bytes, position + 4) != uncompressedPosition - memberStart) {
+          throw new ZipException("Corrupt GZIP trailer");
+        }
+        position += TRAILER_LENGTH;
+        inflater.reset();
+        // As GZIPInputStream does, data after the last member that is not another member is ignored
+      } while (isMember(bytes, position));
+
+      return uncompressedPosition == uncompressed.length ? uncompressed : copyOf(uncompressed, uncompressedPosition);
+    } finally {
+      releaseInflater(inflater);
+    }
+  }
+
+  /**
+   * @param bytes the data to check. May be null.
+   * @param offset where to look for the GZIP magic number.
+   * @return whether a GZIP member starts at {@code offset}.
+   */
+  public static boolean isMember(byte[] bytes, int offset) {
+    return bytes != null && bytes.length - offset >= 2 && bytes[offset] == (byte) GZIP_MAGIC
+        && bytes[offset + 1] == (byte) (GZIP_MAGIC >> 8);
+  }
+
+  private static int inflate(Inflater inflater, byte[] buffer, int offset, int length) throws ZipException, EOFException {
+    int inflated;
+    try {
+      inflated = inflater.inflate(buffer, offset, length);
+    } catch (DataFormatException e) {
+      ZipException zipException = new ZipException("Invalid GZIP data: " + e.getMessage());
+      zipException.initCause(e);
+      throw zipException;
+    }
+    if (inflated == 0 && !inflater.finished() && (inflater.needsInput() || inflater.needsDictionary())) {
+      throw new EOFException("Unexpected end of GZIP data");
+    }
+    return inflated;
+  }
+
+  private static int expectedUncompressedSize(byte[] bytes) {
+    // The trailer of the last member has the size of its uncompressed data, which is the whole data in the usual case. Larger
+    // data grows the array as it is inflated, so a forged trailer can't make a small input allocate a huge array upfront.
+    long trailerSize = bytes.length >= HEADER_LENGTH + TRAILER_LENGTH ? readInt(bytes, bytes.length - 4) & 0xffffffffL : 0;
+    long maxInitialSize = min(max((long) bytes.length * MAX_INITIAL_RATIO, 64), MAX_ARRAY_SIZE);
+    return (int) (trailerSize > 0 ? min(trailerSize, maxInitialSize) : maxInitialSize);
+  }
+
+  private static int skipHeader(byte[] bytes, int position) throws ZipException, EOFException {
+    if (bytes.length - position < HEADER_LENGTH) {
+      throw new EOFException("Unexpected end of GZIP header");
+    }
+    if (!isMember(bytes, position)) {
+      throw new ZipException("Not in GZIP format");
+    }
+    if (bytes[position + 2] != Deflater.DEFLATED) {
+      throw new ZipException("Unsupported compression method");
+    }
+
+    int flags = bytes[position + 3] & 0xff;
+    position += HEADER_LENGTH;
+    if ((flags & FEXTRA) == FEXTRA) {
+      if (bytes.length - position < 2) {
+        throw new EOFException("Unexpected end of GZIP header");
+      }
+      position += 2 + ((bytes[position] & 0xff) | ((bytes[position + 1] & 0xff) << 8));
+    }
+    if ((flags & FNAME) == FNAME) {
+      position = skipZeroTerminated(bytes, position);
+    }
+    if ((flags & FCOMMENT) == FCOMMENT) {
+      position = skipZeroTerminated(bytes, position);
+    }
+    if ((flags & FHCRC) == FHCRC) {
+      position += 2;
+    }
+    if (position > bytes.length) {
+      throw new EOFException("Unexpected end of GZIP header");
+    }
+    return position;
+  }
+
+  private static int skipZeroTerminated(byte[] bytes, int position) throws EOFException {
+    while (position < bytes.length) {
+      if (bytes[position++] == 0) {
+        return position;
+      }
+    }
+    throw new EOFException("Unexpected end of GZIP header");
+  }
+
+  private static int grow(int length) {
+    if (length >= MAX_ARRAY_SIZE) {
+      throw new OutOfMemoryError("Required array size too large");
+    }
+    return (int) min(length * 2L, MAX_ARRAY_SIZE);
+  }
+
+  private static void writeInt(int value, byte[] bytes, int offset) {
+    bytes[offset] = (byte) value;
+    bytes[offset + 1] = (byte) (value >> 8);
+    bytes[offset + 2] = (byte) (value >> 16);
+    bytes[offset + 3] = (byte) (value >> 24);
+  }
+
+  private static int readInt(byte[] bytes, int offset) {
+    return (bytes[offset] & 0xff) | ((bytes[offset + 1] & 0xff) << 8) | ((bytes[offset + 2] & 0xff) << 16)
+        | ((bytes[offset + 3] & 0xff) << 24);
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.transformer.compression;
+
+import static java.lang.Runtime.getRuntime;
+import static java.util.zip.Deflater.DEFAULT_COMPRESSION;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Pool of the {@link Deflater}s and {@link Inflater}s used to compress and uncompress data in the GZIP format.
+ * <p>
+ * Each {@link Deflater} or {@link Inflater} allocates native memory for its buffers and dictionary, which is only released when
+ * it is ended or finalized, so creating one for each compressed message is expensive. The pooled instances use the raw DEFLATE
+ * format, without ZLIB header and checksum, since the GZIP format has its own.
+ *
+ * @since 4.4.0
+ */
+public final class ZipCodecsPool {
+
+  private static final int MAX_POOLED = getRuntime().availableProcessors() * 2;
+
+  private static final BlockingQueue<Deflater> DEFLATERS = new ArrayBlockingQueue<>(MAX_POOLED);
+  private static final BlockingQueue<Inflater> INFLATERS = new ArrayBlockingQueue<>(MAX_POOLED);
+
+  private ZipCodecsPool() {}
+
+  /**
+   * @param level the compression level to use, from {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION}, or
+   *              {@link Deflater#DEFAULT_COMPRESSION}
+   * @return a {@link Deflater} ready to compress data, that must be given back with {@link #releaseDeflater(Deflater)}.
+   */
+  public static Deflater borrowDeflater(int level) {
+    Deflater deflater = DEFLATERS.poll();
+    if (deflater == null) {
+      return new Deflater(level, true);
+    }
+    deflater.setLevel(level);
+    return deflater;
+  }
+
+  /**
+   * @return a {@link Deflater} with the default compression level, that must be given back with
+   *         {@link #releaseDeflater(Deflater)}.
+   */
+  public static Deflater borrowDeflater() {
+    return borrowDeflater(DEFAULT_COMPRESSION);
+  }
+
+  /**
+   * Gives back a {@link Deflater} obtained from {@link #borrowDeflater(int)}. It must not be used after this call.
+   *
+   * @param deflater the {@link Deflater} to give back.
+   */
+  public static void releaseDeflater(Deflater deflater) {
+    deflater.reset();
+    if (!DEFLATERS.offer(deflater)) {
+      deflater.end();
+    }
+  }
+
+  /**
+   * @return an {@link Inflater} ready to uncompress data, that must be given back with {@link #releaseInflater(Inflater)}.
+   */
+  public static Inflater borrowInflater() {
+    Inflater inflater = INFLATERS.poll();
+    return inflater != null ? inflater : new Inflater(true);
+  }
+
+  /**
+   * Gives back an {@link Inflater} obtained from {@link #borrowInflater()}. It must not be used after this call.
+   *
+   * @param inflater the {@link Inflater} to give back.
+   */
+  public static void releaseInflater(Inflater inflater) {
+    inflater.reset();
+    if (!INFLATERS.offer(inflater)) {
+      inflater.end();
+    }
+  }
+}
@@ -7,10 +7,16 @@
 
 package org.mule.runtime.container.internal;
 
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.System.getProperty;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.container.api.MuleFoldersUtil.getExecutionFolder;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.mule.runtime.core.internal.util.StandaloneServerUtils.getMuleHome;
 
 import org.mule.runtime.container.api.MuleModule;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -21,6 +27,16 @@ import java.util.List;
  */
 public class ContainerModuleDiscoverer implements ModuleDiscoverer {
 
+  /**
+   * System property to disable the index of the JRE content that is kept in the execution folder of the container, so the whole
+   * JRE is explored on every start. The index is only used when running on a Mule Runtime installation.
+   *
+   * @since 4.4.0
+   */
+  public static final String JRE_INDEX_PROPERTY = SYSTEM_PROPERTY_PREFIX + "container.jreIndex";
+
+  private static final String JRE_INDEX_FILE_NAME = "jre-exports.index";
+
   private final CompositeModuleDiscoverer moduleDiscoverer;
 
   /**
@@ -35,11 +51,18 @@ public class ContainerModuleDiscoverer implements ModuleDiscoverer {
 
   protected List<ModuleDiscoverer> getModuleDiscoverers(ClassLoader containerClassLoader) {
     List<ModuleDiscoverer> result = new ArrayList<>();
-    result.add(new JreModuleDiscoverer());
+    result.add(new JreModuleDiscoverer(getJreIndexFile()));
     result.add(new ClasspathModuleDiscoverer(containerClassLoader));
     return result;
   }
 
+  private File getJreIndexFile() {
+    if (getMuleHome().isPresent() && parseBoolean(getProperty(JRE_INDEX_PROPERTY, "true"))) {
+      return new File(getExecutionFolder(), JRE_INDEX_FILE_NAME);
+    }
+    return null;
+  }
+
   @Override
   public List<MuleModule> discover() {
     return moduleDiscoverer.discover();
@@ -74,6 +74,21 @@ public final class JreExplorer {
    * @param services will store the services defined via SPI found on the environment. Non null.
    */
   public static void exploreJdk(final Set<String> packages, Set<String> resources, List<ExportedService> services) {
+    exploreJdk(packages, resources, services, null);
+  }
+
+  /**
+   * Explores the content of the JRE being used, reusing the content of the JARs that did not change since they were stored in the
+   * given index.
+   *
+   * @param packages will store the Java packages found on the environment. Non null.
+   * @param resources will store the resources found on the environment. Non null.
+   * @param services will store the services defined via SPI found on the environment. Non null.
+   * @param index the index of the previously explored JARs, updated with the ones that had to be explored. May be null.
+   * @since 4.4.0
+   */
+  static void exploreJdk(final Set<String> packages, Set<String> resources, List<ExportedService> services,
+                         JreExportsIndex index) {
     List<String> jdkPaths = new ArrayList<>();
 
     // These are present in JDK 8
@@ -89,7 +104,7 @@ public final class JreExplorer {
       jdkPaths.add(getProperty("java.class.path"));
     }
 
-    explorePaths(jdkPaths, packages, resources, services);
+    explorePaths(jdkPaths, packages, resources, services, index);
     exploreJdkModules(packages);
   }
 
@@ -109,10 +124,25 @@ public final class JreExplorer {
    */
   static void explorePaths(final List<String> jdkPaths, final Set<String> packages, Set<String> resources,
                            List<ExportedService> services) {
+    explorePaths(jdkPaths, packages, resources, services, null);
+  }
+
+  /**
+   * Explores the provided paths searching for Java packages, resources and SPI service definitions, reusing the content of the
+   * JARs that did not change since they were stored in the given index.
+   *
+   * @param jdkPaths paths to explore. Non null.
+   * @param packages will store the Java packages found on the environment. Non null.
+   * @param resources will store the resources found on the environment. Non null.
+   * @param services will store the services defined via SPI found on the environment. Non null.
+   * @param index the index of the previously explored JARs, updated with the ones that had to be explored. May be null.
+   */
+  static void explorePaths(final List<String> jdkPaths, final Set<String> packages, Set<String> resources,
+                           List<ExportedService> services, JreExportsIndex index) {
     checkArgument(jdkPaths != null && !jdkPaths.isEmpty(), "jdkPaths cannot be empty");
 
     for (String jdkPath : jdkPaths) {
-      explorePath(packages, resources, services, jdkPath);
+      explorePath(packages, resources, services, jdkPath, index);
     }
   }
 
@@ -140,7 +170,8 @@ public final class JreExplorer {
     }
   }
 
-  private static void explorePath(Set<String> packages, Set<String> resources, List<ExportedService> services, String jdkPath) {
+  private static void explorePath(Set<String> packages, Set<String> resources, List<ExportedService> services, String jdkPath,
+                                  JreExportsIndex index) {
     int fromIndex = 0;
     int endIndex;
 
@@ -151,13 +182,9 @@ public final class JreExplorer {
       final File file = new File(item);
       if (file.exists()) {
         if (file.isDirectory()) {
-          exploreDirectory(packages, resources, services, file);
+          exploreDirectory(packages, resources, services, file, index);
         } else {
-          final JarInfo exploredJar = jarExplorer.explore(file.toURI());
-
-          packages.addAll(exploredJar.getPackages());
-          resources.addAll(exploredJar.getResources());
-          services.addAll(exploredJar.getServices());
+          exploreJar(packages, resources, services, file, index);
         }
       }
       fromIndex = endIndex + 1;
@@ -165,7 +192,7 @@ public final class JreExplorer {
   }
 
   private static void exploreDirectory(final Set<String> packages, Set<String> resources, List<ExportedService> services,
-                                       final File file) {
+                                       final File file, JreExportsIndex index) {
     File[] content = file.listFiles();
     if (content == null) {
       return;
@@ -174,15 +201,26 @@ public final class JreExplorer {
     for (File entry : content) {
       if (entry.exists()) {
         if (entry.isDirectory()) {
-          exploreDirectory(packages, resources, services, entry);
+          exploreDirectory(packages, resources, services, entry, index);
         } else if (entry.getName().endsWith(".jar")) {
-          final JarInfo exploredJar = jarExplorer.explore(entry.toURI());
-
-          packages.addAll(exploredJar.getPackages());
-          resources.addAll(exploredJar.getResources());
-          services.addAll(exploredJar.getServices());
+          exploreJar(packages, resources, services, entry, index);
         }
       }
     }
   }
+
+  private static void exploreJar(Set<String> packages, Set<String> resources, List<ExportedService> services, File jar,
+                                 JreExportsIndex index) {
+    JarInfo exploredJar = index != null ? index.get(jar) : null;
+    if (exploredJar == null) {
+      exploredJar = jarExplorer.explore(jar.toURI());
+      if (index != null) {
+        index.put(jar, exploredJar);
+      }
+    }
+
+    packages.addAll(exploredJar.getPackages());
+    resources.addAll(exploredJar.getResources());
+    services.addAll(exploredJar.getServices());
+  }
 }
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.container.internal;
+
+import static java.lang.String.format;
+import static java.lang.System.getProperty;
+import static java.nio.file.Files.createTempFile;
+import static java.nio.file.Files.deleteIfExists;
+import static java.nio.file.Files.move;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.module.artifact.api.classloader.ExportedService;
+import org.mule.runtime.module.artifact.internal.util.JarInfo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+
+/**
+ * Persisted index of the content of the JARs explored by the {@link JreExplorer}, so the JRE doesn't have to be scanned on every
+ * start of the container.
+ * <p>
+ * Each JAR is indexed by its absolute path, and its entry is only used while the last modification time and the size of the file
+ * are still the ones it had when it was explored. The whole index is discarded if it was written by a different version of this
+ * class or for a different JRE.
+ *
+ * @since 4.4.0
+ */
+final class JreExportsIndex {
+
+  private static final Logger LOGGER = getLogger(JreExportsIndex.class);
+
+  private static final int INDEX_VERSION = 1;
+
+  private final File indexFile;
+  private final Map<String, IndexedJar> indexedJars;
+  private boolean modified;
+
+  private JreExportsIndex(File indexFile, Map<String, IndexedJar> indexedJars) {
+    this.indexFile = indexFile;
+    this.indexedJars = indexedJars;
+  }
+
+  /**
+   * Reads the index from the given file. If the file does not exist or cannot be read, an empty index is returned.
+   *
+   * @param indexFile where the index is persisted. Non null.
+   * @return the index stored in {@code indexFile}.
+   */
+  static JreExportsIndex load(File indexFile) {
+    Map<String, IndexedJar> indexedJars = new HashMap<>();
+    if (indexFile.exists()) {
+      try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+        if (input.readInt() == INDEX_VERSION && input.readUTF().equals(jreId())) {
+          int jarsCount = input.readInt();
+          for (int i = 0; i < jarsCount; ++i) {
+            String path = input.readUTF();
+            indexedJars.put(path, readIndexedJar(input));
+          }
+        }
+      } catch (IOException | RuntimeException e) {
+        // A corrupt index may fail with runtime exceptions as well, i.e.: negative or huge counts
+        LOGGER.warn(format("Could not read the JRE exports index '%s', the JRE will be explored again", indexFile), e);
+        indexedJars.clear();
+      }
+    }
+    return new JreExportsIndex(indexFile, indexedJars);
+  }
+
+  /**
+   * @param jar the JAR to look for.
+   * @return the indexed content of the {@code jar}, or {@code null} if it was not indexed or was modified since it was indexed.
+   */
+  JarInfo get(File jar) {
+    IndexedJar indexedJar = indexedJars.get(jar.getAbsolutePath());
+    if (indexedJar == null || indexedJar.lastModified != jar.lastModified() || indexedJar.length != jar.length()) {
+      return null;
+    }
+    return indexedJar.jarInfo;
+  }
+
+  /**
+   * Adds or replaces the content of a {@code jar} in the index.
+   *
+   * @param jar     the explored JAR. Non null.
+   * @param jarInfo the content of the {@code jar}. Non null.
+   */
+  void put(File jar, JarInfo jarInfo) {
+    indexedJars.put(jar.getAbsolutePath(), new IndexedJar(jar.lastModified(), jar.length(), jarInfo));
+    modified = true;
+  }
+
+  /**
+   * Writes the index to its file if any JAR was added since it was loaded. The file is replaced atomically, so a concurrent or
+   * interrupted write never leaves a partial index behind.
+   */
+  void storeIfModified() {
+    if (!modified) {
+      return;
+    }
+
+    Path tempFile = null;
+    try {
+      File indexFolder = indexFile.getAbsoluteFile().getParentFile();
+      if (!indexFolder.exists() && !indexFolder.mkdirs()) {
+        throw new IOException(format("Could not create folder '%s'", indexFolder));
+      }
+      tempFile = createTempFile(indexFolder.toPath(), indexFile.getName(), ".tmp");
+      try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile.toFile())))) {
+        output.writeInt(INDEX_VERSION);
+        output.writeUTF(jreId());
+        output.writeInt(indexedJars.size());
+        for (Map.Entry<String, IndexedJar> indexedJar : indexedJars.entrySet()) {
+          output.writeUTF(indexedJar.getKey());
+          writeIndexedJar(output, indexedJar.getValue());
+        }
+      }
+      move(tempFile, indexFile.toPath(), REPLACE_EXISTING, ATOMIC_MOVE);
+      modified = false;
+    } catch (IOException e) {
+      LOGGER.warn(format("Could not write the JRE exports index '%s'", indexFile), e);
+      if (tempFile != null) {
+        try {
+          deleteIfExists(tempFile);
+        } catch (IOException deleteException) {
+          // Nothing to do
+        }
+      }
+    }
+  }
+
+  private static String jreId() {
+    return getProperty("java.home") + ":" + getProperty("java.vendor") + ":" + getProperty("java.version");
+  }
+
+  private static IndexedJar readIndexedJar(DataInputStream input) throws IOException {
+    long lastModified = input.readLong();
+    long length = input.readLong();
+
+    Set<String> packages = new HashSet<>();
+    readStrings(input, packages);
+    Set<String> resources = new HashSet<>();
+    readStrings(input, resources);
+
+    int servicesCount = input.readInt();
+    List<ExportedService> services = new ArrayList<>(servicesCount);
+    for (int i = 0; i < servicesCount; ++i) {
+      services.add(new ExportedService(input.readUTF(), new URL(input.readUTF())));
+    }
+
+    return new IndexedJar(lastModified, length, new JarInfo(packages, resources, services));
+  }
+
+  private static void readStrings(DataInputStream input, Collection<String> strings) throws IOException {
+    int count = input.readInt();
+    for (int i = 0; i < count; ++i) {
+      strings.add(input.readUTF());
+    }
+  }
+
+  private static void writeIndexedJar(DataOutputStream output, IndexedJar indexedJar) throws IOException {
+    output.writeLong(indexedJar.lastModified);
+    output.writeLong(indexedJar.length);
+
+    writeStrings(output, indexedJar.jarInfo.getPackages());
+    writeStrings(output, indexedJar.jarInfo.getResources());
+
+    output.writeInt(indexedJar.jarInfo.getServices().size());
+    for (ExportedService service : indexedJar.jarInfo.getServices()) {
+      output.writeUTF(service.getServiceInterface());
+      output.writeUTF(service.getResource().toString());
+    }
+  }
+
+  private static void writeStrings(DataOutputStream output, Collection<String> strings) throws IOException {
+    output.writeInt(strings.size());
+    for (String string : strings) {
+      output.writeUTF(string);
+    }
+  }
+
+  private static final class IndexedJar {
+
+    private final long lastModified;
+    private final long length;
+    private final JarInfo jarInfo;
+
+    private IndexedJar(long lastModified, long length, JarInfo jarInfo) {
+      this.lastModified = lastModified;
+      this.length = length;
+      this.jarInfo = jarInfo;
+    }
+  }
+}
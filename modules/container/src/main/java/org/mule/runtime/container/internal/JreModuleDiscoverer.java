@@ -7,8 +7,10 @@
 
 package org.mule.runtime.container.internal;
 
+import static java.lang.System.nanoTime;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.stream.Collectors.toList;
 import static org.mule.runtime.container.internal.JreExplorer.exploreJdk;
 
@@ -18,6 +20,7 @@ import org.mule.runtime.module.artifact.api.classloader.ExportedService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -35,13 +38,43 @@ public class JreModuleDiscoverer implements ModuleDiscoverer {
 
   protected static final String JRE_MODULE_NAME = "jre";
 
+  private final File indexFile;
+
+  /**
+   * Creates a new instance that explores the whole JRE every time the module is discovered.
+   */
+  public JreModuleDiscoverer() {
+    this(null);
+  }
+
+  /**
+   * Creates a new instance that keeps an index of the content of the JRE in the given file, so only the JARs of the JRE that were
+   * modified since the index was written have to be explored again.
+   *
+   * @param indexFile where to persist the index of the JRE content. If null, the JRE is always explored.
+   * @since 4.4.0
+   */
+  public JreModuleDiscoverer(File indexFile) {
+    this.indexFile = indexFile;
+  }
+
   @Override
   public List<MuleModule> discover() {
     Set<String> packages = new HashSet<>(1024);
     Set<String> resources = new HashSet<>(1024);
     List<ExportedService> services = new ArrayList<>(128);
 
-    exploreJdk(packages, resources, services);
+    final long start = nanoTime();
+    if (indexFile != null) {
+      JreExportsIndex index = JreExportsIndex.load(indexFile);
+      exploreJdk(packages, resources, services, index);
+      index.storeIfModified();
+    } else {
+      exploreJdk(packages, resources, services);
+    }
+    if (logger.isDebugEnabled()) {
+      logger.debug("Explored JRE in {} ms", NANOSECONDS.toMillis(nanoTime() - start));
+    }
 
     if (logger.isDebugEnabled()) {
       logger.debug("Discovered JRE:\npackages: {}\nresources: {}\nservices: {}", packages, resources,
@@ -7,20 +7,29 @@
 
 package org.mule.runtime.container.internal;
 
+import static java.lang.System.getProperty;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static org.apache.commons.io.FileUtils.copyFile;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mule.runtime.container.internal.ExportedServiceMatcher.like;
 
 import org.mule.runtime.module.artifact.api.classloader.ExportedService;
 import org.mule.runtime.module.artifact.internal.util.FileJarExplorer;
+import org.mule.runtime.module.artifact.internal.util.JarInfo;
 import org.mule.tck.junit4.AbstractMuleTestCase;
 import org.mule.tck.size.SmallTest;
 import org.mule.tck.util.CompilerUtils;
 
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -51,6 +60,7 @@ public class JreExplorerTestCase extends AbstractMuleTestCase {
   private static final String BAR_RESOURCE = "barResource.txt";
   private static final String BAR_JAR_FILENAME = "bar.jar";
   private static final String RESOURCE_PATH = "/resource.txt";
+  private static final String INDEX_FILENAME = "jre-exports.index";
 
 
   private static File fooJar;
@@ -137,6 +147,93 @@ public class JreExplorerTestCase extends AbstractMuleTestCase {
                                             like(BAR_SERVICE_INTERFACE, getServiceResourceUrl(innerBarJar, BAR_SERVICE_PATH))));
   }
 
+  @Test
+  public void storesExploredJarsInIndex() throws Exception {
+    File libFolder = temporaryFolder.newFolder(LIB_FOLDER);
+    File innerFooJar = new File(libFolder, FOO_JAR_FILENAME);
+    copyFile(fooJar, innerFooJar);
+    File indexFile = new File(temporaryFolder.getRoot(), INDEX_FILENAME);
+
+    JreExportsIndex index = JreExportsIndex.load(indexFile);
+    JreExplorer.explorePaths(singletonList(libFolder.getAbsolutePath()), new HashSet<>(), new HashSet<>(), new ArrayList<>(),
+                             index);
+    index.storeIfModified();
+
+    JarInfo indexedJar = JreExportsIndex.load(indexFile).get(innerFooJar);
+    assertThat(indexedJar.getPackages(), contains(FOO_PACKAGE));
+    assertThat(indexedJar.getResources(), containsInAnyOrder(FOO_RESOURCE, SERVICE_RESOURCE));
+    assertThat(indexedJar.getServices(),
+               contains(like(FOO_SERVICE_INTERFACE, getServiceResourceUrl(innerFooJar, FOO_SERVICE_PATH))));
+  }
+
+  @Test
+  public void readsUnmodifiedJarFromIndex() throws Exception {
+    File libFolder = temporaryFolder.newFolder(LIB_FOLDER);
+    File innerFooJar = new File(libFolder, FOO_JAR_FILENAME);
+    copyFile(fooJar, innerFooJar);
+    File indexFile = new File(temporaryFolder.getRoot(), INDEX_FILENAME);
+
+    // Index contents that differ from the actual ones of the JAR, to verify that the JAR is not explored
+    JreExportsIndex index = JreExportsIndex.load(indexFile);
+    index.put(innerFooJar, new JarInfo(singleton(BAR_PACKAGE), singleton(BAR_RESOURCE), emptyList()));
+    index.storeIfModified();
+
+    Set<String> packages = new HashSet<>();
+    Set<String> resources = new HashSet<>();
+    List<ExportedService> services = new ArrayList<>();
+    JreExplorer.explorePaths(singletonList(libFolder.getAbsolutePath()), packages, resources, services,
+                             JreExportsIndex.load(indexFile));
+
+    assertThat(packages, contains(BAR_PACKAGE));
+    assertThat(resources, contains(BAR_RESOURCE));
+    assertThat(services, is(empty()));
+  }
+
+  @Test
+  public void exploresModifiedJarAgain() throws Exception {
+    File libFolder = temporaryFolder.newFolder(LIB_FOLDER);
+    File innerFooJar = new File(libFolder, FOO_JAR_FILENAME);
+    copyFile(fooJar, innerFooJar);
+    File indexFile = new File(temporaryFolder.getRoot(), INDEX_FILENAME);
+
+    JreExportsIndex index = JreExportsIndex.load(indexFile);
+    index.put(innerFooJar, new JarInfo(singleton(BAR_PACKAGE), singleton(BAR_RESOURCE), emptyList()));
+    index.storeIfModified();
+    assertThat(innerFooJar.setLastModified(innerFooJar.lastModified() - 60000), is(true));
+
+    Set<String> packages = new HashSet<>();
+    Set<String> resources = new HashSet<>();
+    List<ExportedService> services = new ArrayList<>();
+    JreExplorer.explorePaths(singletonList(libFolder.getAbsolutePath()), packages, resources, services,
+                             JreExportsIndex.load(indexFile));
+
+    assertThat(packages, contains(FOO_PACKAGE));
+    assertThat(resources, containsInAnyOrder(FOO_RESOURCE, SERVICE_RESOURCE));
+  }
+
+  @Test
+  public void corruptIndexIgnored() throws Exception {
+    File libFolder = temporaryFolder.newFolder(LIB_FOLDER);
+    File innerFooJar = new File(libFolder, FOO_JAR_FILENAME);
+    copyFile(fooJar, innerFooJar);
+    File indexFile = new File(temporaryFolder.getRoot(), INDEX_FILENAME);
+
+    try (DataOutputStream output = new DataOutputStream(new FileOutputStream(indexFile))) {
+      output.writeInt(1);
+      output.writeUTF(getProperty("java.home") + ":" + getProperty("java.vendor") + ":" + getProperty("java.version"));
+      output.writeInt(1);
+      output.writeUTF(innerFooJar.getAbsolutePath());
+      output.writeLong(innerFooJar.lastModified());
+      output.writeLong(innerFooJar.length());
+      // no packages nor resources, and a negative count of services
+      output.writeInt(0);
+      output.writeInt(0);
+      output.writeInt(-1);
+    }
+
+    assertThat(JreExportsIndex.load(indexFile).get(innerFooJar), is(nullValue()));
+  }
+
   private URL getServiceResourceUrl(File resourceFile, String serviceInterface) throws MalformedURLException {
     return FileJarExplorer.getServiceResourceUrl(resourceFile.toURI().toURL(), serviceInterface);
   }
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.module.deployment.impl.internal.artifact;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.stream.Collectors.toCollection;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.deployment.model.api.plugin.ArtifactPluginDescriptor;
+import org.mule.runtime.deployment.model.api.plugin.LoaderDescriber;
+import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoader;
+import org.mule.runtime.module.artifact.api.descriptor.BundleDescriptor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Container level cache of the {@link ExtensionModel}s discovered for artifact plugins.
+ * <p>
+ * Models obtained through Java introspection reference the classes of the plugin, so they are only reused for the same plugin
+ * {@link ArtifactClassLoader}, which happens when several policy instances of the same policy template share it, and are
+ * discarded when that class loader is disposed. Entries are also keyed by the plugin bundle coordinates, the loader attributes
+ * and the extensions the model was loaded with.
+ *
+ * @since 4.4.0
+ */
+public class ExtensionModelCache {
+
+  private final Map<CacheKey, ExtensionModel> extensionModels = new ConcurrentHashMap<>();
+  private final Set<ClassLoader> trackedClassLoaders = ConcurrentHashMap.newKeySet();
+  private final Map<String, Long> loadTimesMillis = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Returns the {@link ExtensionModel} for the given plugin, loading it through {@code loader} only if it is not already cached.
+   *
+   * @param pluginDescriptor   the descriptor of the plugin.
+   * @param loaderDescriber    the describer the model is loaded with.
+   * @param pluginClassLoader  the class loader of the plugin.
+   * @param dependencies       the extensions the model is loaded with.
+   * @param loader             loads the model if not cached.
+   * @return the model for the plugin.
+   */
+  public ExtensionModel get(ArtifactPluginDescriptor pluginDescriptor, LoaderDescriber loaderDescriber,
+                            ArtifactClassLoader pluginClassLoader, Set<ExtensionModel> dependencies,
+                            Supplier<ExtensionModel> loader) {
+    final ClassLoader classLoader = pluginClassLoader.getClassLoader();
+    final CacheKey key = new CacheKey(classLoader, pluginDescriptor.getBundleDescriptor(), loaderDescriber, dependencies);
+
+    ExtensionModel extensionModel = extensionModels.get(key);
+    if (extensionModel != null) {
+      hits.increment();
+      return extensionModel;
+    }
+
+    misses.increment();
+    extensionModel = loader.get();
+    if (trackedClassLoaders.add(classLoader)) {
+      pluginClassLoader.addShutdownListener(() -> invalidate(classLoader));
+    }
+    extensionModels.put(key, extensionModel);
+    return extensionModel;
+  }
+
+  /**
+   * Records the time it took to load the {@link ExtensionModel} of a plugin.
+   *
+   * @param pluginName the name of the plugin.
+   * @param millis     the time it took to load the model, in milliseconds.
+   */
+  public void loaded(String pluginName, long millis) {
+    loadTimesMillis.put(pluginName, millis);
+  }
+
+  /**
+   * Discards all the models loaded with the given class loader.
+   *
+   * @param classLoader the disposed plugin class loader.
+   */
+  public void invalidate(ClassLoader classLoader) {
+    trackedClassLoaders.remove(classLoader);
+    extensionModels.keySet().removeIf(key -> key.classLoader == classLoader);
+  }
+
+  /**
+   * Discards all the cached models.
+   */
+  public void clear() {
+    trackedClassLoaders.clear();
+    extensionModels.clear();
+  }
+
+  /**
+   * @return how many times a model was reused from this cache.
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * @return how many times a model had to be loaded.
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * @return the time it took to load the model of each plugin the last time it was loaded, in milliseconds.
+   */
+  public Map<String, Long> getLoadTimesMillis() {
+    return unmodifiableMap(loadTimesMillis);
+  }
+
+  @Override
+  public String toString() {
+    return "extensionModels: " + extensionModels.size() + "; hits: " + getHits() + "; misses: " + getMisses();
+  }
+
+  private static final class CacheKey {
+
+    private final ClassLoader classLoader;
+    private final BundleDescriptor bundleDescriptor;
+    private final String loaderId;
+    private final Map<String, Object> attributes;
+    private final Set<String> dependencies;
+    private final int hashCode;
+
+    private CacheKey(ClassLoader classLoader, BundleDescriptor bundleDescriptor, LoaderDescriber loaderDescriber,
+                     Set<ExtensionModel> dependencies) {
+      this.classLoader = classLoader;
+      this.bundleDescriptor = bundleDescriptor;
+      this.loaderId = loaderDescriber.getId();
+      this.attributes = new HashMap<>(loaderDescriber.getAttributes());
+      this.dependencies = dependencies.stream()
+          .map(extensionModel -> extensionModel.getName() + ":" + extensionModel.getVersion())
+          .collect(toCollection(TreeSet::new));
+      this.hashCode = Objects.hash(System.identityHashCode(classLoader), bundleDescriptor, loaderId, attributes,
+                                   this.dependencies);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof CacheKey)) {
+        return false;
+      }
+      CacheKey other = (CacheKey) o;
+      return classLoader == other.classLoader
+          && Objects.equals(bundleDescriptor, other.bundleDescriptor)
+          && loaderId.equals(other.loaderId)
+          && Objects.equals(attributes, other.attributes)
+          && dependencies.equals(other.dependencies);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
@@ -8,8 +8,12 @@
 package org.mule.runtime.module.deployment.impl.internal.artifact;
 
 import static java.lang.String.format;
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.stream.Collectors.toSet;
 import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+import static org.slf4j.LoggerFactory.getLogger;
+
 import org.mule.runtime.api.deployment.meta.MulePluginModel;
 import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.api.util.Pair;
@@ -30,6 +34,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import org.slf4j.Logger;
+
 /**
  * Discover the {@link ExtensionModel} based on the {@link ExtensionModelLoader} type.
  *
@@ -37,6 +43,27 @@ import java.util.Set;
  */
 public class ExtensionModelDiscoverer {
 
+  private static final Logger LOGGER = getLogger(ExtensionModelDiscoverer.class);
+
+  private final ExtensionModelCache extensionModelCache;
+
+  /**
+   * Creates a discoverer that always loads the {@link ExtensionModel}s of the plugins.
+   */
+  public ExtensionModelDiscoverer() {
+    this(null);
+  }
+
+  /**
+   * Creates a discoverer that reuses the {@link ExtensionModel}s of the plugins from the given cache, if available.
+   *
+   * @param extensionModelCache the cache to reuse models from. May be null.
+   * @since 4.4.0
+   */
+  public ExtensionModelDiscoverer(ExtensionModelCache extensionModelCache) {
+    this.extensionModelCache = extensionModelCache;
+  }
+
   /**
    * For each artifactPlugin discovers the {@link ExtensionModel}.
    *
@@ -70,12 +97,17 @@ public class ExtensionModelDiscoverer {
       extensions.addAll(parentArtifactExtensions);
       final ArtifactPluginDescriptor artifactPluginDescriptor = artifactPlugin.getFirst();
       Optional<LoaderDescriber> loaderDescriber = artifactPluginDescriptor.getExtensionModelDescriptorProperty();
-      ClassLoader artifactClassloader = artifactPlugin.getSecond().getClassLoader();
+      ArtifactClassLoader artifactClassloader = artifactPlugin.getSecond();
       String artifactName = artifactPluginDescriptor.getName();
       ExtensionModel extension = loaderDescriber
-          .map(describer -> discoverExtensionThroughJsonDescriber(loaderRepository, describer,
-                                                                  extensions, artifactClassloader,
-                                                                  artifactName))
+          .map(describer -> {
+            if (extensionModelCache == null) {
+              return timedDiscoverExtension(loaderRepository, describer, extensions, artifactClassloader, artifactName);
+            }
+            return extensionModelCache.get(artifactPluginDescriptor, describer, artifactClassloader, extensions,
+                                           () -> timedDiscoverExtension(loaderRepository, describer, extensions,
+                                                                        artifactClassloader, artifactName));
+          })
           .orElse(null);
       if (extension != null) {
         descriptorsWithExtensions.add(new Pair<>(artifactPluginDescriptor, extension));
@@ -84,6 +116,22 @@ public class ExtensionModelDiscoverer {
     return descriptorsWithExtensions;
   }
 
+  private ExtensionModel timedDiscoverExtension(ExtensionModelLoaderRepository loaderRepository, LoaderDescriber describer,
+                                                Set<ExtensionModel> extensions, ArtifactClassLoader artifactClassloader,
+                                                String artifactName) {
+    final long start = nanoTime();
+    ExtensionModel extensionModel = discoverExtensionThroughJsonDescriber(loaderRepository, describer, extensions,
+                                                                          artifactClassloader.getClassLoader(), artifactName);
+    final long millis = NANOSECONDS.toMillis(nanoTime() - start);
+    if (extensionModelCache != null) {
+      extensionModelCache.loaded(artifactName, millis);
+    }
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("ExtensionModel for plugin '{}' loaded in {} ms", artifactName, millis);
+    }
+    return extensionModel;
+  }
+
   /**
    * Discover the extension models provided by the runtime.
    *
@@ -8,21 +8,26 @@
 package org.mule.runtime.module.deployment.impl.internal.plugin;
 
 import static com.google.common.collect.Maps.newHashMap;
+import static java.lang.Boolean.getBoolean;
 import static java.lang.String.format;
 import static java.lang.System.lineSeparator;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
+import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.joining;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.api.util.Preconditions.checkNotNull;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.core.api.registry.SpiServiceRegistry;
 import org.mule.runtime.deployment.model.api.plugin.LoaderDescriber;
 import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
 import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoader;
+import org.mule.runtime.module.deployment.impl.internal.artifact.ExtensionModelCache;
 import org.mule.runtime.module.extension.internal.loader.ExtensionModelLoaderManager;
 
 import java.util.Collection;
@@ -41,10 +46,22 @@ import org.slf4j.LoggerFactory;
  */
 public class MuleExtensionModelLoaderManager implements ExtensionModelLoaderManager {
 
+  /**
+   * Enables the reuse of the {@link org.mule.runtime.api.meta.model.ExtensionModel}s of plugins whose class loader was already
+   * used to load them. This only happens when several policy instances of the same policy template share the class loader of a
+   * plugin. Redeploying or restarting an artifact creates new plugin class loaders, so their models are loaded again, and models
+   * are neither shared across applications nor persisted.
+   *
+   * @since 4.4.0
+   */
+  public static final String EXTENSION_MODEL_CACHE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "extensionModel.cache";
+
   protected final Logger logger = LoggerFactory.getLogger(this.getClass());
 
   private final ArtifactClassLoader containerClassLoader;
   private final Map<String, ExtensionModelLoader> extensionModelLoaders = newHashMap();
+  private final ExtensionModelCache extensionModelCache =
+      getBoolean(EXTENSION_MODEL_CACHE_PROPERTY) ? new ExtensionModelCache() : null;
 
   /**
    * Creates an instance of the manager.
@@ -105,6 +122,13 @@ public class MuleExtensionModelLoaderManager implements ExtensionModelLoaderMana
   @Override
   public void stop() throws MuleException {
     extensionModelLoaders.clear();
+    if (extensionModelCache != null) {
+      if (logger.isDebugEnabled()) {
+        logger.debug("ExtensionModel cache: {}. Load times (ms): {}", extensionModelCache,
+                     extensionModelCache.getLoadTimesMillis());
+      }
+      extensionModelCache.clear();
+    }
   }
 
   @Override
@@ -113,6 +137,15 @@ public class MuleExtensionModelLoaderManager implements ExtensionModelLoaderMana
         : empty();
   }
 
+  /**
+   * @return the cache of the {@link org.mule.runtime.api.meta.model.ExtensionModel}s discovered for artifact plugins, if
+   *         enabled.
+   * @since 4.4.0
+   */
+  public Optional<ExtensionModelCache> getExtensionModelCache() {
+    return ofNullable(extensionModelCache);
+  }
+
   private String printExtensionModelLoaderIDs() {
     return extensionModelLoaders.keySet().stream().collect(joining(", "));
   }
@@ -17,6 +17,7 @@ import org.mule.runtime.deployment.model.api.plugin.ArtifactPlugin;
 import org.mule.runtime.deployment.model.api.plugin.ArtifactPluginDescriptor;
 import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoader;
 import org.mule.runtime.module.deployment.impl.internal.artifact.ExtensionModelDiscoverer;
+import org.mule.runtime.module.deployment.impl.internal.plugin.MuleExtensionModelLoaderManager;
 import org.mule.runtime.module.extension.api.manager.ExtensionManagerFactory;
 import org.mule.runtime.module.extension.internal.loader.ExtensionModelLoaderRepository;
 
@@ -50,7 +51,11 @@ public class ArtifactExtensionManagerFactory implements ExtensionManagerFactory
         .add(new Pair<>(artifactPlugin.getDescriptor(), artifactPlugin.getArtifactClassLoader())));
     this.extensionModelLoaderRepository = extensionModelLoaderRepository;
     this.extensionManagerFactory = extensionManagerFactory;
-    this.extensionModelDiscoverer = new ExtensionModelDiscoverer();
+    // The discovered extension models may be reused from the container, if it keeps them
+    this.extensionModelDiscoverer = extensionModelLoaderRepository instanceof MuleExtensionModelLoaderManager
+        ? new ExtensionModelDiscoverer(((MuleExtensionModelLoaderManager) extensionModelLoaderRepository)
+            .getExtensionModelCache().orElse(null))
+        : new ExtensionModelDiscoverer();
   }
 
   /**
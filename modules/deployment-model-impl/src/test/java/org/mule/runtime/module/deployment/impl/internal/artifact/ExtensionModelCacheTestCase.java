@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.module.deployment.impl.internal.artifact;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.deployment.model.api.plugin.ArtifactPluginDescriptor;
+import org.mule.runtime.deployment.model.api.plugin.LoaderDescriber;
+import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoader;
+import org.mule.runtime.module.artifact.api.classloader.ShutdownListener;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+@SmallTest
+public class ExtensionModelCacheTestCase extends AbstractMuleTestCase {
+
+  private final ExtensionModelCache cache = new ExtensionModelCache();
+  private final ArtifactPluginDescriptor pluginDescriptor = new ArtifactPluginDescriptor("plugin");
+  private final AtomicInteger loads = new AtomicInteger();
+  private final Supplier<ExtensionModel> loader = () -> {
+    loads.incrementAndGet();
+    return mock(ExtensionModel.class);
+  };
+
+  private LoaderDescriber loaderDescriber;
+  private ArtifactClassLoader pluginClassLoader;
+
+  @Before
+  public void before() {
+    loaderDescriber = new LoaderDescriber("java");
+    loaderDescriber.addAttributes(singletonMap("type", "org.foo.FooExtension"));
+    pluginClassLoader = createPluginClassLoader();
+  }
+
+  @Test
+  public void reusedForSameClassLoader() {
+    ExtensionModel first = cache.get(pluginDescriptor, loaderDescriber, pluginClassLoader, emptySet(), loader);
+    ExtensionModel second = cache.get(pluginDescriptor, loaderDescriber, pluginClassLoader, emptySet(), loader);
+
+    assertThat(second, is(sameInstance(first)));
+    assertThat(loads.get(), is(1));
+    assertThat(cache.getHits(), is(1L));
+    assertThat(cache.getMisses(), is(1L));
+    verify(pluginClassLoader, times(1)).addShutdownListener(any());
+  }
+
+  @Test
+  public void loadedAgainForDifferentClassLoader() {
+    cache.get(pluginDescriptor, loaderDescriber, pluginClassLoader, emptySet(), loader);
+    cache.get(pluginDescriptor, loaderDescriber, createPluginClassLoader(), emptySet(), loader);
+
+    assertThat(loads.get(), is(2));
+  }
+
+  @Test
+  public void loadedAgainForDifferentAttributes() {
+    cache.get(pluginDescriptor, loaderDescriber, pluginClassLoader, emptySet(), loader);
+
+    LoaderDescriber otherDescriber = new LoaderDescriber("java");
+    otherDescriber.addAttributes(singletonMap("type", "org.foo.BarExtension"));
+    cache.get(pluginDescriptor, otherDescriber, pluginClassLoader, emptySet(), loader);
+
+    assertThat(loads.get(), is(2));
+  }
+
+  @Test
+  public void invalidatedOnClassLoaderShutdown() {
+    cache.get(pluginDescriptor, loaderDescriber, pluginClassLoader, emptySet(), loader);
+
+    ArgumentCaptor<ShutdownListener> shutdownListener = ArgumentCaptor.forClass(ShutdownListener.class);
+    verify(pluginClassLoader).addShutdownListener(shutdownListener.capture());
+    shutdownListener.getValue().execute();
+
+    cache.get(pluginDescriptor, loaderDescriber, pluginClassLoader, emptySet(), loader);
+    assertThat(loads.get(), is(2));
+  }
+
+  @Test
+  public void loadTimes() {
+    cache.loaded("plugin", 42);
+    assertThat(cache.getLoadTimesMillis().get("plugin"), is(42L));
+  }
+
+  private ArtifactClassLoader createPluginClassLoader() {
+    ArtifactClassLoader artifactClassLoader = mock(ArtifactClassLoader.class);
+    when(artifactClassLoader.getClassLoader()).thenReturn(new URLClassLoader(new URL[0]));
+    return artifactClassLoader;
+  }
+}
@@ -21,12 +21,14 @@ import org.mule.runtime.api.meta.model.construct.ConstructModel;
 import org.mule.runtime.api.meta.model.operation.OperationModel;
 import org.mule.runtime.api.meta.model.source.SourceModel;
 import org.mule.runtime.api.meta.model.util.IdempotentExtensionWalker;
+import org.mule.runtime.api.util.LazyValue;
 import org.mule.runtime.extension.api.dsl.syntax.resources.spi.ExtensionSchemaGenerator;
 import org.mule.runtime.module.extension.internal.capability.xml.schema.builder.SchemaBuilder;
 import org.mule.runtime.module.extension.internal.capability.xml.schema.model.NamespaceFilter;
 import org.mule.runtime.module.extension.internal.capability.xml.schema.model.Schema;
 
 import java.io.StringWriter;
+import java.util.Optional;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -45,6 +47,33 @@ import org.dom4j.io.XMLWriter;
  */
 public class DefaultExtensionSchemaGenerator implements ExtensionSchemaGenerator {
 
+  // JAXB contexts are thread safe and expensive to create, so a single one is used for all the generated schemas
+  private static final LazyValue<JAXBContext> JAXB_CONTEXT = new LazyValue<>(() -> {
+    try {
+      return JAXBContext.newInstance(Schema.class);
+    } catch (JAXBException e) {
+      throw new RuntimeException(e);
+    }
+  });
+
+  private final Optional<ExtensionSchemaCache> schemaCache;
+
+  /**
+   * Creates a generator that uses the {@link ExtensionSchemaCache#getContainerCache() container cache}, if enabled.
+   */
+  public DefaultExtensionSchemaGenerator() {
+    this(ExtensionSchemaCache.getContainerCache());
+  }
+
+  /**
+   * @param schemaCache the cache to reuse the schemas from, if any.
+   *
+   * @since 4.4.0
+   */
+  public DefaultExtensionSchemaGenerator(Optional<ExtensionSchemaCache> schemaCache) {
+    this.schemaCache = schemaCache;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -53,6 +82,13 @@ public class DefaultExtensionSchemaGenerator implements ExtensionSchemaGenerator
     XmlDslModel xmlDslModel = extensionModel.getXmlDslModel();
     validate(extensionModel, xmlDslModel);
 
+    return schemaCache
+        .map(cache -> cache.get(extensionModel, dslContext, () -> doGenerate(extensionModel, xmlDslModel, dslContext)))
+        .orElseGet(() -> doGenerate(extensionModel, xmlDslModel, dslContext));
+  }
+
+  private String doGenerate(ExtensionModel extensionModel, XmlDslModel xmlDslModel, DslResolvingContext dslContext) {
+
     SchemaBuilder schemaBuilder = SchemaBuilder.newSchema(extensionModel, xmlDslModel, dslContext);
 
     new IdempotentExtensionWalker() {
@@ -98,8 +134,7 @@ public class DefaultExtensionSchemaGenerator implements ExtensionSchemaGenerator
 
   private String renderSchema(Schema schema) {
     try {
-      JAXBContext jaxbContext = JAXBContext.newInstance(Schema.class);
-      Marshaller marshaller = jaxbContext.createMarshaller();
+      Marshaller marshaller = JAXB_CONTEXT.get().createMarshaller();
       NamespaceFilter outFilter = new NamespaceFilter(CORE_PREFIX, CORE_NAMESPACE, true);
       OutputFormat format = new OutputFormat();
       format.setIndent(true);
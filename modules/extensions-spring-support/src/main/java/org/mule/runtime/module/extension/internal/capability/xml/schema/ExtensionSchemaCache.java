@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.capability.xml.schema;
+
+import static java.lang.Boolean.getBoolean;
+import static java.lang.String.format;
+import static java.lang.System.getProperty;
+import static java.lang.System.nanoTime;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.createTempFile;
+import static java.nio.file.Files.deleteIfExists;
+import static java.nio.file.Files.isRegularFile;
+import static java.nio.file.Files.move;
+import static java.nio.file.Files.readAllBytes;
+import static java.nio.file.Files.write;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.stream.Collectors.joining;
+import static org.mule.runtime.core.api.config.MuleManifest.getProductVersion;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+
+import org.mule.runtime.api.dsl.DslResolvingContext;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.XmlDslModel;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of the XSD schemas generated for the extensions, shared by all the artifacts deployed in the container.
+ * <p>
+ * The schema of an extension only depends on its model, on the extensions it may import types from and on the runtime that
+ * generates it, so schemas are keyed by the name, version and vendor of the extension, its {@link XmlDslModel}, the name and
+ * version of the extensions in the {@link DslResolvingContext} and the version of the runtime. Optionally, schemas are also
+ * stored in a directory so they can be reused after a restart of the container.
+ * <p>
+ * Schemas of {@code SNAPSHOT} versions are never cached, since their models may change without their versions doing so.
+ *
+ * @since 4.4.0
+ */
+public class ExtensionSchemaCache {
+
+  /**
+   * Enables the container level cache of the schemas generated for the extensions.
+   */
+  public static final String SCHEMA_CACHE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "extensionSchemas.cache";
+
+  /**
+   * The directory where the generated schemas are stored so they survive restarts of the container. Setting it also enables the
+   * cache.
+   */
+  public static final String SCHEMA_CACHE_DIRECTORY_PROPERTY = SCHEMA_CACHE_PROPERTY + ".directory";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ExtensionSchemaCache.class);
+
+  private static final String SNAPSHOT_SUFFIX = "-SNAPSHOT";
+  private static final String SCHEMA_FILE_EXTENSION = ".xsd";
+
+  private static volatile ExtensionSchemaCache containerCache;
+
+  private final Path directory;
+  private final Map<String, String> schemas = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder diskHits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder generationTimeNanos = new LongAdder();
+
+  /**
+   * Creates a cache that only keeps the schemas in memory.
+   */
+  public ExtensionSchemaCache() {
+    this(null);
+  }
+
+  /**
+   * @param directory where to store the generated schemas, or {@code null} to only keep them in memory.
+   */
+  public ExtensionSchemaCache(Path directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * @return the cache shared by all the artifacts of the container, if enabled through {@link #SCHEMA_CACHE_PROPERTY} or
+   *         {@link #SCHEMA_CACHE_DIRECTORY_PROPERTY}.
+   */
+  public static Optional<ExtensionSchemaCache> getContainerCache() {
+    final String directory = getProperty(SCHEMA_CACHE_DIRECTORY_PROPERTY);
+    if (directory == null && !getBoolean(SCHEMA_CACHE_PROPERTY)) {
+      return empty();
+    }
+
+    if (containerCache == null) {
+      synchronized (ExtensionSchemaCache.class) {
+        if (containerCache == null) {
+          containerCache = new ExtensionSchemaCache(directory == null ? null : Paths.get(directory));
+        }
+      }
+    }
+    return of(containerCache);
+  }
+
+  /**
+   * Returns the schema of the given extension, generating it through {@code generator} only if it is not already cached.
+   *
+   * @param extensionModel the extension to get the schema for.
+   * @param dslContext     the context the schema is generated with.
+   * @param generator      generates the schema if not cached.
+   * @return the schema of the extension.
+   */
+  public String get(ExtensionModel extensionModel, DslResolvingContext dslContext, Supplier<String> generator) {
+    if (isSnapshot(extensionModel)) {
+      misses.increment();
+      return generate(generator);
+    }
+
+    final String key = createKey(extensionModel, dslContext);
+    String schema = schemas.get(key);
+    if (schema != null) {
+      hits.increment();
+      return schema;
+    }
+
+    final Path schemaFile = directory != null ? directory.resolve(createFileName(extensionModel, key)) : null;
+    schema = readSchema(schemaFile);
+    if (schema != null) {
+      diskHits.increment();
+    } else {
+      misses.increment();
+      schema = generate(generator);
+      writeSchema(schemaFile, schema);
+    }
+
+    final String previous = schemas.putIfAbsent(key, schema);
+    return previous != null ? previous : schema;
+  }
+
+  /**
+   * Discards all the schemas cached in memory.
+   */
+  public void clear() {
+    schemas.clear();
+  }
+
+  /**
+   * @return how many times a schema was reused from memory.
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * @return how many times a schema was read from the cache directory instead of being generated.
+   */
+  public long getDiskHits() {
+    return diskHits.sum();
+  }
+
+  /**
+   * @return how many times a schema had to be generated, including the ones for {@code SNAPSHOT} versions.
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * @return the total time spent generating schemas, in milliseconds.
+   */
+  public long getGenerationTimeMillis() {
+    return NANOSECONDS.toMillis(generationTimeNanos.sum());
+  }
+
+  @Override
+  public String toString() {
+    return "schemas: " + schemas.size() + "; hits: " + getHits() + "; diskHits: " + getDiskHits() + "; misses: " + getMisses()
+        + "; generationTimeMillis: " + getGenerationTimeMillis();
+  }
+
+  private String generate(Supplier<String> generator) {
+    final long start = nanoTime();
+    try {
+      return generator.get();
+    } finally {
+      generationTimeNanos.add(nanoTime() - start);
+    }
+  }
+
+  private boolean isSnapshot(ExtensionModel extensionModel) {
+    return extensionModel.getVersion() == null || extensionModel.getVersion().endsWith(SNAPSHOT_SUFFIX);
+  }
+
+  private String createKey(ExtensionModel extensionModel, DslResolvingContext dslContext) {
+    final XmlDslModel xmlDslModel = extensionModel.getXmlDslModel();
+    final String dependencies = dslContext.getExtensions().stream()
+        .map(dependency -> dependency.getName() + ":" + dependency.getVersion())
+        .sorted()
+        .collect(joining(","));
+
+    // Schemas stored on disk may have been generated by a runtime that generates them differently
+    return getProductVersion() + "|"
+        + extensionModel.getName() + ":" + extensionModel.getVersion() + ":" + extensionModel.getVendor() + "|"
+        + xmlDslModel.getPrefix() + ":" + xmlDslModel.getNamespace() + ":" + xmlDslModel.getSchemaLocation() + "|"
+        + dependencies;
+  }
+
+  private String createFileName(ExtensionModel extensionModel, String key) {
+    final String name = (extensionModel.getName() + "-" + extensionModel.getVersion()).replaceAll("[^a-zA-Z0-9._-]", "_");
+    return name + "-" + digest(key) + SCHEMA_FILE_EXTENSION;
+  }
+
+  private String digest(String key) {
+    try {
+      final byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(UTF_8));
+      return format("%064x", new BigInteger(1, digest));
+    } catch (NoSuchAlgorithmException e) {
+      // SHA-256 is required to be supported by every Java platform
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private String readSchema(Path schemaFile) {
+    if (schemaFile == null || !isRegularFile(schemaFile)) {
+      return null;
+    }
+
+    try {
+      return new String(readAllBytes(schemaFile), UTF_8);
+    } catch (IOException e) {
+      LOGGER.warn("Could not read cached schema '{}', it will be generated again: {}", schemaFile, e.getMessage());
+      return null;
+    }
+  }
+
+  private void writeSchema(Path schemaFile, String schema) {
+    if (schemaFile == null) {
+      return;
+    }
+
+    Path tempFile = null;
+    try {
+      createDirectories(directory);
+      // Other containers may share the directory, so the file is written aside and then moved to make it visible atomically
+      tempFile = createTempFile(directory, "schema", SCHEMA_FILE_EXTENSION + ".tmp");
+      write(tempFile, schema.getBytes(UTF_8));
+      move(tempFile, schemaFile, ATOMIC_MOVE, REPLACE_EXISTING);
+      tempFile = null;
+    } catch (IOException e) {
+      LOGGER.warn("Could not store schema '{}' in the cache directory: {}", schemaFile, e.getMessage());
+    } finally {
+      if (tempFile != null) {
+        try {
+          deleteIfExists(tempFile);
+        } catch (IOException e) {
+          LOGGER.debug("Could not delete temporary schema file '{}'", tempFile, e);
+        }
+      }
+    }
+  }
+}
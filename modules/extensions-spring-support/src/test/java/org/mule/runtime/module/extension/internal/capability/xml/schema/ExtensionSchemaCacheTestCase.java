@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.capability.xml.schema;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.api.dsl.DslResolvingContext;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.XmlDslModel;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@SmallTest
+public class ExtensionSchemaCacheTestCase extends AbstractMuleTestCase {
+
+  private static final String SCHEMA = "<xs:schema/>";
+
+  @Rule
+  public TemporaryFolder cacheDirectory = new TemporaryFolder();
+
+  private final AtomicInteger generations = new AtomicInteger();
+  private final Supplier<String> generator = () -> {
+    generations.incrementAndGet();
+    return SCHEMA;
+  };
+
+  private DslResolvingContext dslContext;
+
+  @Before
+  public void before() {
+    dslContext = mock(DslResolvingContext.class);
+    when(dslContext.getExtensions()).thenReturn(emptySet());
+  }
+
+  @Test
+  public void reusedForSameVersion() {
+    ExtensionSchemaCache cache = new ExtensionSchemaCache();
+    ExtensionModel extensionModel = mockExtensionModel("heisenberg", "1.0.0");
+
+    assertThat(cache.get(extensionModel, dslContext, generator), is(SCHEMA));
+    assertThat(cache.get(extensionModel, dslContext, generator), is(SCHEMA));
+
+    assertThat(generations.get(), is(1));
+    assertThat(cache.getHits(), is(1L));
+    assertThat(cache.getMisses(), is(1L));
+  }
+
+  @Test
+  public void generatedAgainForDifferentVersion() {
+    ExtensionSchemaCache cache = new ExtensionSchemaCache();
+
+    cache.get(mockExtensionModel("heisenberg", "1.0.0"), dslContext, generator);
+    cache.get(mockExtensionModel("heisenberg", "1.1.0"), dslContext, generator);
+
+    assertThat(generations.get(), is(2));
+  }
+
+  @Test
+  public void generatedAgainForDifferentDependencies() {
+    ExtensionSchemaCache cache = new ExtensionSchemaCache();
+    ExtensionModel extensionModel = mockExtensionModel("heisenberg", "1.0.0");
+
+    cache.get(extensionModel, dslContext, generator);
+
+    DslResolvingContext otherDslContext = mock(DslResolvingContext.class);
+    ExtensionModel dependency = mockExtensionModel("vegan", "1.0.0");
+    when(otherDslContext.getExtensions()).thenReturn(singleton(dependency));
+    cache.get(extensionModel, otherDslContext, generator);
+
+    assertThat(generations.get(), is(2));
+  }
+
+  @Test
+  public void snapshotsNotCached() {
+    ExtensionSchemaCache cache = new ExtensionSchemaCache();
+    ExtensionModel extensionModel = mockExtensionModel("heisenberg", "1.0.0-SNAPSHOT");
+
+    cache.get(extensionModel, dslContext, generator);
+    cache.get(extensionModel, dslContext, generator);
+
+    assertThat(generations.get(), is(2));
+    assertThat(cache.getHits(), is(0L));
+  }
+
+  @Test
+  public void reusedFromDirectory() throws Exception {
+    ExtensionModel extensionModel = mockExtensionModel("heisenberg", "1.0.0");
+    new ExtensionSchemaCache(cacheDirectory.getRoot().toPath()).get(extensionModel, dslContext, generator);
+
+    ExtensionSchemaCache restartedCache = new ExtensionSchemaCache(cacheDirectory.getRoot().toPath());
+    assertThat(restartedCache.get(extensionModel, dslContext, generator), is(SCHEMA));
+
+    assertThat(generations.get(), is(1));
+    assertThat(restartedCache.getDiskHits(), is(1L));
+    assertThat(restartedCache.getMisses(), is(0L));
+  }
+
+  private ExtensionModel mockExtensionModel(String name, String version) {
+    ExtensionModel extensionModel = mock(ExtensionModel.class);
+    when(extensionModel.getName()).thenReturn(name);
+    when(extensionModel.getVersion()).thenReturn(version);
+    when(extensionModel.getVendor()).thenReturn("Mulesoft");
+    when(extensionModel.getXmlDslModel()).thenReturn(XmlDslModel.builder()
+        .setPrefix(name)
+        .setNamespace("http://www.mulesoft.org/schema/mule/" + name)
+        .setSchemaLocation("http://www.mulesoft.org/schema/mule/" + name + "/current/mule-" + name + ".xsd")
+        .build());
+    return extensionModel;
+  }
+}
@@ -19,6 +19,8 @@ import org.mule.functional.api.flow.FlowRunner;
 import org.mule.runtime.api.streaming.object.CursorIteratorProvider;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.streaming.iterator.ConsumerStreamingIterator;
+import org.mule.runtime.core.internal.streaming.ManagedCursorProvider;
+import org.mule.runtime.core.internal.streaming.object.FileStoreCursorIteratorProvider;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -114,6 +116,18 @@ public class ObjectStreamingExtensionTestCase extends AbstractStreamingExtension
     streamingIterator.next();
   }
 
+  @Test
+  @Description("Operation is configured to overflow the repeatable stream to disk")
+  public void operationWithFileStoreStreaming() throws Exception {
+    Object stream = getObjectStream("getStreamWithFileStore", true);
+    assertThat(stream, is(instanceOf(ManagedCursorProvider.class)));
+    assertThat(((ManagedCursorProvider) stream).getDelegate(), is(instanceOf(FileStoreCursorIteratorProvider.class)));
+
+    CursorIteratorProvider provider = (CursorIteratorProvider) stream;
+    assertThat(IteratorUtils.toList(provider.openCursor()), equalTo(data));
+    assertThat(IteratorUtils.toList(provider.openCursor()), equalTo(data));
+  }
+
   @Test
   @Description("Consume a stream generated in a transaction")
   public void getStreamInTx() throws Exception {
@@ -42,6 +42,14 @@ public class ExtensionProperties {
    */
   public static final String BACK_PRESSURE_ACTION_CONTEXT_PARAM = PROPERTY_PREFIX + "BACK_PRESSURE_ACTION_CONTEXT_PARAM";
 
+  /**
+   * The key of a source callback context variable which holds the limit of events in flight the source had when the event was
+   * dispatched, if adaptive admission control is enabled
+   *
+   * @since 4.4.0
+   */
+  public static final String ADMISSION_LIMIT_CONTEXT_PARAM = PROPERTY_PREFIX + "ADMISSION_LIMIT_CONTEXT_PARAM";
+
   /**
    * The name of a parameter that allows configuring the mimeType that should be applied
    */
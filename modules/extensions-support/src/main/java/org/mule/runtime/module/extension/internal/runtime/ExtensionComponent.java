@@ -122,6 +122,8 @@ public abstract class ExtensionComponent<T extends ComponentModel> extends Abstr
   private final ValueProviderMediator<T> valueProviderMediator;
   private final ClassTypeLoader typeLoader;
   private final LazyValue<Boolean> requiresConfig = new LazyValue<>(this::computeRequiresConfig);
+  // The configuration of the component doesn't change, so neither does the id of its metadata cache
+  private final LazyValue<MetadataCacheId> metadataCacheId = new LazyValue<>(this::computeMetadataCacheId);
 
   protected final ExtensionManager extensionManager;
   protected final ClassLoader classLoader;
@@ -399,7 +401,7 @@ public abstract class ExtensionComponent<T extends ComponentModel> extends Abstr
       throws MetadataResolvingException, ConnectionException {
     MetadataContext context = null;
     try {
-      MetadataCacheId cacheId = getMetadataCacheId();
+      MetadataCacheId cacheId = metadataCacheId.get();
       MetadataCache metadataCache = metadataService.getMetadataCache(cacheId.getValue());
       context = withContextClassLoader(classLoader, () -> getMetadataContext(metadataCache));
       MetadataResult<R> result = contextConsumer.apply(context);
@@ -424,7 +426,7 @@ public abstract class ExtensionComponent<T extends ComponentModel> extends Abstr
     }
   }
 
-  private MetadataCacheId getMetadataCacheId() {
+  private MetadataCacheId computeMetadataCacheId() {
     return cacheIdGenerator.getIdForGlobalMetadata((ComponentAst) this.getAnnotation(ANNOTATION_COMPONENT_CONFIG))
         .map(id -> {
           if (LOGGER.isDebugEnabled()) {
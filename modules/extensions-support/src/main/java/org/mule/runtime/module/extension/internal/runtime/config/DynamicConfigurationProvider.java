@@ -6,10 +6,12 @@
  */
 package org.mule.runtime.module.extension.internal.runtime.config;
 
+import static java.lang.Boolean.getBoolean;
 import static java.util.Optional.ofNullable;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.api.util.collection.Collectors.toImmutableList;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.assertNotStopping;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
@@ -17,6 +19,7 @@ import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
 import static org.mule.runtime.core.api.util.ClassUtils.withContextClassLoader;
 import static org.mule.runtime.extension.api.values.ValueResolvingException.UNKNOWN;
+import static org.mule.runtime.module.extension.internal.runtime.resolver.ResolverUtils.resolveRecursively;
 import static org.mule.runtime.module.extension.internal.value.ValueProviderUtils.valuesWithClassLoader;
 import static org.slf4j.LoggerFactory.getLogger;
 
@@ -36,6 +39,7 @@ import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.el.ExpressionManager;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.extension.ExtensionManager;
+import org.mule.runtime.core.api.util.func.CheckedFunction;
 import org.mule.runtime.extension.api.runtime.ExpirationPolicy;
 import org.mule.runtime.extension.api.runtime.config.ConfigurationInstance;
 import org.mule.runtime.extension.api.runtime.config.ConfigurationProvider;
@@ -51,6 +55,8 @@ import org.mule.runtime.module.extension.internal.runtime.resolver.ValueResolvin
 import org.mule.runtime.module.extension.internal.util.ReflectionCache;
 import org.mule.runtime.module.extension.internal.value.ValueProviderMediator;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -59,6 +65,7 @@ import java.util.Set;
 import org.slf4j.Logger;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 
 /**
  * A {@link ConfigurationProvider} which continuously evaluates the same {@link ResolverSet} and then uses the resulting
@@ -68,6 +75,10 @@ import com.github.benmanes.caffeine.cache.Caffeine;
  * {@link #resolverSet#resolve(Object)}, the resulting {@link ResolverSetResult} might not end up generating a new instance. This
  * is so because {@link ResolverSetResult} instances are put in a cache to guarantee that equivalent evaluations of the
  * {@code resolverSet} return the same instance.
+ * <p>
+ * When {@link #DYNAMIC_PARAMETERS_KEY_PROPERTY} is enabled, only the dynamic parameters of the config and its connection
+ * provider are evaluated to look for an existing instance, and the whole {@link ResolverSet} is only evaluated when a new
+ * instance has to be created.
  *
  * @since 4.0.0
  */
@@ -76,12 +87,23 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
 
   private static final Logger LOGGER = getLogger(DynamicConfigurationProvider.class);
 
+  /**
+   * Whether instances are looked up by the values of the dynamic parameters only, instead of by the values of all the
+   * parameters, which have to be evaluated and compared for every event.
+   *
+   * @since 4.4.0
+   */
+  public static final String DYNAMIC_PARAMETERS_KEY_PROPERTY = SYSTEM_PROPERTY_PREFIX + "dynamicConfig.dynamicParametersKey";
+
   private final ConfigurationInstanceFactory configurationInstanceFactory;
   private final ResolverSet resolverSet;
   private final ConnectionProviderValueResolver connectionProviderResolver;
   private final ExpirationPolicy expirationPolicy;
 
-  private final com.github.benmanes.caffeine.cache.LoadingCache<ResolverResultAndEvent, ConfigurationInstance> cache;
+  private final com.github.benmanes.caffeine.cache.LoadingCache<Object, ConfigurationInstance> cache;
+  private final DynamicConfigurationStatistics statistics;
+  private final boolean dynamicParametersKey;
+  private List<ValueResolver<?>> dynamicResolvers;
   private final ReflectionCache reflectionCache;
   private final ExpressionManager expressionManager;
   private final ExtensionManager extensionManager;
@@ -118,11 +140,22 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
     this.expirationPolicy = expirationPolicy;
     this.extensionManager = muleContext.getExtensionManager();
 
+    this.dynamicParametersKey = getBoolean(DYNAMIC_PARAMETERS_KEY_PROPERTY);
+
     cache = Caffeine.newBuilder().expireAfterAccess(expirationPolicy.getMaxIdleTime(), expirationPolicy.getTimeUnit())
-        .removalListener((key, value, cause) -> extensionManager
-            .disposeConfiguration(((ResolverResultAndEvent) key).getResolverSetResult().toString(),
-                                  (ConfigurationInstance) value))
-        .build(key -> createConfiguration(key.getResolverSetResult(), key.getEvent()));
+        .removalListener(this::onRemoval)
+        .build(key -> {
+          ResolverResultAndEvent resolverResultAndEvent = (ResolverResultAndEvent) key;
+          return createConfiguration(resolverResultAndEvent.getResolverSetResult(), resolverResultAndEvent.getEvent());
+        });
+    statistics = new DynamicConfigurationStatistics(cache::estimatedSize);
+  }
+
+  private void onRemoval(Object key, ConfigurationInstance configuration, RemovalCause cause) {
+    if (cause.wasEvicted()) {
+      statistics.instanceExpired();
+    }
+    extensionManager.disposeConfiguration(key.toString(), configuration);
   }
 
   /**
@@ -137,16 +170,48 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
     return withContextClassLoader(getExtensionClassLoader(), () -> {
       try (ValueResolvingContext resolvingContext = ValueResolvingContext.builder(((CoreEvent) event))
           .withExpressionManager(expressionManager).build()) {
-        ResolverSetResult result = resolverSet.resolve(resolvingContext);
-        ResolverSetResult providerResult = null;
-        if (connectionProviderResolver.getResolverSet().isPresent()) {
-          providerResult = ((ResolverSet) connectionProviderResolver.getResolverSet().get()).resolve(resolvingContext);
+        if (dynamicParametersKey) {
+          return getConfiguration(resolveDynamicParameters(resolvingContext), resolvingContext, (CoreEvent) event);
         }
-        return getConfiguration(new Pair<>(result, providerResult), (CoreEvent) event);
+        return getConfiguration(resolveParameters(resolvingContext), (CoreEvent) event);
       }
     });
   }
 
+  /**
+   * @return the statistics of the instances created by this provider.
+   * @since 4.4.0
+   */
+  public DynamicConfigurationStatistics getInstancesStatistics() {
+    return statistics;
+  }
+
+  private Pair<ResolverSetResult, ResolverSetResult> resolveParameters(ValueResolvingContext resolvingContext)
+      throws MuleException {
+    ResolverSetResult result = resolverSet.resolve(resolvingContext);
+    ResolverSetResult providerResult = null;
+    if (connectionProviderResolver.getResolverSet().isPresent()) {
+      providerResult = ((ResolverSet) connectionProviderResolver.getResolverSet().get()).resolve(resolvingContext);
+    }
+    return new Pair<>(result, providerResult);
+  }
+
+  private DynamicParametersKey resolveDynamicParameters(ValueResolvingContext resolvingContext) throws MuleException {
+    Object[] values = new Object[dynamicResolvers.size()];
+    for (int i = 0; i < values.length; ++i) {
+      values[i] = resolveRecursively(dynamicResolvers.get(i), resolvingContext);
+    }
+    return new DynamicParametersKey(values);
+  }
+
+  private ConfigurationInstance getConfiguration(DynamicParametersKey key, ValueResolvingContext resolvingContext,
+                                                 CoreEvent event) {
+    // The whole resolver set is only evaluated when there is no instance for the values of the dynamic parameters
+    return cache.get(key, (CheckedFunction<Object, ConfigurationInstance>) k -> createConfiguration(
+                                                                                                    resolveParameters(resolvingContext),
+                                                                                                    event));
+  }
+
   private ConfigurationInstance getConfiguration(Pair<ResolverSetResult, ResolverSetResult> resolverSetResult,
                                                  CoreEvent event) {
     return cache.get(new ResolverResultAndEvent(resolverSetResult, event));
@@ -172,6 +237,7 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
     }
 
     registerConfiguration(configuration);
+    statistics.instanceCreated();
 
     return configuration;
   }
@@ -217,6 +283,7 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
   public List<ConfigurationInstance> getExpired() {
     return cache.asMap().entrySet().stream().filter(entry -> isExpired(entry.getValue())).map(entry -> {
       cache.invalidate(entry.getKey());
+      statistics.instanceExpired();
       unRegisterConfiguration(entry.getValue());
       return entry.getValue();
     }).collect(toImmutableList());
@@ -236,6 +303,23 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
     } catch (InitialisationException e) {
       throw new MuleRuntimeException(e);
     }
+
+    if (dynamicParametersKey) {
+      List<ValueResolver<?>> resolvers = new ArrayList<>();
+      addDynamicResolvers(resolverSet, resolvers);
+      connectionProviderResolver.getResolverSet()
+          .ifPresent(providerResolverSet -> addDynamicResolvers((ResolverSet) providerResolverSet, resolvers));
+      dynamicResolvers = resolvers;
+    }
+
+    if (muleContext.getStatistics() != null) {
+      muleContext.getStatistics().addStatistics(getStatisticsName(), statistics);
+    }
+  }
+
+  private void addDynamicResolvers(ResolverSet resolverSet, List<ValueResolver<?>> resolvers) {
+    // Static parameters always have the same value, so they don't distinguish one instance from another
+    resolverSet.getResolvers().values().stream().filter(ValueResolver::isDynamic).forEach(resolvers::add);
   }
 
   @Override
@@ -244,6 +328,18 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
     startIfNeeded(connectionProviderResolver);
   }
 
+  @Override
+  public void dispose() {
+    super.dispose();
+    if (muleContext.getStatistics() != null) {
+      muleContext.getStatistics().removeStatistics(getStatisticsName(), statistics);
+    }
+  }
+
+  private String getStatisticsName() {
+    return "dynamicConfig/" + getName();
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -319,6 +415,11 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
       return event;
     }
 
+    @Override
+    public String toString() {
+      return resolverSetResult.toString();
+    }
+
     @Override
     public boolean equals(Object o) {
       if (this == o) {
@@ -337,4 +438,41 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
     }
   }
 
+  /**
+   * The values of the dynamic parameters of a config and its connection provider, which identify one of its instances. The hash
+   * is computed once, since keys are hashed on every lookup.
+   */
+  private static final class DynamicParametersKey {
+
+    private final Object[] values;
+    private final int hashCode;
+
+    DynamicParametersKey(Object[] values) {
+      this.values = values;
+      this.hashCode = Arrays.hashCode(values);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof DynamicParametersKey)) {
+        return false;
+      }
+      DynamicParametersKey that = (DynamicParametersKey) o;
+      return hashCode == that.hashCode && Arrays.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public String toString() {
+      return Arrays.toString(values);
+    }
+  }
+
 }
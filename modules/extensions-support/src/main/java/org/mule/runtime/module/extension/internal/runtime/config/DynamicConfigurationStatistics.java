@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.config;
+
+import org.mule.runtime.core.api.management.stats.Statistics;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Statistics of the {@link org.mule.runtime.extension.api.runtime.config.ConfigurationInstance}s created by a
+ * {@link DynamicConfigurationProvider}.
+ *
+ * @since 4.4.0
+ */
+public class DynamicConfigurationStatistics implements Statistics {
+
+  private static final long serialVersionUID = -3406282410815123652L;
+
+  private final transient LongSupplier instances;
+  private final LongAdder created = new LongAdder();
+  private final LongAdder expired = new LongAdder();
+
+  DynamicConfigurationStatistics(LongSupplier instances) {
+    this.instances = instances;
+  }
+
+  void instanceCreated() {
+    created.increment();
+  }
+
+  void instanceExpired() {
+    expired.increment();
+  }
+
+  /**
+   * @return the approximate number of instances currently held by the provider.
+   */
+  public long getInstances() {
+    return instances.getAsLong();
+  }
+
+  /**
+   * @return how many instances were created by the provider.
+   */
+  public long getCreatedInstances() {
+    return created.sum();
+  }
+
+  /**
+   * @return how many instances were discarded by the provider because they were not used for longer than its expiration policy
+   *         allows.
+   */
+  public long getExpiredInstances() {
+    return expired.sum();
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "instances: " + getInstances() + "; createdInstances: " + getCreatedInstances() + "; expiredInstances: "
+        + getExpiredInstances();
+  }
+}
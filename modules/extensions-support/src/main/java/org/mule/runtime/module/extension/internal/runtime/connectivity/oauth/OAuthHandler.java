@@ -6,9 +6,12 @@
  */
 package org.mule.runtime.module.extension.internal.runtime.connectivity.oauth;
 
+import static java.lang.Boolean.getBoolean;
+import static java.lang.Long.getLong;
 import static java.util.stream.Collectors.toMap;
 import static org.mule.runtime.api.store.ObjectStoreManager.BASE_PERSISTENT_OBJECT_STORE_KEY;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_STORE_MANAGER;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
@@ -19,6 +22,7 @@ import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.lifecycle.Lifecycle;
 import org.mule.runtime.api.lock.LockFactory;
+import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.api.store.ObjectStore;
 import org.mule.runtime.api.store.ObjectStoreManager;
 import org.mule.runtime.api.util.LazyValue;
@@ -49,6 +53,23 @@ public abstract class OAuthHandler<Dancer> implements Lifecycle {
 
   private static final Logger LOGGER = getLogger(OAuthHandler.class);
 
+  /**
+   * Whether access tokens are refreshed ahead of their expiration, so operations don't have to wait for a refresh after
+   * failing with an expired token.
+   *
+   * @since 4.4.0
+   */
+  public static final String PROACTIVE_REFRESH_PROPERTY = SYSTEM_PROPERTY_PREFIX + "oauth.proactiveRefresh";
+
+  /**
+   * How many seconds before their expiration access tokens are refreshed, when {@link #PROACTIVE_REFRESH_PROPERTY} is enabled.
+   *
+   * @since 4.4.0
+   */
+  public static final String PROACTIVE_REFRESH_MARGIN_PROPERTY = SYSTEM_PROPERTY_PREFIX + "oauth.proactiveRefresh.marginSeconds";
+
+  private static final long DEFAULT_PROACTIVE_REFRESH_MARGIN_SECONDS = 60;
+
   @Inject
   protected MuleContext muleContext;
 
@@ -71,6 +92,11 @@ public abstract class OAuthHandler<Dancer> implements Lifecycle {
   protected final Map<String, Dancer> dancers = new ConcurrentHashMap<>();
   protected boolean started = false;
 
+  protected final OAuthTokenLifecycleManager tokenLifecycleManager =
+      new OAuthTokenLifecycleManager(getLong(PROACTIVE_REFRESH_MARGIN_PROPERTY, DEFAULT_PROACTIVE_REFRESH_MARGIN_SECONDS),
+                                     key -> getTokenStatisticsName(key));
+  private Scheduler refreshScheduler;
+
   protected Map<String, String> getParameterExtractors(OAuthConfig config) {
     return getParameterExtractors(config.getParameterExtractors());
   }
@@ -84,6 +110,9 @@ public abstract class OAuthHandler<Dancer> implements Lifecycle {
   public void initialise() throws InitialisationException {
     oauthService = new LazyLookup<>(OAuthService.class, muleContext);
     objectStoreLocator = buildObjectStoreLocator();
+    if (muleContext.getStatistics() != null) {
+      tokenLifecycleManager.registerStatistics(muleContext.getStatistics());
+    }
   }
 
   @Override
@@ -91,6 +120,11 @@ public abstract class OAuthHandler<Dancer> implements Lifecycle {
     for (Dancer dancer : dancers.values()) {
       start(dancer);
     }
+    if (getBoolean(PROACTIVE_REFRESH_PROPERTY)) {
+      refreshScheduler = muleContext.getSchedulerService()
+          .ioScheduler(muleContext.getSchedulerBaseConfig().withName(getClass().getSimpleName() + ".tokenRefresh"));
+      tokenLifecycleManager.start(refreshScheduler);
+    }
     started = true;
   }
 
@@ -101,6 +135,11 @@ public abstract class OAuthHandler<Dancer> implements Lifecycle {
 
   @Override
   public void stop() throws MuleException {
+    tokenLifecycleManager.stop();
+    if (refreshScheduler != null) {
+      refreshScheduler.stop();
+      refreshScheduler = null;
+    }
     dancers.forEach((key, dancer) -> {
       try {
         disable(key, dancer);
@@ -111,9 +150,28 @@ public abstract class OAuthHandler<Dancer> implements Lifecycle {
     dancers.clear();
   }
 
+  /**
+   * @param key identifies a token, as defined by the concrete handler.
+   * @return the statistics of the token for the given {@code key}.
+   * @since 4.4.0
+   */
+  public OAuthTokenStatistics getTokenStatistics(Object key) {
+    return tokenLifecycleManager.getStatistics(key);
+  }
+
+  /**
+   * @param key identifies a token, as defined by the concrete handler.
+   * @return the name the statistics of the token for the given {@code key} are registered with in the statistics of the
+   *         application.
+   * @since 4.4.0
+   */
+  protected String getTokenStatisticsName(Object key) {
+    return "oauth/" + key;
+  }
+
   @Override
   public void dispose() {
-    // no default action
+    tokenLifecycleManager.dispose();
   }
 
   protected Function<OAuthConfig, ObjectStore> buildObjectStoreLocator() {
@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.connectivity.oauth;
+
+import static java.lang.Long.parseLong;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.api.management.stats.AllStatistics;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+
+/**
+ * Manages the lifecycle of the access tokens obtained by an {@link OAuthHandler}.
+ * <p>
+ * Refreshes are single-flight: while the token for a given key is being refreshed, any other request to refresh it joins the
+ * refresh in progress instead of hitting the token endpoint again. When started with a {@link Scheduler}, tokens are also
+ * refreshed ahead of their expiration, so operations don't have to wait for a refresh after failing with an expired token.
+ * <p>
+ * Keys identify a token of a particular config and resource owner, as defined by the owning {@link OAuthHandler}. They may be of
+ * any type that implements {@link Object#equals(Object)} and {@link Object#hashCode()}. The statistics of a token are kept until
+ * it is {@link #invalidate(Object) invalidated}.
+ *
+ * @since 4.4.0
+ */
+public class OAuthTokenLifecycleManager {
+
+  private static final Logger LOGGER = getLogger(OAuthTokenLifecycleManager.class);
+
+  private final long refreshMarginMillis;
+  private final Function<Object, String> statisticsName;
+
+  private final Map<Object, CompletableFuture<Void>> refreshesInProgress = new ConcurrentHashMap<>();
+  private final Map<Object, ScheduledFuture<?>> scheduledRefreshes = new ConcurrentHashMap<>();
+  private final Map<Object, OAuthTokenStatistics> statistics = new ConcurrentHashMap<>();
+
+  private volatile Scheduler scheduler;
+  private volatile AllStatistics allStatistics;
+
+  /**
+   * @param refreshMarginSeconds how long before their expiration tokens are proactively refreshed. The margin is capped to half
+   *                             the lifetime of each token.
+   */
+  public OAuthTokenLifecycleManager(long refreshMarginSeconds) {
+    this(refreshMarginSeconds, key -> "oauth/" + key);
+  }
+
+  /**
+   * @param refreshMarginSeconds how long before their expiration tokens are proactively refreshed. The margin is capped to half
+   *                             the lifetime of each token.
+   * @param statisticsName       the name the statistics of the token for each key are registered with.
+   */
+  public OAuthTokenLifecycleManager(long refreshMarginSeconds, Function<Object, String> statisticsName) {
+    this.refreshMarginMillis = SECONDS.toMillis(refreshMarginSeconds);
+    this.statisticsName = statisticsName;
+  }
+
+  /**
+   * Registers the statistics of the tracked tokens, and of the ones tracked from now on, in the given {@code allStatistics}.
+   *
+   * @param allStatistics the statistics of the application.
+   */
+  public void registerStatistics(AllStatistics allStatistics) {
+    this.allStatistics = allStatistics;
+    statistics.forEach((key, tokenStatistics) -> allStatistics.addStatistics(statisticsName.apply(key), tokenStatistics));
+  }
+
+  /**
+   * Enables proactive refreshes.
+   *
+   * @param scheduler where proactive refreshes are triggered.
+   */
+  public void start(Scheduler scheduler) {
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * Cancels all scheduled refreshes and disables proactive refreshes. The {@link Scheduler} given on {@link #start(Scheduler)} is
+   * not stopped.
+   */
+  public void stop() {
+    scheduler = null;
+    scheduledRefreshes.values().forEach(scheduled -> scheduled.cancel(false));
+    scheduledRefreshes.clear();
+  }
+
+  /**
+   * Discards the statistics of all the tracked tokens, removing them from the statistics of the application.
+   */
+  public void dispose() {
+    statistics.keySet().forEach(this::removeStatistics);
+    allStatistics = null;
+  }
+
+  /**
+   * Refreshes the token for the given {@code key}, unless it is already being refreshed, in which case the refresh in progress
+   * is returned.
+   *
+   * @param key       identifies the token to refresh.
+   * @param refresher performs the actual refresh.
+   * @return a future completed when the refresh is done.
+   */
+  public CompletableFuture<Void> refresh(Object key, Supplier<CompletableFuture<?>> refresher) {
+    OAuthTokenStatistics tokenStatistics = statisticsFor(key);
+
+    CompletableFuture<Void> refresh = new CompletableFuture<>();
+    CompletableFuture<Void> inProgress = refreshesInProgress.putIfAbsent(key, refresh);
+    if (inProgress != null) {
+      tokenStatistics.coalescedRefresh();
+      return inProgress;
+    }
+
+    final long start = nanoTime();
+    CompletableFuture<?> refreshed;
+    try {
+      refreshed = refresher.get();
+    } catch (RuntimeException e) {
+      refreshed = new CompletableFuture<>();
+      refreshed.completeExceptionally(e);
+    }
+
+    refreshed.whenComplete((result, e) -> {
+      refreshesInProgress.remove(key, refresh);
+      tokenStatistics.refreshed(nanoTime() - start, e != null);
+      if (e != null) {
+        refresh.completeExceptionally(e);
+      } else {
+        refresh.complete(null);
+      }
+    });
+
+    return refresh;
+  }
+
+  /**
+   * Schedules the refresh of the token for the given {@code key} ahead of its expiration, replacing any refresh previously
+   * scheduled for it. Nothing is scheduled if proactive refreshes are not enabled or the expiration is unknown.
+   *
+   * @param key       identifies the token to refresh.
+   * @param expiresIn the lifetime of the token in seconds, as returned by the token endpoint. May be null.
+   * @param refresher triggers the actual refresh, usually through {@link #refresh(Object, Supplier)}.
+   */
+  public void scheduleRefresh(Object key, String expiresIn, Supplier<CompletableFuture<?>> refresher) {
+    Scheduler currentScheduler = scheduler;
+    if (currentScheduler == null || expiresIn == null) {
+      return;
+    }
+
+    long expiresInMillis;
+    try {
+      expiresInMillis = SECONDS.toMillis(parseLong(expiresIn.trim()));
+    } catch (NumberFormatException e) {
+      LOGGER.debug("Expiration '{}' of the token for '{}' is not a number of seconds, it won't be refreshed proactively",
+                   expiresIn, key);
+      return;
+    }
+    if (expiresInMillis <= 0) {
+      return;
+    }
+
+    long delay = max(expiresInMillis - min(refreshMarginMillis, expiresInMillis / 2), 0);
+    ScheduledFuture<?> scheduled;
+    try {
+      scheduled = currentScheduler.schedule(() -> {
+        statisticsFor(key).proactiveRefresh();
+        refresher.get().whenComplete((result, e) -> {
+          if (e != null) {
+            LOGGER.warn(format("Could not proactively refresh the token for '%s'. It will be refreshed when it is rejected",
+                               key),
+                        e);
+          }
+        });
+      }, delay, MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      if (scheduler != currentScheduler) {
+        // Stopped while a refresh was completing, the refreshed token is still valid
+        LOGGER.debug("Proactive refresh of the token for '{}' not scheduled because the handler was stopped", key);
+        return;
+      }
+      throw e;
+    }
+
+    ScheduledFuture<?> previous = scheduledRefreshes.put(key, scheduled);
+    if (previous != null) {
+      previous.cancel(false);
+    }
+    if (scheduler != currentScheduler) {
+      // Stopped while scheduling, so the refresh may have been left out of the ones cancelled
+      cancelRefresh(key);
+    }
+  }
+
+  /**
+   * Cancels the proactive refresh of the token for the given {@code key}, if any.
+   *
+   * @param key identifies the invalidated token.
+   */
+  public void cancelRefresh(Object key) {
+    ScheduledFuture<?> scheduled = scheduledRefreshes.remove(key);
+    if (scheduled != null) {
+      scheduled.cancel(false);
+    }
+  }
+
+  /**
+   * Stops tracking the token for the given {@code key}, cancelling its proactive refresh and discarding its statistics.
+   *
+   * @param key identifies the invalidated token.
+   */
+  public void invalidate(Object key) {
+    cancelRefresh(key);
+    removeStatistics(key);
+  }
+
+  private void removeStatistics(Object key) {
+    OAuthTokenStatistics removed = statistics.remove(key);
+    AllStatistics currentAllStatistics = allStatistics;
+    if (removed != null && currentAllStatistics != null) {
+      currentAllStatistics.removeStatistics(statisticsName.apply(key), removed);
+    }
+  }
+
+  /**
+   * Records a request for the token for the given {@code key}.
+   *
+   * @param key       identifies the requested token.
+   * @param available whether a token was already available, or had to be obtained.
+   */
+  public void tokenRequested(Object key, boolean available) {
+    if (available) {
+      statisticsFor(key).hit();
+    } else {
+      statisticsFor(key).miss();
+    }
+  }
+
+  /**
+   * @param key identifies a token.
+   * @return the statistics of the token for the given {@code key}. Empty statistics if the token is not tracked.
+   */
+  public OAuthTokenStatistics getStatistics(Object key) {
+    OAuthTokenStatistics tokenStatistics = statistics.get(key);
+    return tokenStatistics != null ? tokenStatistics : new OAuthTokenStatistics();
+  }
+
+  private OAuthTokenStatistics statisticsFor(Object key) {
+    return statistics.computeIfAbsent(key, k -> {
+      OAuthTokenStatistics tokenStatistics = new OAuthTokenStatistics();
+      AllStatistics currentAllStatistics = allStatistics;
+      if (currentAllStatistics != null) {
+        currentAllStatistics.addStatistics(statisticsName.apply(k), tokenStatistics);
+      }
+      return tokenStatistics;
+    });
+  }
+}
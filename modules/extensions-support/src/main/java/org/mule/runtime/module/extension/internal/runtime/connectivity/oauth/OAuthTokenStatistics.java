@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.connectivity.oauth;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import org.mule.runtime.core.api.management.stats.Statistics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the access tokens used by an OAuth enabled connection provider, as tracked by the
+ * {@link OAuthTokenLifecycleManager}.
+ *
+ * @since 4.4.0
+ */
+public class OAuthTokenStatistics implements Statistics {
+
+  private static final long serialVersionUID = 2921543818637066215L;
+
+  private static final double NANOS_PER_MILLI = MILLISECONDS.toNanos(1);
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder refreshes = new LongAdder();
+  private final LongAdder proactiveRefreshes = new LongAdder();
+  private final LongAdder coalescedRefreshes = new LongAdder();
+  private final LongAdder failedRefreshes = new LongAdder();
+  private final LongAdder totalRefreshNanos = new LongAdder();
+
+  void hit() {
+    hits.increment();
+  }
+
+  void miss() {
+    misses.increment();
+  }
+
+  void proactiveRefresh() {
+    proactiveRefreshes.increment();
+  }
+
+  void coalescedRefresh() {
+    coalescedRefreshes.increment();
+  }
+
+  void refreshed(long nanos, boolean failed) {
+    refreshes.increment();
+    totalRefreshNanos.add(nanos);
+    if (failed) {
+      failedRefreshes.increment();
+    }
+  }
+
+  /**
+   * @return how many times a valid access token was already available when requested.
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * @return how many times no access token was available when requested.
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * @return how many refreshes were actually performed against the token endpoint, including the failed ones.
+   */
+  public long getRefreshes() {
+    return refreshes.sum();
+  }
+
+  /**
+   * @return how many of the performed refreshes were triggered ahead of the expiration of the token.
+   */
+  public long getProactiveRefreshes() {
+    return proactiveRefreshes.sum();
+  }
+
+  /**
+   * @return how many refresh requests joined a refresh that was already in progress instead of performing a new one.
+   */
+  public long getCoalescedRefreshes() {
+    return coalescedRefreshes.sum();
+  }
+
+  /**
+   * @return how many of the performed refreshes failed.
+   */
+  public long getFailedRefreshes() {
+    return failedRefreshes.sum();
+  }
+
+  /**
+   * @return the average time it took to perform a refresh, in milliseconds.
+   */
+  public double getAverageRefreshLatencyMillis() {
+    long count = refreshes.sum();
+    return count == 0 ? 0 : totalRefreshNanos.sum() / count / NANOS_PER_MILLI;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "hits: " + getHits() + "; misses: " + getMisses() + "; refreshes: " + getRefreshes() + "; proactiveRefreshes: "
+        + getProactiveRefreshes() + "; coalescedRefreshes: " + getCoalescedRefreshes() + "; failedRefreshes: "
+        + getFailedRefreshes() + "; averageRefreshLatencyMillis: " + getAverageRefreshLatencyMillis();
+  }
+}
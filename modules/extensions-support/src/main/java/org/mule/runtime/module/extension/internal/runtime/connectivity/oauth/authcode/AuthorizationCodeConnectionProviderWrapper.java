@@ -21,6 +21,7 @@ import org.mule.runtime.extension.api.connectivity.NoConnectivityTest;
 import org.mule.runtime.extension.api.connectivity.oauth.AuthorizationCodeState;
 import org.mule.runtime.extension.api.connectivity.oauth.OAuthGrantType;
 import org.mule.runtime.module.extension.internal.runtime.connectivity.oauth.BaseOAuthConnectionProviderWrapper;
+import org.mule.runtime.module.extension.internal.runtime.connectivity.oauth.OAuthTokenStatistics;
 import org.mule.runtime.module.extension.internal.util.FieldSetter;
 import org.mule.runtime.oauth.api.AuthorizationCodeOAuthDancer;
 import org.mule.runtime.oauth.api.state.ResourceOwnerOAuthContext;
@@ -92,6 +93,15 @@ public class AuthorizationCodeConnectionProviderWrapper<C> extends BaseOAuthConn
     return oauthConfig.getGrantType();
   }
 
+  /**
+   * @return the statistics of the access token used by this provider: how many times it was requested, refreshed and how long
+   *         the refreshes took.
+   * @since 4.4.0
+   */
+  public OAuthTokenStatistics getTokenStatistics() {
+    return oauthHandler.getTokenStatistics(oauthConfig);
+  }
+
   @Override
   protected ResourceOwnerOAuthContext getContext() {
     return oauthHandler.getOAuthContext(oauthConfig)
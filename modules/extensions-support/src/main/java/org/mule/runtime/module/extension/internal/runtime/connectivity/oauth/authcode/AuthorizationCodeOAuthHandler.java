@@ -42,6 +42,7 @@ import org.mule.runtime.http.api.server.ServerNotFoundException;
 import org.mule.runtime.module.extension.api.runtime.connectivity.oauth.ImmutableAuthCodeRequest;
 import org.mule.runtime.module.extension.internal.runtime.connectivity.oauth.OAuthConfig;
 import org.mule.runtime.module.extension.internal.runtime.connectivity.oauth.OAuthHandler;
+import org.mule.runtime.module.extension.internal.runtime.connectivity.oauth.OAuthTokenStatistics;
 import org.mule.runtime.module.extension.internal.store.LazyObjectStoreToMapAdapter;
 import org.mule.runtime.oauth.api.AuthorizationCodeOAuthDancer;
 import org.mule.runtime.oauth.api.AuthorizationCodeRequest;
@@ -54,6 +55,7 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
@@ -93,7 +95,8 @@ public class AuthorizationCodeOAuthHandler extends OAuthHandler<AuthorizationCod
   }
 
   /**
-   * Performs the refresh token flow
+   * Performs the refresh token flow. If the token of the {@code resourceOwnerId} is already being refreshed, waits for that
+   * refresh instead of starting a new one.
    *
    * @param ownerConfigName the name of the extension config which obtained the token
    * @param resourceOwnerId the id of the user to be invalidated
@@ -102,7 +105,7 @@ public class AuthorizationCodeOAuthHandler extends OAuthHandler<AuthorizationCod
     AuthorizationCodeOAuthDancer dancer = dancers.get(ownerConfigName);
 
     try {
-      dancer.refreshToken(resourceOwnerId).get();
+      refreshToken(ownerConfigName, resourceOwnerId, dancer).get();
     } catch (Exception e) {
       throw new MuleRuntimeException(
                                      createStaticMessage(format("Could not refresh token for resourceOwnerId '%s' using config '%s'",
@@ -125,7 +128,10 @@ public class AuthorizationCodeOAuthHandler extends OAuthHandler<AuthorizationCod
     ResourceOwnerOAuthContext contextForResourceOwner =
         dancer.getContextForResourceOwner(config.getResourceOwnerId());
 
-    if (contextForResourceOwner == null || contextForResourceOwner.getAccessToken() == null) {
+    boolean tokenAvailable = contextForResourceOwner != null && contextForResourceOwner.getAccessToken() != null;
+    Pair<String, String> tokenKey = tokenKey(config.getOwnerConfigName(), config.getResourceOwnerId());
+    tokenLifecycleManager.tokenRequested(tokenKey, tokenAvailable);
+    if (!tokenAvailable) {
       return empty();
     }
 
@@ -144,9 +150,46 @@ public class AuthorizationCodeOAuthHandler extends OAuthHandler<AuthorizationCod
       return;
     }
 
+    tokenLifecycleManager.invalidate(tokenKey(ownerConfigName, resourceOwnerId));
     dancer.invalidateContext(resourceOwnerId);
   }
 
+  /**
+   * @param config an {@link AuthorizationCodeConfig}
+   * @return the statistics of the token obtained for the resource owner of the given {@code config}.
+   * @since 4.4.0
+   */
+  public OAuthTokenStatistics getTokenStatistics(AuthorizationCodeConfig config) {
+    return getTokenStatistics(tokenKey(config.getOwnerConfigName(), config.getResourceOwnerId()));
+  }
+
+  private CompletableFuture<Void> refreshToken(String ownerConfigName, String resourceOwnerId,
+                                               AuthorizationCodeOAuthDancer dancer) {
+    return tokenLifecycleManager.refresh(tokenKey(ownerConfigName, resourceOwnerId),
+                                         () -> dancer.refreshToken(resourceOwnerId)
+                                             .thenRun(() -> scheduleRefresh(ownerConfigName, resourceOwnerId, dancer)));
+  }
+
+  private void scheduleRefresh(String ownerConfigName, String resourceOwnerId, AuthorizationCodeOAuthDancer dancer) {
+    ResourceOwnerOAuthContext context = dancer.getContextForResourceOwner(resourceOwnerId);
+    // Tokens without a refresh token can only be renewed by the resource owner going through the dance again
+    if (context != null && context.getRefreshToken() != null) {
+      tokenLifecycleManager.scheduleRefresh(tokenKey(ownerConfigName, resourceOwnerId), context.getExpiresIn(),
+                                            () -> refreshToken(ownerConfigName, resourceOwnerId, dancer));
+    }
+  }
+
+  @Override
+  protected String getTokenStatisticsName(Object key) {
+    Pair<String, String> tokenKey = (Pair<String, String>) key;
+    return "oauth/" + tokenKey.getFirst() + "/" + tokenKey.getSecond();
+  }
+
+  private static Pair<String, String> tokenKey(String ownerConfigName, String resourceOwnerId) {
+    // Not concatenated, as the names and ids may contain any separator
+    return new Pair<>(ownerConfigName, resourceOwnerId);
+  }
+
   private AuthorizationCodeOAuthDancer createDancer(AuthorizationCodeConfig config, List<AuthorizationCodeListener> listeners)
       throws MuleException {
     checkArgument(listeners != null, "listeners cannot be null");
@@ -205,6 +248,13 @@ public class AuthorizationCodeOAuthHandler extends OAuthHandler<AuthorizationCod
     listeners.forEach(dancerBuilder::addListener);
 
     AuthorizationCodeOAuthDancer dancer = dancerBuilder.build();
+    dancer.addListener(new AuthorizationCodeListener() {
+
+      @Override
+      public void onAuthorizationCompleted(ResourceOwnerOAuthContext context) {
+        scheduleRefresh(config.getOwnerConfigName(), context.getResourceOwnerId(), dancer);
+      }
+    });
 
     if (started) {
       start(dancer);
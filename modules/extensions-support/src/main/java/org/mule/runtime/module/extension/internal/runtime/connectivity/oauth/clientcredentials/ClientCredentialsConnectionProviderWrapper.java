@@ -20,6 +20,7 @@ import org.mule.runtime.extension.api.annotation.connectivity.oauth.OAuthCallbac
 import org.mule.runtime.extension.api.connectivity.oauth.ClientCredentialsState;
 import org.mule.runtime.extension.api.connectivity.oauth.OAuthGrantType;
 import org.mule.runtime.module.extension.internal.runtime.connectivity.oauth.BaseOAuthConnectionProviderWrapper;
+import org.mule.runtime.module.extension.internal.runtime.connectivity.oauth.OAuthTokenStatistics;
 import org.mule.runtime.module.extension.internal.util.FieldSetter;
 import org.mule.runtime.oauth.api.ClientCredentialsOAuthDancer;
 import org.mule.runtime.oauth.api.state.ResourceOwnerOAuthContext;
@@ -78,6 +79,15 @@ public class ClientCredentialsConnectionProviderWrapper<C> extends BaseOAuthConn
     return oauthConfig.getGrantType();
   }
 
+  /**
+   * @return the statistics of the access token used by this provider: how many times it was requested, refreshed and how long
+   *         the refreshes took.
+   * @since 4.4.0
+   */
+  public OAuthTokenStatistics getTokenStatistics() {
+    return oauthHandler.getTokenStatistics(oauthConfig);
+  }
+
   private void updateOAuthState() {
     final ConnectionProvider<C> delegate = getDelegate();
     ResourceOwnerOAuthContext context = getContext();
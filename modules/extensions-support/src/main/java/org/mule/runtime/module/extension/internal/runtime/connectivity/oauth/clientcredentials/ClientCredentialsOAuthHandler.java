@@ -18,6 +18,7 @@ import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.core.api.util.func.CheckedFunction;
 import org.mule.runtime.extension.api.connectivity.oauth.ClientCredentialsGrantType;
 import org.mule.runtime.module.extension.internal.runtime.connectivity.oauth.OAuthHandler;
+import org.mule.runtime.module.extension.internal.runtime.connectivity.oauth.OAuthTokenStatistics;
 import org.mule.runtime.module.extension.internal.runtime.connectivity.oauth.authcode.AuthorizationCodeConfig;
 import org.mule.runtime.module.extension.internal.store.LazyObjectStoreToMapAdapter;
 import org.mule.runtime.oauth.api.ClientCredentialsOAuthDancer;
@@ -26,6 +27,7 @@ import org.mule.runtime.oauth.api.builder.OAuthClientCredentialsDancerBuilder;
 import org.mule.runtime.oauth.api.state.ResourceOwnerOAuthContext;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * {@link OAuthHandler} implementation for the client credentials grant type
@@ -50,7 +52,8 @@ public class ClientCredentialsOAuthHandler extends OAuthHandler<ClientCredential
   }
 
   /**
-   * Performs the refresh token flow
+   * Performs the refresh token flow. If the token is already being refreshed, waits for that refresh instead of starting a new
+   * one.
    *
    * @param config a registered {@link ClientCredentialsConfig}
    */
@@ -58,7 +61,7 @@ public class ClientCredentialsOAuthHandler extends OAuthHandler<ClientCredential
     ClientCredentialsOAuthDancer dancer = dancers.get(config.getConfigIdentifier());
 
     try {
-      dancer.refreshToken().get();
+      refreshToken(config, dancer).get();
     } catch (Exception e) {
       throw new MuleRuntimeException(
                                      createStaticMessage(format("Could not refresh token for config '%s'",
@@ -84,10 +87,13 @@ public class ClientCredentialsOAuthHandler extends OAuthHandler<ClientCredential
 
     ResourceOwnerOAuthContext contextForResourceOwner = dancer.getContext();
 
-    if (contextForResourceOwner == null || contextForResourceOwner.getAccessToken() == null) {
+    boolean tokenAvailable = contextForResourceOwner != null && contextForResourceOwner.getAccessToken() != null;
+    tokenLifecycleManager.tokenRequested(config.getConfigIdentifier(), tokenAvailable);
+    if (!tokenAvailable) {
       try {
         dancer.accessToken().get();
         contextForResourceOwner = dancer.getContext();
+        scheduleRefresh(config, dancer);
       } catch (Exception e) {
         throw new MuleRuntimeException(
                                        createStaticMessage(format("Could not obtain access token for config '%s'",
@@ -110,9 +116,32 @@ public class ClientCredentialsOAuthHandler extends OAuthHandler<ClientCredential
       return;
     }
 
+    tokenLifecycleManager.invalidate(config.getConfigIdentifier());
     dancer.invalidateContext();
   }
 
+  /**
+   * @param config a {@link ClientCredentialsConfig}
+   * @return the statistics of the token obtained for the given {@code config}.
+   * @since 4.4.0
+   */
+  public OAuthTokenStatistics getTokenStatistics(ClientCredentialsConfig config) {
+    return getTokenStatistics(config.getConfigIdentifier());
+  }
+
+  private CompletableFuture<Void> refreshToken(ClientCredentialsConfig config, ClientCredentialsOAuthDancer dancer) {
+    return tokenLifecycleManager.refresh(config.getConfigIdentifier(),
+                                         () -> dancer.refreshToken().thenRun(() -> scheduleRefresh(config, dancer)));
+  }
+
+  private void scheduleRefresh(ClientCredentialsConfig config, ClientCredentialsOAuthDancer dancer) {
+    ResourceOwnerOAuthContext context = dancer.getContext();
+    if (context != null) {
+      tokenLifecycleManager.scheduleRefresh(config.getConfigIdentifier(), context.getExpiresIn(),
+                                            () -> refreshToken(config, dancer));
+    }
+  }
+
   private ClientCredentialsOAuthDancer createDancer(ClientCredentialsConfig config, List<ClientCredentialsListener> listeners)
       throws MuleException {
     checkArgument(listeners != null, "listeners cannot be null");
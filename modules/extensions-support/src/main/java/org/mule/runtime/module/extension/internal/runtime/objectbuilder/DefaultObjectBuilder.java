@@ -7,6 +7,7 @@
 package org.mule.runtime.module.extension.internal.runtime.objectbuilder;
 
 import static java.lang.String.format;
+import static java.util.Collections.emptySet;
 import static java.util.Collections.unmodifiableMap;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
@@ -34,12 +35,18 @@ import org.mule.runtime.module.extension.internal.util.ReflectionCache;
 
 import java.lang.reflect.Field;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import javax.inject.Inject;
 
 /**
  * Default implementation of {@link ObjectBuilder} which creates instances through a provided {@link Class}.
+ * <p>
+ * Upon {@link #initialise()}, the values of the {@link ValueResolver#isCacheable() cacheable} resolvers are resolved only once,
+ * on the first build, and then assigned to each new instance. A new instance is still created on each
+ * {@link #build(ValueResolvingContext)}, since the built objects may be mutable.
  *
  * @since 3.7.0
  */
@@ -55,6 +62,9 @@ public class DefaultObjectBuilder<T> implements ObjectBuilder<T>, Initialisable,
   private String name = null;
   private String encoding = null;
 
+  private Set<FieldSetter> cacheableSetters = emptySet();
+  private volatile Map<FieldSetter, Object> cachedValues;
+
   /**
    * Creates a new instance that will build instances of {@code prototypeClass}.
    *
@@ -98,6 +108,11 @@ public class DefaultObjectBuilder<T> implements ObjectBuilder<T>, Initialisable,
 
     resolverByFieldName.put(field.getName(), resolver);
 
+    if (!cacheableSetters.isEmpty()) {
+      cacheableSetters = emptySet();
+      cachedValues = null;
+    }
+
     resolvers.put(new FieldSetter<>(field), (ValueResolver<Object>) resolver);
     return this;
   }
@@ -113,11 +128,13 @@ public class DefaultObjectBuilder<T> implements ObjectBuilder<T>, Initialisable,
   @Override
   public T build(ValueResolvingContext context) throws MuleException {
     T object = createInstance(prototypeClass);
+    final Map<FieldSetter, Object> staticValues = cacheableSetters.isEmpty() ? null : getCachedValues(context);
 
     for (Map.Entry<FieldSetter, ValueResolver<Object>> entry : resolvers.entrySet()) {
-      entry.getKey().set(object,
-                         context == null || context.resolveCursors() ? resolveCursor(resolveValue(entry.getValue(), context))
-                             : resolveValue(entry.getValue(), context));
+      final Object value = staticValues != null && staticValues.containsKey(entry.getKey())
+          ? staticValues.get(entry.getKey())
+          : resolveValue(entry.getValue(), context);
+      entry.getKey().set(object, context == null || context.resolveCursors() ? resolveCursor(value) : value);
     }
 
     injectFields(object, name, encoding, reflectionCache);
@@ -134,9 +151,33 @@ public class DefaultObjectBuilder<T> implements ObjectBuilder<T>, Initialisable,
   }
 
 
+  private Map<FieldSetter, Object> getCachedValues(ValueResolvingContext context) throws MuleException {
+    Map<FieldSetter, Object> values = cachedValues;
+    if (values == null) {
+      // concurrent first builds may compute this more than once, which is harmless since the values are constant
+      values = new HashMap<>();
+      for (FieldSetter setter : cacheableSetters) {
+        values.put(setter, resolveValue(resolvers.get(setter), context));
+      }
+      cachedValues = values;
+    }
+
+    return values;
+  }
+
   @Override
   public void initialise() throws InitialisationException {
     initialiseIfNeeded(resolvers.values(), muleContext);
+
+    Set<FieldSetter> setters = new HashSet<>();
+    resolvers.forEach((setter, resolver) -> {
+      if (resolver.isCacheable()) {
+        setters.add(setter);
+      }
+    });
+
+    cachedValues = null;
+    cacheableSetters = setters.isEmpty() ? emptySet() : setters;
   }
 
   @Override
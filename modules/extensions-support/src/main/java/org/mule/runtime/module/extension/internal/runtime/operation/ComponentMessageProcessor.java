@@ -977,6 +977,7 @@ public abstract class ComponentMessageProcessor<T extends ComponentModel> extend
   @Override
   public void doStart() throws MuleException {
     startIfNeeded(componentExecutor);
+    startIfNeeded(resultTransformer);
 
     if (ownedProcessingStrategy) {
       startIfNeeded(processingStrategy);
@@ -992,6 +993,7 @@ public abstract class ComponentMessageProcessor<T extends ComponentModel> extend
   @Override
   public void doStop() throws MuleException {
     stopIfNeeded(componentExecutor);
+    stopIfNeeded(resultTransformer);
     stopInnerFlux();
 
     if (ownedProcessingStrategy) {
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.operation;
+
+import static java.lang.Integer.getInteger;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+
+import org.mule.runtime.api.component.Component;
+import org.mule.runtime.api.lifecycle.Startable;
+import org.mule.runtime.api.lifecycle.Stoppable;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.streaming.iterator.ConsumerStreamingIterator;
+import org.mule.runtime.core.api.streaming.iterator.ListConsumer;
+import org.mule.runtime.core.api.streaming.iterator.Producer;
+import org.mule.runtime.extension.api.runtime.config.ConfigurationInstance;
+import org.mule.runtime.extension.api.runtime.streaming.PagingProvider;
+import org.mule.runtime.module.extension.api.runtime.privileged.ExecutionContextAdapter;
+import org.mule.runtime.module.extension.internal.runtime.connectivity.ExtensionConnectionSupplier;
+import org.mule.runtime.module.extension.internal.runtime.operation.DefaultExecutionMediator.ResultTransformer;
+import org.mule.runtime.module.extension.internal.runtime.streaming.PagingProviderProducer;
+import org.mule.runtime.module.extension.internal.runtime.streaming.PagingStatistics;
+
+/**
+ * {@link ResultTransformer} for paged operations, which turns the {@link PagingProvider} returned by the operation into a
+ * streaming iterator backed by a {@link PagingProviderProducer}.
+ * <p>
+ * When the {@link #PREFETCH_DEPTH_PROPERTY} system property is set to a positive value, the pages following the first one are
+ * fetched ahead of being consumed, on a scheduler owned by this transformer.
+ * <p>
+ * The pages obtained for all the executions of the operation are accounted in the same {@link PagingStatistics}, registered in
+ * the statistics of the application as {@code paging/<operation location>} once the operation is first executed.
+ *
+ * @since 4.4.0
+ */
+public final class PagingResultTransformer implements ResultTransformer, Startable, Stoppable {
+
+  /**
+   * How many pages of a paged operation may be fetched ahead of being consumed. Defaults to 0, meaning that each page is fetched
+   * only when the consumer requests it.
+   */
+  public static final String PREFETCH_DEPTH_PROPERTY = SYSTEM_PROPERTY_PREFIX + "paging.prefetchDepth";
+
+  private final ExtensionConnectionSupplier connectionSupplier;
+  private final boolean supportsOAuth;
+  private final MuleContext muleContext;
+  private final int prefetchDepth;
+
+  private final PagingStatistics statistics = new PagingStatistics();
+
+  private volatile Scheduler prefetchScheduler;
+  private volatile String statisticsName;
+
+  public PagingResultTransformer(ExtensionConnectionSupplier connectionSupplier, boolean supportsOAuth,
+                                 MuleContext muleContext) {
+    this.connectionSupplier = connectionSupplier;
+    this.supportsOAuth = supportsOAuth;
+    this.muleContext = muleContext;
+    this.prefetchDepth = getInteger(PREFETCH_DEPTH_PROPERTY, 0);
+  }
+
+  @Override
+  public Object applyChecked(ExecutionContextAdapter operationContext, Object value) throws Throwable {
+    if (value == null) {
+      throw new IllegalStateException("Obtained paging delegate cannot be null");
+    }
+    registerStatistics(operationContext);
+    ConfigurationInstance config = (ConfigurationInstance) operationContext.getConfiguration().get();
+    Producer<?> producer = new PagingProviderProducer((PagingProvider) value,
+                                                      config,
+                                                      operationContext,
+                                                      connectionSupplier,
+                                                      supportsOAuth,
+                                                      prefetchScheduler,
+                                                      prefetchDepth,
+                                                      statistics);
+    ListConsumer<?> consumer = new ListConsumer(producer);
+    consumer.loadNextPage();
+    return new ConsumerStreamingIterator<>(consumer);
+  }
+
+  private void registerStatistics(ExecutionContextAdapter operationContext) {
+    // The location of the operation is not known until it is executed
+    Component component = operationContext.getComponent();
+    if (statisticsName != null || muleContext.getStatistics() == null || component == null || component.getLocation() == null) {
+      return;
+    }
+
+    synchronized (statistics) {
+      if (statisticsName == null) {
+        statisticsName = "paging/" + component.getLocation().getLocation();
+        muleContext.getStatistics().addStatistics(statisticsName, statistics);
+      }
+    }
+  }
+
+  /**
+   * @return the statistics of the pages obtained for the executions of the operation.
+   */
+  public PagingStatistics getStatistics() {
+    return statistics;
+  }
+
+  @Override
+  public void start() {
+    if (prefetchDepth > 0) {
+      prefetchScheduler = muleContext.getSchedulerService()
+          .ioScheduler(muleContext.getSchedulerBaseConfig().withName("paging.prefetch"));
+    }
+  }
+
+  @Override
+  public void stop() {
+    if (prefetchScheduler != null) {
+      prefetchScheduler.stop();
+      prefetchScheduler = null;
+    }
+    synchronized (statistics) {
+      if (statisticsName != null) {
+        muleContext.getStatistics().removeStatistics(statisticsName, statistics);
+        statisticsName = null;
+      }
+    }
+  }
+}
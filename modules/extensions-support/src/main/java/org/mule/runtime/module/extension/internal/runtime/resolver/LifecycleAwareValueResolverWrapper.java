@@ -51,6 +51,11 @@ public class LifecycleAwareValueResolverWrapper<T> implements ValueResolver<T>,
     return delegate.isDynamic();
   }
 
+  @Override
+  public boolean isCacheable() {
+    return delegate.isCacheable();
+  }
+
   @Override
   public void initialise() throws InitialisationException {
     initialiseIfNeeded(delegate, true, muleContext);
@@ -6,6 +6,9 @@
  */
 package org.mule.runtime.module.extension.internal.runtime.resolver;
 
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
 import static org.mule.runtime.core.api.util.StringUtils.isBlank;
@@ -19,8 +22,11 @@ import org.mule.runtime.module.extension.internal.runtime.objectbuilder.ObjectBu
 
 import com.google.common.collect.ImmutableMap;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * A {@link ValueResolver} which is based on associating a set of keys -&gt; {@link ValueResolver} pairs. The result of evaluating
@@ -31,6 +37,10 @@ import java.util.Map;
  * {@link ValueResolver}s but evaluated many times. With this goal in mind is that the return value of this resolver will always
  * be a {@link ResolverSetResult} which then can be used by a {@link ObjectBuilder} to generate an actual object.
  * <p>
+ * Upon {@link #initialise()}, the resolvers which are {@link ValueResolver#isCacheable() cacheable} are split from the rest.
+ * Those are evaluated only once, on the first resolution, and their values kept in an immutable template which is reused on
+ * every subsequent {@link #resolve(ValueResolvingContext)}, so that only the remaining resolvers are evaluated per event.
+ * <p>
  * Instances of this class are to be considered thread safe and reusable
  *
  * @since 3.7.0
@@ -41,6 +51,9 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
   private boolean dynamic = false;
   private final MuleContext muleContext;
 
+  private Set<String> cacheableKeys = emptySet();
+  private volatile Map<String, Object> cachedValues;
+
   public ResolverSet(MuleContext muleContext) {
     this.muleContext = muleContext;
   }
@@ -62,6 +75,11 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
       throw new IllegalStateException("A value was already given for key " + key);
     }
 
+    if (!cacheableKeys.isEmpty()) {
+      cacheableKeys = emptySet();
+      cachedValues = null;
+    }
+
     if (!dynamic && resolver.isDynamic()) {
       dynamic = true;
     }
@@ -105,13 +123,40 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
   public ResolverSetResult resolve(ValueResolvingContext context) throws MuleException {
     ResolverSetResult.Builder builder = getResolverSetBuilder();
 
-    for (Map.Entry<String, ValueResolver<?>> entry : resolvers.entrySet()) {
-      builder.add(entry.getKey(), resolveRecursively(entry.getValue(), context));
+    if (cacheableKeys.isEmpty()) {
+      for (Map.Entry<String, ValueResolver<?>> entry : resolvers.entrySet()) {
+        builder.add(entry.getKey(), resolveRecursively(entry.getValue(), context));
+      }
+    } else {
+      Map<String, Object> staticValues = getCachedValues(context);
+      for (Map.Entry<String, ValueResolver<?>> entry : resolvers.entrySet()) {
+        final String key = entry.getKey();
+        if (cacheableKeys.contains(key)) {
+          builder.add(key, staticValues.get(key));
+        } else {
+          builder.add(key, resolveRecursively(entry.getValue(), context));
+        }
+      }
     }
 
     return builder.build();
   }
 
+  private Map<String, Object> getCachedValues(ValueResolvingContext context) throws MuleException {
+    Map<String, Object> values = cachedValues;
+    if (values == null) {
+      // concurrent first resolutions may compute this more than once, which is harmless since the values are constant
+      values = new HashMap<>();
+      for (String key : cacheableKeys) {
+        values.put(key, resolveRecursively(resolvers.get(key), context));
+      }
+      values = unmodifiableMap(values);
+      cachedValues = values;
+    }
+
+    return values;
+  }
+
   /**
    * Creates a new instance of {@link ResolverSet} containing all the resolvers
    * of both {@code this} {@link ResolverSet} and the given {@code resolverSet}
@@ -135,6 +180,16 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
   @Override
   public void initialise() throws InitialisationException {
     initialiseIfNeeded(resolvers.values(), muleContext);
+
+    Set<String> keys = new HashSet<>();
+    resolvers.forEach((key, resolver) -> {
+      if (resolver.isCacheable()) {
+        keys.add(key);
+      }
+    });
+
+    cachedValues = null;
+    cacheableKeys = keys.isEmpty() ? emptySet() : unmodifiableSet(keys);
   }
 
   ResolverSetResult.Builder getResolverSetBuilder() {
@@ -46,4 +46,14 @@ public class StaticLiteralValueResolver<T> implements ValueResolver<Literal<T>>
   public boolean isDynamic() {
     return false;
   }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @return {@code true}
+   */
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
 }
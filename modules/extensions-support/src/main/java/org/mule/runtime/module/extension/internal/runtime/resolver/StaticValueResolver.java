@@ -7,6 +7,11 @@
 package org.mule.runtime.module.extension.internal.runtime.resolver;
 
 import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.api.streaming.Cursor;
+import org.mule.runtime.api.streaming.CursorProvider;
+
+import java.io.InputStream;
 
 /**
  * A {@link ValueResolver} which always returns the same constant value.
@@ -36,4 +41,14 @@ public class StaticValueResolver<T> implements ValueResolver<T> {
   public boolean isDynamic() {
     return false;
   }
+
+  /**
+   * @return {@code true} unless the value is a stream or a {@link Cursor}/{@link CursorProvider}, or a {@link TypedValue} of
+   *         one, which cannot be shared
+   */
+  @Override
+  public boolean isCacheable() {
+    final Object actualValue = value instanceof TypedValue ? ((TypedValue) value).getValue() : value;
+    return !(actualValue instanceof InputStream || actualValue instanceof Cursor || actualValue instanceof CursorProvider);
+  }
 }
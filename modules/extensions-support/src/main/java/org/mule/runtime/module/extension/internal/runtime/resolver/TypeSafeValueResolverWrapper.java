@@ -56,6 +56,11 @@ public class TypeSafeValueResolverWrapper<T> implements ValueResolver<T>, Initia
     return valueResolverDelegate.isDynamic();
   }
 
+  @Override
+  public boolean isCacheable() {
+    return valueResolverDelegate.isCacheable() && !InputStream.class.isAssignableFrom(expectedType);
+  }
+
   @Override
   public void initialise() throws InitialisationException {
     TypeSafeTransformer typeSafeTransformer = new TypeSafeTransformer(transformationService);
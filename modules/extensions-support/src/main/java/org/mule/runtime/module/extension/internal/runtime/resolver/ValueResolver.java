@@ -32,4 +32,18 @@ public interface ValueResolver<T> {
    * @return whether the resolved value changes based or the resolution context or not
    */
   boolean isDynamic();
+
+  /**
+   * Returns {@code true} if the value returned by {@link #resolve(ValueResolvingContext)} is not only constant but can also be
+   * safely resolved once and shared across all subsequent resolutions, regardless of the {@link ValueResolvingContext}.
+   * <p>
+   * This is a stronger guarantee than {@link #isDynamic()} returning {@code false}: some non dynamic resolvers still produce
+   * values which depend on the current event or config, or which cannot be consumed more than once (such as streams).
+   *
+   * @return whether the resolved value can be cached. Defaults to {@code false}
+   * @since 4.4.0
+   */
+  default boolean isCacheable() {
+    return false;
+  }
 }
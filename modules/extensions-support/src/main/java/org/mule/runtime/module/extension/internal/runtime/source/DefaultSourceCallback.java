@@ -12,6 +12,7 @@ import static org.mule.runtime.api.metadata.MediaType.parse;
 import static org.mule.runtime.api.metadata.MediaTypeUtils.parseCharset;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
 import static org.mule.runtime.core.api.util.SystemUtils.getDefaultEncoding;
+import static org.mule.runtime.module.extension.internal.ExtensionProperties.ADMISSION_LIMIT_CONTEXT_PARAM;
 import static org.mule.runtime.module.extension.internal.ExtensionProperties.ENCODING_PARAMETER_NAME;
 import static org.mule.runtime.module.extension.internal.ExtensionProperties.MIME_TYPE_PARAMETER_NAME;
 import static org.mule.runtime.module.extension.internal.util.MediaTypeUtils.getDefaultMediaType;
@@ -268,11 +269,16 @@ class DefaultSourceCallback<T, A> implements SourceCallbackAdapter<T, A> {
   private void executeFlow(SourceCallbackContext context, MessageProcessContext messageProcessContext,
                            SourceResultAdapter resultAdapter) {
     SourceCallbackContextAdapter contextAdapter = (SourceCallbackContextAdapter) context;
+    SourceAdmissionController admissionController = messageSource.getAdmissionController();
+    if (admissionController != null) {
+      contextAdapter.addVariable(ADMISSION_LIMIT_CONTEXT_PARAM, admissionController.getLimit());
+    }
     messageProcessingManager.processMessage(
                                             new ExtensionsFlowProcessingTemplate(resultAdapter, listener,
                                                                                  contextAdapter.getNotificationsFunctions(),
                                                                                  completionHandlerFactory
-                                                                                     .createCompletionHandler(contextAdapter)),
+                                                                                     .createCompletionHandler(contextAdapter),
+                                                                                 admissionController),
                                             messageProcessContext);
   }
 
@@ -7,6 +7,10 @@
 package org.mule.runtime.module.extension.internal.runtime.source;
 
 import static com.google.common.collect.ImmutableMap.copyOf;
+import static java.lang.Boolean.getBoolean;
+import static java.lang.Integer.getInteger;
+import static java.lang.Long.getLong;
+import static java.lang.Math.min;
 import static java.lang.String.format;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
@@ -16,8 +20,15 @@ import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNee
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
 import static org.mule.runtime.core.api.rx.Exceptions.unwrap;
+import static org.mule.runtime.core.api.source.MessageSource.BackPressureStrategy.WAIT;
 import static org.mule.runtime.core.api.util.ExceptionUtils.extractConnectionException;
 import static org.mule.runtime.module.extension.api.util.MuleExtensionUtils.getInitialiserEvent;
+import static org.mule.runtime.module.extension.internal.runtime.source.SourceAdmissionController.ADAPTIVE_ADMISSION_PROPERTY;
+import static org.mule.runtime.module.extension.internal.runtime.source.SourceAdmissionController.INITIAL_LIMIT_PROPERTY;
+import static org.mule.runtime.module.extension.internal.runtime.source.SourceAdmissionController.MAX_LIMIT_PROPERTY;
+import static org.mule.runtime.module.extension.internal.runtime.source.SourceAdmissionController.MAX_QUEUE_SIZE_PROPERTY;
+import static org.mule.runtime.module.extension.internal.runtime.source.SourceAdmissionController.MIN_LIMIT_PROPERTY;
+import static org.mule.runtime.module.extension.internal.runtime.source.SourceAdmissionController.QUEUE_TIMEOUT_PROPERTY;
 import static org.mule.runtime.module.extension.internal.util.MuleExtensionUtils.toActionCode;
 import static org.mule.runtime.module.extension.internal.util.MuleExtensionUtils.toMap;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -42,6 +53,7 @@ import org.mule.runtime.api.tx.TransactionType;
 import org.mule.runtime.api.util.LazyValue;
 import org.mule.runtime.core.api.SingleResourceTransactionFactoryManager;
 import org.mule.runtime.core.api.construct.FlowConstruct;
+import org.mule.runtime.core.api.construct.Pipeline;
 import org.mule.runtime.core.api.el.ExpressionManager;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.extension.ExtensionManager;
@@ -144,6 +156,7 @@ public class ExtensionMessageSource extends ExtensionComponent<SourceModel> impl
   // FlowConstruct is obtained when needed because during MUnit's tooling tests and Lazy Init mode this should never be evaluated.
   private LazyValue<FlowConstruct> flowConstruct;
   private MessageProcessContext messageProcessContext;
+  private volatile SourceAdmissionController admissionController;
 
   private final NotificationDispatcher notificationDispatcher;
   private final SingleResourceTransactionFactoryManager transactionFactoryManager;
@@ -364,6 +377,13 @@ public class ExtensionMessageSource extends ExtensionComponent<SourceModel> impl
         retryScheduler = schedulerService.ioScheduler();
       }
 
+      if (admissionController == null && getBoolean(ADAPTIVE_ADMISSION_PROPERTY)) {
+        admissionController = createAdmissionController();
+        if (muleContext.getStatistics() != null) {
+          muleContext.getStatistics().addStatistics(getAdmissionStatisticsName(), admissionController.getStatistics());
+        }
+      }
+
       synchronized (started) {
         startSource();
         started.set(true);
@@ -391,6 +411,9 @@ public class ExtensionMessageSource extends ExtensionComponent<SourceModel> impl
         stopIfNeeded(retryPolicyTemplate);
         disposeIfNeeded(retryPolicyTemplate, LOGGER);
         stopSchedulers();
+        if (admissionController != null && muleContext.getStatistics() != null) {
+          muleContext.getStatistics().removeStatistics(getAdmissionStatisticsName(), admissionController.getStatistics());
+        }
       }));
     } catch (MuleException e) {
       LOGGER.warn(format("Failed to dispose message source at root element '%s'. %s",
@@ -459,6 +482,38 @@ public class ExtensionMessageSource extends ExtensionComponent<SourceModel> impl
     sourceAdapter = null;
   }
 
+  private SourceAdmissionController createAdmissionController() {
+    FlowConstruct flow = flowConstruct.get();
+    int maxLimit = getInteger(MAX_LIMIT_PROPERTY, 1000);
+    if (flow instanceof Pipeline) {
+      maxLimit = min(maxLimit, ((Pipeline) flow).getMaxConcurrency());
+    }
+    return new SourceAdmissionController(flow, backPressureStrategy == WAIT, getInteger(MIN_LIMIT_PROPERTY, 4),
+                                         getInteger(INITIAL_LIMIT_PROPERTY, 20), maxLimit,
+                                         getInteger(MAX_QUEUE_SIZE_PROPERTY, 64), getLong(QUEUE_TIMEOUT_PROPERTY, 1000));
+  }
+
+  /**
+   * @return the controller that admits the events of this source into the flow, or {@code null} if adaptive admission control
+   *         is not enabled.
+   */
+  SourceAdmissionController getAdmissionController() {
+    return admissionController;
+  }
+
+  /**
+   * @return the statistics of the events admitted into the flow by this source, if adaptive admission control is enabled.
+   * @since 4.4.0
+   */
+  public Optional<SourceAdmissionStatistics> getAdmissionStatistics() {
+    SourceAdmissionController controller = admissionController;
+    return controller != null ? of(controller.getStatistics()) : empty();
+  }
+
+  private String getAdmissionStatisticsName() {
+    return "sourceAdmission/" + getLocation().getLocation();
+  }
+
   private TransactionConfig buildTransactionConfig() {
     MuleTransactionConfig transactionConfig = new MuleTransactionConfig();
     transactionConfig.setAction(toActionCode(sourceAdapter.getTransactionalAction()));
@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.module.extension.internal.runtime.source;
 
+import static java.lang.System.nanoTime;
 import static org.mule.runtime.core.api.rx.Exceptions.propagateWrappingFatal;
 
 import org.mule.runtime.api.component.execution.CompletableCallback;
@@ -13,6 +14,7 @@ import org.mule.runtime.api.functional.Either;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.processor.Processor;
 import org.mule.runtime.core.api.util.func.CheckedFunction;
+import org.mule.runtime.core.internal.construct.FlowBackPressureException;
 import org.mule.runtime.core.internal.exception.MessagingException;
 import org.mule.runtime.core.internal.execution.FlowProcessingTemplate;
 import org.mule.runtime.core.internal.execution.NotificationFunction;
@@ -25,13 +27,33 @@ final class ExtensionsFlowProcessingTemplate extends FlowProcessingTemplate {
 
   private final SourceResultAdapter sourceMessage;
   private final SourceCompletionHandler completionHandler;
+  private final SourceAdmissionController admissionController;
+  private volatile boolean admitted = false;
+  private volatile long admittedAt;
 
   ExtensionsFlowProcessingTemplate(SourceResultAdapter sourceMessage,
                                    Processor messageProcessor,
                                    List<NotificationFunction> notificationFunctions, SourceCompletionHandler completionHandler) {
+    this(sourceMessage, messageProcessor, notificationFunctions, completionHandler, null);
+  }
+
+  ExtensionsFlowProcessingTemplate(SourceResultAdapter sourceMessage,
+                                   Processor messageProcessor,
+                                   List<NotificationFunction> notificationFunctions, SourceCompletionHandler completionHandler,
+                                   SourceAdmissionController admissionController) {
     super(messageProcessor, notificationFunctions);
     this.sourceMessage = sourceMessage;
     this.completionHandler = completionHandler;
+    this.admissionController = admissionController;
+  }
+
+  @Override
+  public void checkAdmission(CoreEvent event) throws FlowBackPressureException {
+    if (admissionController != null) {
+      admissionController.admit();
+      admittedAt = nanoTime();
+      admitted = true;
+    }
   }
 
   @Override
@@ -67,6 +89,11 @@ final class ExtensionsFlowProcessingTemplate extends FlowProcessingTemplate {
       completionHandler.onTerminate(either);
     } catch (Exception e) {
       throw propagateWrappingFatal(e);
+    } finally {
+      if (admitted) {
+        admitted = false;
+        admissionController.release(nanoTime() - admittedAt);
+      }
     }
   }
 
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.source;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.mule.runtime.core.api.construct.BackPressureReason.ADMISSION_LIMIT_EXCEEDED;
+
+import org.mule.runtime.api.component.Component;
+import org.mule.runtime.core.internal.construct.FlowBackPressureAdmissionLimitExceededException;
+import org.mule.runtime.core.internal.construct.FlowBackPressureException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits how many events a message source may have in flight, adapting the limit to the latency of the flow.
+ * <p>
+ * Two moving averages of the latency of the flow are kept: a short term one, following the last tens of events, and a long term
+ * one used as the baseline, following the last hundreds. The limit grows additively while the short term latency stays close to
+ * the baseline, and shrinks multiplicatively, at most once per round trip, when it goes well beyond it. Comparing averages
+ * instead of single events keeps flows whose events naturally have different latencies from shrinking the limit, and the
+ * baseline following the latency keeps a flow whose dependencies got permanently slower from shrinking it indefinitely. The
+ * limit never goes below a given floor. This keeps the latency of the flow bounded under overload, instead of accumulating
+ * events in the flow.
+ * <p>
+ * Events that exceed the limit are rejected as if the flow had exerted back-pressure on them, with the
+ * {@link org.mule.runtime.core.api.construct.BackPressureReason#ADMISSION_LIMIT_EXCEEDED} reason. When the source uses the
+ * {@code WAIT} back-pressure strategy, a bounded amount of events may wait for a while to be admitted before being rejected.
+ *
+ * @since 4.4.0
+ */
+public class SourceAdmissionController {
+
+  /**
+   * Enables the adaptive admission control for message sources of extensions.
+   */
+  public static final String ADAPTIVE_ADMISSION_PROPERTY = SYSTEM_PROPERTY_PREFIX + "source.adaptiveAdmission";
+
+  /**
+   * The lowest limit of events a source may have in flight, regardless of the latency of the flow. Defaults to 4.
+   */
+  public static final String MIN_LIMIT_PROPERTY = ADAPTIVE_ADMISSION_PROPERTY + ".minLimit";
+
+  /**
+   * How many events a source may have in flight before any latency is observed. Defaults to 20.
+   */
+  public static final String INITIAL_LIMIT_PROPERTY = ADAPTIVE_ADMISSION_PROPERTY + ".initialLimit";
+
+  /**
+   * The highest limit of events a source may have in flight, further capped by the maxConcurrency of the flow. Defaults to
+   * 1000.
+   */
+  public static final String MAX_LIMIT_PROPERTY = ADAPTIVE_ADMISSION_PROPERTY + ".maxLimit";
+
+  /**
+   * How many events of a source with the {@code WAIT} back-pressure strategy may wait to be admitted. Defaults to 64.
+   */
+  public static final String MAX_QUEUE_SIZE_PROPERTY = ADAPTIVE_ADMISSION_PROPERTY + ".maxQueueSize";
+
+  /**
+   * How long events of a source with the {@code WAIT} back-pressure strategy may wait to be admitted, in milliseconds. Defaults
+   * to 1000.
+   */
+  public static final String QUEUE_TIMEOUT_PROPERTY = ADAPTIVE_ADMISSION_PROPERTY + ".queueTimeoutMillis";
+
+  private static final int MIN_LIMIT = 1;
+  private static final double BACKOFF_RATIO = 0.9;
+  private static final double SHORT_TERM_WEIGHT = 0.05;
+  private static final double LONG_TERM_WEIGHT = 0.01;
+  private static final double LATENCY_TOLERANCE = 2.0;
+  // Differences below this are considered jitter even if the tolerance is exceeded, relevant for flows with very low latency
+  private static final long LATENCY_TOLERANCE_FLOOR_NANOS = MILLISECONDS.toNanos(1);
+
+  private final boolean waitForAdmission;
+  private final int minLimit;
+  private final int maxLimit;
+  private final int maxQueueSize;
+  private final long queueTimeoutNanos;
+  private final FlowBackPressureException rejection;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger queued = new AtomicInteger();
+  private final Object permitsMonitor = new Object();
+  private final SourceAdmissionStatistics statistics;
+
+  private volatile int currentLimit;
+
+  // Guarded by this
+  private double limit;
+  private double shortTermLatencyNanos;
+  private double longTermLatencyNanos;
+  private long samples;
+  private long lastBackoffNanos;
+
+  /**
+   * @param flow               the flow the events are admitted to.
+   * @param waitForAdmission   whether events exceeding the limit may wait to be admitted, or are rejected right away.
+   * @param minLimit           the lowest limit of events that may be in flight.
+   * @param initialLimit       how many events may be in flight before any latency is observed.
+   * @param maxLimit           the highest limit of events that may be in flight.
+   * @param maxQueueSize       how many events may wait to be admitted at the same time.
+   * @param queueTimeoutMillis how long an event may wait to be admitted.
+   */
+  public SourceAdmissionController(Component flow, boolean waitForAdmission, int minLimit, int initialLimit, int maxLimit,
+                                   int maxQueueSize, long queueTimeoutMillis) {
+    this.waitForAdmission = waitForAdmission;
+    this.maxLimit = max(maxLimit, MIN_LIMIT);
+    this.minLimit = min(max(minLimit, MIN_LIMIT), this.maxLimit);
+    this.maxQueueSize = maxQueueSize;
+    this.queueTimeoutNanos = MILLISECONDS.toNanos(queueTimeoutMillis);
+    this.limit = min(max(initialLimit, this.minLimit), this.maxLimit);
+    this.currentLimit = (int) limit;
+    this.lastBackoffNanos = nanoTime();
+    // Rejections are expected to happen under overload, so the same exception is reused as the flows do
+    this.rejection = new FlowBackPressureAdmissionLimitExceededException(flow, ADMISSION_LIMIT_EXCEEDED);
+    this.statistics = new SourceAdmissionStatistics(() -> currentLimit, inFlight::get, queued::get);
+  }
+
+  /**
+   * Admits an event for processing, waiting for it if allowed. Each admitted event must be {@link #release(long) released} once
+   * the flow completes it.
+   *
+   * @throws FlowBackPressureException if the event is not admitted.
+   */
+  public void admit() throws FlowBackPressureException {
+    if (tryAcquire()) {
+      statistics.admitted(false);
+      return;
+    }
+
+    if (waitForAdmission && queued.incrementAndGet() <= maxQueueSize) {
+      try {
+        if (awaitPermit()) {
+          statistics.admitted(true);
+          return;
+        }
+      } finally {
+        queued.decrementAndGet();
+      }
+    } else if (waitForAdmission) {
+      queued.decrementAndGet();
+    }
+
+    statistics.shed();
+    throw rejection;
+  }
+
+  /**
+   * Releases the permit of an admitted event, taking its latency into account for the limit.
+   *
+   * @param latencyNanos the time it took the flow to complete the event, in nanoseconds.
+   */
+  public void release(long latencyNanos) {
+    inFlight.decrementAndGet();
+    statistics.completed(latencyNanos);
+    updateLimit(latencyNanos);
+
+    if (queued.get() > 0) {
+      synchronized (permitsMonitor) {
+        permitsMonitor.notifyAll();
+      }
+    }
+  }
+
+  /**
+   * @return the current limit of events that may be in flight.
+   */
+  public int getLimit() {
+    return currentLimit;
+  }
+
+  /**
+   * @return the statistics of the events admitted and shed by this controller.
+   */
+  public SourceAdmissionStatistics getStatistics() {
+    return statistics;
+  }
+
+  private boolean tryAcquire() {
+    while (true) {
+      int current = inFlight.get();
+      if (current >= currentLimit) {
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  private boolean awaitPermit() {
+    final long deadline = nanoTime() + queueTimeoutNanos;
+    synchronized (permitsMonitor) {
+      while (!tryAcquire()) {
+        long remaining = deadline - nanoTime();
+        if (remaining <= 0) {
+          return false;
+        }
+        try {
+          NANOSECONDS.timedWait(permitsMonitor, remaining);
+        } catch (InterruptedException e) {
+          currentThread().interrupt();
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  private synchronized void updateLimit(long latencyNanos) {
+    // Until enough samples are observed, the averages are plain means so they don't depend on the first latencies only
+    ++samples;
+    shortTermLatencyNanos += (latencyNanos - shortTermLatencyNanos) * max(1.0 / samples, SHORT_TERM_WEIGHT);
+    longTermLatencyNanos += (latencyNanos - longTermLatencyNanos) * max(1.0 / samples, LONG_TERM_WEIGHT);
+
+    final long now = nanoTime();
+    final double toleratedLatencyNanos =
+        max(longTermLatencyNanos * LATENCY_TOLERANCE, longTermLatencyNanos + LATENCY_TOLERANCE_FLOOR_NANOS);
+    if (shortTermLatencyNanos > toleratedLatencyNanos) {
+      if (now - lastBackoffNanos >= shortTermLatencyNanos) {
+        limit = max(limit * BACKOFF_RATIO, minLimit);
+        lastBackoffNanos = now;
+      }
+    } else if (inFlight.get() * 2 >= currentLimit) {
+      // Only grow while the current limit is actually being used
+      limit = min(limit + 1 / limit, maxLimit);
+    }
+    currentLimit = (int) limit;
+  }
+}
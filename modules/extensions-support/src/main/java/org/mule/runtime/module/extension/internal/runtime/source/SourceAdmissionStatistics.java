@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.source;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import org.mule.runtime.core.api.management.stats.Statistics;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Statistics of the events admitted and shed by a {@link SourceAdmissionController}.
+ *
+ * @since 4.4.0
+ */
+public class SourceAdmissionStatistics implements Statistics {
+
+  private static final long serialVersionUID = 8045279031628346715L;
+
+  private static final double NANOS_PER_MILLI = MILLISECONDS.toNanos(1);
+
+  private final transient IntSupplier limit;
+  private final transient IntSupplier inFlight;
+  private final transient IntSupplier queued;
+  private final LongAdder admitted = new LongAdder();
+  private final LongAdder admittedAfterQueueing = new LongAdder();
+  private final LongAdder shed = new LongAdder();
+  private final LongAdder completed = new LongAdder();
+  private final LongAdder totalLatencyNanos = new LongAdder();
+
+  SourceAdmissionStatistics(IntSupplier limit, IntSupplier inFlight, IntSupplier queued) {
+    this.limit = limit;
+    this.inFlight = inFlight;
+    this.queued = queued;
+  }
+
+  void admitted(boolean afterQueueing) {
+    admitted.increment();
+    if (afterQueueing) {
+      admittedAfterQueueing.increment();
+    }
+  }
+
+  void shed() {
+    shed.increment();
+  }
+
+  void completed(long latencyNanos) {
+    completed.increment();
+    totalLatencyNanos.add(latencyNanos);
+  }
+
+  /**
+   * @return the current limit of events the source may have in flight.
+   */
+  public int getLimit() {
+    return limit.getAsInt();
+  }
+
+  /**
+   * @return how many events of the source are currently being processed by the flow.
+   */
+  public int getInFlight() {
+    return inFlight.getAsInt();
+  }
+
+  /**
+   * @return how many events of the source are currently waiting to be admitted.
+   */
+  public int getQueued() {
+    return queued.getAsInt();
+  }
+
+  /**
+   * @return how many events were admitted for processing, including the ones that had to wait for it.
+   */
+  public long getAdmitted() {
+    return admitted.sum();
+  }
+
+  /**
+   * @return how many of the admitted events had to wait for it.
+   */
+  public long getAdmittedAfterQueueing() {
+    return admittedAfterQueueing.sum();
+  }
+
+  /**
+   * @return how many events were rejected, either right away or after waiting for too long.
+   */
+  public long getShed() {
+    return shed.sum();
+  }
+
+  /**
+   * @return the average time it took the flow to complete the admitted events, in milliseconds.
+   */
+  public double getAverageLatencyMillis() {
+    long count = completed.sum();
+    return count == 0 ? 0 : totalLatencyNanos.sum() / count / NANOS_PER_MILLI;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "limit: " + getLimit() + "; inFlight: " + getInFlight() + "; queued: " + getQueued() + "; admitted: " + getAdmitted()
+        + "; admittedAfterQueueing: " + getAdmittedAfterQueueing() + "; shed: " + getShed() + "; averageLatencyMillis: "
+        + getAverageLatencyMillis();
+  }
+}
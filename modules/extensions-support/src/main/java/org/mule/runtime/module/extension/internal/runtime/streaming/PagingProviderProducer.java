@@ -7,8 +7,11 @@
 
 package org.mule.runtime.module.extension.internal.runtime.streaming;
 
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.function.Function.identity;
+import static org.apache.commons.collections.CollectionUtils.isEmpty;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.core.api.util.ExceptionUtils.extractConnectionException;
 import static org.mule.runtime.core.internal.util.FunctionalUtils.safely;
@@ -24,25 +27,34 @@ import org.mule.runtime.api.connection.ConnectionException;
 import org.mule.runtime.api.connection.ConnectionHandler;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.api.util.LazyValue;
 import org.mule.runtime.core.api.retry.policy.NoRetryPolicyTemplate;
 import org.mule.runtime.core.api.retry.policy.RetryPolicyTemplate;
 import org.mule.runtime.core.api.streaming.iterator.Producer;
+import org.mule.runtime.core.api.transaction.TransactionConfig;
 import org.mule.runtime.core.api.util.func.CheckedSupplier;
 import org.mule.runtime.extension.api.runtime.config.ConfigurationInstance;
 import org.mule.runtime.extension.api.runtime.streaming.PagingProvider;
 import org.mule.runtime.module.extension.api.runtime.privileged.ExecutionContextAdapter;
 import org.mule.runtime.module.extension.internal.runtime.connectivity.ExtensionConnectionSupplier;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Function;
 
 import org.slf4j.Logger;
 
 /**
  * Implementation of {@link Producer} that uses an instance of {@link PagingProvider} to get its results.
+ * <p>
+ * When created with a prefetch depth, once the first page is produced up to that many following pages are fetched ahead on the
+ * given {@link Scheduler} while the consumer processes the current one. Pages are still fetched one at a time and in order, so
+ * sticky connections are never used concurrently. Pages of transacted operations are never prefetched.
  *
  * @param <T> the type of the elements returned by the {@link PagingProvider}.
  * @since 3.5.0
@@ -62,7 +74,17 @@ public final class PagingProviderProducer<T> implements Producer<List<T>> {
   private final ConnectionSupplierFactory connectionSupplierFactory;
   private final RetryPolicyTemplate retryPolicy;
   private final boolean supportsOAuth;
-  private boolean isFirstPage = true;
+  private volatile boolean isFirstPage = true;
+
+  private final Scheduler prefetchScheduler;
+  private final int prefetchDepth;
+  private final Deque<CompletableFuture<List<T>>> prefetchedPages = new ArrayDeque<>();
+  private CompletableFuture<?> lastPrefetch = completedFuture(null);
+  private volatile boolean exhausted = false;
+  private volatile boolean prefetchRejected = false;
+  // Serializes the access to the delegate, since prefetches run in a different thread than the consumer
+  private final Object delegateLock = new Object();
+  private final PagingStatistics statistics;
 
   public PagingProviderProducer(PagingProvider<Object, T> delegate,
                                 ConfigurationInstance config,
@@ -76,6 +98,43 @@ public final class PagingProviderProducer<T> implements Producer<List<T>> {
                                 ExecutionContextAdapter executionContext,
                                 ExtensionConnectionSupplier extensionConnectionSupplier,
                                 boolean supportsOAuth) {
+    this(delegate, config, executionContext, extensionConnectionSupplier, supportsOAuth, null, 0);
+  }
+
+  /**
+   * @param prefetchScheduler where pages are fetched ahead of being consumed. May be null if {@code prefetchDepth} is 0.
+   * @param prefetchDepth     how many pages may be fetched ahead of being consumed. 0 to fetch each page only when requested.
+   * @since 4.4.0
+   */
+  public PagingProviderProducer(PagingProvider<Object, T> delegate,
+                                ConfigurationInstance config,
+                                ExecutionContextAdapter executionContext,
+                                ExtensionConnectionSupplier extensionConnectionSupplier,
+                                boolean supportsOAuth,
+                                Scheduler prefetchScheduler,
+                                int prefetchDepth) {
+    this(delegate, config, executionContext, extensionConnectionSupplier, supportsOAuth, prefetchScheduler, prefetchDepth,
+         new PagingStatistics());
+  }
+
+  /**
+   * @param prefetchScheduler where pages are fetched ahead of being consumed. May be null if {@code prefetchDepth} is 0.
+   * @param prefetchDepth     how many pages may be fetched ahead of being consumed. 0 to fetch each page only when requested.
+   * @param statistics        where the pages obtained by this producer are accounted.
+   * @since 4.4.0
+   */
+  public PagingProviderProducer(PagingProvider<Object, T> delegate,
+                                ConfigurationInstance config,
+                                ExecutionContextAdapter executionContext,
+                                ExtensionConnectionSupplier extensionConnectionSupplier,
+                                boolean supportsOAuth,
+                                Scheduler prefetchScheduler,
+                                int prefetchDepth,
+                                PagingStatistics statistics) {
+    this.statistics = statistics;
+    this.prefetchScheduler = prefetchScheduler;
+    // The transaction is bound to the thread of the operation, so pages of a transacted operation can't be fetched in others
+    this.prefetchDepth = prefetchScheduler != null && !isTransacted(executionContext) ? prefetchDepth : 0;
     this.delegate = new PagingProviderWrapper(delegate, executionContext.getExtensionModel());
     this.config = config;
     this.executionContext = executionContext;
@@ -85,13 +144,31 @@ public final class PagingProviderProducer<T> implements Producer<List<T>> {
     connectionSupplierFactory = createConnectionSupplierFactory();
   }
 
+  private static boolean isTransacted(ExecutionContextAdapter executionContext) {
+    return executionContext.getTransactionConfig().map(TransactionConfig::isTransacted).orElse(false);
+  }
+
   /**
    * Asks the delegate for the next page
    */
   @Override
   public List<T> produce() {
-    List<T> page = performWithConnection(delegate::getPage);
-    isFirstPage = false;
+    if (prefetchDepth <= 0) {
+      List<T> page = fetchPage(false);
+      isFirstPage = false;
+      return page;
+    }
+
+    List<T> page;
+    if (isFirstPage) {
+      // The first page is always obtained in the calling thread, so errors in the operation itself are reported right away
+      page = fetchPage(false);
+      isFirstPage = false;
+      exhausted = isEmpty(page);
+    } else {
+      page = nextPrefetchedPage();
+    }
+    prefetch();
     return page;
   }
 
@@ -100,7 +177,110 @@ public final class PagingProviderProducer<T> implements Producer<List<T>> {
    */
   @Override
   public int getSize() {
-    return performWithConnection(connection -> delegate.getTotalResults(connection)).orElse(-1);
+    synchronized (delegateLock) {
+      return performWithConnection(connection -> delegate.getTotalResults(connection)).orElse(-1);
+    }
+  }
+
+  /**
+   * @return the statistics where the pages obtained by this producer are accounted.
+   * @since 4.4.0
+   */
+  public PagingStatistics getStatistics() {
+    return statistics;
+  }
+
+  private List<T> fetchPage(boolean prefetched) {
+    synchronized (delegateLock) {
+      final long start = nanoTime();
+      try {
+        return performWithConnection(delegate::getPage);
+      } finally {
+        statistics.pageFetched(nanoTime() - start, prefetched);
+      }
+    }
+  }
+
+  private List<T> nextPrefetchedPage() {
+    CompletableFuture<List<T>> prefetchedPage;
+    synchronized (prefetchedPages) {
+      prefetchedPage = prefetchedPages.poll();
+    }
+    if (prefetchedPage == null) {
+      return exhausted ? null : fetchPage(false);
+    }
+
+    final long start = nanoTime();
+    final boolean ready = prefetchedPage.isDone();
+    try {
+      return prefetchedPage.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RejectedExecutionException) {
+        // The scheduler is not accepting tasks anymore, fall back to fetching in the calling thread
+        return exhausted ? null : fetchPage(false);
+      }
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new MuleRuntimeException(createStaticMessage(COULD_NOT_EXECUTE), e.getCause());
+    } catch (InterruptedException e) {
+      currentThread().interrupt();
+      throw new MuleRuntimeException(createStaticMessage(COULD_NOT_EXECUTE), e);
+    } finally {
+      if (!ready) {
+        statistics.stalled(nanoTime() - start);
+      }
+    }
+  }
+
+  private void prefetch() {
+    synchronized (prefetchedPages) {
+      while (!exhausted && !prefetchRejected && prefetchedPages.size() < prefetchDepth) {
+        // Each prefetch waits for the previous one, whatever its outcome, so pages are fetched one at a time and in order
+        CompletableFuture<List<T>> prefetchedPage = new CompletableFuture<>();
+        lastPrefetch.whenComplete((page, e) -> schedulePrefetch(prefetchedPage));
+        prefetchedPages.add(prefetchedPage);
+        lastPrefetch = prefetchedPage;
+      }
+    }
+  }
+
+  private void schedulePrefetch(CompletableFuture<List<T>> prefetchedPage) {
+    if (!prefetchRejected) {
+      try {
+        prefetchScheduler.execute(() -> {
+          try {
+            prefetchedPage.complete(prefetchPage());
+          } catch (Throwable t) {
+            prefetchedPage.completeExceptionally(t);
+          }
+        });
+        return;
+      } catch (RejectedExecutionException e) {
+        // Once a prefetch is rejected, the following pages are fetched by the consumer so they are still obtained in order
+        prefetchRejected = true;
+      }
+    }
+    // Nothing was fetched for this page, so the consumer will fetch it in its thread
+    prefetchedPage.completeExceptionally(new RejectedExecutionException("Page prefetch rejected by the scheduler"));
+  }
+
+  private List<T> prefetchPage() {
+    if (exhausted) {
+      return null;
+    }
+
+    try {
+      List<T> page = fetchPage(true);
+      if (isEmpty(page)) {
+        exhausted = true;
+      }
+      return page;
+    } catch (RuntimeException e) {
+      // The error is reported to the consumer when it gets to this page, nothing is fetched after it
+      exhausted = true;
+      throw e;
+    }
   }
 
   /**
@@ -178,17 +358,28 @@ public final class PagingProviderProducer<T> implements Producer<List<T>> {
    */
   @Override
   public void close() {
+    if (prefetchDepth > 0) {
+      exhausted = true;
+      synchronized (prefetchedPages) {
+        prefetchedPages.forEach(prefetchedPage -> prefetchedPage.cancel(false));
+        prefetchedPages.clear();
+      }
+    }
+
     ConnectionSupplier connectionSupplier = null;
-    try {
-      connectionSupplier = connectionSupplierFactory.getConnectionSupplier();
-      delegate.close(connectionSupplier.getConnection());
-    } catch (Exception e) {
-      throw new MuleRuntimeException(createStaticMessage(COULD_NOT_OBTAIN_A_CONNECTION), e);
-    } finally {
-      if (connectionSupplier != null) {
-        safely(connectionSupplier::close, e -> LOGGER.debug("Found exception closing the connection supplier", e));
+    // Waits for any prefetch in progress to finish with the delegate
+    synchronized (delegateLock) {
+      try {
+        connectionSupplier = connectionSupplierFactory.getConnectionSupplier();
+        delegate.close(connectionSupplier.getConnection());
+      } catch (Exception e) {
+        throw new MuleRuntimeException(createStaticMessage(COULD_NOT_OBTAIN_A_CONNECTION), e);
+      } finally {
+        if (connectionSupplier != null) {
+          safely(connectionSupplier::close, e -> LOGGER.debug("Found exception closing the connection supplier", e));
+        }
+        connectionSupplierFactory.dispose();
       }
-      connectionSupplierFactory.dispose();
     }
   }
 
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.streaming;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import org.mule.runtime.core.api.management.stats.Statistics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the pages obtained by {@link PagingProviderProducer}s. The producers created for the executions of the same
+ * paged operation share the same statistics.
+ *
+ * @since 4.4.0
+ */
+public class PagingStatistics implements Statistics {
+
+  private static final long serialVersionUID = 4726905127385102147L;
+
+  private static final double NANOS_PER_MILLI = MILLISECONDS.toNanos(1);
+
+  private final LongAdder pages = new LongAdder();
+  private final LongAdder prefetchedPages = new LongAdder();
+  private final LongAdder totalPageNanos = new LongAdder();
+  private final LongAdder stalls = new LongAdder();
+  private final LongAdder totalStallNanos = new LongAdder();
+
+  void pageFetched(long nanos, boolean prefetched) {
+    pages.increment();
+    totalPageNanos.add(nanos);
+    if (prefetched) {
+      prefetchedPages.increment();
+    }
+  }
+
+  void stalled(long nanos) {
+    stalls.increment();
+    totalStallNanos.add(nanos);
+  }
+
+  /**
+   * @return how many pages were obtained from the paging provider.
+   */
+  public long getPages() {
+    return pages.sum();
+  }
+
+  /**
+   * @return how many of the obtained pages were fetched ahead of being consumed.
+   */
+  public long getPrefetchedPages() {
+    return prefetchedPages.sum();
+  }
+
+  /**
+   * @return the average time it took to obtain a page from the paging provider, in milliseconds.
+   */
+  public double getAveragePageLatencyMillis() {
+    long count = pages.sum();
+    return count == 0 ? 0 : totalPageNanos.sum() / count / NANOS_PER_MILLI;
+  }
+
+  /**
+   * @return how many times the consumer had to wait for a prefetched page that was not available yet.
+   */
+  public long getStalls() {
+    return stalls.sum();
+  }
+
+  /**
+   * @return the total time the consumer spent waiting for prefetched pages, in milliseconds.
+   */
+  public double getStallTimeMillis() {
+    return totalStallNanos.sum() / NANOS_PER_MILLI;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "pages: " + getPages() + "; prefetchedPages: " + getPrefetchedPages() + "; averagePageLatencyMillis: "
+        + getAveragePageLatencyMillis() + "; stalls: " + getStalls() + "; stallTimeMillis: " + getStallTimeMillis();
+  }
+}
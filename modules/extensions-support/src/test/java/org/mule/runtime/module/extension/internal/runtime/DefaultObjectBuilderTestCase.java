@@ -7,16 +7,21 @@
 package org.mule.runtime.module.extension.internal.runtime;
 
 import static java.util.Optional.empty;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 import static org.mule.runtime.module.extension.internal.util.IntrospectionUtils.getField;
+import org.mule.runtime.core.api.Injector;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.internal.message.InternalMessage;
 import org.mule.runtime.module.extension.internal.runtime.objectbuilder.DefaultObjectBuilder;
+import org.mule.runtime.module.extension.internal.runtime.resolver.ObjectBuilderValueResolver;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ValueResolver;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ValueResolvingContext;
 import org.mule.runtime.module.extension.internal.util.ReflectionCache;
@@ -28,11 +33,15 @@ import org.mule.test.module.extension.internal.util.ExtensionsTestUtils;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
 @SmallTest
@@ -97,6 +106,55 @@ public class DefaultObjectBuilderTestCase extends AbstractMuleTestCase {
     assertThat(personalInfo.getAge(), is(AGE));
   }
 
+  @Test
+  public void cacheableValuesResolvedOnce() throws Exception {
+    populateCacheable();
+    builder.initialise();
+
+    PersonalInfo info1 = builder.build(resolvingContext);
+    PersonalInfo info2 = builder.build(resolvingContext);
+
+    assertThat(info1, is(not(sameInstance(info2))));
+    verify(info1);
+    verify(info2);
+    for (ValueResolver resolver : resolvers) {
+      Mockito.verify(resolver, times(1)).resolve(resolvingContext);
+    }
+  }
+
+  @Test
+  public void concurrentResolutionsDoNotShareInstances() throws Exception {
+    when(muleContext.getInjector()).thenReturn(mock(Injector.class));
+    populateCacheable();
+    ObjectBuilderValueResolver<PersonalInfo> resolver = new ObjectBuilderValueResolver<>(builder, muleContext);
+    resolver.initialise();
+
+    final int threads = 8;
+    final CyclicBarrier barrier = new CyclicBarrier(threads);
+    final ExecutorService executor = newFixedThreadPool(threads);
+    try {
+      List<Future<PersonalInfo>> results = new ArrayList<>();
+      for (int i = 0; i < threads; ++i) {
+        final String name = NAME + i;
+        results.add(executor.submit(() -> {
+          PersonalInfo info = resolver.resolve(resolvingContext);
+          info.setName(name);
+          barrier.await();
+          assertThat(info.getName(), is(name));
+          return info;
+        }));
+      }
+
+      for (Future<PersonalInfo> result : results) {
+        assertThat(result.get().getAge(), is(AGE));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    verify(resolver.resolve(resolvingContext));
+  }
+
   @Test
   public void isStatic() throws Exception {
     populate(false);
@@ -140,6 +198,13 @@ public class DefaultObjectBuilderTestCase extends AbstractMuleTestCase {
     builder.addPropertyResolver(ageField.getName(), getResolver(AGE, dynamic));
   }
 
+  private void populateCacheable() throws Exception {
+    populate(false);
+    for (ValueResolver resolver : resolvers) {
+      when(resolver.isCacheable()).thenReturn(true);
+    }
+  }
+
   private ValueResolver getResolver(Object value, boolean dynamic) throws Exception {
     ValueResolver resolver = ExtensionsTestUtils.getResolver(value, resolvingContext, dynamic);
     resolvers.add(resolver);
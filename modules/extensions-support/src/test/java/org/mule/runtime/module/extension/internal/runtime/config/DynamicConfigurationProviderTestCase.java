@@ -28,6 +28,8 @@ import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 import static org.mule.runtime.api.util.ExtensionModelTestUtils.visitableMock;
 import static org.mule.runtime.api.util.collection.Collectors.toImmutableList;
+import static org.mule.runtime.module.extension.internal.runtime.config.DynamicConfigurationProvider.DYNAMIC_PARAMETERS_KEY_PROPERTY;
+import static org.mule.tck.junit4.rule.SystemProperty.callWithProperty;
 import static org.mule.tck.probe.PollingProber.probe;
 import static org.mule.test.module.extension.internal.util.ExtensionsTestUtils.mockClassLoaderModelProperty;
 import static org.mule.test.module.extension.internal.util.ExtensionsTestUtils.mockConfigurationInstance;
@@ -42,6 +44,7 @@ import org.mule.runtime.api.meta.model.operation.OperationModel;
 import org.mule.runtime.api.util.Pair;
 import org.mule.runtime.core.api.el.ExpressionManager;
 import org.mule.runtime.core.api.el.ExpressionManagerSession;
+import org.mule.runtime.core.api.management.stats.Statistics;
 import org.mule.runtime.core.internal.config.ImmutableExpirationPolicy;
 import org.mule.runtime.extension.api.runtime.ExpirationPolicy;
 import org.mule.runtime.extension.api.runtime.config.ConfigurationInstance;
@@ -49,6 +52,7 @@ import org.mule.runtime.module.extension.internal.manager.DefaultExtensionManage
 import org.mule.runtime.module.extension.internal.runtime.resolver.ConnectionProviderResolver;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ResolverSet;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ResolverSetResult;
+import org.mule.runtime.module.extension.internal.runtime.resolver.ValueResolver;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ValueResolvingContext;
 import org.mule.runtime.module.extension.internal.util.ReflectionCache;
 import org.mule.tck.size.SmallTest;
@@ -68,6 +72,7 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 
 @SmallTest
 public class DynamicConfigurationProviderTestCase extends AbstractConfigurationProviderTestCase<HeisenbergExtension> {
@@ -281,6 +286,85 @@ public class DynamicConfigurationProviderTestCase extends AbstractConfigurationP
     assertThat(instance.getDispose(), is(1));
   }
 
+  @Test
+  public void instancesStatistics() throws Exception {
+    provider.get(event);
+    makeAlternateInstance();
+
+    DynamicConfigurationStatistics statistics = ((DynamicConfigurationProvider) provider).getInstancesStatistics();
+    assertThat(statistics.getCreatedInstances(), is(2L));
+    assertThat(statistics.getInstances(), is(2L));
+    assertThat(statistics.getExpiredInstances(), is(0L));
+
+    timeSupplier.move(10, MINUTES);
+    ((DynamicConfigurationProvider) provider).getExpired();
+    assertThat(statistics.getExpiredInstances(), is(2L));
+  }
+
+  @Test
+  public void instancesStatisticsRegistered() throws Exception {
+    DynamicConfigurationStatistics statistics = ((DynamicConfigurationProvider) provider).getInstancesStatistics();
+    assertThat(muleContext.getStatistics().getRegisteredStatistics().get("dynamicConfig/" + CONFIG_NAME),
+               is(sameInstance((Statistics) statistics)));
+
+    provider.dispose();
+    assertThat(muleContext.getStatistics().getRegisteredStatistics().containsKey("dynamicConfig/" + CONFIG_NAME), is(false));
+  }
+
+  @Test
+  public void resolveCachedByDynamicParameters() throws Throwable {
+    ValueResolver dynamicResolver = mock(ValueResolver.class);
+    when(dynamicResolver.isDynamic()).thenReturn(true);
+    when(dynamicResolver.resolve(any())).thenReturn("tenant");
+    ValueResolver staticResolver = mock(ValueResolver.class);
+    when(resolverSet.getResolvers()).thenReturn(ImmutableMap.of("dynamic", dynamicResolver, "static", staticResolver));
+    recreateProviderWithDynamicParametersKey();
+
+    final int count = 10;
+    HeisenbergExtension config = (HeisenbergExtension) provider.get(event).getValue();
+    for (int i = 1; i < count; i++) {
+      assertThat(provider.get(event).getValue(), is(sameInstance(config)));
+    }
+
+    // The whole resolver set is only evaluated to create the instance, static parameters are never evaluated for the lookup
+    verify(resolverSet, times(1)).resolve(any());
+    verify(dynamicResolver, times(count)).resolve(any());
+    verify(staticResolver, never()).resolve(any());
+    assertThat(((DynamicConfigurationProvider) provider).getInstancesStatistics().getCreatedInstances(), is(1L));
+  }
+
+  @Test
+  public void resolveDifferentInstancesByDynamicParameters() throws Throwable {
+    ValueResolver dynamicResolver = mock(ValueResolver.class);
+    when(dynamicResolver.isDynamic()).thenReturn(true);
+    when(dynamicResolver.resolve(any())).thenReturn("tenant1");
+    when(resolverSet.getResolvers()).thenReturn(ImmutableMap.of("dynamic", dynamicResolver));
+    recreateProviderWithDynamicParametersKey();
+
+    HeisenbergExtension instance1 = (HeisenbergExtension) provider.get(event).getValue();
+    mockConfigurationInstance(configurationModel, MODULE_CLASS.newInstance());
+    when(dynamicResolver.resolve(any())).thenReturn("tenant2");
+    HeisenbergExtension instance2 = (HeisenbergExtension) provider.get(event).getValue();
+
+    assertThat(instance2, is(not(sameInstance(instance1))));
+    when(dynamicResolver.resolve(any())).thenReturn("tenant1");
+    assertThat(provider.get(event).getValue(), is(sameInstance(instance1)));
+    assertThat(((DynamicConfigurationProvider) provider).getInstancesStatistics().getInstances(), is(2L));
+  }
+
+  private void recreateProviderWithDynamicParametersKey() throws Throwable {
+    stopIfNecessary();
+    disposeIfNecessary();
+
+    provider = callWithProperty(DYNAMIC_PARAMETERS_KEY_PROPERTY, "true",
+                                () -> new DynamicConfigurationProvider(CONFIG_NAME, extensionModel, configurationModel,
+                                                                       resolverSet, connectionProviderResolver, expirationPolicy,
+                                                                       new ReflectionCache(), expressionManager, muleContext));
+    muleContext.getInjector().inject(provider);
+    provider.initialise();
+    provider.start();
+  }
+
   private HeisenbergExtension makeAlternateInstance() throws Exception {
     ResolverSetResult alternateResult = mock(ResolverSetResult.class, Mockito.RETURNS_DEEP_STUBS);
     when(alternateResult.asMap()).thenReturn(new HashMap<>());
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.connectivity.oauth;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.Matchers.hasKey;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.api.management.stats.AllStatistics;
+import org.mule.runtime.core.api.management.stats.Statistics;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+@SmallTest
+public class OAuthTokenLifecycleManagerTestCase extends AbstractMuleTestCase {
+
+  private static final String KEY = "config-owner";
+
+  private OAuthTokenLifecycleManager manager;
+  private Scheduler scheduler;
+  private ScheduledFuture scheduled;
+
+  @Before
+  public void before() {
+    manager = new OAuthTokenLifecycleManager(60);
+    scheduler = mock(Scheduler.class);
+    scheduled = mock(ScheduledFuture.class);
+    doReturn(scheduled).when(scheduler).schedule(any(Runnable.class), anyLong(), any());
+  }
+
+  @Test
+  public void concurrentRefreshesAreCoalesced() {
+    AtomicInteger refreshes = new AtomicInteger();
+    CompletableFuture<Void> tokenEndpoint = new CompletableFuture<>();
+
+    CompletableFuture<Void> first = manager.refresh(KEY, () -> {
+      refreshes.incrementAndGet();
+      return tokenEndpoint;
+    });
+    CompletableFuture<Void> second = manager.refresh(KEY, () -> {
+      refreshes.incrementAndGet();
+      return tokenEndpoint;
+    });
+
+    assertThat(second, is(sameInstance(first)));
+    assertThat(first.isDone(), is(false));
+
+    tokenEndpoint.complete(null);
+    assertThat(first.isDone(), is(true));
+    assertThat(refreshes.get(), is(1));
+
+    OAuthTokenStatistics statistics = manager.getStatistics(KEY);
+    assertThat(statistics.getRefreshes(), is(1L));
+    assertThat(statistics.getCoalescedRefreshes(), is(1L));
+    assertThat(statistics.getFailedRefreshes(), is(0L));
+  }
+
+  @Test
+  public void refreshAfterCompletedRefreshIsPerformed() {
+    CompletableFuture<Void> first = manager.refresh(KEY, () -> CompletableFuture.completedFuture(null));
+    CompletableFuture<Void> second = manager.refresh(KEY, () -> CompletableFuture.completedFuture(null));
+
+    assertThat(second, is(not(sameInstance(first))));
+    assertThat(manager.getStatistics(KEY).getRefreshes(), is(2L));
+    assertThat(manager.getStatistics(KEY).getCoalescedRefreshes(), is(0L));
+  }
+
+  @Test
+  public void failedRefresh() {
+    CompletableFuture<Void> refresh = manager.refresh(KEY, () -> {
+      throw new IllegalStateException("Token endpoint unreachable");
+    });
+
+    assertThat(refresh.isCompletedExceptionally(), is(true));
+    assertThat(manager.getStatistics(KEY).getFailedRefreshes(), is(1L));
+
+    // The failed refresh must not be joined by later requests
+    assertThat(manager.refresh(KEY, () -> CompletableFuture.completedFuture(null)).isCompletedExceptionally(), is(false));
+  }
+
+  @Test
+  public void proactiveRefreshNotScheduledIfNotStarted() {
+    manager.scheduleRefresh(KEY, "3600", () -> CompletableFuture.completedFuture(null));
+
+    verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any());
+  }
+
+  @Test
+  public void proactiveRefreshScheduledBeforeExpiration() {
+    manager.start(scheduler);
+    AtomicInteger refreshes = new AtomicInteger();
+    manager.scheduleRefresh(KEY, "3600", () -> manager.refresh(KEY, () -> {
+      refreshes.incrementAndGet();
+      return CompletableFuture.completedFuture(null);
+    }));
+
+    ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+    verify(scheduler).schedule(task.capture(), eq(3540000L), eq(MILLISECONDS));
+
+    task.getValue().run();
+    assertThat(refreshes.get(), is(1));
+    assertThat(manager.getStatistics(KEY).getProactiveRefreshes(), is(1L));
+  }
+
+  @Test
+  public void proactiveRefreshMarginCappedForShortLivedTokens() {
+    manager.start(scheduler);
+    manager.scheduleRefresh(KEY, "30", () -> CompletableFuture.completedFuture(null));
+
+    verify(scheduler).schedule(any(Runnable.class), eq(15000L), eq(MILLISECONDS));
+  }
+
+  @Test
+  public void proactiveRefreshNotScheduledForUnknownExpiration() {
+    manager.start(scheduler);
+    manager.scheduleRefresh(KEY, null, () -> CompletableFuture.completedFuture(null));
+    manager.scheduleRefresh(KEY, "tomorrow", () -> CompletableFuture.completedFuture(null));
+
+    verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any());
+  }
+
+  @Test
+  public void rescheduleCancelsPreviousRefresh() {
+    manager.start(scheduler);
+    manager.scheduleRefresh(KEY, "3600", () -> CompletableFuture.completedFuture(null));
+    manager.scheduleRefresh(KEY, "3600", () -> CompletableFuture.completedFuture(null));
+
+    verify(scheduled).cancel(false);
+  }
+
+  @Test
+  public void cancelScheduledRefresh() {
+    manager.start(scheduler);
+    manager.scheduleRefresh(KEY, "3600", () -> CompletableFuture.completedFuture(null));
+    manager.cancelRefresh(KEY);
+
+    verify(scheduled).cancel(false);
+  }
+
+  @Test
+  public void refreshCompletedAfterStopIsSuccessful() {
+    manager.start(scheduler);
+    doAnswer(invocation -> {
+      manager.stop();
+      throw new RejectedExecutionException();
+    }).when(scheduler).schedule(any(Runnable.class), anyLong(), any());
+
+    CompletableFuture<Void> refresh = manager.refresh(KEY, () -> CompletableFuture.completedFuture(null)
+        .thenRun(() -> manager.scheduleRefresh(KEY, "3600", () -> CompletableFuture.completedFuture(null))));
+
+    assertThat(refresh.isCompletedExceptionally(), is(false));
+    assertThat(manager.getStatistics(KEY).getFailedRefreshes(), is(0L));
+  }
+
+  @Test
+  public void tokenRequests() {
+    manager.tokenRequested(KEY, true);
+    manager.tokenRequested(KEY, true);
+    manager.tokenRequested(KEY, false);
+
+    assertThat(manager.getStatistics(KEY).getHits(), is(2L));
+    assertThat(manager.getStatistics(KEY).getMisses(), is(1L));
+  }
+
+  @Test
+  public void invalidateDiscardsStatistics() {
+    manager.start(scheduler);
+    manager.tokenRequested(KEY, true);
+    manager.scheduleRefresh(KEY, "3600", () -> CompletableFuture.completedFuture(null));
+
+    manager.invalidate(KEY);
+
+    verify(scheduled).cancel(false);
+    assertThat(manager.getStatistics(KEY).getHits(), is(0L));
+    manager.tokenRequested(KEY, false);
+    assertThat(manager.getStatistics(KEY).getHits(), is(0L));
+    assertThat(manager.getStatistics(KEY).getMisses(), is(1L));
+  }
+
+  @Test
+  public void statisticsRegistered() {
+    AllStatistics allStatistics = new AllStatistics();
+    manager.tokenRequested(KEY, true);
+    manager.registerStatistics(allStatistics);
+    manager.tokenRequested("other", true);
+
+    assertThat(allStatistics.getRegisteredStatistics().get("oauth/" + KEY),
+               is(sameInstance((Statistics) manager.getStatistics(KEY))));
+    assertThat(allStatistics.getRegisteredStatistics(), hasKey("oauth/other"));
+
+    manager.invalidate(KEY);
+    assertThat(allStatistics.getRegisteredStatistics(), not(hasKey("oauth/" + KEY)));
+
+    manager.dispose();
+    assertThat(allStatistics.getRegisteredStatistics().isEmpty(), is(true));
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.operation;
+
+import static java.util.Arrays.asList;
+import static java.util.Optional.of;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.api.component.Component;
+import org.mule.runtime.api.component.location.ComponentLocation;
+import org.mule.runtime.api.connection.ConnectionHandler;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.management.stats.AllStatistics;
+import org.mule.runtime.core.api.management.stats.Statistics;
+import org.mule.runtime.extension.api.property.ClassLoaderModelProperty;
+import org.mule.runtime.extension.api.runtime.config.ConfigurationInstance;
+import org.mule.runtime.extension.api.runtime.streaming.PagingProvider;
+import org.mule.runtime.module.extension.api.runtime.privileged.ExecutionContextAdapter;
+import org.mule.runtime.module.extension.internal.runtime.connectivity.ExtensionConnectionSupplier;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class PagingResultTransformerTestCase extends AbstractMuleTestCase {
+
+  private static final String LOCATION = "flow/processors/0";
+
+  private final AllStatistics allStatistics = new AllStatistics();
+  private final ExecutionContextAdapter operationContext = mock(ExecutionContextAdapter.class);
+  private final PagingProvider<Object, String> pagingProvider = mock(PagingProvider.class);
+
+  private PagingResultTransformer transformer;
+
+  @Before
+  public void before() throws Exception {
+    ExtensionModel extensionModel = mock(ExtensionModel.class);
+    when(extensionModel.getModelProperty(ClassLoaderModelProperty.class))
+        .thenReturn(of(new ClassLoaderModelProperty(getClass().getClassLoader())));
+    when(operationContext.getExtensionModel()).thenReturn(extensionModel);
+    when(operationContext.getConfiguration()).thenReturn(of(mock(ConfigurationInstance.class)));
+
+    ComponentLocation location = mock(ComponentLocation.class);
+    when(location.getLocation()).thenReturn(LOCATION);
+    Component component = mock(Component.class);
+    when(component.getLocation()).thenReturn(location);
+    when(operationContext.getComponent()).thenReturn(component);
+
+    ExtensionConnectionSupplier connectionSupplier = mock(ExtensionConnectionSupplier.class);
+    ConnectionHandler connectionHandler = mock(ConnectionHandler.class);
+    when(connectionHandler.getConnection()).thenReturn(new Object());
+    when(connectionSupplier.getConnection(operationContext)).thenReturn(connectionHandler);
+    when(pagingProvider.getPage(any())).thenReturn(asList("a"));
+
+    MuleContext muleContext = mock(MuleContext.class);
+    when(muleContext.getStatistics()).thenReturn(allStatistics);
+    transformer = new PagingResultTransformer(connectionSupplier, false, muleContext);
+    transformer.start();
+  }
+
+  @Test
+  public void executionsShareRegisteredStatistics() throws Throwable {
+    transformer.applyChecked(operationContext, pagingProvider);
+    transformer.applyChecked(operationContext, pagingProvider);
+
+    assertThat(transformer.getStatistics().getPages(), is(2L));
+    assertThat(allStatistics.getRegisteredStatistics().get("paging/" + LOCATION),
+               is(sameInstance((Statistics) transformer.getStatistics())));
+
+    transformer.stop();
+    assertThat(allStatistics.getRegisteredStatistics().containsKey("paging/" + LOCATION), is(false));
+  }
+}
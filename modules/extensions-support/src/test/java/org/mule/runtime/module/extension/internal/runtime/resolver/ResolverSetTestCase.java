@@ -9,12 +9,17 @@ package org.mule.runtime.module.extension.internal.runtime.resolver;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mule.test.module.extension.internal.util.ExtensionsTestUtils.getParameter;
 import org.mule.runtime.api.lifecycle.Lifecycle;
 import org.mule.runtime.api.meta.model.parameter.ParameterModel;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.context.MuleContextAware;
+import org.mule.runtime.core.api.Injector;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.tck.junit4.AbstractMuleTestCase;
 import org.mule.tck.size.SmallTest;
@@ -100,6 +105,50 @@ public class ResolverSetTestCase extends AbstractMuleTestCase {
     assertThat(set.isDynamic(), is(true));
   }
 
+  @Test
+  public void cacheableResolverIsResolvedOnce() throws Exception {
+    when(muleContext.getInjector()).thenReturn(mock(Injector.class));
+    ValueResolver resolver = getResolver(NAME);
+    when(resolver.isCacheable()).thenReturn(true);
+
+    set.add("cached", resolver);
+    set.initialise();
+
+    set.resolve(resolvingContext);
+    ResolverSetResult result = set.resolve(resolvingContext);
+
+    assertThat(result.get("cached"), is(NAME));
+    assertResult(result, mapping);
+    verify(resolver, times(1)).resolve(resolvingContext);
+  }
+
+  @Test
+  public void cacheableResolversNotUsedBeforeInitialise() throws Exception {
+    ValueResolver resolver = getResolver(NAME);
+
+    set.add("cached", resolver);
+    set.resolve(resolvingContext);
+    set.resolve(resolvingContext);
+
+    verify(resolver, never()).isCacheable();
+    verify(resolver, times(2)).resolve(resolvingContext);
+  }
+
+  @Test
+  public void nonCacheableResolverIsResolvedEveryTime() throws Exception {
+    when(muleContext.getInjector()).thenReturn(mock(Injector.class));
+    ValueResolver resolver = getResolver(NAME);
+    when(resolver.isCacheable()).thenReturn(false);
+
+    set.add("notCached", resolver);
+    set.initialise();
+
+    set.resolve(resolvingContext);
+    set.resolve(resolvingContext);
+
+    verify(resolver, times(2)).resolve(resolvingContext);
+  }
+
   private void assertResult(ResolverSetResult result, Map<ParameterModel, ValueResolver> mapping) throws Exception {
     assertThat(result, is(notNullValue()));
     for (Map.Entry<ParameterModel, ValueResolver> entry : mapping.entrySet()) {
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.source;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.api.component.Component;
+import org.mule.runtime.api.component.location.ComponentLocation;
+import org.mule.runtime.core.internal.construct.FlowBackPressureAdmissionLimitExceededException;
+import org.mule.runtime.core.internal.construct.FlowBackPressureException;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class SourceAdmissionControllerTestCase extends AbstractMuleTestCase {
+
+  private Component flow;
+
+  @Before
+  public void before() {
+    flow = mock(Component.class);
+    ComponentLocation location = mock(ComponentLocation.class);
+    when(location.getRootContainerName()).thenReturn("flow");
+    when(flow.getLocation()).thenReturn(location);
+  }
+
+  @Test
+  public void admitsUpToLimit() throws Exception {
+    SourceAdmissionController controller = new SourceAdmissionController(flow, false, 1, 2, 10, 0, 0);
+
+    controller.admit();
+    controller.admit();
+    assertRejected(controller);
+
+    SourceAdmissionStatistics statistics = controller.getStatistics();
+    assertThat(statistics.getAdmitted(), is(2L));
+    assertThat(statistics.getShed(), is(1L));
+    assertThat(statistics.getInFlight(), is(2));
+  }
+
+  @Test
+  public void releaseAllowsAdmission() throws Exception {
+    SourceAdmissionController controller = new SourceAdmissionController(flow, false, 1, 1, 10, 0, 0);
+
+    controller.admit();
+    controller.release(1000);
+    controller.admit();
+
+    assertThat(controller.getStatistics().getAdmitted(), is(2L));
+    assertThat(controller.getStatistics().getShed(), is(0L));
+  }
+
+  @Test
+  public void limitGrowsWithStableLatency() throws Exception {
+    SourceAdmissionController controller = new SourceAdmissionController(flow, false, 1, 2, 10, 0, 0);
+
+    for (int i = 0; i < 50; ++i) {
+      controller.admit();
+      controller.admit();
+      controller.release(1000);
+      controller.release(1000);
+    }
+
+    assertThat(controller.getLimit(), is(greaterThan(2)));
+  }
+
+  @Test
+  public void limitCappedToMax() throws Exception {
+    SourceAdmissionController controller = new SourceAdmissionController(flow, false, 1, 20, 5, 0, 0);
+    assertThat(controller.getLimit(), is(5));
+  }
+
+  @Test
+  public void limitShrinksWithGrowingLatency() throws Exception {
+    SourceAdmissionController controller = new SourceAdmissionController(flow, false, 1, 10, 10, 0, 0);
+
+    releaseSequentially(controller, 200, MILLISECONDS.toNanos(1));
+    assertThat(controller.getLimit(), is(10));
+
+    // Backoffs happen at most once per round trip
+    Thread.sleep(50);
+    releaseSequentially(controller, 20, MILLISECONDS.toNanos(20));
+
+    assertThat(controller.getLimit(), is(lessThan(10)));
+  }
+
+  @Test
+  public void limitNotShrunkWithMixedLatency() throws Exception {
+    SourceAdmissionController controller = new SourceAdmissionController(flow, false, 1, 4, 100, 0, 0);
+    long[] latencies = {MILLISECONDS.toNanos(1), MILLISECONDS.toNanos(10), MILLISECONDS.toNanos(3), MILLISECONDS.toNanos(6)};
+
+    for (int i = 0; i < 200; ++i) {
+      for (int j = 0; j < latencies.length; ++j) {
+        controller.admit();
+      }
+      for (long latency : latencies) {
+        controller.release(latency);
+      }
+      // Give backoffs the chance to happen, which may only happen once per round trip
+      Thread.sleep(1);
+    }
+
+    assertThat(controller.getLimit(), is(greaterThanOrEqualTo(4)));
+  }
+
+  @Test
+  public void limitNotShrunkWithOccasionalSlowEvents() throws Exception {
+    SourceAdmissionController controller = new SourceAdmissionController(flow, false, 1, 10, 10, 0, 0);
+
+    Thread.sleep(50);
+    for (int i = 0; i < 100; ++i) {
+      // One in five events takes much longer, as happens to those that miss a cache
+      releaseSequentially(controller, 4, MILLISECONDS.toNanos(1));
+      releaseSequentially(controller, 1, MILLISECONDS.toNanos(50));
+    }
+
+    assertThat(controller.getLimit(), is(10));
+  }
+
+  @Test
+  public void limitNotShrunkBelowFloor() throws Exception {
+    SourceAdmissionController controller = new SourceAdmissionController(flow, false, 4, 10, 10, 0, 0);
+
+    releaseSequentially(controller, 200, MILLISECONDS.toNanos(1));
+    for (int i = 0; i < 30; ++i) {
+      Thread.sleep(25);
+      releaseSequentially(controller, 1, MILLISECONDS.toNanos(20));
+    }
+
+    assertThat(controller.getLimit(), is(4));
+  }
+
+  @Test
+  public void rejectionReason() throws Exception {
+    SourceAdmissionController controller = new SourceAdmissionController(flow, false, 1, 1, 10, 0, 0);
+
+    controller.admit();
+    try {
+      controller.admit();
+      fail("Event should have been rejected");
+    } catch (FlowBackPressureException e) {
+      assertThat(e, is(instanceOf(FlowBackPressureAdmissionLimitExceededException.class)));
+    }
+  }
+
+  @Test
+  public void queuedAdmissionTimesOut() throws Exception {
+    SourceAdmissionController controller = new SourceAdmissionController(flow, true, 1, 1, 10, 1, 10);
+
+    controller.admit();
+    assertRejected(controller);
+    assertThat(controller.getStatistics().getShed(), is(1L));
+    assertThat(controller.getStatistics().getQueued(), is(0));
+  }
+
+  @Test
+  public void queuedAdmittedOnRelease() throws Exception {
+    SourceAdmissionController controller = new SourceAdmissionController(flow, true, 1, 1, 10, 1, SECONDS.toMillis(30));
+
+    controller.admit();
+    CompletableFuture<Void> queued = CompletableFuture.runAsync(() -> {
+      try {
+        controller.admit();
+      } catch (FlowBackPressureException e) {
+        throw new RuntimeException(e);
+      }
+    });
+
+    while (controller.getStatistics().getQueued() == 0) {
+      Thread.sleep(1);
+    }
+    controller.release(1000);
+
+    queued.get(30, SECONDS);
+    assertThat(controller.getStatistics().getAdmittedAfterQueueing(), is(1L));
+  }
+
+  @Test
+  public void fullQueueShedsRightAway() throws Exception {
+    SourceAdmissionController controller = new SourceAdmissionController(flow, true, 1, 1, 10, 0, SECONDS.toMillis(30));
+
+    controller.admit();
+    assertRejected(controller);
+    assertThat(controller.getStatistics().getShed(), is(1L));
+  }
+
+  private void releaseSequentially(SourceAdmissionController controller, int events, long latencyNanos) throws Exception {
+    for (int i = 0; i < events; ++i) {
+      controller.admit();
+      controller.release(latencyNanos);
+    }
+  }
+
+  private void assertRejected(SourceAdmissionController controller) {
+    try {
+      controller.admit();
+      fail("Event should have been rejected");
+    } catch (FlowBackPressureException e) {
+      // expected
+    }
+  }
+}
@@ -7,13 +7,16 @@
 package org.mule.runtime.module.extension.internal.runtime.streaming;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Optional.of;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyObject;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -27,6 +30,8 @@ import org.mule.runtime.api.connection.ConnectionHandler;
 import org.mule.runtime.api.exception.DefaultMuleException;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.api.transaction.TransactionConfig;
 import org.mule.runtime.extension.api.property.ClassLoaderModelProperty;
 import org.mule.runtime.extension.api.runtime.config.ConfigurationInstance;
 import org.mule.runtime.extension.api.runtime.streaming.PagingProvider;
@@ -35,6 +40,8 @@ import org.mule.runtime.module.extension.internal.runtime.connectivity.Extension
 import org.mule.tck.size.SmallTest;
 
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -56,6 +63,20 @@ public class PagingProviderProducerTestCase {
     return new PagingProviderProducer<>(delegate, config, executionContext, extensionConnectionSupplier);
   }
 
+  private PagingProviderProducer<String> createPrefetchingProducer(Scheduler scheduler, int prefetchDepth) {
+    return new PagingProviderProducer<>(delegate, config, executionContext, extensionConnectionSupplier, false, scheduler,
+                                        prefetchDepth);
+  }
+
+  private Scheduler directScheduler() {
+    Scheduler scheduler = mock(Scheduler.class);
+    doAnswer(inv -> {
+      ((Runnable) inv.getArgument(0)).run();
+      return null;
+    }).when(scheduler).execute(any());
+    return scheduler;
+  }
+
   @Before
   public void setUp() throws MuleException {
     ExtensionModel extensionModel = mock(ExtensionModel.class);
@@ -191,4 +212,113 @@ public class PagingProviderProducerTestCase {
     verify(delegate, times(1)).close(any());
     verify(connectionHandler, times(1)).release();
   }
+
+  @Test
+  public void prefetchPages() throws Exception {
+    List<String> page1 = asList("a");
+    List<String> page2 = asList("b");
+    List<String> page3 = asList("c");
+    when(delegate.getPage(any())).thenReturn(page1, page2, page3, emptyList());
+    producer = createPrefetchingProducer(directScheduler(), 2);
+
+    assertThat(producer.produce(), sameInstance(page1));
+    verify(delegate, times(3)).getPage(any());
+
+    assertThat(producer.produce(), sameInstance(page2));
+    assertThat(producer.produce(), sameInstance(page3));
+    assertThat(producer.produce(), is(emptyList()));
+    assertThat(producer.produce(), is(nullValue()));
+
+    // Nothing is fetched after the empty page
+    verify(delegate, times(4)).getPage(any());
+    assertThat(producer.getStatistics().getPages(), is(4L));
+    assertThat(producer.getStatistics().getPrefetchedPages(), is(3L));
+    assertThat(producer.getStatistics().getStalls(), is(0L));
+  }
+
+  @Test
+  public void prefetchWithStickyConnection() throws Exception {
+    when(delegate.useStickyConnections()).thenReturn(true);
+    when(delegate.getPage(any())).thenReturn(asList("a"), asList("b"), emptyList());
+    producer = createPrefetchingProducer(directScheduler(), 1);
+
+    ConnectionHandler connectionHandler = mock(ConnectionHandler.class);
+    when(extensionConnectionSupplier.getConnection(any())).thenReturn(connectionHandler);
+
+    producer.produce();
+    producer.produce();
+    producer.produce();
+
+    verify(connectionHandler, times(1)).getConnection();
+    verify(connectionHandler, never()).release();
+
+    producer.close();
+    verify(connectionHandler).release();
+  }
+
+  @Test
+  public void prefetchRejectedFetchesInCallingThread() throws Exception {
+    List<String> page1 = asList("a");
+    List<String> page2 = asList("b");
+    when(delegate.getPage(any())).thenReturn(page1, page2);
+    Scheduler scheduler = mock(Scheduler.class);
+    doThrow(new RejectedExecutionException()).when(scheduler).execute(any());
+    producer = createPrefetchingProducer(scheduler, 1);
+
+    assertThat(producer.produce(), sameInstance(page1));
+    assertThat(producer.produce(), sameInstance(page2));
+    verify(delegate, times(2)).getPage(any());
+    assertThat(producer.getStatistics().getPrefetchedPages(), is(0L));
+  }
+
+  @Test
+  public void prefetchRejectedAfterPreviousPrefetchFetchesInCallingThread() throws Exception {
+    List<String> page1 = asList("a");
+    List<String> page2 = asList("b");
+    List<String> page3 = asList("c");
+    when(delegate.getPage(any())).thenReturn(page1, page2, page3);
+    AtomicReference<Runnable> firstPrefetch = new AtomicReference<>();
+    Scheduler scheduler = mock(Scheduler.class);
+    doAnswer(inv -> {
+      // Accepts the first prefetch without running it yet, then stops accepting tasks
+      if (!firstPrefetch.compareAndSet(null, inv.getArgument(0))) {
+        throw new RejectedExecutionException();
+      }
+      return null;
+    }).when(scheduler).execute(any());
+    producer = createPrefetchingProducer(scheduler, 2);
+
+    assertThat(producer.produce(), sameInstance(page1));
+    // The second prefetch is rejected in this thread when the first one completes
+    firstPrefetch.get().run();
+
+    assertThat(producer.produce(), sameInstance(page2));
+    assertThat(producer.produce(), sameInstance(page3));
+  }
+
+  @Test
+  public void noPrefetchInTransaction() throws Exception {
+    TransactionConfig transactionConfig = mock(TransactionConfig.class);
+    when(transactionConfig.isTransacted()).thenReturn(true);
+    when(executionContext.getTransactionConfig()).thenReturn(of(transactionConfig));
+    List<String> page1 = asList("a");
+    List<String> page2 = asList("b");
+    when(delegate.getPage(any())).thenReturn(page1, page2);
+    Scheduler scheduler = mock(Scheduler.class);
+    producer = createPrefetchingProducer(scheduler, 2);
+
+    assertThat(producer.produce(), sameInstance(page1));
+    assertThat(producer.produce(), sameInstance(page2));
+    verify(scheduler, never()).execute(any());
+    verify(delegate, times(2)).getPage(any());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void prefetchErrorReportedOnConsumption() throws Exception {
+    when(delegate.getPage(any())).thenReturn(asList("a")).thenThrow(new IllegalArgumentException("Invalid page"));
+    producer = createPrefetchingProducer(directScheduler(), 1);
+
+    producer.produce();
+    producer.produce();
+  }
 }
@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.extension.internal.processor;
 
+import static java.lang.Boolean.getBoolean;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -20,6 +21,7 @@ import static org.mule.runtime.api.meta.model.parameter.ParameterRole.PRIMARY_CO
 import static org.mule.runtime.api.notification.EnrichedNotificationInfo.createInfo;
 import static org.mule.runtime.config.internal.dsl.model.extension.xml.MacroExpansionModuleModel.MODULE_CONFIG_GLOBAL_ELEMENT_NAME;
 import static org.mule.runtime.config.internal.dsl.model.extension.xml.MacroExpansionModuleModel.MODULE_CONNECTION_GLOBAL_ELEMENT_NAME;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.internal.el.ExpressionLanguageUtils.compile;
 import static org.mule.runtime.core.internal.exception.ErrorMapping.ANNOTATION_ERROR_MAPPINGS;
 import static org.mule.runtime.core.internal.message.InternalMessage.builder;
@@ -101,9 +103,26 @@ import org.reactivestreams.Publisher;
  *    <set-payload value="#[param.value1 ++ param.value2]"/>
  * </module-operation-chain>
  * </pre>
+ * <p>
+ * By default, the inner processors are executed within a child {@link EventContext}. If the
+ * {@link #SHARED_EVENT_CONTEXT_PROPERTY} system property is set, operations without error mappings instead execute their inner
+ * processors within the caller's {@link EventContext}, and the errors they throw are handled by the inner chain itself, so that
+ * the overhead of creating and completing a child context for each call is avoided. The inner processors are still executed as
+ * a nested chain, they are not flattened into the caller's one. Operations can't call themselves, even indirectly (this is
+ * validated when the module is loaded), so the original event of each call can be safely kept in the shared context.
+ * <p>
+ * Whether each parameter and property is an expression, and the type its value has to be evaluated to, are resolved when
+ * initialising.
  */
 public class ModuleOperationMessageProcessor extends AbstractMessageProcessorOwner implements Processor, ErrorMappingsAware {
 
+  /**
+   * System property to execute the XML SDK operations that have no error mappings within the caller's {@link EventContext}.
+   *
+   * @since 4.4.0
+   */
+  public static final String SHARED_EVENT_CONTEXT_PROPERTY = SYSTEM_PROPERTY_PREFIX + "xmlSdk.sharedEventContext";
+
   private static final String ORIGINAL_EVENT_KEY = "mule.xmlSdk.originalEvent";
 
   @Inject
@@ -123,6 +142,12 @@ public class ModuleOperationMessageProcessor extends AbstractMessageProcessorOwn
   private CompiledExpression targetValueExpression;
   private List<ErrorMapping> errorMappings = emptyList();
 
+  private boolean sharedEventContext;
+  private String originalEventKey = ORIGINAL_EVENT_KEY;
+  private List<ParameterBinding> propertyBindings;
+  private List<ParameterBinding> parameterBindings;
+  private ComponentLocation headLocation;
+
   public ModuleOperationMessageProcessor(Map<String, String> properties,
                                          Map<String, String> parameters,
                                          ExtensionModel extensionModel, OperationModel operationModel) {
@@ -155,7 +180,7 @@ public class ModuleOperationMessageProcessor extends AbstractMessageProcessorOwn
    *
    * @param parameters list of parameters taken from the XML
    * @param parameterModels collection of elements taken from the matching {@link ExtensionModel}
-   * @return a collection of parameters to be later consumed in {@link #getEvaluatedValue(CoreEvent, String, MetadataType)}
+   * @return a collection of parameters to be later consumed in {@link #resolveBindings(Map)}
    */
   private Map<String, Pair<String, MetadataType>> parseParameters(Map<String, String> parameters,
                                                                   List<ParameterModel> parameterModels) {
@@ -190,6 +215,25 @@ public class ModuleOperationMessageProcessor extends AbstractMessageProcessorOwn
   public Publisher<CoreEvent> apply(Publisher<CoreEvent> publisher) {
     final String localStrategyCtxKey = "mule.xmlSdk." + getLocation().getLocation() + ".reactor.onNextError.localStrategy";
 
+    if (sharedEventContext) {
+      return from(publisher)
+          .map(this::createEventWithParameters)
+          .doOnNext(this::pushFlowStackEntry)
+          // Restore the error handler, overriding the one set by the inner chain, as with a child context.
+          .subscriberContext(ctx -> ctx.getOrEmpty(localStrategyCtxKey)
+              .map(localErrorStr -> ctx.put(KEY_ON_NEXT_ERROR_STRATEGY, localErrorStr))
+              .orElse(ctx))
+          // Errors are handled by the nested chain, which was built with errorHandler()
+          .compose(nestedChain)
+          .subscriberContext(ctx -> ctx.getOrEmpty(KEY_ON_NEXT_ERROR_STRATEGY)
+              .map(onNextErrorStr -> ctx.put(localStrategyCtxKey, onNextErrorStr))
+              .orElse(ctx))
+          .map(eventResult -> {
+            ((DefaultFlowCallStack) eventResult.getFlowCallStack()).pop();
+            return processResult(getInternalParameter(originalEventKey, eventResult), eventResult);
+          });
+    }
+
     return from(publisher)
         .map(this::createEventWithParameters)
         // 2. Restore the error handler, overriding the last one set by the inner chain. This one being set again is the one that
@@ -209,7 +253,7 @@ public class ModuleOperationMessageProcessor extends AbstractMessageProcessorOwn
         .subscriberContext(ctx -> ctx.getOrEmpty(KEY_ON_NEXT_ERROR_STRATEGY)
             .map(onNextErrorStr -> ctx.put(localStrategyCtxKey, onNextErrorStr))
             .orElse(ctx))
-        .map(eventResult -> processResult(getInternalParameter(ORIGINAL_EVENT_KEY, eventResult), eventResult));
+        .map(eventResult -> processResult(getInternalParameter(originalEventKey, eventResult), eventResult));
   }
 
   private void pushFlowStackEntry(CoreEvent event) {
@@ -250,9 +294,9 @@ public class ModuleOperationMessageProcessor extends AbstractMessageProcessorOwn
         }
 
         ((DefaultFlowCallStack) event.getFlowCallStack()).pop();
-        handleSubChainException(me,
-                                getInternalParameter(ORIGINAL_EVENT_KEY, event,
-                                                     ((BaseEventContext) event.getContext()).getParentContext().get()));
+        handleSubChainException(me, sharedEventContext
+            ? getInternalParameter(originalEventKey, event)
+            : getInternalParameter(originalEventKey, event, ((BaseEventContext) event.getContext()).getParentContext().get()));
       }
 
       /**
@@ -323,51 +367,57 @@ public class ModuleOperationMessageProcessor extends AbstractMessageProcessorOwn
   private CoreEvent createEventWithParameters(CoreEvent event) {
     InternalEvent.Builder builder = InternalEvent.builder(event.getContext());
     builder.message(builder().nullValue().build());
-    addVariables(event, builder, properties);
-    addVariables(event, builder, parameters);
+    addVariables(event, builder, propertyBindings);
+    addVariables(event, builder, parameterBindings);
     builder.internalParameters(((InternalEvent) event).getInternalParameters());
-    builder.addInternalParameter(getParameterId(ORIGINAL_EVENT_KEY, event), event);
+    builder.addInternalParameter(getParameterId(originalEventKey, event), event);
     builder.securityContext(event.getSecurityContext());
     InternalEvent newEvent = builder.build();
     newEvent.setSourcePolicyContext(((InternalEvent) event).getSourcePolicyContext());
     return newEvent;
   }
 
-  private void addVariables(CoreEvent event, CoreEvent.Builder builder,
-                            Map<String, Pair<String, MetadataType>> unevaluatedMap) {
-    unevaluatedMap.entrySet().stream()
-        .forEach(entry -> {
-          final boolean isExpression = expressionManager.isExpression(entry.getValue().getFirst());
-          if (isExpression) {
-            final TypedValue<?> evaluatedValue =
-                getEvaluatedValue(event, entry.getValue().getFirst(), entry.getValue().getSecond());
-            builder.addVariable(entry.getKey(), evaluatedValue);
-          } else {
-            builder.addVariable(entry.getKey(), entry.getValue().getFirst());
-          }
-        });
+  private void addVariables(CoreEvent event, CoreEvent.Builder builder, List<ParameterBinding> bindings) {
+    for (ParameterBinding binding : bindings) {
+      if (binding.isExpression()) {
+        builder.addVariable(binding.getName(), getEvaluatedValue(event, binding));
+      } else {
+        builder.addVariable(binding.getName(), binding.getValue());
+      }
+    }
   }
 
-  private TypedValue<?> getEvaluatedValue(CoreEvent event, String value, MetadataType metadataType) {
-    ComponentLocation headLocation;
-    final Processor head = nestedChain.getMessageProcessors().get(0);
-    headLocation = ((Component) head).getLocation();
-
-    TypedValue<?> evaluatedResult;
-    if (JAVA.equals(metadataType.getMetadataFormat())) {
-      evaluatedResult = expressionManager.evaluate(value, event, headLocation);
+  private TypedValue<?> getEvaluatedValue(CoreEvent event, ParameterBinding binding) {
+    if (binding.getExpectedOutputType() == null) {
+      return expressionManager.evaluate(binding.getValue(), event, headLocation);
     } else {
-      final String mediaType = metadataType.getMetadataFormat().getValidMimeTypes().iterator().next();
-      final DataType expectedOutputType =
-          DataType.builder()
-              .type(String.class)
-              .mediaType(mediaType)
-              .charset(UTF_8)
-              .build();
-      evaluatedResult = expressionManager
-          .evaluate(value, expectedOutputType, NULL_BINDING_CONTEXT, event, headLocation, false);
+      return expressionManager
+          .evaluate(binding.getValue(), binding.getExpectedOutputType(), NULL_BINDING_CONTEXT, event, headLocation, false);
     }
-    return evaluatedResult;
+  }
+
+  /**
+   * Resolves, for each of the given parameters, whether it is an expression and the {@link DataType} it has to be evaluated to.
+   */
+  private List<ParameterBinding> resolveBindings(Map<String, Pair<String, MetadataType>> unresolvedMap) {
+    final List<ParameterBinding> bindings = new ArrayList<>(unresolvedMap.size());
+    unresolvedMap.forEach((name, valueAndType) -> {
+      final String value = valueAndType.getFirst();
+      final MetadataType metadataType = valueAndType.getSecond();
+
+      DataType expectedOutputType = null;
+      if (!JAVA.equals(metadataType.getMetadataFormat())) {
+        final String mediaType = metadataType.getMetadataFormat().getValidMimeTypes().iterator().next();
+        expectedOutputType =
+            DataType.builder()
+                .type(String.class)
+                .mediaType(mediaType)
+                .charset(UTF_8)
+                .build();
+      }
+      bindings.add(new ParameterBinding(name, value, expressionManager.isExpression(value), expectedOutputType));
+    });
+    return bindings;
   }
 
   /**
@@ -381,11 +431,24 @@ public class ModuleOperationMessageProcessor extends AbstractMessageProcessorOwn
 
   @Override
   public void initialise() throws InitialisationException {
-    this.nestedChain = buildNewChainWithListOfProcessors(getProcessingStrategy(locator, getRootContainerLocation()), processors);
+    sharedEventContext = getBoolean(SHARED_EVENT_CONTEXT_PROPERTY) && errorMappings.isEmpty();
+    if (sharedEventContext) {
+      // Calls to different operations share the event context, so each one keeps the original event under its own key
+      originalEventKey = ORIGINAL_EVENT_KEY + "." + getLocation().getLocation() + ".";
+      this.nestedChain = buildNewChainWithListOfProcessors(getProcessingStrategy(locator, getRootContainerLocation()), processors,
+                                                           errorHandler());
+    } else {
+      this.nestedChain =
+          buildNewChainWithListOfProcessors(getProcessingStrategy(locator, getRootContainerLocation()), processors);
+    }
     super.initialise();
     if (targetValue != null) {
       targetValueExpression = compile(targetValue, expressionManager);
     }
+
+    headLocation = ((Component) nestedChain.getMessageProcessors().get(0)).getLocation();
+    propertyBindings = resolveBindings(properties);
+    parameterBindings = resolveBindings(parameters);
   }
 
   @Override
@@ -420,4 +483,41 @@ public class ModuleOperationMessageProcessor extends AbstractMessageProcessorOwn
     List<ErrorMapping> list = (List<ErrorMapping>) getAnnotation(ANNOTATION_ERROR_MAPPINGS);
     this.errorMappings = list != null ? list : emptyList();
   }
+
+  /**
+   * A parameter or property of the operation, resolved when initialising.
+   */
+  private static final class ParameterBinding {
+
+    private final String name;
+    private final String value;
+    private final boolean expression;
+    private final DataType expectedOutputType;
+
+    private ParameterBinding(String name, String value, boolean expression, DataType expectedOutputType) {
+      this.name = name;
+      this.value = value;
+      this.expression = expression;
+      this.expectedOutputType = expectedOutputType;
+    }
+
+    String getName() {
+      return name;
+    }
+
+    String getValue() {
+      return value;
+    }
+
+    boolean isExpression() {
+      return expression;
+    }
+
+    /**
+     * @return the type to evaluate the expression to, or {@code null} if the parameter is a Java one.
+     */
+    DataType getExpectedOutputType() {
+      return expectedOutputType;
+    }
+  }
 }
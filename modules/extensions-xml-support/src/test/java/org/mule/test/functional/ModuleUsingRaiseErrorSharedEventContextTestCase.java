@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.test.functional;
+
+import static org.mule.runtime.extension.internal.processor.ModuleOperationMessageProcessor.SHARED_EVENT_CONTEXT_PROPERTY;
+
+import org.mule.tck.junit4.rule.SystemProperty;
+
+import org.junit.Rule;
+
+/**
+ * Runs the same scenarios as {@link ModuleUsingRaiseErrorTestCase}, with the operations executed within the
+ * caller's event context.
+ */
+public class ModuleUsingRaiseErrorSharedEventContextTestCase extends ModuleUsingRaiseErrorTestCase {
+
+  @Rule
+  public SystemProperty sharedEventContext = new SystemProperty(SHARED_EVENT_CONTEXT_PROPERTY, "true");
+
+}
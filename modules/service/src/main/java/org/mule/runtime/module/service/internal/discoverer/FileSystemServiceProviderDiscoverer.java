@@ -7,9 +7,13 @@
 
 package org.mule.runtime.module.service.internal.discoverer;
 
+import static java.lang.Math.min;
+import static java.lang.Runtime.getRuntime;
+import static java.lang.Thread.currentThread;
 import static java.security.AccessController.doPrivileged;
 import static java.security.AccessController.getContext;
 import static java.util.Optional.empty;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
 import static org.mule.runtime.core.api.rx.Exceptions.unwrap;
 
@@ -18,6 +22,9 @@ import java.security.AccessControlContext;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 
 import org.mule.runtime.api.deployment.meta.MuleServiceContractModel;
@@ -119,13 +126,39 @@ public class FileSystemServiceProviderDiscoverer implements ServiceProviderDisco
     final File[] serviceDirectories = this.targetServicesFolder.get().listFiles(File::isDirectory);
     List<ServiceDescriptor> foundServices = new ArrayList<>(serviceDirectories.length);
 
-    for (File serviceDirectory : serviceDirectories) {
-      try {
-        final ServiceDescriptor serviceDescriptor = serviceDescriptorFactory.create(serviceDirectory, empty());
-        foundServices.add(serviceDescriptor);
-      } catch (Exception e) {
-        throw new ServiceResolutionError("Error processing service JAR file", unwrap(e));
+    if (serviceDirectories.length < 2) {
+      for (File serviceDirectory : serviceDirectories) {
+        try {
+          foundServices.add(serviceDescriptorFactory.create(serviceDirectory, empty()));
+        } catch (Exception e) {
+          throw new ServiceResolutionError("Error processing service JAR file", unwrap(e));
+        }
       }
+      return foundServices;
+    }
+
+    // Reading the descriptors of the services involves I/O, so they are loaded concurrently keeping the order of the folders.
+    // Threads created by the executor inherit the context class loader of the current one.
+    final ExecutorService executor = newFixedThreadPool(min(serviceDirectories.length, getRuntime().availableProcessors()),
+                                                        runnable -> new Thread(runnable, "mule.services.discovery"));
+    try {
+      List<Future<ServiceDescriptor>> descriptorFutures = new ArrayList<>(serviceDirectories.length);
+      for (File serviceDirectory : serviceDirectories) {
+        descriptorFutures.add(executor.submit(() -> serviceDescriptorFactory.create(serviceDirectory, empty())));
+      }
+
+      for (Future<ServiceDescriptor> descriptorFuture : descriptorFutures) {
+        try {
+          foundServices.add(descriptorFuture.get());
+        } catch (ExecutionException e) {
+          throw new ServiceResolutionError("Error processing service JAR file", unwrap(e.getCause()));
+        }
+      }
+    } catch (InterruptedException e) {
+      currentThread().interrupt();
+      throw new ServiceResolutionError("Interrupted while discovering services", e);
+    } finally {
+      executor.shutdownNow();
     }
     return foundServices;
   }
@@ -7,9 +7,13 @@
 package org.mule.runtime.module.service.internal.manager;
 
 import static java.lang.String.format;
+import static java.lang.System.nanoTime;
 import static java.lang.reflect.Proxy.getInvocationHandler;
 import static java.lang.reflect.Proxy.isProxyClass;
 import static java.lang.reflect.Proxy.newProxyInstance;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
@@ -34,6 +38,8 @@ import org.mule.runtime.module.service.internal.discoverer.LazyServiceAssembly;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -58,6 +64,7 @@ public class LazyServiceProxy implements InvocationHandler {
   private AtomicBoolean started = new AtomicBoolean(false);
   private AtomicBoolean stopped = new AtomicBoolean(false);
   private MethodInvoker methodInvoker = new DefaultMethodInvoker();
+  private volatile long loadMillis = -1;
 
   /**
    * Creates a new proxy based on the given {@code assembly} and {@code serviceRegistry}
@@ -70,6 +77,18 @@ public class LazyServiceProxy implements InvocationHandler {
     return proxy(assembly, new LazyServiceProxy(assembly, serviceRegistry));
   }
 
+  /**
+   * @param service a {@link Service} as discovered by the container
+   * @return the {@link LazyServiceProxy} handling the given {@code service}, if it is a lazy one.
+   * @since 4.4.0
+   */
+  static Optional<LazyServiceProxy> lazyServiceProxyOf(Service service) {
+    if (isProxyClass(service.getClass()) && getInvocationHandler(service) instanceof LazyServiceProxy) {
+      return of((LazyServiceProxy) getInvocationHandler(service));
+    }
+    return empty();
+  }
+
   private static Service proxy(ServiceAssembly assembly, InvocationHandler handler) {
     final Class<? extends Service> contract = assembly.getServiceContract();
     return (Service) newProxyInstance(contract.getClassLoader(),
@@ -122,17 +141,41 @@ public class LazyServiceProxy implements InvocationHandler {
     }
   }
 
+  /**
+   * Loads and starts the actual service right away, instead of waiting for the first invocation of one of its contract
+   * methods. Does nothing if the service was already loaded.
+   *
+   * @since 4.4.0
+   */
+  void load() {
+    service.get();
+  }
+
+  /**
+   * @return how long it took to load and start the actual service, in milliseconds, or empty if it was not loaded yet.
+   * @since 4.4.0
+   */
+  OptionalLong getLoadMillis() {
+    final long millis = loadMillis;
+    return millis < 0 ? OptionalLong.empty() : OptionalLong.of(millis);
+  }
+
   protected void setMethodInvoker(MethodInvoker methodInvoker) {
     this.methodInvoker = methodInvoker;
   }
 
   private CheckedSupplier<Service> createService() {
     return () -> {
+      final long start = nanoTime();
       Service service = withServiceClassLoader(() -> instantiateService());
       if (started.compareAndSet(false, true)) {
         doStart(service);
         stopped.set(false);
       }
+      loadMillis = NANOSECONDS.toMillis(nanoTime() - start);
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug(format("Service '%s' loaded and started in %d ms", assembly.getName(), loadMillis));
+      }
       return service;
     };
   }
@@ -7,12 +7,22 @@
 
 package org.mule.runtime.module.service.internal.manager;
 
+import static java.lang.Boolean.getBoolean;
+import static java.lang.Math.min;
+import static java.lang.Runtime.getRuntime;
 import static java.lang.String.format;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
 import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
 import static org.mule.runtime.container.api.MuleFoldersUtil.getServicesFolder;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
+import static org.mule.runtime.module.service.internal.manager.LazyServiceProxy.lazyServiceProxyOf;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.service.Service;
 import org.mule.runtime.core.api.lifecycle.StartException;
@@ -21,7 +31,14 @@ import org.mule.runtime.module.service.api.manager.ServiceManager;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,11 +48,26 @@ import org.slf4j.LoggerFactory;
  */
 public class MuleServiceManager implements ServiceManager {
 
+  /**
+   * System property to load and start the discovered services concurrently instead of one after the other.
+   * <p>
+   * Without this property services are loaded lazily, and only actually loaded and started when first used. With it, every
+   * service is eagerly loaded and started during the start of this manager, spreading that work across several threads so that
+   * it is not paid for by the first request that uses each service. Each service is started within its own lock, and services
+   * that depend on other services get them injected through lazy proxies, so the start of one service does not depend on the
+   * order in which the others are started.
+   *
+   * @since 4.4.0
+   */
+  public static final String PARALLEL_START_PROPERTY = SYSTEM_PROPERTY_PREFIX + "services.parallelStart";
+
   private static final Logger LOGGER = LoggerFactory.getLogger(MuleServiceManager.class);
   private static final String SCHEDULER_SERVICE_ARTIFACT_ID = "Scheduler service";
   private static final String HTTP_SERVICE_ARTIFACT_PREFIX = "HTTP";
 
   private final ServiceDiscoverer serviceDiscoverer;
+  private final boolean parallelStart = getBoolean(PARALLEL_START_PROPERTY);
+  private final Map<String, Long> servicesStartupMillis = new ConcurrentHashMap<>();
   private List<Service> services = new ArrayList<>();
 
   /**
@@ -63,9 +95,61 @@ public class MuleServiceManager implements ServiceManager {
     }
   }
 
-  private void startServices() throws MuleException {
-    for (Service service : services) {
+  private void startServices() throws Exception {
+    final long start = nanoTime();
+    if (parallelStart && services.size() > 1) {
+      startServicesConcurrently();
+    } else {
+      for (Service service : services) {
+        doStartService(service);
+      }
+    }
+    LOGGER.info(format("Started %d services in %d ms", services.size(), NANOSECONDS.toMillis(nanoTime() - start)));
+  }
+
+  private void startServicesConcurrently() throws Exception {
+    final ExecutorService executor = newFixedThreadPool(min(services.size(), getRuntime().availableProcessors()),
+                                                        runnable -> new Thread(runnable, "mule.services.start"));
+    try {
+      List<Future<?>> startFutures = new ArrayList<>(services.size());
+      for (Service service : services) {
+        startFutures.add(executor.submit(() -> {
+          doStartService(service);
+          return null;
+        }));
+      }
+
+      for (Future<?> startFuture : startFutures) {
+        try {
+          startFuture.get();
+        } catch (ExecutionException e) {
+          throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+      }
+    } catch (InterruptedException e) {
+      currentThread().interrupt();
+      throw e;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void doStartService(Service service) throws MuleException {
+    final Optional<LazyServiceProxy> lazyService = lazyServiceProxyOf(service);
+    if (lazyService.isPresent() && !parallelStart) {
+      // Not actually loaded until first used, its startup time is taken from the proxy once that happens
       startIfNeeded(service);
+      return;
+    }
+
+    final long start = nanoTime();
+    lazyService.ifPresent(LazyServiceProxy::load);
+    startIfNeeded(service);
+    long startupMillis = NANOSECONDS.toMillis(nanoTime() - start);
+    // A service that provides several contracts is started once for each of them
+    servicesStartupMillis.merge(service.getName(), startupMillis, Long::sum);
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(format("Service '%s' started in %d ms", service.getName(), startupMillis));
     }
   }
 
@@ -107,4 +191,23 @@ public class MuleServiceManager implements ServiceManager {
   public List<Service> getServices() {
     return unmodifiableList(services);
   }
+
+  /**
+   * Unless {@link #PARALLEL_START_PROPERTY} is set, services are only actually loaded and started when first used. Those are
+   * reported once that has happened.
+   *
+   * @return how long it took to load and start each of the services, in milliseconds, by the name of the service.
+   * @since 4.4.0
+   */
+  public Map<String, Long> getServicesStartupMillis() {
+    final Map<String, Long> startupMillis = new HashMap<>(servicesStartupMillis);
+    if (!parallelStart) {
+      for (Service service : services) {
+        lazyServiceProxyOf(service)
+            .ifPresent(lazyService -> lazyService.getLoadMillis()
+                .ifPresent(loadMillis -> startupMillis.merge(service.getName(), loadMillis, Long::sum)));
+      }
+    }
+    return unmodifiableMap(startupMillis);
+  }
 }
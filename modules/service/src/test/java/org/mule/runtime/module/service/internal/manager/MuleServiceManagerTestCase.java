@@ -7,21 +7,34 @@
 
 package org.mule.runtime.module.service.internal.manager;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
+import static org.mule.runtime.module.service.internal.manager.MuleServiceManager.PARALLEL_START_PROPERTY;
+import static org.mule.tck.junit4.rule.SystemProperty.callWithProperty;
 import org.mule.runtime.api.lifecycle.Startable;
 import org.mule.runtime.api.lifecycle.Stoppable;
 import org.mule.runtime.api.service.Service;
+import org.mule.runtime.api.service.ServiceDefinition;
+import org.mule.runtime.api.service.ServiceProvider;
+import org.mule.runtime.module.service.api.discoverer.ServiceAssembly;
 import org.mule.runtime.module.service.api.discoverer.ServiceDiscoverer;
+import org.mule.runtime.module.service.internal.manager.LazyServiceTestCase.TestService;
 import org.mule.tck.junit4.AbstractMuleTestCase;
 
 import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -33,6 +46,9 @@ import org.mockito.junit.MockitoJUnitRunner;
 @RunWith(MockitoJUnitRunner.class)
 public class MuleServiceManagerTestCase extends AbstractMuleTestCase {
 
+  private static final long START_TIMEOUT_MILLIS = 5000;
+  private static final String LAZY_SERVICE_NAME = "Lazy Service";
+
   private Service service1;
   private Service service2;
 
@@ -75,6 +91,85 @@ public class MuleServiceManagerTestCase extends AbstractMuleTestCase {
     inOrder.verify((Startable) service2).start();
   }
 
+  @Test
+  public void reportsServicesStartupTimes() throws Exception {
+    muleServiceManager.start();
+
+    assertThat(muleServiceManager.getServicesStartupMillis().keySet(), hasSize(2));
+    assertThat(muleServiceManager.getServicesStartupMillis(), hasKey("Awesome Service"));
+    assertThat(muleServiceManager.getServicesStartupMillis(), hasKey("Yet another awesome Service"));
+  }
+
+  @Test
+  public void startServicesConcurrently() throws Throwable {
+    muleServiceManager = callWithProperty(PARALLEL_START_PROPERTY, "true", () -> new MuleServiceManager(serviceDiscoverer));
+
+    // Each service waits for the other one to be starting, which would never happen if they were started serially
+    CountDownLatch starting = new CountDownLatch(2);
+    doAnswer(invocation -> {
+      starting.countDown();
+      assertThat(starting.await(START_TIMEOUT_MILLIS, MILLISECONDS), is(true));
+      return null;
+    }).when((Startable) service1).start();
+    doAnswer(invocation -> {
+      starting.countDown();
+      assertThat(starting.await(START_TIMEOUT_MILLIS, MILLISECONDS), is(true));
+      return null;
+    }).when((Startable) service2).start();
+
+    muleServiceManager.start();
+
+    verify((Startable) service1).start();
+    verify((Startable) service2).start();
+    assertThat(muleServiceManager.getServicesStartupMillis().keySet(), hasSize(2));
+  }
+
+  @Test
+  public void lazyServiceLoadedAndStartedOnConcurrentStart() throws Throwable {
+    TestService actualService = mock(TestService.class);
+    ServiceAssembly assembly = mockServiceAssembly(actualService);
+    when(serviceDiscoverer.discoverServices())
+        .thenReturn(Arrays.asList(service1, LazyServiceProxy.from(assembly, mock(ServiceRegistry.class)), service2));
+    muleServiceManager = callWithProperty(PARALLEL_START_PROPERTY, "true", () -> new MuleServiceManager(serviceDiscoverer));
+
+    muleServiceManager.start();
+
+    verify(actualService).start();
+    assertThat(muleServiceManager.getServicesStartupMillis().keySet(), hasSize(3));
+    assertThat(muleServiceManager.getServicesStartupMillis(), hasKey(LAZY_SERVICE_NAME));
+  }
+
+  @Test
+  public void lazyServiceStartupReportedWhenFirstUsed() throws Throwable {
+    TestService actualService = mock(TestService.class);
+    ServiceAssembly assembly = mockServiceAssembly(actualService);
+    Service lazyService = LazyServiceProxy.from(assembly, mock(ServiceRegistry.class));
+    when(serviceDiscoverer.discoverServices()).thenReturn(Arrays.asList(service1, lazyService, service2));
+
+    muleServiceManager.start();
+
+    verify(assembly, never()).getServiceProvider();
+    assertThat(muleServiceManager.getServicesStartupMillis(), not(hasKey(LAZY_SERVICE_NAME)));
+
+    ((TestService) lazyService).doSomething();
+
+    verify(actualService).start();
+    assertThat(muleServiceManager.getServicesStartupMillis().keySet(), hasSize(3));
+    assertThat(muleServiceManager.getServicesStartupMillis(), hasKey(LAZY_SERVICE_NAME));
+  }
+
+  private ServiceAssembly mockServiceAssembly(TestService actualService) {
+    ServiceProvider serviceProvider = mock(ServiceProvider.class);
+    when(serviceProvider.getServiceDefinition()).thenReturn(new ServiceDefinition(TestService.class, actualService));
+
+    ServiceAssembly assembly = mock(ServiceAssembly.class);
+    when(assembly.getName()).thenReturn(LAZY_SERVICE_NAME);
+    when(assembly.getServiceContract()).thenReturn((Class) TestService.class);
+    when(assembly.getClassLoader()).thenReturn(TestService.class.getClassLoader());
+    when(assembly.getServiceProvider()).thenReturn(serviceProvider);
+    return assembly;
+  }
+
   @Test
   public void stopsServices() throws Exception {
     muleServiceManager.start();
@@ -0,0 +1,442 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.internal;
+
+import static java.lang.System.getProperty;
+import static java.lang.System.getenv;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Comparator.comparing;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static org.apache.commons.io.FileUtils.deleteQuietly;
+import static org.mule.runtime.core.api.config.MuleManifest.getProductVersion;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.dsl.api.ConfigResource;
+import org.mule.runtime.dsl.api.xml.parser.ConfigFile;
+import org.mule.runtime.dsl.api.xml.parser.ConfigLine;
+import org.mule.runtime.dsl.api.xml.parser.SimpleConfigAttribute;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+
+/**
+ * Keeps a binary snapshot of the {@link ConfigFile}s parsed from the XML configuration of an artifact, so that following starts
+ * of the same artifact can skip the parsing and schema validation of its config files.
+ * <p>
+ * The snapshot is keyed by a digest of the content of the artifact config resources, the extensions available to the artifact,
+ * the deployment properties and the runtime version. Besides that, the digest of each parsed file (including the imported ones)
+ * and the values of the system properties or environment variables the imports are resolved with are kept in the snapshot and
+ * verified before it is used. Any mismatch or failure while reading the snapshot just causes the
+ * configuration to be parsed again.
+ *
+ * @since 4.4.0
+ */
+public final class ConfigFilesSnapshot {
+
+  private static final Logger LOGGER = getLogger(ConfigFilesSnapshot.class);
+
+  private static final int FORMAT_VERSION = 2;
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+
+  private static final String IMPORT_IDENTIFIER = "import";
+  private static final String IMPORT_FILE_ATTRIBUTE = "file";
+  private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\$\\{([^}]+)\\}");
+
+  private static final byte NULL_VALUE = 0;
+  private static final byte STRING_VALUE = 1;
+  private static final byte BOOLEAN_VALUE = 2;
+  private static final byte INTEGER_VALUE = 3;
+  private static final byte LONG_VALUE = 4;
+
+  private final File snapshotFile;
+  private final byte[] key;
+  private final ClassLoader resourcesClassLoader;
+  private final Function<String, String> environmentResolver;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param snapshotFile         the file where the snapshot is kept
+   * @param key                  the key the snapshot must match to be used, as returned by {@link #computeKey}
+   * @param resourcesClassLoader the {@link ClassLoader} through which the parsed config files are looked up
+   */
+  public ConfigFilesSnapshot(File snapshotFile, byte[] key, ClassLoader resourcesClassLoader) {
+    // Same precedence as EnvironmentPropertiesConfigurationProvider: system properties over environment variables
+    this(snapshotFile, key, resourcesClassLoader, name -> {
+      String value = getProperty(name);
+      return value != null ? value : getenv(name);
+    });
+  }
+
+  ConfigFilesSnapshot(File snapshotFile, byte[] key, ClassLoader resourcesClassLoader,
+                      Function<String, String> environmentResolver) {
+    this.snapshotFile = snapshotFile;
+    this.key = key;
+    this.resourcesClassLoader = resourcesClassLoader;
+    this.environmentResolver = environmentResolver;
+  }
+
+  /**
+   * Computes the key for the snapshot of an artifact with the given configuration.
+   *
+   * @param configResources       the config resources of the artifact
+   * @param extensions            the extensions available to the artifact
+   * @param artifactProperties    the deployment properties of the artifact
+   * @param disableXmlValidations whether the XML configs are parsed without validations
+   * @return the digest to use as the key of the snapshot
+   * @throws IOException if any of the config resources could not be read
+   */
+  public static byte[] computeKey(ConfigResource[] configResources, Collection<ExtensionModel> extensions,
+                                  Map<String, String> artifactProperties, boolean disableXmlValidations)
+      throws IOException {
+    MessageDigest digest = newDigest();
+    update(digest, getProductVersion());
+    update(digest, Boolean.toString(disableXmlValidations));
+
+    List<ExtensionModel> sortedExtensions = new ArrayList<>(extensions);
+    sortedExtensions.sort(comparing(ExtensionModel::getName));
+    for (ExtensionModel extension : sortedExtensions) {
+      update(digest, extension.getName());
+      update(digest, extension.getVersion());
+    }
+
+    for (Map.Entry<String, String> property : new TreeMap<>(artifactProperties).entrySet()) {
+      update(digest, property.getKey());
+      update(digest, property.getValue());
+    }
+
+    for (ConfigResource configResource : configResources) {
+      update(digest, configResource.getResourceName());
+      try (InputStream content = configResource.getInputStream()) {
+        update(digest, content);
+      }
+    }
+
+    return digest.digest();
+  }
+
+  /**
+   * Loads the {@link ConfigFile}s from the snapshot.
+   *
+   * @return the {@link ConfigFile}s kept in the snapshot, or {@link Optional#empty()} if there is no snapshot or it no longer
+   *         matches the configuration of the artifact.
+   */
+  public Optional<List<ConfigFile>> load() {
+    if (!snapshotFile.exists()) {
+      return empty();
+    }
+
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(snapshotFile)))) {
+      if (in.readInt() != FORMAT_VERSION || !Arrays.equals(key, readBytes(in))) {
+        LOGGER.debug("Config snapshot '{}' does not match the current configuration. It will be discarded.", snapshotFile);
+        return empty();
+      }
+
+      int importPropertiesCount = in.readInt();
+      for (int i = 0; i < importPropertiesCount; ++i) {
+        String name = readString(in);
+        if (!Objects.equals(readString(in), environmentResolver.apply(name))) {
+          LOGGER.debug("Property '{}' used by an import changed since config snapshot '{}' was taken. It will be discarded.",
+                       name, snapshotFile);
+          return empty();
+        }
+      }
+
+      int filesCount = in.readInt();
+      List<ConfigFile> configFiles = new ArrayList<>(filesCount);
+      for (int i = 0; i < filesCount; ++i) {
+        String filename = readString(in);
+        byte[] fileDigest = readBytes(in);
+        if (!Arrays.equals(fileDigest, digestOf(filename))) {
+          LOGGER.debug("Config file '{}' changed since config snapshot '{}' was taken. It will be discarded.", filename,
+                       snapshotFile);
+          return empty();
+        }
+
+        int linesCount = in.readInt();
+        List<ConfigLine> configLines = new ArrayList<>(linesCount);
+        for (int j = 0; j < linesCount; ++j) {
+          configLines.add(readConfigLine(in));
+        }
+        configFiles.add(new ConfigFile(filename, configLines));
+      }
+
+      return of(configFiles);
+    } catch (Exception e) {
+      LOGGER.warn("Could not read config snapshot '" + snapshotFile + "'. Configuration will be parsed.", e);
+      return empty();
+    }
+  }
+
+  /**
+   * Keeps the given {@link ConfigFile}s in the snapshot, replacing any previous one.
+   * <p>
+   * Failing to store the snapshot is not an error, it is just logged and the snapshot is discarded.
+   *
+   * @param configFiles the {@link ConfigFile}s parsed from the configuration of the artifact.
+   */
+  public void store(List<ConfigFile> configFiles) {
+    File tempFile = new File(snapshotFile.getParentFile(), snapshotFile.getName() + ".tmp");
+    try {
+      snapshotFile.getParentFile().mkdirs();
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+        out.writeInt(FORMAT_VERSION);
+        writeBytes(out, key);
+
+        // Imported files may be resolved from system properties or environment variables, which are not part of the key
+        Set<String> importProperties = new TreeSet<>();
+        configFiles.forEach(configFile -> collectImportProperties(configFile.getConfigLines(), importProperties));
+        out.writeInt(importProperties.size());
+        for (String name : importProperties) {
+          writeString(out, name);
+          writeString(out, environmentResolver.apply(name));
+        }
+
+        out.writeInt(configFiles.size());
+        for (ConfigFile configFile : configFiles) {
+          byte[] fileDigest = digestOf(configFile.getFilename());
+          if (fileDigest == null) {
+            LOGGER.debug("Config file '{}' could not be found, config snapshot will not be stored.", configFile.getFilename());
+            out.close();
+            deleteQuietly(tempFile);
+            return;
+          }
+
+          writeString(out, configFile.getFilename());
+          writeBytes(out, fileDigest);
+
+          out.writeInt(configFile.getConfigLines().size());
+          for (ConfigLine configLine : configFile.getConfigLines()) {
+            writeConfigLine(out, configLine);
+          }
+        }
+      }
+
+      try {
+        Files.move(tempFile.toPath(), snapshotFile.toPath(), ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tempFile.toPath(), snapshotFile.toPath(), REPLACE_EXISTING);
+      }
+    } catch (Exception e) {
+      LOGGER.warn("Could not store config snapshot '" + snapshotFile + "'", e);
+      deleteQuietly(tempFile);
+      deleteQuietly(snapshotFile);
+    }
+  }
+
+  private static void collectImportProperties(List<ConfigLine> configLines, Set<String> importProperties) {
+    for (ConfigLine configLine : configLines) {
+      SimpleConfigAttribute file = configLine.getConfigAttributes().get(IMPORT_FILE_ATTRIBUTE);
+      if (IMPORT_IDENTIFIER.equals(configLine.getIdentifier()) && file != null && file.getValue() != null) {
+        Matcher matcher = PLACEHOLDER_PATTERN.matcher(file.getValue());
+        while (matcher.find()) {
+          importProperties.add(matcher.group(1));
+        }
+      }
+      collectImportProperties(configLine.getChildren(), importProperties);
+    }
+  }
+
+  private byte[] digestOf(String filename) throws IOException {
+    URL resource = resourcesClassLoader.getResource(filename);
+    if (resource == null) {
+      File file = new File(filename);
+      if (!file.isFile()) {
+        return null;
+      }
+      resource = file.toURI().toURL();
+    }
+
+    MessageDigest digest = newDigest();
+    try (InputStream content = resource.openStream()) {
+      update(digest, content);
+    }
+    return digest.digest();
+  }
+
+  private static void writeConfigLine(DataOutputStream out, ConfigLine configLine) throws IOException {
+    writeString(out, configLine.getNamespace());
+    writeString(out, configLine.getNamespaceUri());
+    writeString(out, configLine.getIdentifier());
+    out.writeInt(configLine.getLineNumber());
+    out.writeInt(configLine.getStartColumn());
+    writeString(out, configLine.getTextContent());
+    writeString(out, configLine.getSourceCode());
+
+    out.writeInt(configLine.getConfigAttributes().size());
+    for (SimpleConfigAttribute attribute : configLine.getConfigAttributes().values()) {
+      writeString(out, attribute.getName());
+      writeString(out, attribute.getValue());
+      out.writeBoolean(attribute.isValueFromSchema());
+    }
+
+    out.writeInt(configLine.getCustomAttributes().size());
+    for (Map.Entry<String, Object> attribute : configLine.getCustomAttributes().entrySet()) {
+      writeString(out, attribute.getKey());
+      writeValue(out, attribute.getKey(), attribute.getValue());
+    }
+
+    out.writeInt(configLine.getChildren().size());
+    for (ConfigLine child : configLine.getChildren()) {
+      writeConfigLine(out, child);
+    }
+  }
+
+  private static ConfigLine readConfigLine(DataInputStream in) throws IOException {
+    ConfigLine.Builder builder = new ConfigLine.Builder()
+        .setNamespace(readString(in))
+        .setNamespaceUri(readString(in))
+        .setIdentifier(readString(in))
+        .setLineNumber(in.readInt())
+        .setStartColumn(in.readInt())
+        .setTextContent(readString(in))
+        .setSourceCode(readString(in));
+
+    int configAttributesCount = in.readInt();
+    for (int i = 0; i < configAttributesCount; ++i) {
+      builder.addConfigAttribute(readString(in), readString(in), in.readBoolean());
+    }
+
+    int customAttributesCount = in.readInt();
+    for (int i = 0; i < customAttributesCount; ++i) {
+      builder.addCustomAttribute(readString(in), readValue(in));
+    }
+
+    int childrenCount = in.readInt();
+    for (int i = 0; i < childrenCount; ++i) {
+      builder.addChild(readConfigLine(in));
+    }
+
+    return builder.build();
+  }
+
+  private static void writeValue(DataOutputStream out, String name, Object value) throws IOException {
+    if (value == null) {
+      out.writeByte(NULL_VALUE);
+    } else if (value instanceof String) {
+      out.writeByte(STRING_VALUE);
+      writeString(out, (String) value);
+    } else if (value instanceof Boolean) {
+      out.writeByte(BOOLEAN_VALUE);
+      out.writeBoolean((Boolean) value);
+    } else if (value instanceof Integer) {
+      out.writeByte(INTEGER_VALUE);
+      out.writeInt((Integer) value);
+    } else if (value instanceof Long) {
+      out.writeByte(LONG_VALUE);
+      out.writeLong((Long) value);
+    } else {
+      throw new IOException("Custom attribute '" + name + "' of type '" + value.getClass().getName()
+          + "' is not supported in config snapshots");
+    }
+  }
+
+  private static Object readValue(DataInputStream in) throws IOException {
+    byte type = in.readByte();
+    switch (type) {
+      case NULL_VALUE:
+        return null;
+      case STRING_VALUE:
+        return readString(in);
+      case BOOLEAN_VALUE:
+        return in.readBoolean();
+      case INTEGER_VALUE:
+        return in.readInt();
+      case LONG_VALUE:
+        return in.readLong();
+      default:
+        throw new IOException("Unknown custom attribute type " + type);
+    }
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    // DataOutputStream#writeUTF is limited to 64k, which the source code of a big flow may exceed
+    writeBytes(out, value == null ? null : value.getBytes(UTF_8));
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    byte[] bytes = readBytes(in);
+    return bytes == null ? null : new String(bytes, UTF_8);
+  }
+
+  private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+    if (bytes == null) {
+      out.writeInt(-1);
+    } else {
+      out.writeInt(bytes.length);
+      out.write(bytes);
+    }
+  }
+
+  private static byte[] readBytes(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length < 0) {
+      return null;
+    }
+
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return bytes;
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance(DIGEST_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      // Every JVM is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void update(MessageDigest digest, String value) {
+    if (value != null) {
+      digest.update(value.getBytes(UTF_8));
+    }
+    // separator so that consecutive values cannot be confused with each other
+    digest.update((byte) 0);
+  }
+
+  private static void update(MessageDigest digest, InputStream content) throws IOException {
+    byte[] buffer = new byte[8192];
+    int read;
+    while ((read = content.read(buffer)) != -1) {
+      digest.update(buffer, 0, read);
+    }
+    digest.update((byte) 0);
+  }
+}
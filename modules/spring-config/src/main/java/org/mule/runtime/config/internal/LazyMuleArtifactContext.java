@@ -8,6 +8,7 @@ package org.mule.runtime.config.internal;
 
 import static com.google.common.collect.ImmutableSet.copyOf;
 import static com.google.common.collect.Sets.newHashSet;
+import static java.lang.System.nanoTime;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.sort;
@@ -67,6 +68,7 @@ import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.config.bootstrap.ArtifactType;
 import org.mule.runtime.core.api.transaction.TransactionManagerFactory;
 import org.mule.runtime.core.internal.connectivity.DefaultConnectivityTestingService;
+import org.mule.runtime.core.internal.lifecycle.InitialisationTimingsReport;
 import org.mule.runtime.core.internal.metadata.MuleMetadataService;
 import org.mule.runtime.core.internal.metadata.cache.DefaultPersistentMetadataCacheManager;
 import org.mule.runtime.core.internal.metadata.cache.DelegateMetadataCacheManager;
@@ -267,18 +269,22 @@ public class LazyMuleArtifactContext extends MuleArtifactContext
   }
 
   private void initializeComponents(List<Object> components) {
+    InitialisationTimingsReport timingsReport = new InitialisationTimingsReport();
     for (Object object : components) {
       LOGGER.debug("Initializing component '{}'...", object.toString());
       try {
         if (object instanceof MessageProcessorChain) {
           // When created it will be initialized
         } else {
+          final long startNanos = nanoTime();
           getMuleRegistry().applyLifecycle(object, Initialisable.PHASE_NAME);
+          timingsReport.record(object, nanoTime() - startNanos);
         }
       } catch (MuleException e) {
         throw new MuleRuntimeException(e);
       }
     }
+    timingsReport.log(LOGGER, getArtifactName());
   }
 
   private void startComponent(List<Object> components) {
@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.config.internal;
 
+import static java.lang.Boolean.getBoolean;
 import static java.lang.String.format;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.newSetFromMap;
@@ -36,6 +37,7 @@ import static org.mule.runtime.config.internal.util.ComponentBuildingDefinitionU
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_MULE_CONFIGURATION;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_MULE_CONTEXT;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_REGISTRY;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.api.config.bootstrap.ArtifactType.APP;
 import static org.mule.runtime.core.api.config.bootstrap.ArtifactType.DOMAIN;
 import static org.mule.runtime.core.api.config.bootstrap.ArtifactType.POLICY;
@@ -110,6 +112,7 @@ import org.mule.runtime.dsl.api.xml.parser.XmlConfigurationDocumentLoader;
 import org.mule.runtime.dsl.api.xml.parser.XmlParsingConfiguration;
 import org.mule.runtime.extension.api.property.XmlExtensionModelProperty;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -154,6 +157,16 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
 
   public static final String INNER_BEAN_PREFIX = "(inner bean)";
 
+  /**
+   * System property to enable keeping a snapshot of the parsed XML configuration of the artifact in its working directory,
+   * which is used instead of parsing the configuration again on following starts if it did not change.
+   *
+   * @since 4.4.0
+   */
+  public static final String CONFIG_SNAPSHOT_PROPERTY = SYSTEM_PROPERTY_PREFIX + "config.parsingSnapshot";
+
+  private static final String CONFIG_SNAPSHOT_FILE_NAME = ".config-snapshot";
+
   private final ComponentBuildingDefinitionRegistry componentBuildingDefinitionRegistry =
       new ComponentBuildingDefinitionRegistry();
   private final OptionalObjectsController optionalObjectsController;
@@ -301,44 +314,13 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
             }
           });
 
-      List<ConfigFile> configFiles = processXmlConfiguration(new XmlParsingConfiguration() {
-
-        @Override
-        public ParsingPropertyResolver getParsingPropertyResolver() {
-          return propertyKey -> (String) propertyResolver.resolveValue(propertyKey);
-        }
-
-        @Override
-        public ConfigResource[] getArtifactConfigResources() {
-          return MuleArtifactContext.this.getArtifactConfigResources();
-        }
-
-        @Override
-        public ResourceLocator getResourceLocator() {
-          return MuleArtifactContext.this.resourceLocator;
-        }
-
-        @Override
-        public Supplier<SAXParserFactory> getSaxParserFactory() {
-          return () -> XMLSecureFactories.createDefault().getSAXParserFactory();
-        }
-
-        @Override
-        public XmlConfigurationDocumentLoader getXmlConfigurationDocumentLoader() {
-          return xmlConfigurationDocumentLoader;
-        }
-
-        @Override
-        public EntityResolver getEntityResolver() {
-          return new ModuleDelegatingEntityResolver(getExtensions());
-        }
-
-        @Override
-        public List<XmlNamespaceInfoProvider> getXmlNamespaceInfoProvider() {
-          return XmlNamespaceInfoProviderSupplier.createFromExtensionModels(getExtensions(), of(cl -> serviceRegistry
-              .lookupProviders(XmlNamespaceInfoProvider.class, cl).stream().collect(toList())));
-        }
-      });
+      Optional<ConfigFilesSnapshot> configFilesSnapshot = createConfigFilesSnapshot();
+      List<ConfigFile> configFiles = configFilesSnapshot.flatMap(ConfigFilesSnapshot::load).orElse(null);
+      if (configFiles == null) {
+        configFiles = parseConfigFiles(propertyResolver);
+        final List<ConfigFile> parsedConfigFiles = configFiles;
+        configFilesSnapshot.ifPresent(snapshot -> snapshot.store(parsedConfigFiles));
+      }
 
       ArtifactConfig artifactConfig = new ArtifactConfig.Builder()
           .setApplicationName(getArtifactName())
@@ -356,6 +338,67 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
     }
   }
 
+  private List<ConfigFile> parseConfigFiles(DefaultConfigurationPropertiesResolver propertyResolver) {
+    return processXmlConfiguration(new XmlParsingConfiguration() {
+
+      @Override
+      public ParsingPropertyResolver getParsingPropertyResolver() {
+        return propertyKey -> (String) propertyResolver.resolveValue(propertyKey);
+      }
+
+      @Override
+      public ConfigResource[] getArtifactConfigResources() {
+        return MuleArtifactContext.this.getArtifactConfigResources();
+      }
+
+      @Override
+      public ResourceLocator getResourceLocator() {
+        return MuleArtifactContext.this.resourceLocator;
+      }
+
+      @Override
+      public Supplier<SAXParserFactory> getSaxParserFactory() {
+        return () -> XMLSecureFactories.createDefault().getSAXParserFactory();
+      }
+
+      @Override
+      public XmlConfigurationDocumentLoader getXmlConfigurationDocumentLoader() {
+        return xmlConfigurationDocumentLoader;
+      }
+
+      @Override
+      public EntityResolver getEntityResolver() {
+        return new ModuleDelegatingEntityResolver(getExtensions());
+      }
+
+      @Override
+      public List<XmlNamespaceInfoProvider> getXmlNamespaceInfoProvider() {
+        return XmlNamespaceInfoProviderSupplier.createFromExtensionModels(getExtensions(), of(cl -> serviceRegistry
+            .lookupProviders(XmlNamespaceInfoProvider.class, cl).stream().collect(toList())));
+      }
+    });
+  }
+
+  /**
+   * @return the {@link ConfigFilesSnapshot} for this artifact, if enabled through {@link #CONFIG_SNAPSHOT_PROPERTY}.
+   */
+  private Optional<ConfigFilesSnapshot> createConfigFilesSnapshot() {
+    String workingDirectory = muleContext.getConfiguration().getWorkingDirectory();
+    if (!getBoolean(CONFIG_SNAPSHOT_PROPERTY) || isEmpty(workingDirectory) || artifactConfigResources.length == 0) {
+      return empty();
+    }
+
+    try {
+      byte[] key = ConfigFilesSnapshot.computeKey(artifactConfigResources, getExtensions(), artifactProperties,
+                                                  disableXmlValidations);
+      return of(new ConfigFilesSnapshot(new File(workingDirectory, CONFIG_SNAPSHOT_FILE_NAME), key,
+                                        muleContext.getExecutionClassLoader()));
+    } catch (IOException e) {
+      LOGGER.warn("Could not compute the key of the config snapshot. Configuration will be parsed.", e);
+      return empty();
+    }
+  }
+
   public void initialize() {
     applicationModel.prepareAstForRuntime(getExtensions());
     validateAllConfigElementHaveParsers();
@@ -42,6 +42,7 @@ import static org.mule.runtime.extension.api.ExtensionConstants.DEFAULT_OBJECT_S
 import static org.mule.runtime.extension.api.ExtensionConstants.DYNAMIC_CONFIG_EXPIRATION_FREQUENCY;
 import static org.mule.runtime.extension.api.declaration.type.StreamingStrategyTypeBuilder.NON_REPEATABLE_BYTE_STREAM_ALIAS;
 import static org.mule.runtime.extension.api.declaration.type.StreamingStrategyTypeBuilder.NON_REPEATABLE_OBJECTS_STREAM_ALIAS;
+import static org.mule.runtime.extension.api.declaration.type.StreamingStrategyTypeBuilder.REPEATABLE_FILE_STORE_OBJECTS_STREAM_ALIAS;
 import static org.mule.runtime.extension.api.declaration.type.StreamingStrategyTypeBuilder.REPEATABLE_IN_MEMORY_BYTES_STREAM_ALIAS;
 import static org.mule.runtime.extension.api.declaration.type.StreamingStrategyTypeBuilder.REPEATABLE_IN_MEMORY_OBJECTS_STREAM_ALIAS;
 import static org.mule.runtime.internal.dsl.DslConstants.CORE_PREFIX;
@@ -82,6 +83,7 @@ import org.mule.runtime.config.internal.factories.ProcessorRouteFactoryBean;
 import org.mule.runtime.config.internal.factories.SchedulingMessageSourceFactoryBean;
 import org.mule.runtime.config.internal.factories.SubflowMessageProcessorChainFactoryBean;
 import org.mule.runtime.config.internal.factories.TryProcessorFactoryBean;
+import org.mule.runtime.config.internal.factories.streaming.FileStoreCursorIteratorProviderObjectFactory;
 import org.mule.runtime.config.internal.factories.streaming.InMemoryCursorIteratorProviderObjectFactory;
 import org.mule.runtime.config.internal.factories.streaming.InMemoryCursorStreamProviderObjectFactory;
 import org.mule.runtime.config.internal.factories.streaming.NullCursorIteratorProviderObjectFactory;
@@ -900,6 +902,20 @@ public class CoreComponentBuildingDefinitionProvider implements ComponentBuildin
                                                 .build())
         .build());
 
+    buildingDefinitions.add(baseDefinition
+        .withIdentifier(REPEATABLE_FILE_STORE_OBJECTS_STREAM_ALIAS)
+        .withTypeDefinition(fromType(CursorIteratorProviderFactory.class))
+        .withObjectFactoryType(FileStoreCursorIteratorProviderObjectFactory.class)
+        .withConstructorParameterDefinition(
+                                            fromSimpleParameter("bucketSize")
+                                                .withDefaultValue(DEFAULT_OBJECT_STREAMING_BUFFER_SIZE)
+                                                .build())
+        .withConstructorParameterDefinition(
+                                            fromSimpleParameter("inMemoryObjects")
+                                                .withDefaultValue(DEFAULT_OBJECT_STREAMING_MAX_BUFFER_SIZE)
+                                                .build())
+        .build());
+
     buildingDefinitions.add(baseDefinition
         .withIdentifier(NON_REPEATABLE_OBJECTS_STREAM_ALIAS)
         .withTypeDefinition(fromType(CursorIteratorProviderFactory.class))
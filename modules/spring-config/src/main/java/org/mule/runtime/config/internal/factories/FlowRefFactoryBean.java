@@ -6,12 +6,15 @@
  */
 package org.mule.runtime.config.internal.factories;
 
+import static java.lang.System.nanoTime;
 import static java.lang.Thread.currentThread;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonMap;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
+import static java.util.regex.Pattern.compile;
 import static java.util.stream.Collectors.joining;
 import static org.mule.runtime.api.el.BindingContextUtils.NULL_BINDING_CONTEXT;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
@@ -37,6 +40,7 @@ import org.mule.runtime.api.component.location.ConfigurationComponentLocator;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.util.LazyValue;
+import org.mule.runtime.api.util.Reference;
 import org.mule.runtime.config.internal.MuleArtifactContext;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.construct.Flow;
@@ -62,8 +66,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import javax.inject.Inject;
 import javax.xml.namespace.QName;
@@ -80,11 +87,6 @@ import org.springframework.beans.factory.support.ManagedMap;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
-import com.google.common.util.concurrent.UncheckedExecutionException;
-
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.context.Context;
@@ -95,6 +97,9 @@ public class FlowRefFactoryBean extends AbstractComponentFactory<Processor> impl
 
   private static final String APPLIED_FLOWREFS_KEY = "mule.flowref.appliedFlowrefsInReactorChain";
 
+  // An expression that is just a string literal, without interpolations, always evaluates to the same flow name
+  private static final Pattern LITERAL_REF_NAME = compile("^#\\[\\s*(?:'([^'\\\\$]*)'|\"([^\"\\\\$]*)\")\\s*\\]$");
+
   private String refName;
   private String target;
   private String targetValue = "#[payload]";
@@ -139,6 +144,12 @@ public class FlowRefFactoryBean extends AbstractComponentFactory<Processor> impl
     }
 
     if (expressionManager.isExpression(refName)) {
+      Matcher literalMatcher = LITERAL_REF_NAME.matcher(refName);
+      if (literalMatcher.matches()) {
+        String literalRefName = literalMatcher.group(1) != null ? literalMatcher.group(1) : literalMatcher.group(2);
+        return new DynamicFlowRefMessageProcessor(this, event -> literalRefName);
+      }
+
       return new DynamicFlowRefMessageProcessor(this, event -> (String) expressionManager
           .evaluate(refName, STRING, NULL_BINDING_CONTEXT, event, getLocation(), true).getValue());
     } else {
@@ -452,40 +463,63 @@ public class FlowRefFactoryBean extends AbstractComponentFactory<Processor> impl
   private class DynamicFlowRefMessageProcessor extends FlowRefMessageProcessor {
 
     private final Function<CoreEvent, String> refNameFromEvent;
-    private final LoadingCache<String, Processor> targetsCache;
+    // The possible targets are limited to the flows and sub-flows of the application, so all of them may be kept
+    private final Map<String, Processor> targetsCache = new ConcurrentHashMap<>();
+    private final Map<String, FlowRefTargetStatistics> targetsStatistics = new ConcurrentHashMap<>();
 
     public DynamicFlowRefMessageProcessor(FlowRefFactoryBean owner, Function<CoreEvent, String> refNameFromEvent) {
       super(owner);
       this.refNameFromEvent = refNameFromEvent;
-      this.targetsCache = CacheBuilder.newBuilder()
-          .maximumSize(20)
-          .build(new CacheLoader<String, Processor>() {
-
-            @Override
-            public Processor load(String key) throws Exception {
-              return getReferencedFlow(key, DynamicFlowRefMessageProcessor.this);
-            }
-          });
     }
 
     @Override
     public Publisher<CoreEvent> apply(Publisher<CoreEvent> publisher) {
+      final boolean statisticsEnabled = muleContext.getStatistics() != null && muleContext.getStatistics().isEnabled();
+
       return from(publisher).flatMap(event -> {
+        String refName;
         ReactiveProcessor resolvedTarget;
 
         try {
-          resolvedTarget = resolveTargetFlowOrSubflow(event);
+          refName = refNameFromEvent.apply(event);
+          resolvedTarget = resolveTargetFlowOrSubflow(refName);
         } catch (MuleException e) {
           return error(e);
         }
 
         Optional<Flow> targetAsFlow = resolvedTarget instanceof Flow ? of((Flow) resolvedTarget) : empty();
-        return Mono
+        Mono<CoreEvent> result = Mono
             .from(processWithChildContextFlowOrSubflow(event, resolvedTarget, targetAsFlow))
             .map(outputToTarget(event, target, targetValue, expressionManager));
+
+        if (statisticsEnabled) {
+          FlowRefTargetStatistics statistics = targetsStatistics.computeIfAbsent(refName, this::createTargetStatistics);
+          final long start = nanoTime();
+          result = result.doFinally(signal -> statistics.invoked(nanoTime() - start));
+        }
+        return result;
       });
     }
 
+    private FlowRefTargetStatistics createTargetStatistics(String targetName) {
+      FlowRefTargetStatistics statistics = new FlowRefTargetStatistics();
+      String statisticsName = getTargetStatisticsName(targetName);
+      if (statisticsName != null) {
+        muleContext.getStatistics().addStatistics(statisticsName, statistics);
+      }
+      return statistics;
+    }
+
+    private String getTargetStatisticsName(String targetName) {
+      ComponentLocation location = getOwner().getLocation();
+      return location != null ? "flowRef/" + location.getLocation() + "/" + targetName : null;
+    }
+
+    @Override
+    public Map<String, FlowRefTargetStatistics> getTargetsStatistics() {
+      return unmodifiableMap(targetsStatistics);
+    }
+
     protected Publisher<CoreEvent> processWithChildContextFlowOrSubflow(CoreEvent event,
                                                                         ReactiveProcessor resolvedTarget,
                                                                         Optional<Flow> targetAsFlow) {
@@ -512,23 +546,35 @@ public class FlowRefFactoryBean extends AbstractComponentFactory<Processor> impl
      * @throws MuleException
      */
     protected Processor resolveTargetFlowOrSubflow(CoreEvent event) throws MuleException {
-      try {
-        return targetsCache.getUnchecked(refNameFromEvent.apply(event));
-
-      } catch (UncheckedExecutionException e) {
-        if (e.getCause() instanceof MuleRuntimeException) {
-          throw (MuleRuntimeException) e.getCause();
-        } else if (e.getCause() instanceof MuleException) {
-          throw (MuleException) e.getCause();
-        } else {
-          throw e;
+      return resolveTargetFlowOrSubflow(refNameFromEvent.apply(event));
+    }
+
+    private Processor resolveTargetFlowOrSubflow(String refName) throws MuleException {
+      if (refName == null) {
+        // A null name is not cached, getReferencedFlow fails for it
+        return getReferencedFlow(null, this);
+      }
+
+      // Only the first reference to each target waits for it to be created, and the same sub-flow is not created twice
+      final Reference<MuleException> failure = new Reference<>();
+      Processor resolvedTarget = targetsCache.computeIfAbsent(refName, name -> {
+        try {
+          return getReferencedFlow(name, this);
+        } catch (MuleException e) {
+          failure.set(e);
+          return null;
         }
+      });
+
+      if (failure.get() != null) {
+        throw failure.get();
       }
+      return resolvedTarget;
     }
 
     @Override
     public void doStart() throws MuleException {
-      for (Processor p : targetsCache.asMap().values()) {
+      for (Processor p : targetsCache.values()) {
         if (!(p instanceof Flow)) {
           startIfNeeded(p);
         }
@@ -537,7 +583,7 @@ public class FlowRefFactoryBean extends AbstractComponentFactory<Processor> impl
 
     @Override
     public void stop() throws MuleException {
-      for (Processor p : targetsCache.asMap().values()) {
+      for (Processor p : targetsCache.values()) {
         if (!(p instanceof Flow)) {
           stopIfNeeded(p);
         }
@@ -546,13 +592,19 @@ public class FlowRefFactoryBean extends AbstractComponentFactory<Processor> impl
 
     @Override
     public void dispose() {
-      for (Processor p : targetsCache.asMap().values()) {
+      for (Processor p : targetsCache.values()) {
         if (!(p instanceof Flow)) {
           disposeIfNeeded(p, LOGGER);
         }
       }
-      targetsCache.invalidateAll();
-      targetsCache.cleanUp();
+      targetsCache.clear();
+      targetsStatistics.forEach((targetName, statistics) -> {
+        String statisticsName = getTargetStatisticsName(targetName);
+        if (statisticsName != null) {
+          muleContext.getStatistics().removeStatistics(statisticsName, statistics);
+        }
+      });
+      targetsStatistics.clear();
     }
 
   }
@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.config.internal.factories;
 
+import static java.util.Collections.emptyMap;
 import static org.mule.runtime.core.privileged.processor.MessageProcessors.processToApply;
 
 import org.mule.runtime.api.component.AbstractComponent;
@@ -17,6 +18,8 @@ import org.mule.runtime.api.lifecycle.Stoppable;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.privileged.processor.AnnotatedProcessor;
 
+import java.util.Map;
+
 /**
  * Defines a common base class for flow-ref processors.
  *
@@ -51,4 +54,15 @@ public abstract class FlowRefMessageProcessor extends AbstractComponent
   public FlowRefFactoryBean getOwner() {
     return owner;
   }
+
+  /**
+   * Statistics are only tracked for flow-refs whose target is defined by an expression, and only if the statistics of the
+   * application are enabled.
+   *
+   * @return the statistics of the invocations of each target of this flow-ref, by the name of the target.
+   * @since 4.4.0
+   */
+  public Map<String, FlowRefTargetStatistics> getTargetsStatistics() {
+    return emptyMap();
+  }
 }
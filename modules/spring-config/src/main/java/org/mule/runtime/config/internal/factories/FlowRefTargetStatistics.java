@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.internal.factories;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import org.mule.runtime.core.api.management.stats.Statistics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the invocations of one of the targets of a flow-ref. They are registered in the statistics of the application
+ * as {@code flowRef/<flowRefLocation>/<targetName>}.
+ *
+ * @since 4.4.0
+ */
+public class FlowRefTargetStatistics implements Statistics {
+
+  private static final long serialVersionUID = 4622793208196316125L;
+
+  private static final double NANOS_PER_MILLI = MILLISECONDS.toNanos(1);
+
+  private final LongAdder invocations = new LongAdder();
+  private final LongAdder totalNanos = new LongAdder();
+
+  void invoked(long nanos) {
+    invocations.increment();
+    totalNanos.add(nanos);
+  }
+
+  /**
+   * @return how many times the target was invoked.
+   */
+  public long getInvocations() {
+    return invocations.sum();
+  }
+
+  /**
+   * @return the average time it took for the target to process an event, in milliseconds.
+   */
+  public double getAverageLatencyMillis() {
+    long count = invocations.sum();
+    return count == 0 ? 0 : totalNanos.sum() / count / NANOS_PER_MILLI;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "invocations: " + getInvocations() + "; averageLatencyMillis: " + getAverageLatencyMillis();
+  }
+}
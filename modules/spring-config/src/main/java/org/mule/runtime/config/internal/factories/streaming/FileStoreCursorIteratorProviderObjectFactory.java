@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.internal.factories.streaming;
+
+import static org.mule.runtime.core.internal.streaming.object.FileStoreCursorIteratorConfig.forInMemoryInstances;
+
+import org.mule.runtime.config.api.factories.streaming.AbstractCursorProviderObjectFactory;
+import org.mule.runtime.core.api.streaming.object.CursorIteratorProviderFactory;
+import org.mule.runtime.core.internal.streaming.object.factory.FileStoreCursorIteratorProviderFactory;
+
+/**
+ * Creates a {@link CursorIteratorProviderFactory} which buffers in memory up to a limit and overflows the rest to disk.
+ *
+ * @since 4.4.0
+ */
+public class FileStoreCursorIteratorProviderObjectFactory
+    extends AbstractCursorProviderObjectFactory<CursorIteratorProviderFactory> {
+
+  private final int bucketSize;
+  private final int inMemoryObjects;
+
+  public FileStoreCursorIteratorProviderObjectFactory(int bucketSize, int inMemoryObjects) {
+    this.bucketSize = bucketSize;
+    this.inMemoryObjects = inMemoryObjects;
+  }
+
+  @Override
+  public CursorIteratorProviderFactory doGetObject() throws Exception {
+    return new FileStoreCursorIteratorProviderFactory(forInMemoryInstances(bucketSize, inMemoryObjects), streamingManager);
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.internal;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import org.mule.runtime.dsl.api.ConfigResource;
+import org.mule.runtime.dsl.api.xml.parser.ConfigFile;
+import org.mule.runtime.dsl.api.xml.parser.ConfigLine;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@SmallTest
+public class ConfigFilesSnapshotTestCase extends AbstractMuleTestCase {
+
+  private static final String CONFIG_FILE_NAME = "dummy.xml";
+
+  @Rule
+  public TemporaryFolder workingDirectory = new TemporaryFolder();
+
+  private File snapshotFile;
+  private byte[] key;
+
+  @Before
+  public void before() throws IOException {
+    snapshotFile = new File(workingDirectory.getRoot(), "snapshot");
+    key = computeKey(emptyMap());
+  }
+
+  @Test
+  public void noSnapshot() {
+    assertThat(createSnapshot(key).load().isPresent(), is(false));
+  }
+
+  @Test
+  public void storeAndLoad() {
+    createSnapshot(key).store(singletonList(createConfigFile()));
+
+    Optional<List<ConfigFile>> loaded = createSnapshot(key).load();
+    assertThat(loaded.isPresent(), is(true));
+    assertThat(loaded.get().size(), is(1));
+
+    ConfigFile configFile = loaded.get().get(0);
+    assertThat(configFile.getFilename(), is(CONFIG_FILE_NAME));
+
+    ConfigLine root = configFile.getConfigLines().get(0);
+    assertThat(root.getIdentifier(), is("mule"));
+    assertThat(root.getNamespace(), is(nullValue()));
+    assertThat(root.getLineNumber(), is(1));
+    assertThat(root.getChildren().size(), is(1));
+
+    ConfigLine flow = root.getChildren().get(0);
+    assertThat(flow.getIdentifier(), is("flow"));
+    assertThat(flow.getNamespace(), is("mule"));
+    assertThat(flow.getConfigAttributes().get("name").getValue(), is("myFlow"));
+    assertThat(flow.getConfigAttributes().get("name").isValueFromSchema(), is(false));
+    assertThat(flow.getCustomAttributes().get("isCData"), is(true));
+    assertThat(flow.getTextContent(), is("some text"));
+    assertThat(flow.getStartColumn(), is(5));
+  }
+
+  @Test
+  public void keyChanged() throws IOException {
+    createSnapshot(key).store(singletonList(createConfigFile()));
+
+    byte[] otherKey = computeKey(singletonMap("some", "property"));
+    assertThat(createSnapshot(otherKey).load().isPresent(), is(false));
+  }
+
+  @Test
+  public void importPropertyChanged() {
+    createSnapshot(key, name -> "imported-a.xml").store(singletonList(createConfigFileWithImport()));
+
+    assertThat(createSnapshot(key, name -> "imported-a.xml").load().isPresent(), is(true));
+    assertThat(createSnapshot(key, name -> "imported-b.xml").load().isPresent(), is(false));
+  }
+
+  @Test
+  public void unsupportedCustomAttributeDoesNotStoreSnapshot() {
+    ConfigLine root = new ConfigLine.Builder()
+        .setIdentifier("mule")
+        .addCustomAttribute("node", new Object())
+        .build();
+
+    createSnapshot(key).store(singletonList(new ConfigFile(CONFIG_FILE_NAME, singletonList(root))));
+
+    assertThat(snapshotFile.exists(), is(false));
+    assertThat(createSnapshot(key).load().isPresent(), is(false));
+  }
+
+  private ConfigFilesSnapshot createSnapshot(byte[] key) {
+    return new ConfigFilesSnapshot(snapshotFile, key, this.getClass().getClassLoader());
+  }
+
+  private ConfigFilesSnapshot createSnapshot(byte[] key, Function<String, String> environmentResolver) {
+    return new ConfigFilesSnapshot(snapshotFile, key, this.getClass().getClassLoader(), environmentResolver);
+  }
+
+  private byte[] computeKey(Map<String, String> properties) throws IOException {
+    return ConfigFilesSnapshot.computeKey(new ConfigResource[] {new ConfigResource(CONFIG_FILE_NAME)}, emptySet(), properties,
+                                          false);
+  }
+
+  private ConfigFile createConfigFileWithImport() {
+    ConfigLine importLine = new ConfigLine.Builder()
+        .setNamespace("mule")
+        .setIdentifier("import")
+        .addConfigAttribute("file", "${importedFile}", false)
+        .setLineNumber(2)
+        .build();
+
+    ConfigLine root = new ConfigLine.Builder()
+        .setIdentifier("mule")
+        .setLineNumber(1)
+        .addChild(importLine)
+        .build();
+
+    return new ConfigFile(CONFIG_FILE_NAME, singletonList(root));
+  }
+
+  private ConfigFile createConfigFile() {
+    ConfigLine flow = new ConfigLine.Builder()
+        .setNamespace("mule")
+        .setNamespaceUri("http://www.mulesoft.org/schema/mule/core")
+        .setIdentifier("flow")
+        .addConfigAttribute("name", "myFlow", false)
+        .addCustomAttribute("isCData", true)
+        .setTextContent("some text")
+        .setLineNumber(2)
+        .setStartColumn(5)
+        .build();
+
+    ConfigLine root = new ConfigLine.Builder()
+        .setIdentifier("mule")
+        .setLineNumber(1)
+        .addChild(flow)
+        .build();
+
+    return new ConfigFile(CONFIG_FILE_NAME, singletonList(root));
+  }
+}
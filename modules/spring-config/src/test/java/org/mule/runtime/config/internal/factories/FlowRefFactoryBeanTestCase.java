@@ -13,18 +13,22 @@ import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.Matchers.contains;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -51,6 +55,7 @@ import org.mule.runtime.api.component.Component;
 import org.mule.runtime.api.component.location.ComponentLocation;
 import org.mule.runtime.api.component.location.ConfigurationComponentLocator;
 import org.mule.runtime.api.component.location.Location;
+import org.mule.runtime.api.el.BindingContext;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.lifecycle.Initialisable;
 import org.mule.runtime.api.lifecycle.Startable;
@@ -70,6 +75,8 @@ import org.mule.runtime.core.api.context.MuleContextAware;
 import org.mule.runtime.core.api.el.ExtendedExpressionManager;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.lifecycle.LifecycleState;
+import org.mule.runtime.core.api.management.stats.AllStatistics;
+import org.mule.runtime.core.api.management.stats.Statistics;
 import org.mule.runtime.core.api.processor.Processor;
 import org.mule.runtime.core.api.processor.ReactiveProcessor;
 import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
@@ -298,6 +305,39 @@ public class FlowRefFactoryBeanTestCase extends AbstractMuleTestCase {
     getFlowRefProcessor(createFlowRefFactoryBean(DYNAMIC_NON_EXISTANT, "flow", applicationContext)).process(testEvent());
   }
 
+  @Test
+  public void literalDynamicFlowRefIsNotEvaluated() throws Exception {
+    doReturn(targetFlow).when(applicationContext).getBean(eq(PARSED_DYNAMIC_REFERENCED_FLOW));
+    FlowRefFactoryBean flowRefFactoryBean =
+        createFlowRefFactoryBean("#['" + PARSED_DYNAMIC_REFERENCED_FLOW + "']", "flow", applicationContext);
+
+    verifyProcess(flowRefFactoryBean, targetFlow, applicationContext);
+    verify(expressionManager, never()).evaluate(anyString(), any(DataType.class), any(BindingContext.class),
+                                                any(CoreEvent.class), any(ComponentLocation.class), anyBoolean());
+  }
+
+  @Test
+  public void dynamicFlowRefTargetsStatistics() throws Exception {
+    AllStatistics statistics = new AllStatistics();
+    statistics.setEnabled(true);
+    when(mockMuleContext.getStatistics()).thenReturn(statistics);
+
+    FlowRefFactoryBean flowRefFactoryBean = createDynamicFlowRefFactoryBean(targetFlow, null, applicationContext);
+    FlowRefMessageProcessor flowRefProcessor = (FlowRefMessageProcessor) getFlowRefProcessor(flowRefFactoryBean);
+    just(newEvent()).cast(CoreEvent.class).transform(flowRefProcessor).block();
+    just(newEvent()).cast(CoreEvent.class).transform(flowRefProcessor).block();
+
+    assertThat(flowRefProcessor.getTargetsStatistics().keySet(), contains(PARSED_DYNAMIC_REFERENCED_FLOW));
+    assertThat(flowRefProcessor.getTargetsStatistics().get(PARSED_DYNAMIC_REFERENCED_FLOW).getInvocations(), is(2L));
+
+    String statisticsName = "flowRef/" + flowRefFactoryBean.getLocation().getLocation() + "/" + PARSED_DYNAMIC_REFERENCED_FLOW;
+    assertThat(statistics.getRegisteredStatistics().get(statisticsName),
+               sameInstance((Statistics) flowRefProcessor.getTargetsStatistics().get(PARSED_DYNAMIC_REFERENCED_FLOW)));
+
+    flowRefProcessor.dispose();
+    assertThat(statistics.getRegisteredStatistics().containsKey(statisticsName), is(false));
+  }
+
   @Test()
   @Feature(CORE_COMPONENTS)
   @Story(FLOW_REFERENCE)
@@ -6,17 +6,26 @@
  */
 package org.mule.runtime.module.tls.internal;
 
+import static java.lang.Integer.getInteger;
+import static java.lang.Long.getLong;
 import static java.util.Arrays.copyOf;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 
 import org.mule.runtime.api.component.AbstractComponent;
+import org.mule.runtime.api.component.location.ComponentLocation;
 import org.mule.runtime.api.lifecycle.CreateException;
+import org.mule.runtime.api.lifecycle.Disposable;
 import org.mule.runtime.api.lifecycle.Initialisable;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.tls.TlsContextFactory;
 import org.mule.runtime.api.tls.TlsContextKeyStoreConfiguration;
 import org.mule.runtime.api.tls.TlsContextTrustStoreConfiguration;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.context.MuleContextAware;
 import org.mule.runtime.core.api.util.FileUtils;
+import org.mule.runtime.core.api.util.IOUtils;
 import org.mule.runtime.core.api.util.StringUtils;
 import org.mule.runtime.core.internal.security.tls.RestrictedSSLServerSocketFactory;
 import org.mule.runtime.core.internal.security.tls.RestrictedSSLSocketFactory;
@@ -27,15 +36,21 @@ import org.mule.runtime.core.privileged.security.tls.TlsConfiguration;
 import com.google.common.base.Joiner;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.security.GeneralSecurityException;
 import java.security.KeyManagementException;
+import java.security.KeyStore;
 import java.security.NoSuchAlgorithmException;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLServerSocketFactory;
+import javax.net.ssl.SSLSessionContext;
 import javax.net.ssl.SSLSocketFactory;
 import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509ExtendedTrustManager;
 import javax.net.ssl.X509TrustManager;
 import javax.xml.namespace.QName;
 
@@ -45,12 +60,43 @@ import org.slf4j.LoggerFactory;
 /**
  * Default implementation of the {@code TlsContextFactory} interface, which delegates all its operations to a
  * {@code TlsConfiguration} object. Only enabled cipher suites and protocols will not delegate to it if configured.
+ * <p>
+ * Once initialised, the {@link SSLContext} is created only once and shared by all the sockets and engines created from this
+ * factory, so TLS sessions can be resumed across connections. The size and timeout of its session caches may be configured, as
+ * well as for how long the result of the certificate revocation checks is reused. Usage statistics are available through
+ * {@link #getStatistics()}, and are registered in the statistics of the application as {@code tls/<name>}.
  */
-public class DefaultTlsContextFactory extends AbstractComponent implements TlsContextFactory, Initialisable {
+public class DefaultTlsContextFactory extends AbstractComponent implements TlsContextFactory, Initialisable, Disposable,
+    MuleContextAware {
 
   private static final Logger logger = LoggerFactory.getLogger(DefaultTlsContextFactory.class);
   private static final String DEFAULT = "default";
 
+  /**
+   * System property to set the default maximum number of entries of the session caches of the {@link SSLContext}s. {@code 0}
+   * means no limit. If not set, the default of the JVM is used.
+   *
+   * @since 4.4.0
+   */
+  public static final String SESSION_CACHE_SIZE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "tls.sessionCacheSize";
+
+  /**
+   * System property to set the default timeout, in seconds, of the entries of the session caches of the {@link SSLContext}s.
+   * {@code 0} means no limit. If not set, the default of the JVM is used.
+   *
+   * @since 4.4.0
+   */
+  public static final String SESSION_TIMEOUT_PROPERTY = SYSTEM_PROPERTY_PREFIX + "tls.sessionTimeout";
+
+  /**
+   * System property to set the default time, in seconds, during which a certificate chain that passed the configured
+   * {@link RevocationCheck} is not checked for revocation again. Defaults to {@code 0}, meaning the revocation status is checked
+   * on every full handshake.
+   *
+   * @since 4.4.0
+   */
+  public static final String REVOCATION_CACHE_TTL_PROPERTY = SYSTEM_PROPERTY_PREFIX + "tls.revocationCacheTtl";
+
   private String name;
 
   private final TlsConfiguration tlsConfiguration;
@@ -59,6 +105,16 @@ public class DefaultTlsContextFactory extends AbstractComponent implements TlsCo
   private boolean trustStoreInsecure = false;
   private String[] enabledProtocols;
   private String[] enabledCipherSuites;
+  private RevocationCheck revocationCheck;
+  private Integer sessionCacheSize = getInteger(SESSION_CACHE_SIZE_PROPERTY);
+  private Integer sessionTimeout = getInteger(SESSION_TIMEOUT_PROPERTY);
+  private long revocationCacheTtl = getLong(REVOCATION_CACHE_TTL_PROPERTY, 0L);
+
+  private X509ExtendedTrustManager trustManagerWithoutRevocation;
+  private volatile SSLContext sslContext;
+  private final TlsContextStatistics statistics = new TlsContextStatistics();
+  private String statisticsName;
+  private MuleContext muleContext;
 
   public DefaultTlsContextFactory(Map<QName, Object> annotations) {
     tlsConfiguration = new TlsConfiguration(null);
@@ -97,6 +153,61 @@ public class DefaultTlsContextFactory extends AbstractComponent implements TlsCo
         }
       }
     }
+
+    if (revocationCheck != null && revocationCacheTtl > 0 && !trustStoreInsecure) {
+      try {
+        trustManagerWithoutRevocation = createTrustManagerWithoutRevocation();
+      } catch (IOException | GeneralSecurityException e) {
+        throw new InitialisationException(createStaticMessage("Unable to create the trust manager for cached revocation checks"),
+                                          e, this);
+      }
+    }
+
+    statisticsName = resolveStatisticsName();
+    if (muleContext != null && statisticsName != null) {
+      muleContext.getStatistics().addStatistics(statisticsName, statistics);
+    }
+  }
+
+  @Override
+  public void setMuleContext(MuleContext muleContext) {
+    this.muleContext = muleContext;
+  }
+
+  @Override
+  public void dispose() {
+    if (muleContext != null && statisticsName != null) {
+      muleContext.getStatistics().removeStatistics(statisticsName, statistics);
+    }
+  }
+
+  private String resolveStatisticsName() {
+    if (name != null) {
+      return "tls/" + name;
+    }
+    ComponentLocation location = getLocation();
+    return location != null ? "tls/" + location.getLocation() : null;
+  }
+
+  private X509ExtendedTrustManager createTrustManagerWithoutRevocation() throws IOException, GeneralSecurityException {
+    KeyStore trustStore = null;
+    if (getTrustStorePath() != null) {
+      trustStore = KeyStore.getInstance(getTrustStoreType());
+      try (InputStream is = IOUtils.getResourceAsStream(getTrustStorePath(), getClass())) {
+        String password = getTrustStorePassword();
+        trustStore.load(is, password == null ? new char[0] : password.toCharArray());
+      }
+    }
+
+    // Without explicit parameters, the trust manager factory doesn't check the revocation status of the certificates
+    TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance(getTrustManagerAlgorithm());
+    trustManagerFactory.init(trustStore);
+    for (TrustManager trustManager : trustManagerFactory.getTrustManagers()) {
+      if (trustManager instanceof X509ExtendedTrustManager) {
+        return (X509ExtendedTrustManager) trustManager;
+      }
+    }
+    return null;
   }
 
   private boolean isUseDefaults(String[] array) {
@@ -215,18 +326,107 @@ public class DefaultTlsContextFactory extends AbstractComponent implements TlsCo
   }
 
   public void setRevocationCheck(RevocationCheck revocationCheck) {
+    this.revocationCheck = revocationCheck;
     tlsConfiguration.setRevocationCheck(revocationCheck);
   }
 
+  /**
+   * @param sessionCacheSize the maximum number of entries of the session caches of the {@link SSLContext}, {@code 0} meaning no
+   *                         limit.
+   * @since 4.4.0
+   */
+  public void setSessionCacheSize(Integer sessionCacheSize) {
+    this.sessionCacheSize = sessionCacheSize;
+  }
+
+  /**
+   * @param sessionTimeout the timeout, in seconds, of the entries of the session caches of the {@link SSLContext}, {@code 0}
+   *                       meaning no limit.
+   * @since 4.4.0
+   */
+  public void setSessionTimeout(Integer sessionTimeout) {
+    this.sessionTimeout = sessionTimeout;
+  }
+
+  /**
+   * @param revocationCacheTtl the time, in seconds, during which a certificate chain that passed the revocation check is not
+   *                           checked for revocation again. {@code 0} disables the caching of revocation check results.
+   * @since 4.4.0
+   */
+  public void setRevocationCacheTtl(long revocationCacheTtl) {
+    this.revocationCacheTtl = revocationCacheTtl;
+  }
+
+  /**
+   * @return the usage statistics of the {@link SSLContext} of this factory.
+   * @since 4.4.0
+   */
+  public TlsContextStatistics getStatistics() {
+    return statistics;
+  }
+
   @Override
   public SSLContext createSslContext() throws KeyManagementException, NoSuchAlgorithmException {
-    SSLContext sslContext;
+    if (!initialized.get()) {
+      // The configuration may still change, so the context can't be reused
+      return doCreateSslContext();
+    }
+
+    SSLContext context = sslContext;
+    if (context == null) {
+      synchronized (this) {
+        context = sslContext;
+        if (context == null) {
+          context = doCreateSslContext();
+          sslContext = context;
+        }
+      }
+    }
+    return context;
+  }
+
+  private SSLContext doCreateSslContext() throws KeyManagementException, NoSuchAlgorithmException {
+    SSLContext context;
     if (trustStoreInsecure) {
-      sslContext = tlsConfiguration.getSslContext(new TrustManager[] {new InsecureTrustManager()});
+      context = tlsConfiguration.getSslContext(new TrustManager[] {new InsecureTrustManager()});
     } else {
-      sslContext = tlsConfiguration.getSslContext();
+      TrustManagerFactory trustManagerFactory = tlsConfiguration.getTrustManagerFactory();
+      context = tlsConfiguration.getSslContext(trustManagerFactory == null ? null
+          : monitored(trustManagerFactory.getTrustManagers()));
+    }
+
+    configureSessionContext(context.getClientSessionContext());
+    configureSessionContext(context.getServerSessionContext());
+    statistics.sslContextCreated();
+    if (logger.isDebugEnabled()) {
+      logger.debug("Created SSL context for TLS context {}", name == null ? StringUtils.EMPTY : name);
+    }
+    return context;
+  }
+
+  private TrustManager[] monitored(TrustManager[] trustManagers) {
+    TrustManager[] monitored = new TrustManager[trustManagers.length];
+    for (int i = 0; i < trustManagers.length; ++i) {
+      if (trustManagers[i] instanceof X509ExtendedTrustManager) {
+        monitored[i] = new MonitoredTrustManager((X509ExtendedTrustManager) trustManagers[i], trustManagerWithoutRevocation,
+                                                 SECONDS.toNanos(revocationCacheTtl), statistics);
+      } else {
+        monitored[i] = trustManagers[i];
+      }
+    }
+    return monitored;
+  }
+
+  private void configureSessionContext(SSLSessionContext sessionContext) {
+    if (sessionContext == null) {
+      return;
+    }
+    if (sessionCacheSize != null) {
+      sessionContext.setSessionCacheSize(sessionCacheSize);
+    }
+    if (sessionTimeout != null) {
+      sessionContext.setSessionTimeout(sessionTimeout);
     }
-    return sslContext;
   }
 
   @Override
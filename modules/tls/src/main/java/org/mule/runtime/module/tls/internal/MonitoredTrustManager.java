@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal;
+
+import static java.util.Arrays.asList;
+
+import java.net.Socket;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.X509ExtendedTrustManager;
+
+/**
+ * Decorates the trust manager of a {@link DefaultTlsContextFactory} to record the verifications of the certificates of the
+ * peers in its {@link TlsContextStatistics}.
+ * <p>
+ * If a trust manager that doesn't check the revocation status of the certificates is provided, the certificate chains that
+ * were successfully verified are remembered for the given time to live. During that time, verifications of the same chain are
+ * done with that trust manager, so the certificates are still validated, as well as the identity of the peer, but there is no
+ * need to query the revocation status (CRLs or OCSP responders) again. Chains that fail the verification are not remembered.
+ *
+ * @since 4.4.0
+ */
+class MonitoredTrustManager extends X509ExtendedTrustManager {
+
+  private static final int MAX_VERIFIED_CHAINS = 1024;
+
+  private final X509ExtendedTrustManager delegate;
+  private final X509ExtendedTrustManager withoutRevocation;
+  private final long revocationCacheTtlNanos;
+  private final TlsContextStatistics statistics;
+  private final LongSupplier clock;
+
+  private final Map<List<X509Certificate>, Long> verifiedChainsExpiration = new ConcurrentHashMap<>();
+
+  /**
+   * @param delegate                the trust manager that fully verifies the certificates
+   * @param withoutRevocation       a trust manager that verifies the certificates without checking their revocation status, or
+   *                                {@code null} if revocation check results are not to be cached
+   * @param revocationCacheTtlNanos for how long a chain that passed the revocation check is not checked again
+   * @param statistics              where to record the verifications
+   */
+  MonitoredTrustManager(X509ExtendedTrustManager delegate, X509ExtendedTrustManager withoutRevocation,
+                        long revocationCacheTtlNanos, TlsContextStatistics statistics) {
+    this(delegate, withoutRevocation, revocationCacheTtlNanos, statistics, System::nanoTime);
+  }
+
+  MonitoredTrustManager(X509ExtendedTrustManager delegate, X509ExtendedTrustManager withoutRevocation,
+                        long revocationCacheTtlNanos, TlsContextStatistics statistics, LongSupplier clock) {
+    this.delegate = delegate;
+    this.withoutRevocation = withoutRevocation;
+    this.revocationCacheTtlNanos = revocationCacheTtlNanos;
+    this.statistics = statistics;
+    this.clock = clock;
+  }
+
+  @Override
+  public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+    verify(chain, trustManager -> trustManager.checkClientTrusted(chain, authType));
+  }
+
+  @Override
+  public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) throws CertificateException {
+    verify(chain, trustManager -> trustManager.checkClientTrusted(chain, authType, socket));
+  }
+
+  @Override
+  public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) throws CertificateException {
+    verify(chain, trustManager -> trustManager.checkClientTrusted(chain, authType, engine));
+  }
+
+  @Override
+  public void checkServerTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+    verify(chain, trustManager -> trustManager.checkServerTrusted(chain, authType));
+  }
+
+  @Override
+  public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) throws CertificateException {
+    verify(chain, trustManager -> trustManager.checkServerTrusted(chain, authType, socket));
+  }
+
+  @Override
+  public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) throws CertificateException {
+    verify(chain, trustManager -> trustManager.checkServerTrusted(chain, authType, engine));
+  }
+
+  @Override
+  public X509Certificate[] getAcceptedIssuers() {
+    return delegate.getAcceptedIssuers();
+  }
+
+  private void verify(X509Certificate[] chain, Verification verification) throws CertificateException {
+    final long start = clock.getAsLong();
+    boolean successful = false;
+    try {
+      if (withoutRevocation == null || chain == null || chain.length == 0) {
+        verification.verify(delegate);
+      } else {
+        List<X509Certificate> verifiedChain = asList(chain.clone());
+        Long expiration = verifiedChainsExpiration.get(verifiedChain);
+        if (expiration != null && expiration - start > 0) {
+          statistics.revocationCacheHit();
+          verification.verify(withoutRevocation);
+        } else {
+          statistics.revocationCacheMiss();
+          verification.verify(delegate);
+          rememberVerified(verifiedChain);
+        }
+      }
+      successful = true;
+    } finally {
+      statistics.handshakeVerified(clock.getAsLong() - start, successful);
+    }
+  }
+
+  private void rememberVerified(List<X509Certificate> chain) {
+    if (verifiedChainsExpiration.size() >= MAX_VERIFIED_CHAINS) {
+      long now = clock.getAsLong();
+      verifiedChainsExpiration.values().removeIf(expiration -> expiration - now <= 0);
+      if (verifiedChainsExpiration.size() >= MAX_VERIFIED_CHAINS) {
+        verifiedChainsExpiration.clear();
+      }
+    }
+    verifiedChainsExpiration.put(chain, clock.getAsLong() + revocationCacheTtlNanos);
+  }
+
+  @FunctionalInterface
+  private interface Verification {
+
+    void verify(X509ExtendedTrustManager trustManager) throws CertificateException;
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import org.mule.runtime.core.api.management.stats.Statistics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the usage of the {@link javax.net.ssl.SSLContext} of a {@link DefaultTlsContextFactory}.
+ * <p>
+ * Handshakes are accounted for when the certificates of the peer are verified, which happens once for each full handshake.
+ * Abbreviated handshakes, which resume a cached session, don't verify the peer again and are not counted.
+ *
+ * @since 4.4.0
+ */
+public class TlsContextStatistics implements Statistics {
+
+  private static final long serialVersionUID = 2961547806317270151L;
+
+  private static final double NANOS_PER_MILLI = MILLISECONDS.toNanos(1);
+
+  private final LongAdder sslContextsCreated = new LongAdder();
+  private final LongAdder handshakes = new LongAdder();
+  private final LongAdder failedHandshakes = new LongAdder();
+  private final LongAdder handshakesVerificationNanos = new LongAdder();
+  private final LongAdder revocationCacheHits = new LongAdder();
+  private final LongAdder revocationCacheMisses = new LongAdder();
+
+  void sslContextCreated() {
+    sslContextsCreated.increment();
+  }
+
+  void handshakeVerified(long verificationNanos, boolean successful) {
+    handshakes.increment();
+    if (!successful) {
+      failedHandshakes.increment();
+    }
+    handshakesVerificationNanos.add(verificationNanos);
+  }
+
+  void revocationCacheHit() {
+    revocationCacheHits.increment();
+  }
+
+  void revocationCacheMiss() {
+    revocationCacheMisses.increment();
+  }
+
+  /**
+   * @return how many times the {@link javax.net.ssl.SSLContext} had to be created.
+   */
+  public long getSslContextsCreated() {
+    return sslContextsCreated.sum();
+  }
+
+  /**
+   * @return the number of full handshakes in which the certificates of the peer were verified.
+   */
+  public long getHandshakes() {
+    return handshakes.sum();
+  }
+
+  /**
+   * @return the number of full handshakes in which the certificates of the peer were not trusted.
+   */
+  public long getFailedHandshakes() {
+    return failedHandshakes.sum();
+  }
+
+  /**
+   * @return the average time it took to verify the certificates of the peer in a full handshake, in milliseconds.
+   */
+  public double getAverageHandshakeVerificationMillis() {
+    long count = handshakes.sum();
+    return count == 0 ? 0 : (double) handshakesVerificationNanos.sum() / count / NANOS_PER_MILLI;
+  }
+
+  /**
+   * @return how many times a cached revocation check result was used instead of checking the revocation status again.
+   */
+  public long getRevocationCacheHits() {
+    return revocationCacheHits.sum();
+  }
+
+  /**
+   * @return how many times the revocation status had to be checked because there was no valid cached result.
+   */
+  public long getRevocationCacheMisses() {
+    return revocationCacheMisses.sum();
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "sslContextsCreated: " + getSslContextsCreated() + "; handshakes: " + getHandshakes() + "; failedHandshakes: "
+        + getFailedHandshakes() + "; averageHandshakeVerificationMillis: " + getAverageHandshakeVerificationMillis()
+        + "; revocationCacheHits: " + getRevocationCacheHits() + "; revocationCacheMisses: " + getRevocationCacheMisses();
+  }
+}
@@ -6,7 +6,10 @@
  */
 package org.mule.runtime.module.tls.internal.revocation;
 
+import static java.lang.Long.getLong;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 
 import org.mule.runtime.api.component.AbstractComponent;
 import org.mule.runtime.core.api.util.IOUtils;
@@ -26,14 +29,21 @@ import java.security.cert.PKIXBuilderParameters;
 import java.security.cert.TrustAnchor;
 import java.security.cert.X509CertSelector;
 import java.security.cert.X509Certificate;
+import java.util.AbstractCollection;
 import java.util.Collection;
 import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
 
 import javax.net.ssl.CertPathTrustManagerParameters;
 import javax.net.ssl.ManagerFactoryParameters;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * Local file based certificate revocation checker, which requires a CRL file to be accessible and ignores
  * extension points (additional tags for CRLDP and OCSP) in the certificate.
@@ -41,16 +51,51 @@ import javax.net.ssl.ManagerFactoryParameters;
  * Note that the signer of the CRL must be the client certificate's CA, in case that's not possible consider
  * using {@link CustomOcspResponder}.
  *
+ * The CRL file is parsed only once, and the parsed CRLs are used for every certificate verification. If a refresh interval is
+ * set, the file is parsed again by the first verification done after the interval elapses, while concurrent verifications keep
+ * using the previously parsed CRLs.
+ *
  * @since 4.1
  */
 public class CrlFile extends AbstractComponent implements RevocationCheck {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(CrlFile.class);
+
+  /**
+   * System property to set the default interval, in seconds, after which the CRL file is parsed again. Defaults to {@code 0},
+   * meaning the file is parsed only once.
+   *
+   * @since 4.4.0
+   */
+  public static final String REFRESH_INTERVAL_PROPERTY = SYSTEM_PROPERTY_PREFIX + "tls.crlRefreshInterval";
+
+  private final LongSupplier clock;
+
   private String path;
+  private long refreshInterval = getLong(REFRESH_INTERVAL_PROPERTY, 0L);
+
+  private CachedCrls crls;
+
+  public CrlFile() {
+    this(System::nanoTime);
+  }
+
+  CrlFile(LongSupplier clock) {
+    this.clock = clock;
+  }
 
   public void setPath(String path) {
     this.path = path;
   }
 
+  /**
+   * @param refreshInterval the interval, in seconds, after which the CRL file is parsed again, {@code 0} meaning never.
+   * @since 4.4.0
+   */
+  public void setRefreshInterval(long refreshInterval) {
+    this.refreshInterval = refreshInterval;
+  }
+
   @Override
   public ManagerFactoryParameters configFor(KeyStore trustStore, Set<TrustAnchor> defaultTrustAnchors) {
     checkArgument(path != null, "tls:crl-file requires the 'path' attribute");
@@ -63,10 +108,8 @@ public class CrlFile extends AbstractComponent implements RevocationCheck {
       // Make sure revocation checking is enabled (com.sun.net.ssl.checkRevocation)
       pbParams.setRevocationEnabled(true);
 
-      Collection<? extends CRL> crls = loadCRL(path);
-      if (crls != null && !crls.isEmpty()) {
-        pbParams.addCertStore(CertStore.getInstance("Collection", new CollectionCertStoreParameters(crls)));
-      }
+      // The collection is not copied by the cert store, so refreshed CRLs are used without having to create it again
+      pbParams.addCertStore(CertStore.getInstance("Collection", new CollectionCertStoreParameters(getCrls())));
 
       return new CertPathTrustManagerParameters(pbParams);
     } catch (IOException | GeneralSecurityException e) {
@@ -74,6 +117,13 @@ public class CrlFile extends AbstractComponent implements RevocationCheck {
     }
   }
 
+  private synchronized CachedCrls getCrls() throws CertificateException, IOException, CRLException {
+    if (crls == null) {
+      crls = new CachedCrls(loadCRL(path));
+    }
+    return crls;
+  }
+
   private Collection<? extends CRL> loadCRL(String crlPath) throws CertificateException, IOException, CRLException {
     Collection<? extends CRL> crlList = null;
 
@@ -105,6 +155,60 @@ public class CrlFile extends AbstractComponent implements RevocationCheck {
     return trustAnchors;
   }
 
+  /**
+   * The CRLs parsed from the file, which are parsed again when the refresh interval elapses.
+   */
+  private class CachedCrls extends AbstractCollection<CRL> {
+
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private volatile Collection<? extends CRL> current;
+    private volatile long lastRefresh;
+
+    CachedCrls(Collection<? extends CRL> crls) {
+      this.current = crls;
+      this.lastRefresh = clock.getAsLong();
+    }
+
+    @Override
+    public Iterator<CRL> iterator() {
+      refreshIfNeeded();
+      Iterator<? extends CRL> iterator = current.iterator();
+      return new Iterator<CRL>() {
+
+        @Override
+        public boolean hasNext() {
+          return iterator.hasNext();
+        }
+
+        @Override
+        public CRL next() {
+          return iterator.next();
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return current.size();
+    }
+
+    private void refreshIfNeeded() {
+      if (refreshInterval <= 0 || clock.getAsLong() - lastRefresh < SECONDS.toNanos(refreshInterval)
+          || !refreshing.compareAndSet(false, true)) {
+        return;
+      }
+
+      try {
+        current = loadCRL(path);
+      } catch (IOException | GeneralSecurityException e) {
+        LOGGER.warn("Could not refresh CRL file '" + path + "', the previously loaded CRLs will be used", e);
+      } finally {
+        lastRefresh = clock.getAsLong();
+        refreshing.set(false);
+      }
+    }
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
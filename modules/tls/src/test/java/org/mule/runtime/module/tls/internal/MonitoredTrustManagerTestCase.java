@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.InputStream;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.X509ExtendedTrustManager;
+
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class MonitoredTrustManagerTestCase extends AbstractMuleTestCase {
+
+  private static final long TTL_NANOS = SECONDS.toNanos(10);
+  private static final String AUTH_TYPE = "RSA";
+
+  private final AtomicLong clock = new AtomicLong();
+  private final TlsContextStatistics statistics = new TlsContextStatistics();
+
+  private X509ExtendedTrustManager delegate;
+  private X509ExtendedTrustManager withoutRevocation;
+  private MonitoredTrustManager trustManager;
+
+  private X509Certificate[] clientChain;
+  private X509Certificate[] serverChain;
+
+  @Before
+  public void before() throws Exception {
+    delegate = mock(X509ExtendedTrustManager.class);
+    withoutRevocation = mock(X509ExtendedTrustManager.class);
+    trustManager = new MonitoredTrustManager(delegate, withoutRevocation, TTL_NANOS, statistics, clock::get);
+
+    clientChain = new X509Certificate[] {loadCertificate("muleclient.cer")};
+    serverChain = new X509Certificate[] {loadCertificate("muleserver.cer")};
+  }
+
+  @Test
+  public void verifiedChainCached() throws Exception {
+    trustManager.checkServerTrusted(clientChain, AUTH_TYPE);
+    trustManager.checkServerTrusted(clientChain.clone(), AUTH_TYPE);
+
+    verify(delegate, times(1)).checkServerTrusted(any(), eq(AUTH_TYPE));
+    verify(withoutRevocation, times(1)).checkServerTrusted(any(), eq(AUTH_TYPE));
+    assertThat(statistics.getRevocationCacheMisses(), is(1L));
+    assertThat(statistics.getRevocationCacheHits(), is(1L));
+  }
+
+  @Test
+  public void cachedVerificationExpires() throws Exception {
+    trustManager.checkServerTrusted(clientChain, AUTH_TYPE);
+    clock.addAndGet(TTL_NANOS);
+    trustManager.checkServerTrusted(clientChain, AUTH_TYPE);
+
+    verify(delegate, times(2)).checkServerTrusted(any(), eq(AUTH_TYPE));
+    verify(withoutRevocation, never()).checkServerTrusted(any(), eq(AUTH_TYPE));
+    assertThat(statistics.getRevocationCacheMisses(), is(2L));
+  }
+
+  @Test
+  public void revokedChainRejectedAfterCaching() throws Exception {
+    doThrow(new CertificateException("Certificate has been revoked")).when(delegate)
+        .checkServerTrusted(eq(serverChain), eq(AUTH_TYPE));
+
+    // another chain is verified and cached
+    trustManager.checkServerTrusted(clientChain, AUTH_TYPE);
+    trustManager.checkServerTrusted(clientChain, AUTH_TYPE);
+
+    assertRejected(serverChain);
+    assertRejected(serverChain);
+
+    verify(delegate, times(2)).checkServerTrusted(eq(serverChain), eq(AUTH_TYPE));
+    verify(withoutRevocation, never()).checkServerTrusted(eq(serverChain), eq(AUTH_TYPE));
+    assertThat(statistics.getFailedHandshakes(), is(2L));
+  }
+
+  private void assertRejected(X509Certificate[] chain) {
+    try {
+      trustManager.checkServerTrusted(chain, AUTH_TYPE);
+      fail("Revoked certificate chain should have been rejected");
+    } catch (CertificateException e) {
+      // expected
+    }
+  }
+
+  private X509Certificate loadCertificate(String resource) throws Exception {
+    try (InputStream in = getClass().getClassLoader().getResourceAsStream(resource)) {
+      return (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(in);
+    }
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal.revocation;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.core.api.util.IOUtils.toString;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.security.KeyStore;
+import java.security.cert.CRL;
+import java.security.cert.PKIXBuilderParameters;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.CertPathTrustManagerParameters;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@SmallTest
+public class CrlFileTestCase extends AbstractMuleTestCase {
+
+  private static final long REFRESH_INTERVAL_SECONDS = 60;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final AtomicLong clock = new AtomicLong();
+
+  private String crl;
+  private String updatedCrl;
+  private File crlFile;
+  private KeyStore trustStore;
+
+  @Before
+  public void before() throws Exception {
+    crl = readResource("crl.pem");
+    updatedCrl = readResource("crl-updated.pem");
+    crlFile = temporaryFolder.newFile("crl.pem");
+    writeCrlFile(crl);
+
+    trustStore = KeyStore.getInstance("JKS");
+    try (InputStream in = getClass().getClassLoader().getResourceAsStream("trustStore")) {
+      trustStore.load(in, "mulepassword".toCharArray());
+    }
+  }
+
+  @Test
+  public void parsedOnceWithoutRefreshInterval() throws Exception {
+    CrlFile revocationCheck = createCrlFile(0);
+    writeCrlFile(crl + updatedCrl);
+    clock.addAndGet(SECONDS.toNanos(REFRESH_INTERVAL_SECONDS));
+
+    assertThat(getCrls(revocationCheck), hasSize(1));
+  }
+
+  @Test
+  public void reloadedAfterChangeOnceRefreshIntervalElapses() throws Exception {
+    CrlFile revocationCheck = createCrlFile(REFRESH_INTERVAL_SECONDS);
+    assertThat(getCrls(revocationCheck), hasSize(1));
+
+    writeCrlFile(crl + updatedCrl);
+    assertThat(getCrls(revocationCheck), hasSize(1));
+
+    clock.addAndGet(SECONDS.toNanos(REFRESH_INTERVAL_SECONDS));
+    assertThat(getCrls(revocationCheck), hasSize(2));
+  }
+
+  @Test
+  public void previousCrlsKeptWhenReloadFails() throws Exception {
+    CrlFile revocationCheck = createCrlFile(REFRESH_INTERVAL_SECONDS);
+
+    writeCrlFile("not a CRL");
+    clock.addAndGet(SECONDS.toNanos(REFRESH_INTERVAL_SECONDS));
+    assertThat(getCrls(revocationCheck), hasSize(1));
+  }
+
+  private CrlFile createCrlFile(long refreshInterval) {
+    CrlFile revocationCheck = new CrlFile(clock::get);
+    revocationCheck.setPath(crlFile.getAbsolutePath());
+    revocationCheck.setRefreshInterval(refreshInterval);
+    return revocationCheck;
+  }
+
+  private Collection<? extends CRL> getCrls(CrlFile revocationCheck) throws Exception {
+    CertPathTrustManagerParameters parameters =
+        (CertPathTrustManagerParameters) revocationCheck.configFor(trustStore, null);
+    return ((PKIXBuilderParameters) parameters.getParameters()).getCertStores().get(0).getCRLs(null);
+  }
+
+  private String readResource(String resource) throws Exception {
+    try (InputStream in = getClass().getClassLoader().getResourceAsStream(resource)) {
+      return toString(in);
+    }
+  }
+
+  private void writeCrlFile(String content) throws Exception {
+    Files.write(crlFile.toPath(), content.getBytes(US_ASCII));
+  }
+}
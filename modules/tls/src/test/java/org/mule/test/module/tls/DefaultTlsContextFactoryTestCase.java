@@ -16,8 +16,11 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isA;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assume.assumeThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static org.mule.functional.junit4.matchers.ThrowableCauseMatcher.hasCause;
 import static org.mule.functional.junit4.matchers.ThrowableMessageMatcher.hasMessage;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
@@ -26,6 +29,9 @@ import static org.mule.runtime.core.privileged.security.tls.TlsConfiguration.PRO
 
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.tls.TlsContextFactory;
+import org.mule.runtime.core.api.Injector;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.management.stats.AllStatistics;
 import org.mule.runtime.core.api.util.ClassUtils;
 import org.mule.runtime.core.api.util.StringUtils;
 import org.mule.runtime.module.tls.internal.DefaultTlsContextFactory;
@@ -38,6 +44,7 @@ import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
 import javax.net.ssl.SSLSocketFactory;
 
 import org.junit.AfterClass;
@@ -179,6 +186,51 @@ public class DefaultTlsContextFactoryTestCase extends AbstractMuleTestCase {
                                                                            "TLS_DHE_DSS_WITH_AES_128_CBC_SHA"));
   }
 
+  @Test
+  public void sslContextIsReusedOnceInitialised() throws Exception {
+    DefaultTlsContextFactory tlsContextFactory = new DefaultTlsContextFactory(emptyMap());
+    tlsContextFactory.setTrustStorePath("trustStore");
+    tlsContextFactory.setTrustStorePassword("mulepassword");
+    tlsContextFactory.initialise();
+
+    SSLContext sslContext = tlsContextFactory.createSslContext();
+    assertThat(tlsContextFactory.createSslContext(), is(sameInstance(sslContext)));
+    assertThat(tlsContextFactory.getStatistics().getSslContextsCreated(), is(1L));
+  }
+
+  @Test
+  public void sessionCacheIsConfigured() throws Exception {
+    DefaultTlsContextFactory tlsContextFactory = new DefaultTlsContextFactory(emptyMap());
+    tlsContextFactory.setSessionCacheSize(42);
+    tlsContextFactory.setSessionTimeout(300);
+    tlsContextFactory.initialise();
+
+    SSLContext sslContext = tlsContextFactory.createSslContext();
+    for (SSLSessionContext sessionContext : new SSLSessionContext[] {sslContext.getClientSessionContext(),
+        sslContext.getServerSessionContext()}) {
+      assertThat(sessionContext.getSessionCacheSize(), is(42));
+      assertThat(sessionContext.getSessionTimeout(), is(300));
+    }
+  }
+
+  @Test
+  public void statisticsRegistered() throws Exception {
+    AllStatistics allStatistics = new AllStatistics();
+    MuleContext muleContext = mock(MuleContext.class);
+    when(muleContext.getInjector()).thenReturn(mock(Injector.class));
+    when(muleContext.getStatistics()).thenReturn(allStatistics);
+
+    DefaultTlsContextFactory tlsContextFactory = new DefaultTlsContextFactory(emptyMap());
+    tlsContextFactory.setName("tlsContext");
+    initialiseIfNeeded(tlsContextFactory, muleContext);
+
+    assertThat(allStatistics.getRegisteredStatistics().get("tls/tlsContext"),
+               sameInstance(tlsContextFactory.getStatistics()));
+
+    tlsContextFactory.dispose();
+    assertThat(allStatistics.getRegisteredStatistics().containsKey("tls/tlsContext"), is(false));
+  }
+
   @Test
   public void defaultIncludesTls12Ciphers() throws Exception {
     assumeThat(IS_JAVA_1_8, is(true));
@@ -10,11 +10,37 @@ import static org.mule.runtime.core.api.util.UUID.getClusterUUID;
 import static org.mule.runtime.core.api.util.UUID.getUUID;
 
 import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.construct.Flow;
+import org.mule.runtime.core.internal.event.CompactEventIdGenerator;
+import org.mule.runtime.core.internal.event.EventIdGenerator;
 
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
 
+/**
+ * Compares the generation of time based UUIDs with the {@link CompactEventIdGenerator compact event ids}, both when the id is
+ * only generated and when it is also rendered. Run with {@code -prof gc} to also compare the allocation rate of each one.
+ */
 public class UUIDBenchmark extends AbstractBenchmark {
 
+  private MuleContext muleContext;
+  private Flow flow;
+  private EventIdGenerator compactIdGenerator;
+
+  @Setup
+  public void setup() throws Exception {
+    muleContext = createMuleContextWithServices();
+    flow = createFlow(muleContext);
+    compactIdGenerator = new CompactEventIdGenerator();
+  }
+
+  @TearDown
+  public void teardown() {
+    muleContext.dispose();
+  }
+
   @Benchmark
   public String UUID() throws MuleException {
     return getUUID();
@@ -30,6 +56,16 @@ public class UUIDBenchmark extends AbstractBenchmark {
     return getClusterUUID(getClusterIdPrefix());
   }
 
+  @Benchmark
+  public CharSequence compactId() {
+    return compactIdGenerator.generate(flow);
+  }
+
+  @Benchmark
+  public String compactIdRendered() {
+    return compactIdGenerator.generate(flow).toString();
+  }
+
   private int getClusterId() {
     return 1;
   }
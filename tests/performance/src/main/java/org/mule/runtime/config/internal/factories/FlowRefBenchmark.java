@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.internal.factories;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonMap;
+import static java.util.Optional.empty;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.api.component.AbstractComponent.LOCATION_KEY;
+import static org.mule.runtime.api.message.Message.of;
+import static org.mule.runtime.core.api.event.EventContextFactory.create;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
+import static org.mule.runtime.core.privileged.registry.LegacyRegistryUtils.lookupObject;
+import static org.mule.runtime.core.privileged.registry.LegacyRegistryUtils.registerObject;
+import static org.mule.runtime.dsl.api.component.config.DefaultComponentLocation.from;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.api.component.AbstractComponent;
+import org.mule.runtime.api.component.ComponentIdentifier;
+import org.mule.runtime.api.component.location.ConfigurationComponentLocator;
+import org.mule.runtime.api.component.location.Location;
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.scheduler.SchedulerService;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.processor.Processor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ApplicationContext;
+
+/**
+ * Measures a flow-ref whose target is a fixed name, a string literal expression or an expression evaluated for each event.
+ */
+public class FlowRefBenchmark extends AbstractBenchmark {
+
+  private static final String TARGET_NAME = "target";
+
+  @Param({"static", "literal", "expression"})
+  public String refType;
+
+  private MuleContext muleContext;
+  private Processor flowRef;
+  private CoreEvent event;
+
+  @Setup
+  public void setup() throws Exception {
+    muleContext = createMuleContextWithServices();
+    ConfigurationComponentLocator componentLocator = mock(ConfigurationComponentLocator.class);
+    when(componentLocator.find(any(Location.class))).thenReturn(empty());
+    when(componentLocator.find(any(ComponentIdentifier.class))).thenReturn(emptyList());
+    registerObject(muleContext, ConfigurationComponentLocator.REGISTRY_KEY, componentLocator);
+
+    ApplicationContext applicationContext = mock(ApplicationContext.class);
+    when(applicationContext.getBean(TARGET_NAME)).thenReturn(new TargetProcessor());
+
+    FlowRefFactoryBean flowRefFactoryBean = new FlowRefFactoryBean();
+    flowRefFactoryBean.setName(refName());
+    flowRefFactoryBean.setAnnotations(singletonMap(LOCATION_KEY, from(FLOW_NAME + "/processors/0")));
+    flowRefFactoryBean.setApplicationContext(applicationContext);
+    muleContext.getInjector().inject(flowRefFactoryBean);
+
+    flowRef = flowRefFactoryBean.getObject();
+    initialiseIfNeeded(flowRef, muleContext);
+    startIfNeeded(flowRef);
+
+    event = CoreEvent.builder(create(createFlow(muleContext), CONNECTOR_LOCATION)).message(of(PAYLOAD))
+        .addVariable("target", TARGET_NAME).build();
+  }
+
+  private String refName() {
+    switch (refType) {
+      case "literal":
+        return "#['" + TARGET_NAME + "']";
+      case "expression":
+        return "#[vars.target]";
+      default:
+        return TARGET_NAME;
+    }
+  }
+
+  @TearDown
+  public void teardown() throws MuleException {
+    stopIfNeeded(flowRef);
+    ((FlowRefMessageProcessor) flowRef).dispose();
+    stopIfNeeded(lookupObject(muleContext, SchedulerService.class));
+    muleContext.dispose();
+  }
+
+  @Benchmark
+  public CoreEvent flowRef() throws MuleException {
+    return flowRef.process(event);
+  }
+
+  /**
+   * The referenced sub-flow, which just returns the event it receives.
+   */
+  private static class TargetProcessor extends AbstractComponent implements Processor {
+
+    @Override
+    public CoreEvent process(CoreEvent event) {
+      return event;
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.security;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.api.lifecycle.InitialisationException;
+import org.mule.runtime.core.api.security.CryptoFailureException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures the throughput of encrypting and then decrypting streams of different sizes with a
+ * {@link PasswordBasedEncryptionStrategy}, buffering the whole payload or streaming it, from one or many threads sharing the
+ * same strategy.
+ */
+@BenchmarkMode(Throughput)
+@OutputTimeUnit(SECONDS)
+public class PasswordBasedEncryptionStrategyBenchmark extends AbstractBenchmark {
+
+  @Param({"1024", "65536", "1048576"})
+  public int payloadSize;
+
+  @Param({"false", "true"})
+  public boolean streaming;
+
+  private PasswordBasedEncryptionStrategy strategy;
+  private byte[] payload;
+
+  @Setup
+  public void setup() throws InitialisationException {
+    strategy = new PasswordBasedEncryptionStrategy();
+    strategy.setPassword("benchmark");
+    strategy.setStreaming(streaming);
+    strategy.initialise();
+
+    payload = new byte[payloadSize];
+    new Random(payloadSize).nextBytes(payload);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public long roundTripSingleThread() throws CryptoFailureException, IOException {
+    return roundTrip();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public long roundTripFourThreads() throws CryptoFailureException, IOException {
+    return roundTrip();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public long roundTripMaxThreads() throws CryptoFailureException, IOException {
+    return roundTrip();
+  }
+
+  private long roundTrip() throws CryptoFailureException, IOException {
+    InputStream encrypted = strategy.encrypt(new ByteArrayInputStream(payload), null);
+    try (InputStream decrypted = strategy.decrypt(encrypted, null)) {
+      return consume(decrypted);
+    }
+  }
+
+  private long consume(InputStream stream) throws IOException {
+    byte[] buffer = new byte[8192];
+    long total = 0;
+    int read;
+    while ((read = stream.read(buffer)) != -1) {
+      total += read;
+    }
+    return total;
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.transformer.compression;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.zip.Deflater.BEST_SPEED;
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.core.api.util.compression.GZipCompression;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures compressing and uncompressing payloads of different sizes with {@link GZipCompression}, with the default and the
+ * fastest compression levels, against plain JDK GZIP streams as baseline.
+ * <p>
+ * The throughput in MB/s is the reported ops/s multiplied by the payload size. Run with {@code -prof gc} to compare the
+ * allocation rate of each approach.
+ */
+@BenchmarkMode(Throughput)
+@OutputTimeUnit(SECONDS)
+public class CompressionBenchmark extends AbstractBenchmark {
+
+  @Param({"1024", "65536", "1048576"})
+  public int payloadSize;
+
+  private GZipCompression defaultCompression;
+  private GZipCompression fastCompression;
+  private byte[] payload;
+  private byte[] compressed;
+
+  @Setup
+  public void setup() throws IOException {
+    defaultCompression = new GZipCompression();
+    fastCompression = new GZipCompression(BEST_SPEED);
+
+    // Text-like content, so the payload is actually compressible
+    Random random = new Random(payloadSize);
+    payload = new byte[payloadSize];
+    for (int i = 0; i < payloadSize; ++i) {
+      payload[i] = (byte) ('a' + random.nextInt(16));
+    }
+    compressed = jdkCompress(payload);
+  }
+
+  @Benchmark
+  public byte[] compressJdkStreams() throws IOException {
+    return jdkCompress(payload);
+  }
+
+  @Benchmark
+  public byte[] compressDefaultLevel() throws IOException {
+    return defaultCompression.compressByteArray(payload);
+  }
+
+  @Benchmark
+  public byte[] compressBestSpeed() throws IOException {
+    return fastCompression.compressByteArray(payload);
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public byte[] compressDefaultLevelMaxThreads() throws IOException {
+    return defaultCompression.compressByteArray(payload);
+  }
+
+  @Benchmark
+  public long compressStreaming() throws IOException {
+    return defaultCompression.compress(new ByteArrayInputStream(payload), new ByteArrayOutputStream(payloadSize));
+  }
+
+  @Benchmark
+  public byte[] uncompressJdkStreams() throws IOException {
+    ByteArrayOutputStream uncompressed = new ByteArrayOutputStream();
+    try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+      byte[] buffer = new byte[8192];
+      int read;
+      while ((read = gzip.read(buffer)) != -1) {
+        uncompressed.write(buffer, 0, read);
+      }
+    }
+    return uncompressed.toByteArray();
+  }
+
+  @Benchmark
+  public byte[] uncompress() throws IOException {
+    return defaultCompression.uncompressByteArray(compressed);
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public byte[] uncompressMaxThreads() throws IOException {
+    return defaultCompression.uncompressByteArray(compressed);
+  }
+
+  private static byte[] jdkCompress(byte[] payload) throws IOException {
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+      gzip.write(payload);
+    }
+    return compressed.toByteArray();
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.policy;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static java.util.Optional.empty;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.mule.runtime.api.component.AbstractComponent.LOCATION_KEY;
+import static org.mule.runtime.core.api.event.EventContextFactory.create;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
+import static org.mule.runtime.core.privileged.registry.LegacyRegistryUtils.registerObject;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.api.component.AbstractComponent;
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.message.Message;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.policy.Policy;
+import org.mule.runtime.core.api.policy.PolicyChain;
+import org.mule.runtime.core.api.policy.PolicyProvider;
+import org.mule.runtime.core.internal.policy.DefaultPolicyManager;
+import org.mule.runtime.core.internal.policy.OperationPolicy;
+import org.mule.runtime.policy.api.PolicyAwareAttributes;
+import org.mule.runtime.policy.api.PolicyPointcutParameters;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.reactivestreams.Publisher;
+
+/**
+ * Measures the lookup of the {@link OperationPolicy} to apply to an operation through the {@link DefaultPolicyManager}, both on
+ * a steady state and while policies are being redeployed.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+public class PolicyManagerBenchmark extends AbstractBenchmark {
+
+  private MuleContext muleContext;
+  private DefaultPolicyManager policyManager;
+  private BenchmarkPolicyProvider policyProvider;
+  private AbstractComponent operation;
+  private CoreEvent event;
+
+  @Setup(Level.Trial)
+  public void setUp() throws MuleException {
+    muleContext = createMuleContextWithServices();
+
+    policyProvider = new BenchmarkPolicyProvider();
+    registerObject(muleContext, "_policyProvider", policyProvider);
+
+    policyManager = new DefaultPolicyManager();
+    initialiseIfNeeded(policyManager, muleContext);
+    startIfNeeded(policyManager);
+
+    operation = new AbstractComponent() {};
+    operation.setAnnotations(singletonMap(LOCATION_KEY, CONNECTOR_LOCATION));
+
+    event = CoreEvent.builder(create("", "", CONNECTOR_LOCATION, null, empty()))
+        .message(Message.builder().value(PAYLOAD).build())
+        .build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws MuleException {
+    stopIfNeeded(policyManager);
+    policyManager.dispose();
+    muleContext.dispose();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public OperationPolicy lookupOperationPolicy() {
+    return policyManager.createOperationPolicy(operation, event, () -> emptyMap());
+  }
+
+  @Benchmark
+  @Group("redeploy")
+  @GroupThreads(7)
+  public OperationPolicy lookupOperationPolicyWhileRedeploying() {
+    return policyManager.createOperationPolicy(operation, event, () -> emptyMap());
+  }
+
+  @Benchmark
+  @Group("redeploy")
+  @GroupThreads(1)
+  public void redeployUnrelatedPolicy() {
+    policyProvider.policiesChanged();
+  }
+
+  private static Policy createPolicy(String policyId) {
+    return new Policy(new PolicyChain() {
+
+      @Override
+      public Publisher<CoreEvent> apply(Publisher<CoreEvent> publisher) {
+        return publisher;
+      }
+    }, policyId);
+  }
+
+  private static class BenchmarkPolicyProvider implements PolicyProvider {
+
+    private final List<Policy> policies = asList(createPolicy("policy"));
+    private Runnable policiesChangedCallback = () -> {
+    };
+
+    @Override
+    public List<Policy> findSourceParameterizedPolicies(PolicyPointcutParameters policyPointcutParameters) {
+      return policies;
+    }
+
+    @Override
+    public PolicyAwareAttributes sourcePolicyAwareAttributes() {
+      return null;
+    }
+
+    @Override
+    public List<Policy> findOperationParameterizedPolicies(PolicyPointcutParameters policyPointcutParameters) {
+      return policies;
+    }
+
+    @Override
+    public boolean isSourcePoliciesAvailable() {
+      return true;
+    }
+
+    @Override
+    public boolean isOperationPoliciesAvailable() {
+      return true;
+    }
+
+    @Override
+    public void onPoliciesChanged(Runnable policiesChangedCallback) {
+      this.policiesChangedCallback = policiesChangedCallback;
+    }
+
+    private void policiesChanged() {
+      policiesChangedCallback.run();
+    }
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.routing;
+
+import static java.lang.System.clearProperty;
+import static java.lang.System.setProperty;
+import static java.util.Collections.singletonMap;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.mule.runtime.api.component.AbstractComponent.LOCATION_KEY;
+import static org.mule.runtime.api.message.Message.of;
+import static org.mule.runtime.core.api.event.EventContextFactory.create;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
+import static org.mule.runtime.core.internal.routing.ChoiceRouter.DISABLE_DECISION_TABLE_PROPERTY;
+import static org.mule.runtime.core.privileged.registry.LegacyRegistryUtils.lookupObject;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.scheduler.SchedulerService;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.internal.routing.ChoiceRouter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures routing an event through a {@link ChoiceRouter} with many routes which compare a variable against constants, with and
+ * without compiling those routes into a decision table.
+ */
+@OutputTimeUnit(MICROSECONDS)
+public class ChoiceRouterBenchmark extends AbstractBenchmark {
+
+  private static final int ROUTES = 30;
+
+  @Param({"true", "false"})
+  public boolean decisionTable;
+
+  @Param({"0", "15", "29", "none"})
+  public String matchingRoute;
+
+  private MuleContext muleContext;
+  private ChoiceRouter router;
+  private CoreEvent event;
+
+  @Setup
+  public void setup() throws MuleException {
+    muleContext = createMuleContextWithServices();
+
+    router = new ChoiceRouter();
+    router.setAnnotations(singletonMap(LOCATION_KEY, CONNECTOR_LOCATION));
+    router.setExpressionManager(muleContext.getExpressionManager());
+    for (int i = 0; i < ROUTES; ++i) {
+      router.addRoute("#[vars.type == 'type" + i + "']", e -> e);
+    }
+    router.setDefaultRoute(e -> e);
+
+    setProperty(DISABLE_DECISION_TABLE_PROPERTY, String.valueOf(!decisionTable));
+    try {
+      initialiseIfNeeded(router, muleContext);
+    } finally {
+      clearProperty(DISABLE_DECISION_TABLE_PROPERTY);
+    }
+    startIfNeeded(router);
+
+    event = CoreEvent.builder(create(createFlow(muleContext), CONNECTOR_LOCATION))
+        .message(of(PAYLOAD))
+        .addVariable("type", "type" + matchingRoute)
+        .build();
+  }
+
+  @TearDown
+  public void teardown() throws MuleException {
+    stopIfNeeded(router);
+    router.dispose();
+    stopIfNeeded(lookupObject(muleContext, SchedulerService.class));
+    muleContext.dispose();
+  }
+
+  @Benchmark
+  public CoreEvent route() throws MuleException {
+    return router.process(event);
+  }
+}
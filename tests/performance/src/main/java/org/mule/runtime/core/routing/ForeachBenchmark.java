@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.routing;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static java.util.Optional.empty;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.locks.LockSupport.parkNanos;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.api.component.AbstractComponent.LOCATION_KEY;
+import static org.mule.runtime.api.message.Message.of;
+import static org.mule.runtime.core.api.event.EventContextFactory.create;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
+import static org.mule.runtime.core.privileged.registry.LegacyRegistryUtils.lookupObject;
+import static org.mule.runtime.core.privileged.registry.LegacyRegistryUtils.registerObject;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.api.component.ComponentIdentifier;
+import org.mule.runtime.api.component.location.ConfigurationComponentLocator;
+import org.mule.runtime.api.component.location.Location;
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.scheduler.SchedulerService;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.construct.Flow;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.internal.routing.Foreach;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the end-to-end time of a {@link Foreach} iterating a paged collection where fetching each page is slow, as when
+ * iterating the result of a paged operation of a connector, with and without prefetching.
+ */
+@OutputTimeUnit(MILLISECONDS)
+public class ForeachBenchmark extends AbstractBenchmark {
+
+  private static final int PAGES = 10;
+  private static final int PAGE_SIZE = 10;
+  private static final long PAGE_FETCH_MICROS = 5000;
+  private static final long ITEM_PROCESSING_MICROS = 500;
+
+  @Param({"0", "1", "10"})
+  public int prefetchSize;
+
+  private MuleContext muleContext;
+  private Foreach foreach;
+  private Flow flow;
+
+  @Setup
+  public void setup() throws MuleException {
+    muleContext = createMuleContextWithServices();
+    ConfigurationComponentLocator componentLocator = mock(ConfigurationComponentLocator.class);
+    when(componentLocator.find(any(Location.class))).thenReturn(empty());
+    when(componentLocator.find(any(ComponentIdentifier.class))).thenReturn(emptyList());
+    registerObject(muleContext, ConfigurationComponentLocator.REGISTRY_KEY, componentLocator);
+    flow = createFlow(muleContext);
+
+    foreach = new Foreach();
+    foreach.setAnnotations(singletonMap(LOCATION_KEY, CONNECTOR_LOCATION));
+    foreach.setMessageProcessors(singletonList(event -> {
+      parkNanos(MICROSECONDS.toNanos(ITEM_PROCESSING_MICROS));
+      return event;
+    }));
+    foreach.setPrefetchSize(prefetchSize);
+    initialiseIfNeeded(foreach, muleContext);
+    startIfNeeded(foreach);
+  }
+
+  @TearDown
+  public void teardown() throws MuleException {
+    stopIfNeeded(foreach);
+    foreach.dispose();
+    stopIfNeeded(lookupObject(muleContext, SchedulerService.class));
+    muleContext.dispose();
+  }
+
+  @Benchmark
+  public CoreEvent pagedCollection() throws MuleException {
+    return foreach.process(CoreEvent.builder(create(flow, CONNECTOR_LOCATION)).message(of(new SlowPagingIterator())).build());
+  }
+
+  /**
+   * Simulates the iterator over the result of a paged operation, which has to wait for the next page when the current one is
+   * consumed.
+   */
+  private static class SlowPagingIterator implements Iterator<Integer> {
+
+    private int next = 0;
+
+    @Override
+    public boolean hasNext() {
+      return next < PAGES * PAGE_SIZE;
+    }
+
+    @Override
+    public Integer next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      if (next % PAGE_SIZE == 0) {
+        parkNanos(MICROSECONDS.toNanos(PAGE_FETCH_MICROS));
+      }
+      return next++;
+    }
+  }
+}
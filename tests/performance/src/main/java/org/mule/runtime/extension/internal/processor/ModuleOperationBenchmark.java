@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.processor;
+
+import static java.lang.System.clearProperty;
+import static java.lang.System.setProperty;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.Optional.empty;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mule.metadata.api.model.MetadataFormat.JAVA;
+import static org.mule.runtime.api.component.AbstractComponent.ANNOTATION_NAME;
+import static org.mule.runtime.api.component.AbstractComponent.LOCATION_KEY;
+import static org.mule.runtime.api.message.Message.of;
+import static org.mule.runtime.core.api.event.EventContextFactory.create;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
+import static org.mule.runtime.core.privileged.processor.MessageProcessors.newChain;
+import static org.mule.runtime.core.privileged.registry.LegacyRegistryUtils.lookupObject;
+import static org.mule.runtime.core.privileged.registry.LegacyRegistryUtils.registerObject;
+import static org.mule.runtime.dsl.api.component.config.DefaultComponentLocation.from;
+import static org.mule.runtime.extension.internal.processor.ModuleOperationMessageProcessor.SHARED_EVENT_CONTEXT_PROPERTY;
+
+import org.mule.AbstractBenchmark;
+import org.mule.metadata.api.builder.BaseTypeBuilder;
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.runtime.api.component.AbstractComponent;
+import org.mule.runtime.api.component.ComponentIdentifier;
+import org.mule.runtime.api.component.location.ConfigurationComponentLocator;
+import org.mule.runtime.api.component.location.Location;
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterModel;
+import org.mule.runtime.api.scheduler.SchedulerService;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.processor.Processor;
+import org.mule.runtime.core.privileged.processor.chain.MessageProcessorChain;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.namespace.QName;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures a chain calling several small XML SDK operations in sequence, with the operations executed within a child event
+ * context or within the caller's one.
+ */
+public class ModuleOperationBenchmark extends AbstractBenchmark {
+
+  private static final int OPERATIONS = 3;
+  private static final MetadataType STRING_TYPE = BaseTypeBuilder.create(JAVA).stringType().build();
+
+  @Param({"false", "true"})
+  public boolean sharedEventContext;
+
+  private MuleContext muleContext;
+  private MessageProcessorChain chain;
+  private CoreEvent event;
+
+  @Setup
+  public void setup() throws MuleException {
+    muleContext = createMuleContextWithServices();
+    ConfigurationComponentLocator componentLocator = mock(ConfigurationComponentLocator.class);
+    when(componentLocator.find(any(Location.class))).thenReturn(empty());
+    when(componentLocator.find(any(ComponentIdentifier.class))).thenReturn(emptyList());
+    registerObject(muleContext, ConfigurationComponentLocator.REGISTRY_KEY, componentLocator);
+
+    List<Processor> operations = new ArrayList<>();
+    for (int i = 0; i < OPERATIONS; ++i) {
+      operations.add(createOperation(i));
+    }
+    chain = newChain(empty(), operations);
+
+    setProperty(SHARED_EVENT_CONTEXT_PROPERTY, String.valueOf(sharedEventContext));
+    try {
+      initialiseIfNeeded(chain, muleContext);
+    } finally {
+      clearProperty(SHARED_EVENT_CONTEXT_PROPERTY);
+    }
+    startIfNeeded(chain);
+
+    event = CoreEvent.builder(create(createFlow(muleContext), CONNECTOR_LOCATION)).message(of(PAYLOAD)).build();
+  }
+
+  private ModuleOperationMessageProcessor createOperation(int index) {
+    ParameterModel parameterModel = mock(ParameterModel.class);
+    when(parameterModel.getName()).thenReturn("value");
+    when(parameterModel.getType()).thenReturn(STRING_TYPE);
+
+    OperationModel operationModel = mock(OperationModel.class, RETURNS_DEEP_STUBS);
+    when(operationModel.getAllParameterModels()).thenReturn(singletonList(parameterModel));
+    when(operationModel.getOutput().getType()).thenReturn(STRING_TYPE);
+
+    Map<String, String> parameters = new HashMap<>();
+    parameters.put("value", "#[payload]");
+
+    ModuleOperationMessageProcessor operation =
+        new ModuleOperationMessageProcessor(emptyMap(), parameters, mock(ExtensionModel.class), operationModel);
+    String location = FLOW_NAME + "/processors/" + index;
+    operation.setAnnotations(annotations(location, "module" + index, "operation"));
+    operation.setMessageProcessors(singletonList(new EchoValueProcessor(location + "/processors/0")));
+    return operation;
+  }
+
+  private static Map<QName, Object> annotations(String location, String namespace, String name) {
+    Map<QName, Object> annotations = new HashMap<>();
+    annotations.put(LOCATION_KEY, from(location));
+    annotations.put(ANNOTATION_NAME, ComponentIdentifier.builder().namespace(namespace).name(name).build());
+    return annotations;
+  }
+
+  @TearDown
+  public void teardown() throws MuleException {
+    stopIfNeeded(chain);
+    chain.dispose();
+    stopIfNeeded(lookupObject(muleContext, SchedulerService.class));
+    muleContext.dispose();
+  }
+
+  @Benchmark
+  public CoreEvent operations() throws MuleException {
+    return chain.process(event);
+  }
+
+  /**
+   * The body of the operations, which sets the value of its parameter as payload.
+   */
+  private static class EchoValueProcessor extends AbstractComponent implements Processor {
+
+    EchoValueProcessor(String location) {
+      setAnnotations(annotations(location, "mule", "set-payload"));
+    }
+
+    @Override
+    public CoreEvent process(CoreEvent event) {
+      return CoreEvent.builder(event).message(of(event.getVariables().get("value").getValue())).build();
+    }
+  }
+}